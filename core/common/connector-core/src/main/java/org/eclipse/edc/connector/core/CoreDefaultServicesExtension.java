@@ -31,6 +31,7 @@ import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.security.VaultCertificateResolver;
 import org.eclipse.edc.spi.security.VaultPrivateKeyResolver;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -78,6 +79,11 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return ExecutorInstrumentation.noop();
     }
 
+    @Provider(isDefault = true)
+    public CounterInstrumentation defaultCounterInstrumentation() {
+        return CounterInstrumentation.noop();
+    }
+
     @Provider(isDefault = true)
     public EventExecutorServiceContainer eventExecutorServiceContainer() {
         return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1)); // TODO: make configurable
@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.core.base.CommandHandlerRegistryImpl;
 import org.eclipse.edc.connector.core.base.RemoteMessageDispatcherRegistryImpl;
 import org.eclipse.edc.connector.core.base.agent.ParticipantAgentServiceImpl;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
+import org.eclipse.edc.connector.core.event.EventOutboxRelay;
 import org.eclipse.edc.connector.core.event.EventRouterImpl;
 import org.eclipse.edc.connector.core.health.HealthCheckServiceConfiguration;
 import org.eclipse.edc.connector.core.health.HealthCheckServiceImpl;
@@ -40,6 +41,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.outbox.EventOutbox;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.security.KeyPairFactory;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
@@ -55,6 +57,7 @@ import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
 import java.security.PrivateKey;
+import java.time.Clock;
 import java.time.Duration;
 
 import static org.eclipse.edc.spi.agent.ParticipantAgentService.DEFAULT_IDENTITY_CLAIM_KEY;
@@ -80,7 +83,20 @@ public class CoreServicesExtension implements ServiceExtension {
     @Setting
     public static final String IDENTITY_KEY = "edc.agent.identity.key";
 
+    @Setting(value = "Maximum number of events delivered by the event outbox relay in a single batch", type = "int", defaultValue = DEFAULT_OUTBOX_BATCH_SIZE + "")
+    public static final String OUTBOX_BATCH_SIZE_SETTING = "edc.events.outbox.batch-size";
+    @Setting(value = "Period in milliseconds at which the event outbox relay polls the outbox", type = "long", defaultValue = DEFAULT_OUTBOX_PERIOD_MILLIS + "")
+    public static final String OUTBOX_PERIOD_MILLIS_SETTING = "edc.events.outbox.period-millis";
+    @Setting(value = "Number of attempts after which the event outbox relay drops an event that cannot be delivered", type = "int", defaultValue = DEFAULT_OUTBOX_MAX_ATTEMPTS + "")
+    public static final String OUTBOX_MAX_ATTEMPTS_SETTING = "edc.events.outbox.max-attempts";
+    @Setting(value = "Initial delay in milliseconds before a failed event delivery is retried, doubled at every attempt", type = "long", defaultValue = DEFAULT_OUTBOX_RETRY_DELAY_MILLIS + "")
+    public static final String OUTBOX_RETRY_DELAY_MILLIS_SETTING = "edc.events.outbox.retry-delay-millis";
+
     public static final String NAME = "Core Services";
+    private static final int DEFAULT_OUTBOX_BATCH_SIZE = 100;
+    private static final long DEFAULT_OUTBOX_PERIOD_MILLIS = 1000;
+    private static final int DEFAULT_OUTBOX_MAX_ATTEMPTS = 10;
+    private static final long DEFAULT_OUTBOX_RETRY_DELAY_MILLIS = 1000;
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
     private static final String DEFAULT_HOSTNAME = "localhost";
@@ -99,8 +115,15 @@ public class CoreServicesExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private EventOutbox eventOutbox;
+
     private HealthCheckServiceImpl healthCheckService;
     private RuleBindingRegistry ruleBindingRegistry;
+    private EventOutboxRelay eventOutboxRelay;
 
     @Override
     public String name() {
@@ -121,11 +144,17 @@ public class CoreServicesExtension implements ServiceExtension {
     @Override
     public void start() {
         healthCheckService.start();
+        if (eventOutboxRelay != null) {
+            eventOutboxRelay.start();
+        }
     }
 
     @Override
     public void shutdown() {
         healthCheckService.stop();
+        if (eventOutboxRelay != null) {
+            eventOutboxRelay.stop();
+        }
         ServiceExtension.super.shutdown();
     }
 
@@ -172,7 +201,21 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        var router = new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService(), eventOutbox, typeManager.getMapper());
+        if (eventOutbox != null) {
+            eventOutboxRelay = EventOutboxRelay.Builder.newInstance()
+                    .outbox(eventOutbox)
+                    .router(router)
+                    .monitor(context.getMonitor())
+                    .clock(clock)
+                    .executorInstrumentation(executorInstrumentation)
+                    .batchSize(context.getSetting(OUTBOX_BATCH_SIZE_SETTING, DEFAULT_OUTBOX_BATCH_SIZE))
+                    .period(Duration.ofMillis(context.getSetting(OUTBOX_PERIOD_MILLIS_SETTING, DEFAULT_OUTBOX_PERIOD_MILLIS)))
+                    .maxAttempts(context.getSetting(OUTBOX_MAX_ATTEMPTS_SETTING, DEFAULT_OUTBOX_MAX_ATTEMPTS))
+                    .retryDelay(Duration.ofMillis(context.getSetting(OUTBOX_RETRY_DELAY_MILLIS_SETTING, DEFAULT_OUTBOX_RETRY_DELAY_MILLIS)))
+                    .build();
+        }
+        return router;
     }
 
     @Provider
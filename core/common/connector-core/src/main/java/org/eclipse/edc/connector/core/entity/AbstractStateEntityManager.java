@@ -25,10 +25,19 @@ import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
@@ -42,6 +51,9 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public static final int DEFAULT_BATCH_SIZE = 20;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
+    public static final int DEFAULT_WORKERS = 1;
+    public static final int DEFAULT_STATE_CONCURRENCY = 1;
+    private static final int PROCESSOR_SHUTDOWN_TIMEOUT_SECONDS = 10;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
@@ -53,12 +65,17 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     protected StateMachineManager stateMachineManager;
     protected Clock clock = Clock.systemUTC();
     protected S store;
+    protected TransactionContext transactionContext = new NoopTransactionContext();
+    protected int workers = DEFAULT_WORKERS;
+    protected int stateConcurrency = DEFAULT_STATE_CONCURRENCY;
+    private final List<ExecutorService> processorExecutors = new ArrayList<>();
 
     @Override
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy)
+                .workers(workers);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -67,8 +84,22 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     @Override
     public void stop() {
         if (stateMachineManager != null) {
-            stateMachineManager.stop();
+            // the loop has to be stopped before the processor executors, or its last iteration would fail submitting
+            stateMachineManager.stop().join();
         }
+        processorExecutors.forEach(ExecutorService::shutdown);
+        for (var executor : processorExecutors) {
+            try {
+                if (!executor.awaitTermination(PROCESSOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    monitor.warning("[%s] entities still in flight after %s seconds on shutdown"
+                            .formatted(getClass().getSimpleName(), PROCESSOR_SHUTDOWN_TIMEOUT_SECONDS));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        processorExecutors.clear();
     }
 
     /**
@@ -79,13 +110,60 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
      */
     protected abstract StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder);
 
+    /**
+     * Provides a dedicated executor on which a processor can handle its entities concurrently. Every
+     * processor gets its own pool bounded by the state concurrency, so a slow state cannot starve the other ones.
+     *
+     * @param name the name of the processor, used for naming threads.
+     * @return the executor, null if the state concurrency is 1 and the entities should be processed sequentially.
+     */
+    protected @Nullable ExecutorService processorExecutor(String name) {
+        if (stateConcurrency <= 1) {
+            return null;
+        }
+        var threadName = getClass().getSimpleName() + "-" + name + "-";
+        var counter = new AtomicInteger();
+        var executor = executorInstrumentation.instrument(Executors.newFixedThreadPool(stateConcurrency, r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName(threadName + counter.incrementAndGet());
+            return thread;
+        }), threadName);
+        processorExecutors.add(executor);
+        return executor;
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration defaultEntityRetryProcessConfiguration() {
         return new EntityRetryProcessConfiguration(DEFAULT_SEND_RETRY_LIMIT, () -> new ExponentialWaitStrategy(DEFAULT_SEND_RETRY_BASE_DELAY));
     }
 
+    /**
+     * Wakes up the state machine when an entity changes state in the store, so that it gets processed without waiting
+     * for the next polling iteration.
+     */
+    private void onStateChanged(int state) {
+        var manager = stateMachineManager;
+        if (manager != null) {
+            manager.trigger();
+        }
+    }
+
     protected void update(E entity) {
-        store.save(entity);
+        update(entity, () -> { });
+    }
+
+    /**
+     * Saves the entity and then runs the action, e.g. notifying the listeners of the transition, in the same
+     * transaction, so that the events they publish are committed if and only if the state change is.
+     *
+     * @param entity the entity.
+     * @param afterSave the action to run once the entity has been saved.
+     */
+    protected void update(E entity, Runnable afterSave) {
+        transactionContext.execute(() -> {
+            store.save(entity);
+            afterSave.run();
+        });
         monitor.debug(() -> "[%s] %s %s is now in state %s"
                 .formatted(this.getClass().getSimpleName(), entity.getClass().getSimpleName(),
                         entity.getId(), entity.stateAsString()));
@@ -145,11 +223,33 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B transactionContext(TransactionContext transactionContext) {
+            manager.transactionContext = transactionContext;
+            return self();
+        }
+
+        /**
+         * Number of threads on which the state processors run concurrently.
+         */
+        public B workers(int workers) {
+            manager.workers = workers;
+            return self();
+        }
+
+        /**
+         * Maximum number of entities in the same state that are processed concurrently.
+         */
+        public B stateConcurrency(int stateConcurrency) {
+            manager.stateConcurrency = stateConcurrency;
+            return self();
+        }
+
         public M build() {
             Objects.requireNonNull(manager.store, "store");
             Objects.requireNonNull(manager.monitor, "monitor");
 
             manager.entityRetryProcessFactory = new EntityRetryProcessFactory(manager.monitor, manager.clock, manager.entityRetryProcessConfiguration);
+            manager.store.registerStateChangeListener(manager::onStateChanged);
 
             return manager;
         }
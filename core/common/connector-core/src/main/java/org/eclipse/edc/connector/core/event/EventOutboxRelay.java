@@ -0,0 +1,232 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event;
+
+import org.eclipse.edc.spi.event.outbox.EventOutbox;
+import org.eclipse.edc.spi.event.outbox.OutboxEvent;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Delivers the events stored in the {@link EventOutbox} to the asynchronous subscribers of the {@link EventRouterImpl}.
+ * <p>
+ * The outbox is polled periodically, and immediately again as long as full batches are returned. A delivered event is
+ * removed from the outbox, a failed one is retried with an exponential backoff up to the maximum number of attempts,
+ * after which it is dropped. As an event is removed only after all the subscribers have handled it, the delivery is
+ * at-least-once: subscribers can receive the same event more than once and must be idempotent.
+ * <p>
+ * The lease of the events of a batch is renewed once half of it has elapsed, so that a batch that takes longer than the
+ * lease to deliver is not handed to another relay. The events whose lease could not be renewed are left to the relay
+ * that leased them again.
+ */
+public class EventOutboxRelay {
+
+    private static final String NAME = "event-outbox-relay";
+    private static final int MAX_BACKOFF_EXPONENT = 10;
+
+    private EventOutbox outbox;
+    private EventRouterImpl router;
+    private Monitor monitor;
+    private Clock clock;
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private int batchSize = 100;
+    private Duration period = Duration.ofSeconds(1);
+    private int maxAttempts = 10;
+    private Duration retryDelay = Duration.ofSeconds(1);
+    private ScheduledExecutorService executor;
+
+    private EventOutboxRelay() {
+    }
+
+    public void start() {
+        executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, NAME)), NAME);
+        executor.scheduleWithFixedDelay(this::relayAll, 0, period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Delivers a batch of events.
+     *
+     * @return the number of events fetched from the outbox.
+     */
+    int relay() {
+        var leasedAt = clock.millis();
+        var events = outbox.nextDeliverable(batchSize);
+        var pending = new ArrayDeque<>(events);
+        var renewAt = renewalTime(leasedAt, pending);
+        var failedEntities = new HashSet<String>();
+        while (!pending.isEmpty()) {
+            if (clock.millis() >= renewAt) {
+                leasedAt = clock.millis();
+                pending = renewLease(pending);
+                renewAt = renewalTime(leasedAt, pending);
+                if (pending.isEmpty()) {
+                    break;
+                }
+            }
+            var event = pending.poll();
+            // an entity whose previous event failed must not see the next one before it
+            if (failedEntities.contains(event.getEntityId())) {
+                outbox.retry(event.toBuilder().nextAttemptAt(clock.millis()).build());
+                continue;
+            }
+            try {
+                router.deliver(event);
+                outbox.delete(event.getId());
+            } catch (Exception e) {
+                failedEntities.add(event.getEntityId());
+                onFailure(event, e);
+            }
+        }
+        return events.size();
+    }
+
+    /**
+     * Renews the lease of the pending events. The events of an entity are all dropped if the lease of one of them
+     * could not be renewed, as its previous events may be delivered by another relay.
+     */
+    private Deque<OutboxEvent> renewLease(Deque<OutboxEvent> pending) {
+        var renewed = outbox.renewLease(List.copyOf(pending));
+        var renewedIds = renewed.stream().map(OutboxEvent::getId).collect(Collectors.toSet());
+        var lostEntities = pending.stream()
+                .filter(event -> !renewedIds.contains(event.getId()))
+                .map(OutboxEvent::getEntityId)
+                .collect(Collectors.toSet());
+        return renewed.stream()
+                .filter(event -> !lostEntities.contains(event.getEntityId()))
+                .collect(Collectors.toCollection(ArrayDeque::new));
+    }
+
+    private long renewalTime(long leasedAt, Deque<OutboxEvent> pending) {
+        var event = pending.peek();
+        if (event == null || event.getLeasedUntil() <= leasedAt) {
+            return Long.MAX_VALUE;
+        }
+        return leasedAt + (event.getLeasedUntil() - leasedAt) / 2;
+    }
+
+    private void relayAll() {
+        try {
+            while (relay() == batchSize) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            monitor.severe("EventOutboxRelay failed to relay events", e);
+        }
+    }
+
+    private void onFailure(OutboxEvent event, Exception e) {
+        var attempts = event.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            monitor.severe(format("EventOutboxRelay: dropping event %s of type %s after %s failed attempts", event.getId(), event.getType(), attempts), e);
+            outbox.delete(event.getId());
+            return;
+        }
+
+        var delay = retryDelay.toMillis() * (1L << Math.min(attempts - 1, MAX_BACKOFF_EXPONENT));
+        monitor.warning(format("EventOutboxRelay: failed to deliver event %s of type %s, retrying in %s ms", event.getId(), event.getType(), delay), e);
+        outbox.retry(event.toBuilder().attempts(attempts).nextAttemptAt(clock.millis() + delay).build());
+    }
+
+    public static class Builder {
+
+        private final EventOutboxRelay relay;
+
+        private Builder() {
+            relay = new EventOutboxRelay();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder outbox(EventOutbox outbox) {
+            relay.outbox = outbox;
+            return this;
+        }
+
+        public Builder router(EventRouterImpl router) {
+            relay.router = router;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            relay.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            relay.clock = clock;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            relay.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            relay.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder period(Duration period) {
+            relay.period = period;
+            return this;
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            relay.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder retryDelay(Duration retryDelay) {
+            relay.retryDelay = retryDelay;
+            return this;
+        }
+
+        public EventOutboxRelay build() {
+            Objects.requireNonNull(relay.outbox, "outbox");
+            Objects.requireNonNull(relay.router, "router");
+            Objects.requireNonNull(relay.monitor, "monitor");
+            Objects.requireNonNull(relay.clock, "clock");
+            if (relay.batchSize < 1 || relay.maxAttempts < 1) {
+                throw new IllegalArgumentException("batchSize and maxAttempts must be positive");
+            }
+            return relay;
+        }
+    }
+}
@@ -15,11 +15,17 @@
 
 package org.eclipse.edc.connector.core.event;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.outbox.EventOutbox;
+import org.eclipse.edc.spi.event.outbox.OutboxEvent;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +38,11 @@ import java.util.stream.Stream;
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * Default {@link EventRouter}. Synchronous subscribers are invoked on the publishing thread. Asynchronous subscribers
+ * are invoked on the event executor or, when an {@link EventOutbox} is configured, the event is saved in the outbox
+ * within the publishing transaction and delivered later by the {@link EventOutboxRelay}.
+ */
 public class EventRouterImpl implements EventRouter {
 
     private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
@@ -39,10 +50,18 @@ public class EventRouterImpl implements EventRouter {
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final EventOutbox outbox;
+    private final ObjectMapper mapper;
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, null, null);
+    }
+
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, @Nullable EventOutbox outbox, ObjectMapper mapper) {
         this.monitor = monitor;
         this.executor = executor;
+        this.outbox = outbox;
+        this.mapper = mapper;
     }
 
     @Override
@@ -59,6 +78,13 @@ public class EventRouterImpl implements EventRouter {
     public <E extends Event> void publish(EventEnvelope<E> event) {
         subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
 
+        if (outbox != null) {
+            if (subscriberFor(event, this::getSubscribers).findAny().isPresent()) {
+                outbox.save(toOutboxEvent(event));
+            }
+            return;
+        }
+
         subscriberFor(event, this::getSubscribers)
                 .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
                 .forEach(future -> future.whenComplete((subscriber, throwable) -> {
@@ -70,6 +96,44 @@ public class EventRouterImpl implements EventRouter {
                 }));
     }
 
+    /**
+     * Delivers an event read from the outbox to the asynchronous subscribers, on the calling thread. The delivery
+     * stops at the first subscriber that fails, and the exception is rethrown so that the event can be retried.
+     */
+    void deliver(OutboxEvent outboxEvent) {
+        var event = fromOutboxEvent(outboxEvent);
+        subscriberFor(event, this::getSubscribers).forEach(subscriber -> subscriber.on(event));
+    }
+
+    private <E extends Event> OutboxEvent toOutboxEvent(EventEnvelope<E> event) {
+        try {
+            return OutboxEvent.Builder.newInstance()
+                    .id(event.getId())
+                    .at(event.getAt())
+                    .entityId(event.getPayload().entityId())
+                    .type(event.getPayload().getClass().getName())
+                    .payload(mapper.writeValueAsString(event.getPayload()))
+                    .nextAttemptAt(event.getAt())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventEnvelope<Event> fromOutboxEvent(OutboxEvent outboxEvent) {
+        try {
+            var type = Class.forName(outboxEvent.getType(), true, getClass().getClassLoader()).asSubclass(Event.class);
+            return EventEnvelope.Builder.newInstance()
+                    .id(outboxEvent.getId())
+                    .at(outboxEvent.getAt())
+                    .payload(mapper.readValue(outboxEvent.getPayload(), type))
+                    .build();
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+
     private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
         return subscribers;
     }
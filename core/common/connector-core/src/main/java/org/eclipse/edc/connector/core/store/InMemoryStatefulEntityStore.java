@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.core.store;
 
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.persistence.Lease;
+import org.eclipse.edc.spi.persistence.StateChangeListener;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionToPredicateConverter;
@@ -33,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -54,6 +56,7 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     private final Clock clock;
     private final Map<String, Lease> leases = new HashMap<>();
     private final CriterionToPredicateConverter criterionConverter = new CriterionToPredicateConverterImpl();
+    private final List<StateChangeListener> stateChangeListeners = new CopyOnWriteArrayList<>();
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock) {
         queryResolver = new ReflectionBasedQueryResolver<>(clazz);
@@ -105,8 +108,16 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     @Override
     public void save(T entity) {
         acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
+        var previous = entitiesById.put(entity.getId(), entity.copy());
         freeLease(entity.getId());
+        if (previous == null || previous.getState() != entity.getState()) {
+            stateChangeListeners.forEach(listener -> listener.stateChanged(entity.getState()));
+        }
+    }
+
+    @Override
+    public void registerStateChangeListener(StateChangeListener listener) {
+        stateChangeListeners.add(listener);
     }
 
     public void delete(String id) {
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event;
+
+import org.eclipse.edc.spi.event.outbox.EventOutbox;
+import org.eclipse.edc.spi.event.outbox.OutboxEvent;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventOutboxRelayTest {
+
+    private static final long NOW = 1000L;
+
+    private final EventOutbox outbox = mock();
+    private final EventRouterImpl router = mock();
+    private final EventOutboxRelay relay = EventOutboxRelay.Builder.newInstance()
+            .outbox(outbox)
+            .router(router)
+            .monitor(mock(Monitor.class))
+            .clock(Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC))
+            .batchSize(10)
+            .maxAttempts(3)
+            .retryDelay(Duration.ofMillis(100))
+            .build();
+
+    @Test
+    void shouldDeliverAndDeleteEvents() {
+        var first = event("1", "entity-a", 0);
+        var second = event("2", "entity-b", 0);
+        when(outbox.nextDeliverable(10)).thenReturn(List.of(first, second));
+
+        var count = relay.relay();
+
+        assertThat(count).isEqualTo(2);
+        verify(router).deliver(first);
+        verify(router).deliver(second);
+        verify(outbox).delete("1");
+        verify(outbox).delete("2");
+        verify(outbox, never()).retry(any());
+    }
+
+    @Test
+    void shouldRetryWithBackoff_whenDeliveryFails() {
+        var event = event("1", "entity-a", 1);
+        when(outbox.nextDeliverable(10)).thenReturn(List.of(event));
+        doThrow(new RuntimeException("error")).when(router).deliver(event);
+
+        relay.relay();
+
+        var captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outbox).retry(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo("1");
+        assertThat(captor.getValue().getAttempts()).isEqualTo(2);
+        assertThat(captor.getValue().getNextAttemptAt()).isEqualTo(NOW + 200);
+        verify(outbox, never()).delete(any());
+    }
+
+    @Test
+    void shouldDropEvent_whenMaxAttemptsReached() {
+        var event = event("1", "entity-a", 2);
+        when(outbox.nextDeliverable(10)).thenReturn(List.of(event));
+        doThrow(new RuntimeException("error")).when(router).deliver(event);
+
+        relay.relay();
+
+        verify(outbox).delete("1");
+        verify(outbox, never()).retry(any());
+    }
+
+    @Test
+    void shouldNotDeliverLaterEventsOfAnEntity_whenPreviousOneFailed() {
+        var failing = event("1", "entity-a", 0);
+        var sameEntity = event("2", "entity-a", 0);
+        var otherEntity = event("3", "entity-b", 0);
+        when(outbox.nextDeliverable(10)).thenReturn(List.of(failing, sameEntity, otherEntity));
+        doThrow(new RuntimeException("error")).when(router).deliver(failing);
+
+        relay.relay();
+
+        verify(router, never()).deliver(sameEntity);
+        verify(outbox).retry(argThat(it -> it.getId().equals("2") && it.getAttempts() == 0));
+        verify(router).deliver(otherEntity);
+        verify(outbox).delete("3");
+    }
+
+    @Test
+    void shouldRenewLease_whenHalfOfItHasElapsed() {
+        var time = new AtomicLong(NOW);
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(i -> time.get());
+        var relay = EventOutboxRelay.Builder.newInstance()
+                .outbox(outbox)
+                .router(router)
+                .monitor(mock(Monitor.class))
+                .clock(clock)
+                .batchSize(10)
+                .build();
+        var first = event("1", "entity-a", 0).toBuilder().leasedUntil(NOW + 100).build();
+        var renewed = event("2", "entity-b", 0).toBuilder().leasedUntil(NOW + 100).build();
+        var lost = event("3", "entity-c", 0).toBuilder().leasedUntil(NOW + 100).build();
+        when(outbox.nextDeliverable(10)).thenReturn(List.of(first, renewed, lost));
+        doAnswer(i -> {
+            time.set(NOW + 50);
+            return null;
+        }).when(router).deliver(first);
+        when(outbox.renewLease(any())).thenReturn(List.of(renewed.toBuilder().leasedUntil(NOW + 150).build()));
+
+        relay.relay();
+
+        verify(outbox).renewLease(List.of(renewed, lost));
+        verify(router).deliver(argThat(it -> it.getId().equals("2")));
+        verify(router, never()).deliver(argThat(it -> it.getId().equals("3")));
+    }
+
+    private OutboxEvent event(String id, String entityId, int attempts) {
+        return OutboxEvent.Builder.newInstance()
+                .id(id)
+                .at(NOW)
+                .entityId(entityId)
+                .type("type")
+                .payload("{}")
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -17,16 +17,22 @@ package org.eclipse.edc.connector.core.event;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.outbox.EventOutbox;
+import org.eclipse.edc.spi.event.outbox.OutboxEvent;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -149,6 +155,48 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldSaveToOutbox_whenOutboxIsConfigured() {
+        var outbox = mock(EventOutbox.class);
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), outbox, new TypeManager().getMapper());
+        var syncSubscriber = mock(EventSubscriber.class);
+        var subscriber = mock(EventSubscriber.class);
+        router.registerSync(TestEvent.class, syncSubscriber);
+        router.register(TestEvent.class, subscriber);
+
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+
+        router.publish(event);
+
+        verify(syncSubscriber).on(eq(event));
+        verifyNoInteractions(subscriber);
+        var captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outbox).save(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(event.getId());
+        assertThat(captor.getValue().getType()).isEqualTo(TestEvent.class.getName());
+
+        router.deliver(captor.getValue());
+
+        verify(subscriber).on(argThat(envelope -> envelope.getId().equals(event.getId()) &&
+                envelope.getAt() == event.getAt() && envelope.getPayload() instanceof TestEvent));
+    }
+
+    @Test
+    void shouldNotSaveToOutbox_whenThereAreNoAsyncSubscribers() {
+        var outbox = mock(EventOutbox.class);
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), outbox, new TypeManager().getMapper());
+
+        router.publish(EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build());
+
+        verifyNoInteractions(outbox);
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
@@ -27,11 +27,8 @@ import jakarta.ws.rs.ext.WriterInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
-
 @Provider
 public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterceptor {
     private final JsonLd jsonLd;
@@ -45,36 +42,34 @@ public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterce
         this.scope = scope;
     }
 
+    /**
+     * Expands the {@link JsonObject} request bodies. The body is parsed once and the expanded object is returned
+     * directly, without going through the message body readers again.
+     */
     @Override
     public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
-        if (context.getType().equals(JsonObject.class)) {
-            var bytes = context.getInputStream().readAllBytes();
-            if (bytes.length > 0) {
-                var jsonObject = objectMapper.readValue(bytes, JsonObject.class);
-
-                var expanded = jsonLd.expand(jsonObject)
-                        .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
+        if (!context.getType().equals(JsonObject.class)) {
+            return context.proceed();
+        }
 
-                var expandedBytes = objectMapper.writeValueAsBytes(expanded);
-                context.setInputStream(new ByteArrayInputStream(expandedBytes));
+        try (var parser = objectMapper.createParser(context.getInputStream())) {
+            if (parser.nextToken() == null) {
+                return null;
             }
+            var jsonObject = objectMapper.readValue(parser, JsonObject.class);
+            if (jsonObject == null) {
+                return null;
+            }
+            return jsonLd.expand(jsonObject)
+                    .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
         }
-
-        return context.proceed();
     }
 
     @Override
     public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
         if (context.getEntity() instanceof JsonArray jsonArray) {
-            var compacted = jsonArray.stream().map(it -> {
-                if (it instanceof JsonObject jsonObject) {
-                    return this.compact(jsonObject);
-                } else {
-                    return it;
-                }
-            }).collect(toJsonArray());
-
-            context.setEntity(compacted);
+            context.setEntity(jsonLd.compactAll(jsonArray, scope)
+                    .orElseThrow(f -> new InternalServerErrorException("Failed to compact JsonArray: " + f.getFailureDetail())));
         } else if (context.getEntity() instanceof JsonObject jsonObject) {
             context.setEntity(compact(jsonObject));
         }
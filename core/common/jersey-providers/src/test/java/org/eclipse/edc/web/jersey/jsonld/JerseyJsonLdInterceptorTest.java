@@ -142,6 +142,7 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
 
     @Test
     void compaction_multiple_shouldSucceed_whenOutputIsJsonObject() {
+        when(jsonLd.compactAll(any(), eq(SCOPE))).thenCallRealMethod();
         when(jsonLd.compact(any(), eq(SCOPE))).thenReturn(Result.success(compactedJson()));
 
         given()
@@ -158,6 +159,7 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
 
     @Test
     void compaction_multiple_shouldReturnInternalServerError_whenCompactionFails() {
+        when(jsonLd.compactAll(any(), eq(SCOPE))).thenCallRealMethod();
         when(jsonLd.compact(any(), eq(SCOPE))).thenReturn(Result.failure("compaction failure"));
 
         given()
@@ -15,6 +15,7 @@
 package org.eclipse.edc.policy.engine;
 
 import org.eclipse.edc.policy.engine.spi.AtomicConstraintFunction;
+import org.eclipse.edc.policy.engine.spi.CompiledPolicy;
 import org.eclipse.edc.policy.engine.spi.PolicyContext;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.RuleFunction;
@@ -33,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -41,6 +43,9 @@ import static org.eclipse.edc.spi.result.Result.success;
 
 /**
  * Default implementation of the policy engine.
+ * <p>
+ * The functions and validators that apply to a scope are resolved once into a {@link ScopePlan}, that is reused by
+ * all the evaluations in that scope until a new function or validator is registered.
  */
 public class PolicyEngineImpl implements PolicyEngine {
 
@@ -51,6 +56,7 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators = new HashMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
     private final ScopeFilter scopeFilter;
+    private volatile Map<String, ScopePlan> plans = new ConcurrentHashMap<>();
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
         this.scopeFilter = scopeFilter;
@@ -63,47 +69,52 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
-        var delimitedScope = scope + ".";
+        return evaluate(plan(scope), policy, scopeFilter.applyScope(policy, scope), context);
+    }
 
-        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-        for (var validator : scopedPreValidators) {
-            if (!validator.apply(policy, context)) {
-                return failValidator("Pre-validator", validator, context);
-            }
-        }
+    @Override
+    public CompiledPolicy compile(String scope, Policy policy) {
+        var filteredPolicy = scopeFilter.applyScope(policy, scope);
+        return context -> evaluate(plan(scope), policy, filteredPolicy, context);
+    }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public synchronized <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
+        constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        plans = new ConcurrentHashMap<>();
+    }
 
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            }
-        });
-
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
-            }
-        });
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public synchronized <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
+        ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        plans = new ConcurrentHashMap<>();
+    }
 
-        var evaluator = evalBuilder.build();
+    @Override
+    public synchronized void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
+        preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        plans = new ConcurrentHashMap<>();
+    }
 
-        var filteredPolicy = scopeFilter.applyScope(policy, scope);
+    @Override
+    public synchronized void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
+        postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        plans = new ConcurrentHashMap<>();
+    }
 
-        var result = evaluator.evaluate(filteredPolicy);
+    private Result<Void> evaluate(ScopePlan plan, Policy policy, Policy filteredPolicy, PolicyContext context) {
+        for (var validator : plan.preValidators()) {
+            if (!validator.apply(policy, context)) {
+                return failValidator("Pre-validator", validator, context);
+            }
+        }
 
-        if (result.valid()) {
+        var result = plan.evaluator(context).evaluate(filteredPolicy);
 
-            var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-            for (var validator : scopedPostValidators) {
+        if (result.valid()) {
+            for (var validator : plan.postValidators()) {
                 if (!validator.apply(policy, context)) {
                     return failValidator("Post-validator", validator, context);
                 }
@@ -115,26 +126,28 @@ public class PolicyEngineImpl implements PolicyEngine {
         }
     }
 
-    @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
-        constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
-    }
-
-    @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
-        ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+    private ScopePlan plan(String scope) {
+        // a plan compiled while a function is registered is stored in the previous map, so it is never used again
+        var current = plans;
+        var plan = current.get(scope);
+        if (plan == null) {
+            plan = compilePlan(scope);
+            current.putIfAbsent(scope, plan);
+        }
+        return plan;
     }
 
-    @Override
-    public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
-        preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+    private synchronized ScopePlan compilePlan(String scope) {
+        var delimitedScope = scope + DELIMITER;
+        return new ScopePlan(
+                inScope(preValidators, delimitedScope),
+                inScope(ruleFunctions, delimitedScope),
+                inScope(constraintFunctions, delimitedScope),
+                inScope(postValidators, delimitedScope));
     }
 
-    @Override
-    public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
-        postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+    private <T> List<T> inScope(Map<String, List<T>> entries, String delimitedScope) {
+        return entries.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList();
     }
 
     private boolean scopeFilter(String entry, String scope) {
@@ -146,6 +159,44 @@ public class PolicyEngineImpl implements PolicyEngine {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
     }
 
+    /**
+     * The functions and validators that apply to a scope, in registration order.
+     */
+    private record ScopePlan(List<BiFunction<Policy, PolicyContext, Boolean>> preValidators,
+                             List<RuleFunctionEntry<Rule>> ruleFunctions,
+                             List<ConstraintFunctionEntry<Rule>> constraintFunctions,
+                             List<BiFunction<Policy, PolicyContext, Boolean>> postValidators) {
+
+        /**
+         * Creates an evaluator bound to the context, as the {@link PolicyEvaluator} keeps the state of an evaluation.
+         */
+        PolicyEvaluator evaluator(PolicyContext context) {
+            var evalBuilder = PolicyEvaluator.Builder.newInstance();
+
+            for (var entry : ruleFunctions) {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                }
+            }
+
+            for (var entry : constraintFunctions) {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
+                }
+            }
+
+            return evalBuilder.build();
+        }
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
@@ -292,6 +292,39 @@ class PolicyEngineImplTest {
         assertThat(result).isFailed();
     }
 
+    @Test
+    void validateFunctionRegisteredAfterEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var policy = createDutyPolicy();
+        var context = PolicyContextImpl.Builder.newInstance().build();
+        policyEngine.registerFunction(ALL_SCOPES, Duty.class, "foo", (op, rv, duty, ctx) -> true);
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isSucceeded();
+
+        policyEngine.registerFunction(TEST_SCOPE, Duty.class, "foo", (op, rv, duty, ctx) -> false);
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build())).isFailed();
+    }
+
+    @Test
+    void validateCompiledPolicy() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        policyEngine.registerFunction(ALL_SCOPES, Duty.class, "foo", (op, rv, duty, ctx) -> ctx.getContextData(Boolean.class));
+
+        var compiled = policyEngine.compile(TEST_SCOPE, createDutyPolicy());
+
+        assertThat(compiled.evaluate(PolicyContextImpl.Builder.newInstance().additional(Boolean.class, true).build())).isSucceeded();
+        assertThat(compiled.evaluate(PolicyContextImpl.Builder.newInstance().additional(Boolean.class, false).build())).isFailed();
+    }
+
+    private Policy createDutyPolicy() {
+        var left = new LiteralExpression("foo");
+        var right = new LiteralExpression("bar");
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(left).operator(EQ).rightExpression(right).build();
+        var duty = Duty.Builder.newInstance().constraint(constraint).build();
+        return Policy.Builder.newInstance().duty(duty).build();
+    }
+
     private Policy createTestPolicy() {
         var left = new LiteralExpression("foo");
         var right = new LiteralExpression("bar");
@@ -14,13 +14,22 @@
 
 package org.eclipse.edc.statemachine;
 
+import org.eclipse.edc.spi.entity.Entity;
+import org.eclipse.edc.spi.monitor.Monitor;
+
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static java.lang.String.format;
 import static java.util.function.Predicate.isEqual;
 
 /**
@@ -33,33 +42,75 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - An {@link Executor} can be registered, then the entities are processed concurrently on it, with at most
+ * {@code concurrency} entities in flight. The run method fetches only as many entities as there are free slots and
+ * returns as soon as they are submitted, so a slow entity holds only its own slot. In this mode the returned count is
+ * the number of entities whose processing completed since the previous run, and the errors raised by the processing
+ * are reported to the {@link Monitor}, as there is no caller to propagate them to.
  *
  * @param <E> the entity that is processed
  */
 public class ProcessorImpl<E> implements Processor {
 
-    private final Supplier<Collection<E>> entities;
+    private final IntFunction<Collection<E>> entities;
     private Function<E, Boolean> process;
     private Guard<E> guard = Guard.noop();
     private Consumer<E> onNotProcessed = e -> {};
+    private Executor executor;
+    private Semaphore slots;
+    private Monitor monitor;
+    private final AtomicLong completed = new AtomicLong();
 
-    private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier) {
+    private ProcessorImpl(IntFunction<Collection<E>> entitiesSupplier) {
         entities = entitiesSupplier;
     }
 
     @Override
     public Long process() {
-        return entities.get().stream()
-                .map(entity -> {
-                    var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
-                    var hasBeenProcessed = actualProcess.apply(entity);
-                    if (!hasBeenProcessed) {
-                        onNotProcessed.accept(entity);
-                    }
-                    return hasBeenProcessed;
-                })
-                .filter(isEqual(true))
-                .count();
+        if (executor == null) {
+            return entities.apply(Integer.MAX_VALUE).stream()
+                    .map(this::processEntity)
+                    .filter(isEqual(true))
+                    .count();
+        }
+
+        var freeSlots = slots.availablePermits();
+        if (freeSlots > 0) {
+            for (var entity : entities.apply(freeSlots)) {
+                slots.acquireUninterruptibly();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            if (processEntity(entity)) {
+                                completed.incrementAndGet();
+                            }
+                        } catch (Throwable e) {
+                            monitor.severe(format("Error processing entity %s", idOf(entity)), e);
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    slots.release();
+                    throw e;
+                }
+            }
+        }
+
+        return completed.getAndSet(0);
+    }
+
+    private Boolean processEntity(E entity) {
+        var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
+        var hasBeenProcessed = actualProcess.apply(entity);
+        if (!hasBeenProcessed) {
+            onNotProcessed.accept(entity);
+        }
+        return hasBeenProcessed;
+    }
+
+    private String idOf(E entity) {
+        return entity instanceof Entity e ? e.getId() : String.valueOf(entity);
     }
 
     public static class Builder<E> {
@@ -67,6 +118,10 @@ public class ProcessorImpl<E> implements Processor {
         private final ProcessorImpl<E> processor;
 
         public Builder(Supplier<Collection<E>> entitiesSupplier) {
+            this(limit -> entitiesSupplier.get());
+        }
+
+        public Builder(IntFunction<Collection<E>> entitiesSupplier) {
             processor = new ProcessorImpl<>(entitiesSupplier);
         }
 
@@ -74,6 +129,17 @@ public class ProcessorImpl<E> implements Processor {
             return new Builder<>(entitiesSupplier);
         }
 
+        /**
+         * Creates a builder whose supplier gets the maximum number of entities that can be processed right away, so
+         * that no entity is fetched, and leased, while it has to wait for a free slot.
+         *
+         * @param entitiesSupplier the supplier, that receives the maximum number of entities to return.
+         * @return the builder.
+         */
+        public static <E> Builder<E> newInstance(IntFunction<Collection<E>> entitiesSupplier) {
+            return new Builder<>(entitiesSupplier);
+        }
+
         public Builder<E> process(Function<E, Boolean> process) {
             processor.process = process;
             return this;
@@ -95,8 +161,40 @@ public class ProcessorImpl<E> implements Processor {
             return this;
         }
 
+        /**
+         * Defines the executor on which the entities will be processed concurrently. If not set, or null, the entities
+         * are processed sequentially on the calling thread.
+         *
+         * @param executor the executor.
+         * @param concurrency the maximum number of entities in flight on the executor.
+         * @return the builder.
+         */
+        public Builder<E> executor(Executor executor, int concurrency) {
+            if (executor != null && concurrency < 1) {
+                throw new IllegalArgumentException("Processor concurrency must be at least 1, but was " + concurrency);
+            }
+            processor.executor = executor;
+            processor.slots = executor == null ? null : new Semaphore(concurrency);
+            return this;
+        }
+
+        /**
+         * Defines the monitor to which the errors raised by the concurrent processing of the entities are reported.
+         * Mandatory when an executor is set.
+         *
+         * @param monitor the monitor.
+         * @return the builder.
+         */
+        public Builder<E> monitor(Monitor monitor) {
+            processor.monitor = monitor;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
+            if (processor.executor != null) {
+                Objects.requireNonNull(processor.monitor, "monitor");
+            }
 
             return processor;
         }
@@ -22,10 +22,13 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -33,23 +36,34 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Handles a loop that processes entities continuously.
- * On every iteration it runs all the set processors sequentially,
- * applying a wait strategy in the case no entities are processed on the iteration.
+ * On every iteration it runs all the set processors sequentially, or concurrently on a bounded worker pool if more
+ * than one worker is configured, applying a wait strategy in the case no entities are processed on the iteration.
+ * The next iteration is scheduled once all the processors have returned: processors that hand their entities over to
+ * an executor return as soon as they are submitted, so a slow entity does not hold up the iteration.
+ * The wait can be interrupted by calling {@link #trigger()}, e.g. when an entity changes state, so that polling is only
+ * a fallback.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
     private final ScheduledExecutorService executor;
+    private ExecutorService workers;
     private final AtomicBoolean active = new AtomicBoolean();
+    private final AtomicBoolean triggered = new AtomicBoolean();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
     private int shutdownTimeout = 10;
+    private int workersCount = 1;
+    private ScheduledFuture<?> nextIteration;
+
+    private final ExecutorInstrumentation instrumentation;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
         this.monitor = monitor;
         this.waitStrategy = waitStrategy;
+        this.instrumentation = instrumentation;
         executor = instrumentation.instrument(
                 Executors.newSingleThreadScheduledExecutor(r -> {
                     var thread = Executors.defaultThreadFactory().newThread(r);
@@ -75,10 +89,22 @@ public class StateMachineManager {
      */
     public CompletableFuture<Boolean> stop() {
         active.set(false);
+        synchronized (this) {
+            if (nextIteration != null) {
+                nextIteration.cancel(false);
+            }
+            executor.shutdown();
+        }
 
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return executor.awaitTermination(shutdownTimeout, SECONDS);
+                // the workers are shut down only once the running iteration has completed, or it would fail submitting
+                var terminated = executor.awaitTermination(shutdownTimeout, SECONDS);
+                if (workers != null) {
+                    workers.shutdown();
+                    terminated &= workers.awaitTermination(shutdownTimeout, SECONDS);
+                }
+                return terminated;
             } catch (InterruptedException e) {
                 monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
                 return false;
@@ -86,6 +112,22 @@ public class StateMachineManager {
         });
     }
 
+    /**
+     * Triggers an immediate iteration: if the loop is waiting, the wait is interrupted, if it's running, the next
+     * iteration will start without waiting even if no entity gets processed in the current one.
+     */
+    public void trigger() {
+        if (!active.get()) {
+            return;
+        }
+        synchronized (this) {
+            triggered.set(true);
+            if (active.get() && nextIteration != null && nextIteration.getDelay(MILLISECONDS) > 0 && nextIteration.cancel(false)) {
+                nextIteration = executor.schedule(loop(), 0L, MILLISECONDS);
+            }
+        }
+    }
+
     /**
      * Tells if the loop is active and running
      *
@@ -105,15 +147,17 @@ public class StateMachineManager {
 
     private void performLogic() {
         try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+            triggered.set(false);
+
+            var processed = workers == null ? processSequentially() : processConcurrently();
 
             waitStrategy.success();
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+            synchronized (this) {
+                var delay = processed == 0 && !triggered.get() ? waitStrategy.waitForMillis() : 0;
 
-            scheduleNextIterationIn(delay);
+                scheduleNextIterationIn(delay);
+            }
         } catch (Error e) {
             active.set(false);
             monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
@@ -123,9 +167,29 @@ public class StateMachineManager {
         }
     }
 
+    private long processSequentially() {
+        return processors.stream()
+                .mapToLong(Processor::process)
+                .sum();
+    }
+
+    private long processConcurrently() {
+        var futures = processors.stream()
+                .map(processor -> CompletableFuture.supplyAsync(processor::process, workers))
+                .toList();
+
+        return futures.stream()
+                .mapToLong(CompletableFuture::join)
+                .sum();
+    }
+
     @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+    private synchronized Future<?> scheduleNextIterationIn(long delayMillis) {
+        if (executor.isShutdown()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        nextIteration = executor.schedule(loop(), delayMillis, MILLISECONDS);
+        return nextIteration;
     }
 
     public static class Builder {
@@ -150,7 +214,32 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Number of threads on which the processors are run concurrently on every iteration. With the default value
+         * of 1 the processors run sequentially on the loop thread.
+         *
+         * @param workers the number of worker threads.
+         * @return the builder.
+         */
+        public Builder workers(int workers) {
+            if (workers < 1) {
+                throw new IllegalArgumentException("StateMachineManager workers must be at least 1, but was " + workers);
+            }
+            loop.workersCount = workers;
+            return this;
+        }
+
         public StateMachineManager build() {
+            if (loop.workersCount > 1) {
+                var workerName = "StateMachineManager-" + loop.name + "-worker-";
+                var counter = new AtomicInteger();
+                loop.workers = loop.instrumentation.instrument(
+                        Executors.newFixedThreadPool(loop.workersCount, r -> {
+                            var thread = Executors.defaultThreadFactory().newThread(r);
+                            thread.setName(workerName + counter.incrementAndGet());
+                            return thread;
+                        }), workerName);
+            }
             return loop;
         }
     }
@@ -14,15 +14,26 @@
 
 package org.eclipse.edc.statemachine;
 
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -117,4 +128,109 @@ class ProcessorImplTest {
 
         verifyNoInteractions(onNotProcessed);
     }
+
+    @Test
+    void shouldProcessEntitiesConcurrently_whenExecutorIsSet() throws InterruptedException {
+        var entities = List.of(
+                TestEntity.Builder.newInstance().id("id1").build(),
+                TestEntity.Builder.newInstance().id("id2").build(),
+                TestEntity.Builder.newInstance().id("id3").build());
+        var latch = new CountDownLatch(entities.size());
+        var executor = Executors.newFixedThreadPool(entities.size());
+        var processor = ProcessorImpl.Builder.newInstance(() -> entities)
+                .process(e -> {
+                    latch.countDown();
+                    try {
+                        // every entity waits for the others: would never complete if processed sequentially
+                        return latch.await(5, SECONDS);
+                    } catch (InterruptedException ex) {
+                        throw new RuntimeException(ex);
+                    }
+                })
+                .executor(executor, entities.size())
+                .monitor(mock())
+                .build();
+
+        processor.process();
+
+        await().untilAsserted(() -> assertThat(latch.getCount()).isZero());
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, SECONDS)).isTrue();
+        assertThat(processor.process()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldFetchOnlyFreeSlots_andNotWaitForSlowEntities() throws InterruptedException {
+        var slow = TestEntity.Builder.newInstance().id("slow").build();
+        var fast = TestEntity.Builder.newInstance().id("fast").build();
+        var release = new CountDownLatch(1);
+        IntFunction<Collection<TestEntity>> supplier = mock();
+        when(supplier.apply(anyInt())).thenReturn(List.of(slow)).thenReturn(List.of(fast)).thenReturn(List.of());
+        var executor = Executors.newFixedThreadPool(2);
+        var processor = ProcessorImpl.Builder.newInstance(supplier)
+                .process(e -> {
+                    if (e == slow) {
+                        try {
+                            return release.await(5, SECONDS);
+                        } catch (InterruptedException ex) {
+                            throw new RuntimeException(ex);
+                        }
+                    }
+                    return true;
+                })
+                .executor(executor, 2)
+                .monitor(mock())
+                .build();
+
+        processor.process();
+        processor.process();
+
+        verify(supplier).apply(2);
+        verify(supplier).apply(1);
+        await().untilAsserted(() -> assertThat(processor.process()).isEqualTo(1));
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldReportErrorAndReleaseSlot_whenConcurrentProcessingFails() throws InterruptedException {
+        var failing = TestEntity.Builder.newInstance().id("failing").build();
+        var next = TestEntity.Builder.newInstance().id("next").build();
+        var nextProcessed = new CountDownLatch(1);
+        IntFunction<Collection<TestEntity>> supplier = mock();
+        when(supplier.apply(anyInt())).thenReturn(List.of(failing)).thenReturn(List.of(next)).thenReturn(List.of());
+        var exception = new RuntimeException("failure");
+        Monitor monitor = mock();
+        var executor = Executors.newSingleThreadExecutor();
+        var processor = ProcessorImpl.Builder.newInstance(supplier)
+                .process(e -> {
+                    if (e == failing) {
+                        throw exception;
+                    }
+                    nextProcessed.countDown();
+                    return true;
+                })
+                .executor(executor, 1)
+                .monitor(monitor)
+                .build();
+
+        processor.process();
+
+        await().untilAsserted(() -> verify(monitor).severe(contains("failing"), eq(exception)));
+        await().untilAsserted(() -> {
+            processor.process();
+            assertThat(nextProcessed.getCount()).isZero();
+        });
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldNotAcceptLessThanOneConcurrency_whenExecutorIsSet() {
+        var builder = ProcessorImpl.Builder.newInstance(() -> List.<TestEntity>of());
+
+        assertThatThrownBy(() -> builder.executor(Executors.newSingleThreadExecutor(), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -21,13 +21,19 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,4 +141,83 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldRunProcessorsConcurrently_whenMoreWorkersAreConfigured() {
+        var latch = new CountDownLatch(2);
+        Processor processor = () -> {
+            latch.countDown();
+            try {
+                // every processor waits for the other: would never complete if run sequentially
+                return latch.await(5, SECONDS) ? 1L : 0L;
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .processor(processor)
+                .workers(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            assertThat(latch.getCount()).isZero();
+            verify(waitStrategy, atLeastOnce()).success();
+        });
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS);
+    }
+
+    @Test
+    void shouldInterruptTheWait_whenTriggered() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .shutdownTimeout(1)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(waitStrategy).waitForMillis());
+
+        stateMachine.trigger();
+
+        await().atMost(2, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS);
+    }
+
+    @Test
+    void shouldLetTheRunningIterationComplete_whenStopped() {
+        var started = new CountDownLatch(1);
+        Processor processor = () -> {
+            started.countDown();
+            try {
+                Thread.sleep(200L);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return 1L;
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .processor(processor)
+                .workers(2)
+                .shutdownTimeout(1)
+                .build();
+
+        stateMachine.start();
+        await().until(() -> started.getCount() == 0);
+
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS).isEqualTo(true);
+        verify(monitor, never()).severe(anyString(), any(Throwable.class));
+    }
+
+    @Test
+    void shouldNotAcceptLessThanOneWorker() {
+        var builder = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy);
+
+        assertThatThrownBy(() -> builder.workers(0)).isInstanceOf(IllegalArgumentException.class);
+    }
 }
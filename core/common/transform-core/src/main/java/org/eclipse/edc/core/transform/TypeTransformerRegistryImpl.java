@@ -20,28 +20,35 @@ import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
+/**
+ * Registry that resolves the transformer of an input class and output type once, by scanning the registered
+ * transformers in registration order, and caches it for the subsequent transformations. The cache is cleared when a
+ * transformer is registered.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
+    private final List<TypeTransformer<?, ?>> transformers = new CopyOnWriteArrayList<>();
+    private final Map<TransformerKey, Optional<TypeTransformer<?, ?>>> lookup = new ConcurrentHashMap<>();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
         this.transformers.add(transformer);
+        lookup.clear();
     }
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
+        return lookup.computeIfAbsent(new TransformerKey(input.getClass(), outputType), this::resolve)
                 .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
                 .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
     }
@@ -75,4 +82,13 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     public void registerTypeAlias(String alias, Class<?> type) {
         aliases.put(alias, type);
     }
+
+    private Optional<TypeTransformer<?, ?>> resolve(TransformerKey key) {
+        return transformers.stream()
+                .filter(t -> t.getInputType().isAssignableFrom(key.inputType()) && t.getOutputType().equals(key.outputType()))
+                .findFirst();
+    }
+
+    private record TransformerKey(Class<?> inputType, Class<?> outputType) {
+    }
 }
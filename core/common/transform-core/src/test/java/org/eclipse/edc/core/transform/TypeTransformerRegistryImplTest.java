@@ -16,7 +16,11 @@ package org.eclipse.edc.core.transform;
 
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +52,25 @@ public class TypeTransformerRegistryImplTest {
         assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
     }
 
+    @Test
+    void transformerFor_shouldReturnTransformer_whenRegisteredAfterFailedLookup() {
+        assertThatThrownBy(() -> registry.transformerFor(4L, Integer.class)).isInstanceOf(EdcException.class);
+
+        registry.register(new LongIntegerTypeTransformer());
+
+        assertThat(registry.transformerFor(4L, Integer.class)).isInstanceOf(LongIntegerTypeTransformer.class);
+    }
+
+    @Test
+    void transformerFor_shouldReturnFirstRegisteredTransformer_whenSeveralCanHandleTheInput() {
+        var orderedRegistry = new TypeTransformerRegistryImpl();
+        orderedRegistry.register(new NumberIntegerTypeTransformer());
+        orderedRegistry.register(new LongIntegerTypeTransformer());
+
+        assertThat(orderedRegistry.transformerFor(4L, Integer.class)).isInstanceOf(NumberIntegerTypeTransformer.class);
+        assertThat(orderedRegistry.transformerFor(4L, Integer.class)).isInstanceOf(NumberIntegerTypeTransformer.class);
+    }
+
     @Test
     void transform_shouldSucceed_whenInputAndOutputTypesAreHandledByRegisteredTransformer() {
         var result = registry.transform("5", Integer.class);
@@ -90,4 +113,39 @@ public class TypeTransformerRegistryImplTest {
         assertThat(registry.typeAlias("test-alias", Integer.class)).isEqualTo(String.class);
     }
 
+    private static class NumberIntegerTypeTransformer implements TypeTransformer<Number, Integer> {
+
+        @Override
+        public Class<Number> getInputType() {
+            return Number.class;
+        }
+
+        @Override
+        public Class<Integer> getOutputType() {
+            return Integer.class;
+        }
+
+        @Override
+        public @Nullable Integer transform(@NotNull Number number, @NotNull TransformerContext context) {
+            return number.intValue();
+        }
+    }
+
+    private static class LongIntegerTypeTransformer implements TypeTransformer<Long, Integer> {
+
+        @Override
+        public Class<Long> getInputType() {
+            return Long.class;
+        }
+
+        @Override
+        public Class<Integer> getOutputType() {
+            return Integer.class;
+        }
+
+        @Override
+        public @Nullable Integer transform(@NotNull Long number, @NotNull TransformerContext context) {
+            return number.intValue();
+        }
+    }
 }
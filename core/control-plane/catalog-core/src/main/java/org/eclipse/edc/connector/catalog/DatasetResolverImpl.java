@@ -21,13 +21,16 @@ import org.eclipse.edc.connector.contract.spi.ContractOfferId;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionToAssetPredicateConverter;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -35,6 +38,18 @@ import java.util.stream.Stream;
 
 import static java.lang.Integer.MAX_VALUE;
 
+/**
+ * Resolves the {@link Dataset}s offered to a participant.
+ * <p>
+ * The contract definitions available to the participant are compiled once per request: their asset selector is
+ * converted into a predicate and their contract policy is resolved. When every asset of the query is known to have an
+ * offer, that is when a definition selects all the assets or when there is a single definition whose selector can be
+ * added to the query, the pagination is pushed down to the {@link AssetIndex}. Otherwise the assets are streamed and
+ * only the ones needed to fill the requested page are converted.
+ * <p>
+ * A single dataset is resolved by looking up its asset first, then only the contract policies of the definitions
+ * selecting it.
+ */
 public class DatasetResolverImpl implements DatasetResolver {
 
     private final ContractDefinitionResolver contractDefinitionResolver;
@@ -56,47 +71,101 @@ public class DatasetResolverImpl implements DatasetResolver {
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var offers = compileOffers(agent);
+        if (offers.isEmpty()) {
+            return Stream.empty();
+        }
+
+        if (offers.stream().anyMatch(CompiledOffer::selectsAllAssets)) {
+            return queryPage(offers, querySpec, querySpec.getFilterExpression());
+        }
+
+        if (offers.size() == 1) {
+            var filter = new ArrayList<>(querySpec.getFilterExpression());
+            filter.addAll(offers.get(0).definition().getAssetsSelector());
+            return queryPage(offers, querySpec, filter);
+        }
+
         var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
         return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
-                .filter(Dataset::hasOffers)
+                .filter(asset -> offers.stream().anyMatch(offer -> offer.selector().test(asset)))
+                .map(asset -> toDataset(offers, asset))
                 .skip(querySpec.getOffset())
                 .limit(querySpec.getLimit());
     }
 
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        return Optional.of(id)
-                .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
-                .orElse(null);
+        var asset = assetIndex.findById(id);
+        if (asset == null) {
+            return null;
+        }
+
+        var offers = contractDefinitionResolver.definitionsFor(agent)
+                .flatMap(definition -> {
+                    var selector = selectorOf(definition);
+                    return selector.test(asset) ? compile(definition, selector).stream() : Stream.empty();
+                })
+                .toList();
+        return toDataset(offers, asset);
+    }
+
+    /**
+     * Every asset returned by the filter has an offer, so the page can be requested to the index directly.
+     */
+    private Stream<Dataset> queryPage(List<CompiledOffer> offers, QuerySpec querySpec, List<Criterion> filter) {
+        var assetsQuery = QuerySpec.Builder.newInstance()
+                .offset(querySpec.getOffset())
+                .limit(querySpec.getLimit())
+                .filter(filter)
+                .build();
+        return assetIndex.queryAssets(assetsQuery)
+                .map(asset -> toDataset(offers, asset));
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    private List<CompiledOffer> compileOffers(ParticipantAgent agent) {
+        return contractDefinitionResolver.definitionsFor(agent)
+                .map(definition -> compile(definition, selectorOf(definition)))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private Optional<CompiledOffer> compile(ContractDefinition definition, Predicate<Asset> selector) {
+        var policyDefinition = policyDefinitionStore.findById(definition.getContractPolicyId());
+        if (policyDefinition == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new CompiledOffer(definition, selector, policyDefinition.getPolicy()));
+    }
+
+    private Predicate<Asset> selectorOf(ContractDefinition definition) {
+        return definition.getAssetsSelector().stream()
+                .map(criterionToPredicateConverter::convert)
+                .reduce(x -> true, Predicate::and);
+    }
 
+    private Dataset toDataset(List<CompiledOffer> offers, Asset asset) {
         var distributions = distributionResolver.getDistributions(asset, null); // TODO: data addresses should be retrieved
         var datasetBuilder = Dataset.Builder.newInstance()
                 .id(asset.getId())
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionToPredicateConverter::convert)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
-                .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
-                        var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
-                        datasetBuilder.offer(contractId.toString(), policyDefinition.getPolicy().withTarget(asset.getId()));
-                    }
+        offers.stream()
+                .filter(offer -> offer.selector().test(asset))
+                .forEach(offer -> {
+                    var contractId = ContractOfferId.create(offer.definition().getId(), asset.getId());
+                    datasetBuilder.offer(contractId.toString(), offer.policy().withTarget(asset.getId()));
                 });
 
         return datasetBuilder.build();
     }
 
+    private record CompiledOffer(ContractDefinition definition, Predicate<Asset> selector, Policy policy) {
+
+        boolean selectsAllAssets() {
+            return definition.getAssetsSelector().isEmpty();
+        }
+    }
+
 }
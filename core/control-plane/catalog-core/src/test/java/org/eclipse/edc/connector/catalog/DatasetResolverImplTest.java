@@ -54,7 +54,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class DatasetResolverImplTest {
@@ -163,7 +166,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
         when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
 
@@ -178,7 +181,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(7, 15)).build();
 
@@ -193,7 +196,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 20).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
 
@@ -208,7 +211,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
 
@@ -219,6 +222,70 @@ class DatasetResolverImplTest {
                 .map(getId()).containsExactly("6", "7");
     }
 
+    @Test
+    void query_shouldPushDownPagination_whenDefinitionSelectsAllAssets() {
+        var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
+
+        var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+        assertThat(datasets).map(getId()).containsExactly("2", "3", "4");
+        verify(assetIndex).queryAssets(argThat(q -> q.getOffset() == 2 && q.getLimit() == 3));
+    }
+
+    @Test
+    void query_shouldPushDownDefinitionSelector_whenSingleDefinition() {
+        var definitionCriterion = new Criterion(EDC_NAMESPACE + "id", "=", "id");
+        var contractDefinition = contractDefinitionBuilder("definitionId")
+                .assetsSelector(List.of(definitionCriterion))
+                .contractPolicyId("contractPolicyId")
+                .build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("id").build()));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(0, 5)).build();
+
+        var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+        assertThat(datasets).map(getId()).containsExactly("id");
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().contains(definitionCriterion) && q.getLimit() == 5));
+    }
+
+    @Test
+    void query_shouldPaginateInMemory_whenMultipleDefinitionsSelectSomeAssets() {
+        var contractDefinitions = range(0, 2).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it))
+                        .assetsSelector(List.of(new Criterion(EDC_NAMESPACE + "id", "=", String.valueOf(it * 2))))
+                        .build())
+                .toList();
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(1, 2)).build();
+
+        var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+        assertThat(datasets).map(getId()).containsExactly("2");
+    }
+
+    @Test
+    void query_shouldResolveEachContractPolicyOnce() {
+        var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+        var assets = range(0, 100).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.max());
+
+        assertThat(datasets).hasSize(100);
+        verify(policyStore, times(1)).findById("contractPolicyId");
+    }
+
     @Test
     void getById_shouldReturnDataset() {
         var policy1 = Policy.Builder.newInstance().type(SET).build();
@@ -260,6 +327,26 @@ class DatasetResolverImplTest {
         var dataset = datasetResolver.getById(participantAgent, "datasetId");
 
         assertThat(dataset).isNull();
+        verifyNoInteractions(contractDefinitionResolver, policyStore);
+    }
+
+    @Test
+    void getById_shouldResolvePoliciesOfDefinitionsSelectingTheAssetOnly() {
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(
+                contractDefinitionBuilder("definition1").contractPolicyId("policy1")
+                        .assetsSelector(List.of(new Criterion(EDC_NAMESPACE + "id", "=", "datasetId"))).build(),
+                contractDefinitionBuilder("definition2").contractPolicyId("policy2")
+                        .assetsSelector(List.of(new Criterion(EDC_NAMESPACE + "id", "=", "otherId"))).build()
+        ));
+        when(assetIndex.findById(any())).thenReturn(createAsset("datasetId").build());
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var dataset = datasetResolver.getById(createParticipantAgent(), "datasetId");
+
+        assertThat(dataset.getOffers()).hasSize(1).allSatisfy((id, policy) ->
+                assertThat(ContractOfferId.parseId(id)).isSucceeded().extracting(ContractOfferId::definitionPart).isEqualTo("definition1"));
+        verify(policyStore).findById("policy1");
+        verify(policyStore, never()).findById("policy2");
     }
 
     private ContractDefinition.Builder contractDefinitionBuilder(String id) {
@@ -273,6 +360,10 @@ class DatasetResolverImplTest {
         return Asset.Builder.newInstance().id(id).name("test asset " + id);
     }
 
+    private Stream<Asset> page(List<Asset> assets, QuerySpec querySpec) {
+        return assets.stream().skip(querySpec.getOffset()).limit(querySpec.getLimit());
+    }
+
     private ParticipantAgent createParticipantAgent() {
         return new ParticipantAgent(emptyMap(), emptyMap());
     }
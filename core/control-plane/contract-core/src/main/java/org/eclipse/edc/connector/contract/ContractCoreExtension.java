@@ -54,6 +54,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
@@ -63,6 +64,8 @@ import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.D
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_STATE_CONCURRENCY;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 import static org.eclipse.edc.connector.core.policy.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
 
@@ -82,9 +85,21 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the consumer negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.consumer.state-machine.batch-size";
 
+    @Setting(value = "the number of threads on which the processors of the consumer negotiation state machine run concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS = "edc.negotiation.consumer.state-machine.workers";
+
+    @Setting(value = "the maximum number of entities in the same state processed concurrently by the consumer negotiation state machine. Default value " + DEFAULT_STATE_CONCURRENCY, type = "int")
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_STATE_CONCURRENCY = "edc.negotiation.consumer.state-machine.state-concurrency";
+
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the number of threads on which the processors of the provider negotiation state machine run concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS = "edc.negotiation.provider.state-machine.workers";
+
+    @Setting(value = "the maximum number of entities in the same state processed concurrently by the provider negotiation state machine. Default value " + DEFAULT_STATE_CONCURRENCY, type = "int")
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_STATE_CONCURRENCY = "edc.negotiation.provider.state-machine.state-concurrency";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -152,6 +167,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private TransactionContext transactionContext;
+
     @Override
     public String name() {
         return NAME;
@@ -209,8 +227,11 @@ public class ContractCoreExtension implements ServiceExtension {
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
                 .store(store)
+                .transactionContext(transactionContext)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
+                .stateConcurrency(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_STATE_CONCURRENCY, DEFAULT_STATE_CONCURRENCY))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -226,8 +247,11 @@ public class ContractCoreExtension implements ServiceExtension {
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
                 .store(store)
+                .transactionContext(transactionContext)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
+                .stateConcurrency(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_STATE_CONCURRENCY, DEFAULT_STATE_CONCURRENCY))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
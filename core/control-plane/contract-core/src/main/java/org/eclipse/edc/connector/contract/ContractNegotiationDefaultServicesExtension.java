@@ -15,21 +15,31 @@
 package org.eclipse.edc.connector.contract;
 
 import org.eclipse.edc.connector.contract.observe.ContractNegotiationObservableImpl;
+import org.eclipse.edc.connector.contract.offer.AccessPolicyDecisionCache;
 import org.eclipse.edc.connector.contract.offer.ContractDefinitionResolverImpl;
 import org.eclipse.edc.connector.contract.policy.PolicyArchiveImpl;
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.contract.spi.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
 
 /**
  * Contract Negotiation Default Services Extension
@@ -39,6 +49,20 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
 
     public static final String NAME = "Contract Negotiation Default Services";
 
+    private static final int DEFAULT_ACCESS_POLICY_CACHE_SIZE = 10_000;
+    private static final long DEFAULT_ACCESS_POLICY_CACHE_TTL_MILLIS = 60_000;
+
+    @Setting(value = "the maximum number of access policy decisions cached for the catalog requests, 0 disables the cache", type = "int", defaultValue = DEFAULT_ACCESS_POLICY_CACHE_SIZE + "")
+    private static final String ACCESS_POLICY_CACHE_SIZE = "edc.contractdefinition.access-policy.cache.size";
+
+    @Setting(value = "the time-to-live in milliseconds of the cached access policy decisions", type = "long", defaultValue = DEFAULT_ACCESS_POLICY_CACHE_TTL_MILLIS + "")
+    private static final String ACCESS_POLICY_CACHE_TTL_MILLIS = "edc.contractdefinition.access-policy.cache.ttl-millis";
+
+    private static final int DEFAULT_POLICY_ARCHIVE_CACHE_SIZE = 10_000;
+
+    @Setting(value = "the maximum number of contract agreement policies cached by the policy archive, 0 disables the cache", type = "int", defaultValue = DEFAULT_POLICY_ARCHIVE_CACHE_SIZE + "")
+    private static final String POLICY_ARCHIVE_CACHE_SIZE = "edc.policy.archive.cache.size";
+
     @Inject
     private ContractDefinitionStore contractDefinitionStore;
 
@@ -51,9 +75,29 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     @Inject
     private ContractNegotiationStore store;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject
+    private CounterInstrumentation counterInstrumentation;
+
     @Provider
     public ContractDefinitionResolver contractDefinitionResolver(ServiceExtensionContext context) {
-        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore);
+        AccessPolicyDecisionCache decisionCache = null;
+        var cacheSize = context.getSetting(ACCESS_POLICY_CACHE_SIZE, DEFAULT_ACCESS_POLICY_CACHE_SIZE);
+        if (cacheSize > 0) {
+            var timeToLive = Duration.ofMillis(context.getSetting(ACCESS_POLICY_CACHE_TTL_MILLIS, DEFAULT_ACCESS_POLICY_CACHE_TTL_MILLIS));
+            decisionCache = new AccessPolicyDecisionCache(cacheSize, timeToLive, clock, transactionContext);
+            eventRouter.registerSync(ContractDefinitionEvent.class, decisionCache);
+            eventRouter.registerSync(PolicyDefinitionEvent.class, decisionCache);
+        }
+        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore, decisionCache);
     }
 
     @Provider
@@ -62,8 +106,10 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     }
 
     @Provider
-    public PolicyArchive policyArchive() {
-        return new PolicyArchiveImpl(store);
+    public PolicyArchive policyArchive(ServiceExtensionContext context) {
+        var policyArchive = new PolicyArchiveImpl(store, context.getSetting(POLICY_ARCHIVE_CACHE_SIZE, DEFAULT_POLICY_ARCHIVE_CACHE_SIZE));
+        policyArchive.registerMetrics(counterInstrumentation);
+        return policyArchive;
     }
 
     @Provider(isDefault = true)
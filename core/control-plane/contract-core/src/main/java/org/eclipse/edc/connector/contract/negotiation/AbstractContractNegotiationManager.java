@@ -50,10 +50,12 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected Processor processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), new Criterion("type", "=", type().name()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return ProcessorImpl.Builder.newInstance(limit -> store.nextNotLeased(Math.min(batchSize, limit), filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
+                .executor(processorExecutor(state.name()), stateConcurrency)
+                .monitor(monitor)
                 .build();
     }
 
@@ -91,8 +93,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToInitial(ContractNegotiation negotiation) {
         negotiation.transitionInitial();
-        update(negotiation);
-        observable.invokeForEach(l -> l.initiated(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.initiated(negotiation)));
     }
 
     protected void transitionToRequesting(ContractNegotiation negotiation) {
@@ -102,8 +103,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToRequested(ContractNegotiation negotiation) {
         negotiation.transitionRequested();
-        update(negotiation);
-        observable.invokeForEach(l -> l.requested(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.requested(negotiation)));
     }
 
     protected void transitionToAccepting(ContractNegotiation negotiation) {
@@ -113,8 +113,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToAccepted(ContractNegotiation negotiation) {
         negotiation.transitionAccepted();
-        update(negotiation);
-        observable.invokeForEach(l -> l.accepted(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.accepted(negotiation)));
     }
 
     protected void transitionToOffering(ContractNegotiation negotiation) {
@@ -124,8 +123,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToOffered(ContractNegotiation negotiation) {
         negotiation.transitionOffered();
-        update(negotiation);
-        observable.invokeForEach(l -> l.offered(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.offered(negotiation)));
     }
 
     protected void transitionToAgreeing(ContractNegotiation negotiation) {
@@ -136,8 +134,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
     protected void transitionToAgreed(ContractNegotiation negotiation, ContractAgreement agreement) {
         negotiation.setContractAgreement(agreement);
         negotiation.transitionAgreed();
-        update(negotiation);
-        observable.invokeForEach(l -> l.agreed(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.agreed(negotiation)));
     }
 
     protected void transitionToVerifying(ContractNegotiation negotiation) {
@@ -147,8 +144,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToVerified(ContractNegotiation negotiation) {
         negotiation.transitionVerified();
-        update(negotiation);
-        observable.invokeForEach(l -> l.verified(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.verified(negotiation)));
     }
 
     protected void transitionToFinalizing(ContractNegotiation negotiation) {
@@ -158,8 +154,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToFinalized(ContractNegotiation negotiation) {
         negotiation.transitionFinalized();
-        update(negotiation);
-        observable.invokeForEach(l -> l.finalized(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.finalized(negotiation)));
     }
 
     protected void transitionToTerminating(ContractNegotiation negotiation, String message) {
@@ -179,8 +174,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToTerminated(ContractNegotiation negotiation) {
         negotiation.transitionTerminated();
-        update(negotiation);
-        observable.invokeForEach(l -> l.terminated(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.terminated(negotiation)));
     }
 
     public static class Builder<T extends AbstractContractNegotiationManager>
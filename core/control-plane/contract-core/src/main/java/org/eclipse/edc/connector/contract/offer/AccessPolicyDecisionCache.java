@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.offer;
+
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.util.collection.LruCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the result of the access policy evaluation of the {@link ContractDefinition}s, so that an agent that requests
+ * the catalog repeatedly with the same claims does not trigger the evaluation of every access policy each time.
+ * <p>
+ * A decision is keyed by a fingerprint of the agent, the definition and its access policy. The fingerprint is made of
+ * the attributes and the claims of the agent, except the ones that change with every token it presents (see
+ * {@link #TOKEN_CLAIMS}), so that the decisions are shared by the successive tokens of the same participant. Decisions
+ * expire after a time-to-live, as policies can contain time-dependent constraints. They are also invalidated when the
+ * cache is notified of a change of a contract or a policy definition: every change starts a new generation, and the
+ * decisions evaluated against a previous one are never returned. As the change events are published within the
+ * transaction of the change, a new generation is started both right away and once that transaction commits, so that
+ * the decisions evaluated in between against the previous definitions are discarded too.
+ */
+public class AccessPolicyDecisionCache implements EventSubscriber {
+
+    /**
+     * Claims that identify a token rather than the participant it was issued to, excluded from the fingerprint.
+     */
+    public static final Set<String> TOKEN_CLAIMS = Set.of("jti", "iat", "exp", "nbf");
+
+    private final LruCache<Key, Decision> decisions;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final TransactionContext transactionContext;
+    private long generation;
+
+    public AccessPolicyDecisionCache(int capacity, Duration timeToLive, Clock clock, TransactionContext transactionContext) {
+        this.decisions = new LruCache<>(capacity);
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.transactionContext = transactionContext;
+    }
+
+    /**
+     * Returns the cached decision for the agent and the definition, or evaluates and caches it.
+     *
+     * @param agent      the agent requesting access.
+     * @param definition the contract definition.
+     * @param evaluation evaluates the access policy of the definition for the agent.
+     * @return true if the access is granted.
+     */
+    public boolean isGranted(ParticipantAgent agent, ContractDefinition definition, BooleanSupplier evaluation) {
+        var now = clock.millis();
+        var fingerprint = fingerprint(agent);
+        Key key;
+        synchronized (decisions) {
+            key = new Key(fingerprint, definition.getId(), definition.getAccessPolicyId(), generation);
+            var decision = decisions.get(key);
+            if (decision != null) {
+                if (decision.expiresAt() > now) {
+                    return decision.granted();
+                }
+                decisions.remove(key);
+            }
+        }
+
+        var granted = evaluation.getAsBoolean();
+        synchronized (decisions) {
+            if (key.generation() == generation) {
+                decisions.put(key, new Decision(granted, now + timeToLive.toMillis()));
+            }
+        }
+        return granted;
+    }
+
+    /**
+     * Discards all the cached decisions.
+     */
+    public void invalidateAll() {
+        synchronized (decisions) {
+            generation++;
+            decisions.clear();
+        }
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        invalidateAll();
+        transactionContext.afterCommit(this::invalidateAll);
+    }
+
+    private Fingerprint fingerprint(ParticipantAgent agent) {
+        var claims = agent.getClaims().entrySet().stream()
+                .filter(claim -> !TOKEN_CLAIMS.contains(claim.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return new Fingerprint(claims, agent.getAttributes());
+    }
+
+    private record Fingerprint(Map<String, Object> claims, Map<String, String> attributes) {
+    }
+
+    private record Key(Fingerprint fingerprint, String definitionId, String accessPolicyId, long generation) {
+    }
+
+    private record Decision(boolean granted, long expiresAt) {
+    }
+}
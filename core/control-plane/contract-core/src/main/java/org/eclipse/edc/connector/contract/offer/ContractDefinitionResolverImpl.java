@@ -45,12 +45,19 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     private final PolicyDefinitionStore policyStore;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    private final AccessPolicyDecisionCache decisionCache;
 
     public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore) {
+        this(monitor, contractDefinitionStore, policyEngine, policyStore, null);
+    }
+
+    public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine,
+                                          PolicyDefinitionStore policyStore, @Nullable AccessPolicyDecisionCache decisionCache) {
         this.monitor = monitor;
         definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
         this.policyStore = policyStore;
+        this.decisionCache = decisionCache;
     }
 
     @NotNull
@@ -70,9 +77,17 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     }
 
     /**
-     * Determines the applicability of a definition to an agent by evaluating its access policy.
+     * Determines the applicability of a definition to an agent by evaluating its access policy, or by looking up the
+     * decision in the cache if available.
      */
     private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
+        if (decisionCache == null) {
+            return doEvaluateAccessPolicy(definition, agent);
+        }
+        return decisionCache.isGranted(agent, definition, () -> doEvaluateAccessPolicy(definition, agent));
+    }
+
+    private boolean doEvaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
         var policyContext = PolicyContextImpl.Builder.newInstance().additional(ParticipantAgent.class, agent).build();
         var accessResult = Optional.of(definition.getAccessPolicyId())
                 .map(policyStore::findById)
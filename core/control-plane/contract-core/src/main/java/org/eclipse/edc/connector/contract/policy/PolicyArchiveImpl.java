@@ -17,19 +17,94 @@ package org.eclipse.edc.connector.contract.policy;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
 import org.eclipse.edc.spi.types.domain.agreement.ContractAgreement;
+import org.eclipse.edc.util.collection.LruCache;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Resolves the policies from the contract agreements in the {@link ContractNegotiationStore}.
+ * <p>
+ * As an agreement never changes once signed, the policies are cached by agreement id, the least recently used being
+ * evicted when the capacity is reached. Missing agreements are not cached, as they can be stored later.
+ */
 public class PolicyArchiveImpl implements PolicyArchive {
     private final ContractNegotiationStore contractNegotiationStore;
+    private final LruCache<String, Policy> policies;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
 
     public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore) {
+        this(contractNegotiationStore, 0);
+    }
+
+    /**
+     * Creates an archive that caches the policies.
+     *
+     * @param contractNegotiationStore the store of the agreements.
+     * @param capacity                 the maximum number of cached policies, 0 disables the cache.
+     */
+    public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore, int capacity) {
         this.contractNegotiationStore = contractNegotiationStore;
+        this.policies = capacity > 0 ? new LruCache<>(capacity) : null;
     }
 
     @Override
     public Policy findPolicyForContract(String contractId) {
+        if (contractId == null || policies == null) {
+            return findInStore(contractId);
+        }
+
+        synchronized (policies) {
+            var cached = policies.get(contractId);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        misses.incrementAndGet();
+        var policy = findInStore(contractId);
+        if (policy != null) {
+            synchronized (policies) {
+                policies.put(contractId, policy);
+            }
+        }
+        return policy;
+    }
+
+    /**
+     * Number of policies served from the cache.
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * Number of policies looked up in the store.
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Publishes the hits and misses of the cache as the edc.policy.archive.cache.hits and
+     * edc.policy.archive.cache.misses counters. Nothing is published when the cache is disabled.
+     *
+     * @param instrumentation the instrumentation the counters are published to.
+     */
+    public void registerMetrics(CounterInstrumentation instrumentation) {
+        if (policies == null) {
+            return;
+        }
+        instrumentation.counter("edc.policy.archive.cache.hits", "Contract agreement policies served from the policy archive cache", Map.of(), this::hits);
+        instrumentation.counter("edc.policy.archive.cache.misses", "Contract agreement policies looked up in the contract negotiation store", Map.of(), this::misses);
+    }
+
+    private Policy findInStore(String contractId) {
         return Optional.ofNullable(contractId)
                 .map(contractNegotiationStore::findContractAgreement)
                 .map(ContractAgreement::getPolicy)
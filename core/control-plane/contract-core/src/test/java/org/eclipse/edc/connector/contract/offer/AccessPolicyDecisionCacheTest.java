@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.offer;
+
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessPolicyDecisionCacheTest {
+
+    private final Clock clock = mock();
+    private final TransactionContext transactionContext = mock();
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private AccessPolicyDecisionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        cache = new AccessPolicyDecisionCache(10, Duration.ofSeconds(30), clock, transactionContext);
+    }
+
+    @Test
+    void shouldReturnCachedDecision() {
+        var agent = agent("value");
+
+        assertThat(cache.isGranted(agent, definition("access"), this::evaluate)).isTrue();
+        assertThat(cache.isGranted(agent("value"), definition("access"), this::evaluate)).isTrue();
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void shouldReturnCachedDecision_whenTokensOfSameParticipant() {
+        var first = new ParticipantAgent(Map.of("claim", "value", "jti", "1", "iat", 1000L, "exp", 2000L, "nbf", 1000L), Map.of());
+        var second = new ParticipantAgent(Map.of("claim", "value", "jti", "2", "iat", 1500L, "exp", 2500L, "nbf", 1500L), Map.of());
+
+        cache.isGranted(first, definition("access"), this::evaluate);
+        cache.isGranted(second, definition("access"), this::evaluate);
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenClaimsOrPolicyDiffer() {
+        cache.isGranted(agent("value"), definition("access"), this::evaluate);
+        cache.isGranted(agent("other"), definition("access"), this::evaluate);
+        cache.isGranted(agent("value"), definition("other-access"), this::evaluate);
+
+        assertThat(evaluations).hasValue(3);
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenDecisionExpired() {
+        cache.isGranted(agent("value"), definition("access"), this::evaluate);
+        when(clock.millis()).thenReturn(30_000L);
+        cache.isGranted(agent("value"), definition("access"), this::evaluate);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenNotifiedOfChange() {
+        cache.isGranted(agent("value"), definition("access"), this::evaluate);
+        cache.on(mock(EventEnvelope.class));
+        cache.isGranted(agent("value"), definition("access"), this::evaluate);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenDecisionCachedBeforeChangeCommitted() {
+        cache.on(mock(EventEnvelope.class));
+        var afterCommit = ArgumentCaptor.forClass(Runnable.class);
+        verify(transactionContext).afterCommit(afterCommit.capture());
+
+        // evaluated against the definitions that are still committed
+        cache.isGranted(agent("value"), definition("access"), this::evaluate);
+        afterCommit.getValue().run();
+        cache.isGranted(agent("value"), definition("access"), this::evaluate);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    private boolean evaluate() {
+        evaluations.incrementAndGet();
+        return true;
+    }
+
+    private ParticipantAgent agent(String claim) {
+        return new ParticipantAgent(Map.of("claim", claim), Map.of());
+    }
+
+    private ContractDefinition definition(String accessPolicyId) {
+        return ContractDefinition.Builder.newInstance()
+                .id("definitionId")
+                .accessPolicyId(accessPolicyId)
+                .contractPolicyId("contract")
+                .build();
+    }
+}
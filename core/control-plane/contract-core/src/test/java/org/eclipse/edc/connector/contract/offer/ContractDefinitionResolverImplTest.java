@@ -26,9 +26,12 @@ import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -41,6 +44,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -135,6 +139,23 @@ class ContractDefinitionResolverImplTest {
         verifyNoInteractions(policyEngine);
     }
 
+    @Test
+    void definitionsFor_shouldReuseCachedDecision_whenSameAgentClaims() {
+        var cachingService = new ContractDefinitionResolverImpl(mock(Monitor.class), definitionStore, policyEngine, policyStore,
+                new AccessPolicyDecisionCache(10, Duration.ofMinutes(1), Clock.systemUTC(), new NoopTransactionContext()));
+        var definition = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(definition);
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+
+        assertThat(cachingService.definitionsFor(new ParticipantAgent(Map.of("claim", "value"), Map.of()))).hasSize(1);
+        assertThat(cachingService.definitionsFor(new ParticipantAgent(Map.of("claim", "value"), Map.of()))).hasSize(1);
+        assertThat(cachingService.definitionsFor(new ParticipantAgent(Map.of("claim", "other"), Map.of()))).hasSize(1);
+
+        verify(policyEngine, times(2)).evaluate(any(), any(), isA(PolicyContext.class));
+        verify(policyStore, times(2)).findById("access");
+    }
+
     private ContractDefinition createContractDefinition() {
         return ContractDefinition.Builder.newInstance()
                 .id("1")
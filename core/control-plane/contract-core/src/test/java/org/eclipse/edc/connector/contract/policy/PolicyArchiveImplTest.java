@@ -16,11 +16,20 @@ package org.eclipse.edc.connector.contract.policy;
 
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
 import org.eclipse.edc.spi.types.domain.agreement.ContractAgreement;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PolicyArchiveImplTest {
@@ -48,6 +57,53 @@ class PolicyArchiveImplTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void shouldGetPolicyFromCache_whenAlreadyFound() {
+        var policyArchive = new PolicyArchiveImpl(contractNegotiationStore, 10);
+        var policy = Policy.Builder.newInstance().build();
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(createContractAgreement(policy));
+
+        policyArchive.findPolicyForContract("contractId");
+        var result = policyArchive.findPolicyForContract("contractId");
+
+        assertThat(result).isSameAs(policy);
+        verify(contractNegotiationStore).findContractAgreement("contractId");
+        assertThat(policyArchive.hits()).isEqualTo(1);
+        assertThat(policyArchive.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void registerMetrics_shouldPublishHitsAndMisses() {
+        var policyArchive = new PolicyArchiveImpl(contractNegotiationStore, 10);
+        CounterInstrumentation instrumentation = mock();
+        policyArchive.registerMetrics(instrumentation);
+        var hits = ArgumentCaptor.forClass(LongSupplier.class);
+        var misses = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(instrumentation).counter(eq("edc.policy.archive.cache.hits"), any(), eq(Map.of()), hits.capture());
+        verify(instrumentation).counter(eq("edc.policy.archive.cache.misses"), any(), eq(Map.of()), misses.capture());
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(createContractAgreement(Policy.Builder.newInstance().build()));
+
+        policyArchive.findPolicyForContract("contractId");
+        policyArchive.findPolicyForContract("contractId");
+        policyArchive.findPolicyForContract("contractId");
+
+        assertThat(hits.getValue().getAsLong()).isEqualTo(2);
+        assertThat(misses.getValue().getAsLong()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCache_whenContractDoesNotExist() {
+        var policyArchive = new PolicyArchiveImpl(contractNegotiationStore, 10);
+        var policy = Policy.Builder.newInstance().build();
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(null, createContractAgreement(policy));
+
+        assertThat(policyArchive.findPolicyForContract("contractId")).isNull();
+        var result = policyArchive.findPolicyForContract("contractId");
+
+        assertThat(result).isSameAs(policy);
+        verify(contractNegotiationStore, times(2)).findContractAgreement("contractId");
+    }
+
     private ContractAgreement createContractAgreement(Policy policyId) {
         return ContractAgreement.Builder.newInstance()
                 .id("any")
@@ -60,6 +60,7 @@ import org.eclipse.edc.spi.command.CommandHandlerRegistry;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -67,6 +68,8 @@ import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Extension(ControlPlaneServicesExtension.NAME)
 public class ControlPlaneServicesExtension implements ServiceExtension {
@@ -136,16 +139,29 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     @Inject
     private DataAddressValidatorRegistry dataAddressValidator;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService assetValidationExecutor;
+
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void shutdown() {
+        if (assetValidationExecutor != null) {
+            assetValidationExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public AssetService assetService() {
         var assetObservable = new AssetObservableImpl();
         assetObservable.registerListener(new AssetEventListener(clock, eventRouter));
-        return new AssetServiceImpl(assetIndex, contractNegotiationStore, transactionContext, assetObservable, dataAddressValidator);
+        assetValidationExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()), "Asset validation");
+        return new AssetServiceImpl(assetIndex, contractNegotiationStore, transactionContext, assetObservable, dataAddressValidator, assetValidationExecutor);
     }
 
     @Provider
@@ -18,18 +18,25 @@ import org.eclipse.edc.connector.asset.spi.observe.AssetObservable;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.service.query.QueryValidator;
 import org.eclipse.edc.connector.spi.asset.AssetService;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_EXISTS;
 
 public class AssetServiceImpl implements AssetService {
 
@@ -41,15 +48,28 @@ public class AssetServiceImpl implements AssetService {
     private final AssetObservable observable;
     private final DataAddressValidatorRegistry dataAddressValidator;
     private final QueryValidator queryValidator;
+    private final Executor validationExecutor;
 
     public AssetServiceImpl(AssetIndex index, ContractNegotiationStore contractNegotiationStore,
                             TransactionContext transactionContext, AssetObservable observable,
                             DataAddressValidatorRegistry dataAddressValidator) {
+        this(index, contractNegotiationStore, transactionContext, observable, dataAddressValidator, Runnable::run);
+    }
+
+    /**
+     * Creates the service.
+     *
+     * @param validationExecutor the executor the assets of the bulk operations are validated on.
+     */
+    public AssetServiceImpl(AssetIndex index, ContractNegotiationStore contractNegotiationStore,
+                            TransactionContext transactionContext, AssetObservable observable,
+                            DataAddressValidatorRegistry dataAddressValidator, Executor validationExecutor) {
         this.index = index;
         this.contractNegotiationStore = contractNegotiationStore;
         this.transactionContext = transactionContext;
         this.observable = observable;
         this.dataAddressValidator = dataAddressValidator;
+        this.validationExecutor = validationExecutor;
         queryValidator = new AssetQueryValidator();
     }
 
@@ -71,13 +91,9 @@ public class AssetServiceImpl implements AssetService {
 
     @Override
     public ServiceResult<Asset> create(Asset asset) {
-        if (asset.hasDuplicatePropertyKeys()) {
-            return ServiceResult.badRequest(DUPLICATED_KEYS_MESSAGE);
-        }
-
-        var validDataAddress = dataAddressValidator.validateSource(asset.getDataAddress());
-        if (validDataAddress.failed()) {
-            return ServiceResult.badRequest(validDataAddress.getFailureMessages());
+        var validated = validate(asset);
+        if (validated.failed()) {
+            return validated;
         }
 
         return transactionContext.execute(() -> {
@@ -112,6 +128,125 @@ public class AssetServiceImpl implements AssetService {
 
     @Override
     public ServiceResult<Asset> update(Asset asset) {
+        var validated = validate(asset);
+        if (validated.failed()) {
+            return validated;
+        }
+
+        return transactionContext.execute(() -> {
+            var updatedAsset = index.updateAsset(asset);
+            updatedAsset.onSuccess(a -> observable.invokeForEach(l -> l.updated(a)));
+            return ServiceResult.from(updatedAsset);
+        });
+    }
+
+    @Override
+    public List<ServiceResult<Asset>> createAll(List<Asset> assets) {
+        return storeAll(assets, false);
+    }
+
+    @Override
+    public List<ServiceResult<Asset>> upsertAll(List<Asset> assets) {
+        return storeAll(assets, true);
+    }
+
+    /**
+     * Validates the assets in parallel on the validation executor, then stores the valid ones in a single transaction
+     * with the bulk operations of the {@link AssetIndex}: all of them are created first, then, on upsert, the ones that
+     * already exist are updated, so that the right observable event is fired for every asset.
+     * <p>
+     * If the transaction fails, the assets are stored again one by one, each in its own transaction, so that a single
+     * failing asset does not fail the others.
+     */
+    private List<ServiceResult<Asset>> storeAll(List<Asset> assets, boolean upsert) {
+        var results = new ArrayList<ServiceResult<Asset>>(Collections.nCopies(assets.size(), null));
+        var validated = assets.stream()
+                .map(asset -> CompletableFuture.supplyAsync(() -> validate(asset), validationExecutor))
+                .toList().stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        var validIndexes = new ArrayList<Integer>();
+        for (var i = 0; i < validated.size(); i++) {
+            if (validated.get(i).failed()) {
+                results.set(i, validated.get(i));
+            } else {
+                validIndexes.add(i);
+            }
+        }
+
+        if (validIndexes.isEmpty()) {
+            return results;
+        }
+
+        var validAssets = validIndexes.stream().map(assets::get).toList();
+        List<ServiceResult<Asset>> stored;
+        try {
+            stored = transactionContext.execute(() -> storeInBulk(validAssets, upsert));
+        } catch (EdcException e) {
+            stored = validAssets.stream().map(asset -> storeOne(asset, upsert)).toList();
+        }
+        for (var j = 0; j < stored.size(); j++) {
+            results.set(validIndexes.get(j), stored.get(j));
+        }
+        return results;
+    }
+
+    /**
+     * Stores the assets with the bulk operations of the {@link AssetIndex}. The observable events are fired once all
+     * the assets are stored, so that none is fired if a bulk operation fails.
+     */
+    private List<ServiceResult<Asset>> storeInBulk(List<Asset> assets, boolean upsert) {
+        var results = new ArrayList<ServiceResult<Asset>>(Collections.nCopies(assets.size(), null));
+        var events = new ArrayList<Runnable>();
+        var created = index.createAll(assets);
+        var existingIndexes = new ArrayList<Integer>();
+        for (var i = 0; i < created.size(); i++) {
+            var result = created.get(i);
+            if (result.succeeded()) {
+                events.add(() -> observable.invokeForEach(l -> l.created(result.getContent())));
+                results.set(i, ServiceResult.success(result.getContent()));
+            } else if (upsert && result.reason() == ALREADY_EXISTS) {
+                existingIndexes.add(i);
+            } else {
+                results.set(i, ServiceResult.fromFailure(result));
+            }
+        }
+
+        if (!existingIndexes.isEmpty()) {
+            var updated = index.upsertAll(existingIndexes.stream().map(assets::get).toList());
+            for (var j = 0; j < updated.size(); j++) {
+                var result = updated.get(j);
+                result.onSuccess(a -> events.add(() -> observable.invokeForEach(l -> l.updated(a))));
+                results.set(existingIndexes.get(j), ServiceResult.from(result));
+            }
+        }
+
+        events.forEach(Runnable::run);
+        return results;
+    }
+
+    private ServiceResult<Asset> storeOne(Asset asset, boolean upsert) {
+        try {
+            return transactionContext.execute(() -> {
+                var created = index.create(asset);
+                if (created.succeeded()) {
+                    observable.invokeForEach(l -> l.created(asset));
+                    return ServiceResult.success(asset);
+                }
+                if (upsert && created.reason() == ALREADY_EXISTS) {
+                    var updated = index.updateAsset(asset);
+                    updated.onSuccess(a -> observable.invokeForEach(l -> l.updated(a)));
+                    return ServiceResult.from(updated);
+                }
+                return ServiceResult.fromFailure(created);
+            });
+        } catch (EdcException e) {
+            return ServiceResult.fromFailure(StoreResult.generalError(format("Asset %s could not be stored: %s", asset.getId(), e.getMessage())));
+        }
+    }
+
+    private ServiceResult<Asset> validate(Asset asset) {
         if (asset.hasDuplicatePropertyKeys()) {
             return ServiceResult.badRequest(DUPLICATED_KEYS_MESSAGE);
         }
@@ -121,11 +256,7 @@ public class AssetServiceImpl implements AssetService {
             return ServiceResult.badRequest(validDataAddress.getFailureMessages());
         }
 
-        return transactionContext.execute(() -> {
-            var updatedAsset = index.updateAsset(asset);
-            updatedAsset.onSuccess(a -> observable.invokeForEach(l -> l.updated(a)));
-            return ServiceResult.from(updatedAsset);
-        });
+        return ServiceResult.success(asset);
     }
 
 }
@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiat
 import org.eclipse.edc.connector.spi.asset.AssetService;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Failure;
@@ -44,6 +45,7 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -54,6 +56,7 @@ import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.CONFLICT;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNEXPECTED;
 import static org.eclipse.edc.validator.spi.Violation.violation;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.AdditionalMatchers.and;
@@ -266,6 +269,58 @@ class AssetServiceImplTest {
         verifyNoInteractions(index);
     }
 
+    @Test
+    void createAll_shouldCreateValidAssetsAndReportFailures() {
+        var valid = createAsset("valid");
+        var existing = createAsset("existing");
+        var invalid = createAssetBuilder("invalid").property("property", "value").privateProperty("property", "other-value").build();
+        when(dataAddressValidator.validateSource(any())).thenReturn(ValidationResult.success());
+        when(index.createAll(any())).thenReturn(List.of(StoreResult.success(valid), StoreResult.alreadyExists("exists")));
+
+        var results = service.createAll(List.of(valid, invalid, existing));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).isSucceeded().isSameAs(valid);
+        assertThat(results.get(1)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        assertThat(results.get(2)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+        verify(index).createAll(List.of(valid, existing));
+        verifyNoMoreInteractions(index);
+        verify(observable).invokeForEach(any());
+    }
+
+    @Test
+    void upsertAll_shouldUpdateExistingAssets() {
+        var created = createAsset("created");
+        var existing = createAsset("existing");
+        when(dataAddressValidator.validateSource(any())).thenReturn(ValidationResult.success());
+        when(index.createAll(any())).thenReturn(List.of(StoreResult.success(created), StoreResult.alreadyExists("exists")));
+        when(index.upsertAll(any())).thenReturn(List.of(StoreResult.success(existing)));
+
+        var results = service.upsertAll(List.of(created, existing));
+
+        assertThat(results).hasSize(2).allMatch(ServiceResult::succeeded);
+        verify(index).createAll(List.of(created, existing));
+        verify(index).upsertAll(List.of(existing));
+        verify(observable, times(2)).invokeForEach(any());
+    }
+
+    @Test
+    void createAll_shouldStoreAssetsOneByOne_whenBulkOperationFails() {
+        var valid = createAsset("valid");
+        var failing = createAsset("failing");
+        when(dataAddressValidator.validateSource(any())).thenReturn(ValidationResult.success());
+        when(index.createAll(any())).thenThrow(new EdcPersistenceException("bulk failed"));
+        when(index.create(valid)).thenReturn(StoreResult.success());
+        when(index.create(failing)).thenThrow(new EdcPersistenceException("insert failed"));
+
+        var results = service.createAll(List.of(valid, failing));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isSucceeded().isSameAs(valid);
+        assertThat(results.get(1)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNEXPECTED);
+        verify(observable).invokeForEach(any());
+    }
+
     private static class InvalidFilters implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
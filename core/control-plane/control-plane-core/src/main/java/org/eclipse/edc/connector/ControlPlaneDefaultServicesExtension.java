@@ -29,13 +29,16 @@ import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
 import org.eclipse.edc.spi.query.CriterionToAssetPredicateConverter;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.util.concurrency.LockManager;
 
 import java.time.Clock;
+import java.util.Arrays;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -45,6 +48,10 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 public class ControlPlaneDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Control Plane Default Services";
+
+    @Setting(value = "Comma-separated list of asset properties indexed by the in-memory asset index, to speed up the equality and 'in' queries and the sorting on them")
+    private static final String ASSET_INDEX_INDEXED_PROPERTIES = "edc.assetindex.memory.indexed-properties";
+
     private InMemoryAssetIndex assetIndex;
     private InMemoryContractDefinitionStore contractDefinitionStore;
 
@@ -57,13 +64,13 @@ public class ControlPlaneDefaultServicesExtension implements ServiceExtension {
     private Clock clock;
 
     @Provider(isDefault = true)
-    public AssetIndex defaultAssetIndex() {
-        return getAssetIndex();
+    public AssetIndex defaultAssetIndex(ServiceExtensionContext context) {
+        return getAssetIndex(context);
     }
 
     @Provider(isDefault = true)
-    public DataAddressResolver defaultDataAddressResolver() {
-        return getAssetIndex();
+    public DataAddressResolver defaultDataAddressResolver(ServiceExtensionContext context) {
+        return getAssetIndex(context);
     }
 
     @Provider(isDefault = true)
@@ -103,9 +110,13 @@ public class ControlPlaneDefaultServicesExtension implements ServiceExtension {
         return contractDefinitionStore;
     }
 
-    private InMemoryAssetIndex getAssetIndex() {
+    private InMemoryAssetIndex getAssetIndex(ServiceExtensionContext context) {
         if (assetIndex == null) {
-            assetIndex = new InMemoryAssetIndex();
+            var indexedProperties = Arrays.stream(context.getSetting(ASSET_INDEX_INDEXED_PROPERTIES, "").split(","))
+                    .map(String::trim)
+                    .filter(property -> !property.isEmpty())
+                    .toList();
+            assetIndex = new InMemoryAssetIndex(indexedProperties);
         }
         return assetIndex;
     }
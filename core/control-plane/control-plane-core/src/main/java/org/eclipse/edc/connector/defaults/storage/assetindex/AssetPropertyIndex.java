@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.defaults.storage.assetindex;
+
+import org.eclipse.edc.spi.query.SortOrder;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Index of the asset ids by the value of a property, used to find the candidates of the {@code =} and {@code in}
+ * criteria and to iterate the assets sorted by the property.
+ * <p>
+ * Only string values are indexed: string lists are indexed by element for the {@code =} lookups, and the assets whose
+ * value has another type are always returned as candidates, as the criteria compare them with a different semantic.
+ * Candidates are a superset of the matching assets, the criteria must still be evaluated on them.
+ * <p>
+ * This class is not thread-safe, the {@link InMemoryAssetIndex} guards it with its lock.
+ */
+class AssetPropertyIndex {
+
+    private final NavigableMap<String, Set<String>> idsByValue = new TreeMap<>();
+    private final Map<String, Set<String>> idsByElement = new HashMap<>();
+    private final Set<String> idsWithOtherValue = new HashSet<>();
+    private int indexedValues;
+
+    void add(String id, @Nullable Object value) {
+        if (value instanceof String string) {
+            idsByValue.computeIfAbsent(string, v -> new LinkedHashSet<>()).add(id);
+            indexedValues++;
+        } else if (value instanceof List<?> list && list.stream().allMatch(String.class::isInstance)) {
+            list.forEach(element -> idsByElement.computeIfAbsent((String) element, v -> new HashSet<>()).add(id));
+        } else if (value != null) {
+            idsWithOtherValue.add(id);
+        }
+    }
+
+    void remove(String id, @Nullable Object value) {
+        if (value instanceof String string) {
+            if (removeFrom(idsByValue, string, id)) {
+                indexedValues--;
+            }
+        } else if (value instanceof List<?> list && list.stream().allMatch(String.class::isInstance)) {
+            list.forEach(element -> removeFrom(idsByElement, (String) element, id));
+        } else if (value != null) {
+            idsWithOtherValue.remove(id);
+        }
+    }
+
+    /**
+     * Ids of the assets that can be equal to the value.
+     */
+    Set<String> equalTo(String value) {
+        var ids = new HashSet<>(idsByValue.getOrDefault(value, Set.of()));
+        ids.addAll(idsByElement.getOrDefault(value, Set.of()));
+        ids.addAll(idsWithOtherValue);
+        return ids;
+    }
+
+    /**
+     * Ids of the assets whose value can be one of the values.
+     */
+    Set<String> in(Collection<String> values) {
+        var ids = new HashSet<>(idsWithOtherValue);
+        values.forEach(value -> ids.addAll(idsByValue.getOrDefault(value, Set.of())));
+        return ids;
+    }
+
+    /**
+     * Whether the index can sort all the assets, that is when every one of them has a string value.
+     */
+    boolean canSort(int assetCount) {
+        return indexedValues == assetCount;
+    }
+
+    /**
+     * Ids of the assets, sorted by value.
+     */
+    Stream<String> sorted(SortOrder sortOrder) {
+        var map = sortOrder == SortOrder.DESC ? idsByValue.descendingMap() : idsByValue;
+        return map.values().stream().flatMap(Set::stream);
+    }
+
+    private boolean removeFrom(Map<String, Set<String>> index, String value, String id) {
+        var ids = index.get(value);
+        if (ids == null || !ids.remove(id)) {
+            return false;
+        }
+        if (ids.isEmpty()) {
+            index.remove(value);
+        }
+        return true;
+    }
+}
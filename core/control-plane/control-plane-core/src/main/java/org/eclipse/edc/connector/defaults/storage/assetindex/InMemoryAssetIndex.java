@@ -24,11 +24,14 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
@@ -37,31 +40,53 @@ import java.util.stream.Stream;
 import static java.lang.String.format;
 
 /**
- * An ephemeral asset index, that is also a DataAddressResolver
+ * An ephemeral asset index, that is also a DataAddressResolver.
+ * <p>
+ * Assets are looked up by id in constant time. The asset id and the configured properties are also indexed, so that
+ * the {@code =} and {@code in} criteria on them, and the queries sorted by them, do not need to scan all the assets.
  */
 public class InMemoryAssetIndex implements AssetIndex {
     private final Map<String, Asset> cache = new ConcurrentHashMap<>();
     private final Map<String, DataAddress> dataAddresses = new ConcurrentHashMap<>();
+    private final Map<String, AssetPropertyIndex> propertyIndexes = new HashMap<>();
     private final CriterionToAssetPredicateConverterImpl predicateConverter = new CriterionToAssetPredicateConverterImpl();
     private final ReentrantReadWriteLock lock;
 
     public InMemoryAssetIndex() {
+        this(List.of());
+    }
+
+    /**
+     * Creates an index with secondary indexes on the given asset properties, in addition to the asset id.
+     *
+     * @param indexedProperties the names of the indexed properties, as used in the left operand of the criteria.
+     */
+    public InMemoryAssetIndex(Collection<String> indexedProperties) {
         // fair locks guarantee strong consistency since all waiting threads are processed in order of waiting time
         lock = new ReentrantReadWriteLock(true);
+        propertyIndexes.put(Asset.PROPERTY_ID, new AssetPropertyIndex());
+        indexedProperties.forEach(property -> propertyIndexes.put(property, new AssetPropertyIndex()));
     }
 
     @Override
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         lock.readLock().lock();
         try {
-            var comparator = querySpec.getSortField() == null
-                    ? (Comparator<Asset>) (o1, o2) -> 0
-                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+            var predicate = toPredicate(querySpec.getFilterExpression());
+            var candidateIds = candidateIds(querySpec.getFilterExpression());
+            var sortField = querySpec.getSortField();
 
-            return filterBy(querySpec.getFilterExpression())
-                    .sorted(comparator)
-                    .skip(querySpec.getOffset()).limit(querySpec.getLimit());
+            Stream<Asset> assets;
+            if (sortField == null) {
+                assets = candidates(candidateIds).filter(predicate);
+            } else if (candidateIds == null && canSortBy(sortField)) {
+                assets = propertyIndexes.get(sortField).sorted(querySpec.getSortOrder()).map(cache::get).filter(predicate);
+            } else {
+                assets = candidates(candidateIds).filter(predicate).sorted(new AssetComparator(sortField, querySpec.getSortOrder()));
+            }
 
+            // the result is collected while holding the lock, as the indexes are not thread-safe
+            return assets.skip(querySpec.getOffset()).limit(querySpec.getLimit()).toList().stream();
         } finally {
             lock.readLock().unlock();
         }
@@ -71,10 +96,7 @@ public class InMemoryAssetIndex implements AssetIndex {
     public Asset findById(String assetId) {
         lock.readLock().lock();
         try {
-            return cache.values().stream()
-                    .filter(asset -> asset.getId().equals(assetId))
-                    .findFirst()
-                    .orElse(null);
+            return cache.get(assetId);
         } finally {
             lock.readLock().unlock();
         }
@@ -109,7 +131,13 @@ public class InMemoryAssetIndex implements AssetIndex {
 
     @Override
     public long countAssets(List<Criterion> criteria) {
-        return filterBy(criteria).count();
+        lock.readLock().lock();
+        try {
+            var predicate = toPredicate(criteria);
+            return candidates(candidateIds(criteria)).filter(predicate).count();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
@@ -119,8 +147,11 @@ public class InMemoryAssetIndex implements AssetIndex {
             var id = asset.getId();
             Objects.requireNonNull(asset, "asset");
             Objects.requireNonNull(id, "assetId");
-            if (cache.containsKey(id)) {
+            var previous = cache.get(id);
+            if (previous != null) {
+                unindex(previous);
                 cache.put(id, asset);
+                index(asset);
                 return StoreResult.success(asset);
             }
             return StoreResult.notFound(format(ASSET_NOT_FOUND_TEMPLATE, id));
@@ -140,18 +171,62 @@ public class InMemoryAssetIndex implements AssetIndex {
         }
     }
 
-    private Stream<Asset> filterBy(List<Criterion> criteria) {
-        var predicate = criteria.stream()
-                .map(predicateConverter::convert)
+    private Predicate<Asset> toPredicate(List<Criterion> criteria) {
+        return criteria.stream()
+                .map(predicateConverter::<Asset>convert)
                 .reduce(x -> true, Predicate::and);
+    }
+
+    /**
+     * Returns the ids of the assets that can match the criteria, found with the most selective index, or null if no
+     * criterion can be looked up in an index.
+     */
+    private @Nullable Set<String> candidateIds(List<Criterion> criteria) {
+        Set<String> ids = null;
+        for (var criterion : criteria) {
+            var indexed = lookup(criterion);
+            if (indexed != null && (ids == null || indexed.size() < ids.size())) {
+                ids = indexed;
+            }
+        }
+        return ids;
+    }
+
+    private Stream<Asset> candidates(@Nullable Set<String> ids) {
+        return ids == null ? cache.values().stream() : ids.stream().map(cache::get).filter(Objects::nonNull);
+    }
 
-        return cache.values().stream()
-                .filter(predicate);
+    private boolean canSortBy(String sortField) {
+        var index = propertyIndexes.get(sortField);
+        return index != null && index.canSort(cache.size());
+    }
+
+    /**
+     * Returns the ids of the assets that can match the criterion, or null if the criterion cannot be looked up in an index.
+     */
+    private @Nullable Set<String> lookup(Criterion criterion) {
+        if (!(criterion.getOperandLeft() instanceof String property) || !propertyIndexes.containsKey(property)) {
+            return null;
+        }
+        var index = propertyIndexes.get(property);
+        var operator = criterion.getOperator().toLowerCase();
+        var right = criterion.getOperandRight();
+        if ("=".equals(operator) && right instanceof String value) {
+            return index.equalTo(value);
+        }
+        if ("in".equals(operator) && right instanceof Collection<?> values && values.stream().allMatch(String.class::isInstance)) {
+            return index.in(values.stream().map(String.class::cast).toList());
+        }
+        return null;
     }
 
     private Asset delete(String assetId) {
         dataAddresses.remove(assetId);
-        return cache.remove(assetId);
+        var asset = cache.remove(assetId);
+        if (asset != null) {
+            unindex(asset);
+        }
+        return asset;
     }
 
     /**
@@ -163,6 +238,15 @@ public class InMemoryAssetIndex implements AssetIndex {
         Objects.requireNonNull(id, "asset.getId()");
         cache.put(id, asset);
         dataAddresses.put(id, address);
+        index(asset);
+    }
+
+    private void index(Asset asset) {
+        propertyIndexes.forEach((property, index) -> index.add(asset.getId(), predicateConverter.property(property, asset)));
+    }
+
+    private void unindex(Asset asset) {
+        propertyIndexes.forEach((property, index) -> index.remove(asset.getId(), predicateConverter.property(property, asset)));
     }
 
     private record AssetComparator(String sortField, SortOrder sortOrder) implements Comparator<Asset> {
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.defaults.storage.assetindex;
+
+import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.spi.testfixtures.asset.AssetIndexTestBase;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@link AssetIndex} contract against an in-memory index with secondary indexes on the properties used by the
+ * tests.
+ */
+class IndexedInMemoryAssetIndexTest extends AssetIndexTestBase {
+
+    private InMemoryAssetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryAssetIndex(List.of("version", "contentType", "someprop", "pKey", "category", Asset.PROPERTY_NAME));
+    }
+
+    @Override
+    protected AssetIndex getAssetIndex() {
+        return index;
+    }
+
+    @Test
+    void shouldFindUpdatedValues_whenAssetUpdated() {
+        index.create(asset("id1", "red"));
+        index.create(asset("id2", "blue"));
+
+        index.updateAsset(asset("id1", "blue"));
+
+        assertThat(index.queryAssets(filter(new Criterion("category", "=", "red")))).isEmpty();
+        assertThat(index.queryAssets(filter(new Criterion("category", "=", "blue")))).extracting(Asset::getId).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(index.countAssets(List.of(new Criterion("category", "in", List.of("red", "blue"))))).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotFindDeletedAsset() {
+        index.create(asset("id1", "red"));
+
+        index.deleteById("id1");
+
+        assertThat(index.queryAssets(filter(new Criterion("category", "=", "red")))).isEmpty();
+        assertThat(index.findById("id1")).isNull();
+    }
+
+    @Test
+    void shouldSortWithIndex_andApplyNotIndexedCriteria() {
+        index.create(asset("id1", "c"));
+        index.create(asset("id2", "a"));
+        index.create(asset("id3", "b"));
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion(Asset.PROPERTY_ID, "like", "id%"))
+                .sortField("category")
+                .sortOrder(SortOrder.DESC)
+                .limit(2)
+                .build();
+
+        var result = index.queryAssets(query);
+
+        assertThat(result).extracting(Asset::getId).containsExactly("id1", "id3");
+    }
+
+    private QuerySpec filter(Criterion criterion) {
+        return QuerySpec.Builder.newInstance().filter(criterion).build();
+    }
+
+    private Asset asset(String id, String category) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .property("category", category)
+                .dataAddress(DataAddress.Builder.newInstance().type("test").build())
+                .build();
+    }
+}
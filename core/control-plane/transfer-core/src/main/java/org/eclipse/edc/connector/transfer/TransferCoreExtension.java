@@ -55,6 +55,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
@@ -64,6 +65,8 @@ import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.D
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_STATE_CONCURRENCY;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core data transfer services to the system.
@@ -81,6 +84,12 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the number of threads on which the processors of the transfer process state machine run concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String TRANSFER_STATE_MACHINE_WORKERS = "edc.transfer.state-machine.workers";
+
+    @Setting(value = "the maximum number of entities in the same state processed concurrently by the transfer process state machine. Default value " + DEFAULT_STATE_CONCURRENCY, type = "int")
+    private static final String TRANSFER_STATE_MACHINE_STATE_CONCURRENCY = "edc.transfer.state-machine.state-concurrency";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -141,6 +150,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private TransactionContext transactionContext;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -183,8 +195,11 @@ public class TransferCoreExtension implements ServiceExtension {
                 .clock(clock)
                 .observable(observable)
                 .store(transferProcessStore)
+                .transactionContext(transactionContext)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(TRANSFER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
+                .stateConcurrency(context.getSetting(TRANSFER_STATE_MACHINE_STATE_CONCURRENCY, DEFAULT_STATE_CONCURRENCY))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
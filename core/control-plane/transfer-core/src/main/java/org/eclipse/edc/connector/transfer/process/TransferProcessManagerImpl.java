@@ -150,8 +150,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
                 .build();
 
         observable.invokeForEach(l -> l.preCreated(process));
-        update(process);
-        observable.invokeForEach(l -> l.initiated(process));
+        update(process, () -> observable.invokeForEach(l -> l.initiated(process)));
         monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
 
         return StatusResult.success(process);
@@ -458,24 +457,26 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
 
     private Processor processConsumerTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", CONSUMER.name())};
-        return createProcessor(function, filter);
+        return createProcessor(state, function, filter);
     }
 
     private Processor processProviderTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", PROVIDER.name())};
-        return createProcessor(function, filter);
+        return createProcessor(state, function, filter);
     }
 
     private Processor processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{hasState(state.code()), isNotPending()};
-        return createProcessor(function, filter);
+        return createProcessor(state, function, filter);
     }
 
-    private ProcessorImpl<TransferProcess> createProcessor(Function<TransferProcess, Boolean> function, Criterion[] filter) {
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+    private ProcessorImpl<TransferProcess> createProcessor(TransferProcessStates state, Function<TransferProcess, Boolean> function, Criterion[] filter) {
+        return ProcessorImpl.Builder.newInstance(limit -> store.nextNotLeased(Math.min(batchSize, limit), filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
+                .executor(processorExecutor(state.name()), stateConcurrency)
+                .monitor(monitor)
                 .build();
     }
 
@@ -500,8 +501,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private void transitionToRequested(TransferProcess transferProcess) {
         transferProcess.transitionRequested();
         observable.invokeForEach(l -> l.preRequested(transferProcess));
-        update(transferProcess);
-        observable.invokeForEach(l -> l.requested(transferProcess));
+        update(transferProcess, () -> observable.invokeForEach(l -> l.requested(transferProcess)));
     }
 
     private void transitionToStarting(TransferProcess transferProcess) {
@@ -512,8 +512,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private void transitionToStarted(TransferProcess process) {
         process.transitionStarted();
         observable.invokeForEach(l -> l.preStarted(process));
-        update(process);
-        observable.invokeForEach(l -> l.started(process, TransferProcessStartedData.Builder.newInstance().build()));
+        update(process, () -> observable.invokeForEach(l -> l.started(process, TransferProcessStartedData.Builder.newInstance().build())));
     }
 
     private void transitionToCompleting(TransferProcess process) {
@@ -524,8 +523,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private void transitionToCompleted(TransferProcess transferProcess) {
         transferProcess.transitionCompleted();
         observable.invokeForEach(l -> l.preCompleted(transferProcess));
-        update(transferProcess);
-        observable.invokeForEach(l -> l.completed(transferProcess));
+        update(transferProcess, () -> observable.invokeForEach(l -> l.completed(transferProcess)));
     }
 
     private void transitionToTerminating(TransferProcess process, String message, Throwable... errors) {
@@ -547,8 +545,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private void transitionToTerminated(TransferProcess process) {
         process.transitionTerminated();
         observable.invokeForEach(l -> l.preTerminated(process));
-        update(process);
-        observable.invokeForEach(l -> l.terminated(process));
+        update(process, () -> observable.invokeForEach(l -> l.terminated(process)));
     }
 
     private void transitionToDeprovisioning(TransferProcess process) {
@@ -560,8 +557,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
         monitor.severe(message);
         transferProcess.transitionDeprovisioned(message);
         observable.invokeForEach(l -> l.preDeprovisioned(transferProcess));
-        update(transferProcess);
-        observable.invokeForEach(l -> l.deprovisioned(transferProcess));
+        update(transferProcess, () -> observable.invokeForEach(l -> l.deprovisioned(transferProcess)));
     }
 
     public static class Builder
@@ -56,6 +56,8 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -70,6 +72,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -107,9 +110,11 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -139,6 +144,7 @@ class TransferProcessManagerImplTest {
     private final DeprovisionResponsesHandler deprovisionResponsesHandler = mock();
     private final String protocolWebhookUrl = "http://protocol.webhook/url";
     private final TransferProcessPendingGuard pendingGuard = mock();
+    private final TransactionContext transactionContext = spy(new NoopTransactionContext());
 
     private TransferProcessManagerImpl manager;
 
@@ -160,6 +166,7 @@ class TransferProcessManagerImplTest {
                 .clock(clock)
                 .observable(observable)
                 .store(transferProcessStore)
+                .transactionContext(transactionContext)
                 .policyArchive(policyArchive)
                 .vault(vault)
                 .addressResolver(addressResolver)
@@ -193,6 +200,32 @@ class TransferProcessManagerImplTest {
         verify(listener).initiated(any());
     }
 
+    @Test
+    void initiateConsumerRequest_shouldNotifyListenersInTheTransactionOfTheStateChange() {
+        var inTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.callRealMethod();
+            } finally {
+                inTransaction.set(false);
+            }
+        }).when(transactionContext).execute(any(TransactionContext.TransactionBlock.class));
+        var notifiedInTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            notifiedInTransaction.set(inTransaction.get());
+            return null;
+        }).when(listener).initiated(any());
+        var transferRequest = TransferRequest.Builder.newInstance()
+                .id("1")
+                .dataDestination(DataAddress.Builder.newInstance().type("test").build())
+                .build();
+
+        manager.initiateConsumerRequest(transferRequest);
+
+        assertThat(notifiedInTransaction).isTrue();
+    }
+
     @Test
     void initial_consumer_shouldTransitionToProvisioning() {
         var transferProcess = createTransferProcess(INITIAL);
@@ -18,8 +18,11 @@ import org.eclipse.edc.connector.dataplane.selector.DataPlaneSelectorServiceImpl
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.LeastConnectionsSelectionStrategy;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.PowerOfTwoChoicesSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.RandomSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.WeightedSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.strategy.DefaultSelectionStrategyRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -45,6 +48,9 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
 
         var strategy = new DefaultSelectionStrategyRegistry();
         strategy.add(new RandomSelectionStrategy());
+        strategy.add(new LeastConnectionsSelectionStrategy());
+        strategy.add(new WeightedSelectionStrategy());
+        strategy.add(new PowerOfTwoChoicesSelectionStrategy());
 
         context.registerService(DataPlaneSelector.class, selector);
         context.registerService(SelectionStrategyRegistry.class, strategy);
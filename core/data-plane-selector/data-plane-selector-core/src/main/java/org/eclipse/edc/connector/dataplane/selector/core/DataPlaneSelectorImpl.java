@@ -32,6 +32,6 @@ public class DataPlaneSelectorImpl implements DataPlaneSelector {
 
     @Override
     public DataPlaneInstance select(DataAddress sourceAddress, DataAddress destinationAddress, SelectionStrategy strategy) {
-        return strategy.apply(instanceStore.getAll().filter(di -> di.canHandle(sourceAddress, destinationAddress)).collect(Collectors.toList()));
+        return strategy.apply(instanceStore.findAll(sourceAddress, destinationAddress).collect(Collectors.toList()));
     }
 }
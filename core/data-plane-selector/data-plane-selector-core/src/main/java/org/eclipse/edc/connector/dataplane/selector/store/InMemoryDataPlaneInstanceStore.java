@@ -17,49 +17,103 @@ package org.eclipse.edc.connector.dataplane.selector.store;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.util.concurrency.LockManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 
 /**
  * Default (=in-memory) implementation for the {@link DataPlaneInstanceStore}. All r/w access is secured with a {@link LockManager}.
+ * <p>
+ * Instances are also indexed by the source and destination types they can handle, so that finding the instances that can
+ * handle a transfer does not need to scan all of them.
  */
 public class InMemoryDataPlaneInstanceStore implements DataPlaneInstanceStore {
 
-    private final Map<String, DataPlaneInstance> instances = new ConcurrentHashMap<>();
+    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock(true));
+    private final Map<String, DataPlaneInstance> instances = new HashMap<>();
+    private final Map<Route, Map<String, DataPlaneInstance>> instancesByRoute = new HashMap<>();
 
     public InMemoryDataPlaneInstanceStore() {
     }
 
     @Override
     public StoreResult<Void> create(DataPlaneInstance instance) {
-        var prev = instances.putIfAbsent(instance.getId(), instance);
-        return Optional.ofNullable(prev)
-                .map(a -> StoreResult.<Void>alreadyExists(format(DATA_PLANE_INSTANCE_EXISTS, instance.getId())))
-                .orElse(StoreResult.success());
-
+        return lockManager.writeLock(() -> {
+            if (instances.containsKey(instance.getId())) {
+                return StoreResult.alreadyExists(format(DATA_PLANE_INSTANCE_EXISTS, instance.getId()));
+            }
+            instances.put(instance.getId(), instance);
+            index(instance);
+            return StoreResult.success();
+        });
     }
 
     @Override
     public StoreResult<Void> update(DataPlaneInstance instance) {
-        var prev = instances.replace(instance.getId(), instance);
-        return Optional.ofNullable(prev)
-                .map(a -> StoreResult.<Void>success())
-                .orElse(StoreResult.notFound(format(DATA_PLANE_INSTANCE_NOT_FOUND, instance.getId())));
+        return lockManager.writeLock(() -> {
+            var previous = instances.get(instance.getId());
+            if (previous == null) {
+                return StoreResult.notFound(format(DATA_PLANE_INSTANCE_NOT_FOUND, instance.getId()));
+            }
+            unindex(previous);
+            instances.put(instance.getId(), instance);
+            index(instance);
+            return StoreResult.success();
+        });
     }
 
     @Override
     public DataPlaneInstance findById(String id) {
-        return instances.get(id);
+        return lockManager.readLock(() -> instances.get(id));
     }
 
     @Override
     public Stream<DataPlaneInstance> getAll() {
-        return instances.values().stream();
+        return lockManager.readLock(() -> new ArrayList<>(instances.values())).stream();
+    }
+
+    @Override
+    public Stream<DataPlaneInstance> findAll(DataAddress sourceAddress, DataAddress destinationAddress) {
+        var route = new Route(sourceAddress.getType(), destinationAddress.getType());
+        return lockManager.readLock(() -> {
+            var matching = instancesByRoute.get(route);
+            return matching == null ? List.<DataPlaneInstance>of() : new ArrayList<>(matching.values());
+        }).stream();
+    }
+
+    private void index(DataPlaneInstance instance) {
+        for (var sourceType : instance.getAllowedSourceTypes()) {
+            for (var destinationType : instance.getAllowedDestTypes()) {
+                instancesByRoute.computeIfAbsent(new Route(sourceType, destinationType), route -> new LinkedHashMap<>())
+                        .put(instance.getId(), instance);
+            }
+        }
+    }
+
+    private void unindex(DataPlaneInstance instance) {
+        for (var sourceType : instance.getAllowedSourceTypes()) {
+            for (var destinationType : instance.getAllowedDestTypes()) {
+                var route = new Route(sourceType, destinationType);
+                var indexed = instancesByRoute.get(route);
+                if (indexed != null) {
+                    indexed.remove(instance.getId());
+                    if (indexed.isEmpty()) {
+                        instancesByRoute.remove(route);
+                    }
+                }
+            }
+        }
+    }
+
+    private record Route(String sourceType, String destinationType) {
     }
 }
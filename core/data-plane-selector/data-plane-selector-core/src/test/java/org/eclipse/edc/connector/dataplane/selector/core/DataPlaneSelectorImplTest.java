@@ -26,6 +26,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.selector.spi.testfixtures.TestFunctions.createAddress;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +38,7 @@ class DataPlaneSelectorImplTest {
     @BeforeEach
     void setUp() {
         storeMock = mock(DataPlaneInstanceStore.class);
+        doCallRealMethod().when(storeMock).findAll(any(), any());
         selector = new DataPlaneSelectorImpl(storeMock);
     }
 
@@ -44,6 +44,8 @@ import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.D
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_STATE_CONCURRENCY;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core services for the Data Plane Framework.
@@ -59,6 +61,12 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting(value = "the batch size in the data plane state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String DATAPLANE_MACHINE_BATCH_SIZE = "edc.dataplane.state-machine.batch-size";
 
+    @Setting(value = "the number of threads on which the processors of the data plane state machine run concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String DATAPLANE_MACHINE_WORKERS = "edc.dataplane.state-machine.workers";
+
+    @Setting(value = "the maximum number of entities in the same state processed concurrently by the data plane state machine. Default value " + DEFAULT_STATE_CONCURRENCY, type = "int")
+    private static final String DATAPLANE_MACHINE_STATE_CONCURRENCY = "edc.dataplane.state-machine.state-concurrency";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the dataplane with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String DATAPLANE_SEND_RETRY_LIMIT = "edc.dataplane.send.retry.limit";
 
@@ -117,6 +125,8 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
                 .waitStrategy(waitStrategy)
                 .batchSize(context.getSetting(DATAPLANE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(DATAPLANE_MACHINE_WORKERS, DEFAULT_WORKERS))
+                .stateConcurrency(context.getSetting(DATAPLANE_MACHINE_STATE_CONCURRENCY, DEFAULT_STATE_CONCURRENCY))
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration(context))
                 .executorInstrumentation(executorInstrumentation)
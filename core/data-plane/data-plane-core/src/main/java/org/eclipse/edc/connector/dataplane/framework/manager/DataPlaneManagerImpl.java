@@ -180,9 +180,11 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
 
     private Processor processDataFlowInState(DataFlowStates state, Function<DataFlow, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return ProcessorImpl.Builder.newInstance(limit -> store.nextNotLeased(Math.min(batchSize, limit), filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
+                .executor(processorExecutor(state.name()), stateConcurrency)
+                .monitor(monitor)
                 .build();
     }
 
@@ -97,6 +97,7 @@ public class AsyncStreamingDataSink implements DataSink {
         var result = asyncContext.register(outputStream -> {
             try {
                 part.openStream().transferTo(outputStream);
+                part.onTransferred();
             } catch (IOException e) {
                 throw new EdcException(e);
             }
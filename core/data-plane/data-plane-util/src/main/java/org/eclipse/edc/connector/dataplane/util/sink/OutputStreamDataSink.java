@@ -76,6 +76,7 @@ public class OutputStreamDataSink implements DataSink {
     private Result<Void> transferData(DataSource.Part part) {
         try (var source = part.openStream()) {
             source.transferTo(stream);
+            part.onTransferred();
             return Result.success();
         } catch (Exception e) {
             monitor.severe("Error writing data", e);
@@ -79,9 +79,19 @@ public abstract class ParallelSink implements DataSink {
     }
 
     private Supplier<StreamResult<Object>> transfer(List<DataSource.Part> parts) {
-        return telemetry.contextPropagationMiddleware(() -> transferParts(parts), telemetry.getTraceCarrierWithCurrentContext());
+        return telemetry.contextPropagationMiddleware(() -> {
+            var result = transferParts(parts);
+            if (result.succeeded()) {
+                parts.forEach(DataSource.Part::onTransferred);
+            }
+            return result;
+        }, telemetry.getTraceCarrierWithCurrentContext());
     }
 
+    /**
+     * Writes the parts to the destination. The parts are notified through {@link DataSource.Part#onTransferred()} only
+     * if the returned result succeeded.
+     */
     protected abstract StreamResult<Object> transferParts(List<DataSource.Part> parts);
 
     /**
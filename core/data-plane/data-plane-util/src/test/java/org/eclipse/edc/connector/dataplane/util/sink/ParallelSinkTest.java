@@ -30,11 +30,14 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ParallelSinkTest {
@@ -68,6 +71,27 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(1);
     }
 
+    @Test
+    void transfer_shouldNotifyParts_whenTransferSucceeds() {
+        var part = mock(DataSource.Part.class);
+
+        assertThat(fakeSink.transfer(source(part))).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        verify(part).onTransferred();
+    }
+
+    @Test
+    void transfer_shouldNotNotifyParts_whenTransferFails() {
+        var part = mock(DataSource.Part.class);
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        assertThat(fakeSink.transfer(source(part))).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+
+        verify(part, never()).onTransferred();
+    }
+
     @Test
     void transfer_whenCompleteFails_fails() {
         fakeSink.completeResponse = StreamResult.error("General error");
@@ -116,6 +140,12 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(0);
     }
 
+    private DataSource source(DataSource.Part part) {
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+        return source;
+    }
+
     private static class FakeParallelSink extends ParallelSink {
 
         List<DataSource.Part> parts;
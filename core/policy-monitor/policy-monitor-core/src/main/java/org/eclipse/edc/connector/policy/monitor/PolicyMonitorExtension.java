@@ -41,6 +41,8 @@ import java.time.Clock;
 
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_STATE_CONCURRENCY;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 import static org.eclipse.edc.connector.core.policy.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.NAME;
 import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
@@ -57,6 +59,12 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Setting(value = "the batch size in the policy monitor state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String POLICY_MONITOR_BATCH_SIZE = "edc.policy.monitor.state-machine.batch-size";
 
+    @Setting(value = "the number of threads on which the processors of the policy monitor state machine run concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String POLICY_MONITOR_WORKERS = "edc.policy.monitor.state-machine.workers";
+
+    @Setting(value = "the maximum number of entities in the same state processed concurrently by the policy monitor state machine. Default value " + DEFAULT_STATE_CONCURRENCY, type = "int")
+    private static final String POLICY_MONITOR_STATE_CONCURRENCY = "edc.policy.monitor.state-machine.state-concurrency";
+
     @PolicyScope
     public static final String POLICY_MONITOR_SCOPE = "policy.monitor";
 
@@ -101,6 +109,8 @@ public class PolicyMonitorExtension implements ServiceExtension {
         manager = PolicyMonitorManagerImpl.Builder.newInstance()
                 .clock(clock)
                 .batchSize(context.getSetting(POLICY_MONITOR_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(POLICY_MONITOR_WORKERS, DEFAULT_WORKERS))
+                .stateConcurrency(context.getSetting(POLICY_MONITOR_STATE_CONCURRENCY, DEFAULT_STATE_CONCURRENCY))
                 .waitStrategy(waitStrategy)
                 .executorInstrumentation(executorInstrumentation)
                 .monitor(context.getMonitor())
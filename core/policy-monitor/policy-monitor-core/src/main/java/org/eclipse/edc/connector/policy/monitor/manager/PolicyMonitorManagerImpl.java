@@ -116,9 +116,11 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
 
     private Processor processEntriesInState(PolicyMonitorEntryStates state, Function<PolicyMonitorEntry, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return ProcessorImpl.Builder.newInstance(limit -> store.nextNotLeased(Math.min(batchSize, limit), filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
+                .executor(processorExecutor(state.name()), stateConcurrency)
+                .monitor(monitor)
                 .build();
     }
 
@@ -100,6 +100,7 @@ public class DspErrorResponse {
             case UNAUTHORIZED -> Response.Status.UNAUTHORIZED;
             case CONFLICT -> Response.Status.CONFLICT;
             case NOT_FOUND -> Response.Status.NOT_FOUND;
+            case UNEXPECTED -> Response.Status.INTERNAL_SERVER_ERROR;
             default -> Response.Status.BAD_REQUEST;
         };
     }
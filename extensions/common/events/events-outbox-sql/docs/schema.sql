@@ -0,0 +1,32 @@
+--
+--  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+--
+
+CREATE TABLE IF NOT EXISTS edc_event_outbox
+(
+    seq             BIGSERIAL PRIMARY KEY,
+    id              VARCHAR NOT NULL UNIQUE,
+    created_at      BIGINT  NOT NULL,
+    entity_id       VARCHAR NOT NULL,
+    type            VARCHAR NOT NULL,
+    payload         JSON    NOT NULL,
+    attempts        INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at BIGINT  NOT NULL,
+    leased_until    BIGINT
+);
+
+COMMENT ON COLUMN edc_event_outbox.seq IS 'Order in which the events were saved';
+COMMENT ON COLUMN edc_event_outbox.entity_id IS 'Id of the entity the event refers to, events of the same entity are delivered in order';
+
+CREATE INDEX IF NOT EXISTS event_outbox_next_attempt_at_idx ON edc_event_outbox (next_attempt_at);
+
+CREATE INDEX IF NOT EXISTS event_outbox_entity_id_seq_idx ON edc_event_outbox (entity_id, seq);
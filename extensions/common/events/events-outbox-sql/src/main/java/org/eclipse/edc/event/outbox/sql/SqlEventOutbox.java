@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.event.outbox.sql.schema.EventOutboxStatements;
+import org.eclipse.edc.spi.event.outbox.EventOutbox;
+import org.eclipse.edc.spi.event.outbox.OutboxEvent;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * SQL implementation of {@link EventOutbox}. The events are saved through the {@link TransactionContext}, so they are
+ * committed together with the state change that raised them.
+ * <p>
+ * When the database supports it, the relays lock the entities whose events they lease until their transaction ends:
+ * the row locks only cover the selected events, so without it a relay could get the next event of an entity while
+ * another one is leasing the previous event.
+ */
+public class SqlEventOutbox extends AbstractSqlStore implements EventOutbox {
+
+    private final EventOutboxStatements statements;
+    private final Clock clock;
+    private final Duration leaseDuration;
+
+    public SqlEventOutbox(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                          ObjectMapper objectMapper, QueryExecutor queryExecutor, EventOutboxStatements statements,
+                          Clock clock, Duration leaseDuration) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = Objects.requireNonNull(statements);
+        this.clock = clock;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Override
+    public void save(OutboxEvent event) {
+        Objects.requireNonNull(event);
+
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getInsertTemplate(),
+                        event.getId(),
+                        event.getAt(),
+                        event.getEntityId(),
+                        event.getType(),
+                        event.getPayload(),
+                        event.getAttempts(),
+                        event.getNextAttemptAt());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<OutboxEvent> nextDeliverable(int max) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                var events = findDeliverable(connection, now, max);
+
+                var lockTemplate = statements.getLockEntityTemplate();
+                if (lockTemplate != null && !events.isEmpty()) {
+                    var lockedEntities = events.stream()
+                            .map(OutboxEvent::getEntityId)
+                            .distinct()
+                            .filter(entityId -> Boolean.TRUE.equals(queryExecutor.single(connection, false, r -> r.getBoolean(1), lockTemplate, entityId)))
+                            .collect(Collectors.toSet());
+                    // another relay may have leased events of these entities and committed before the locks were taken
+                    events = findDeliverable(connection, now, max).stream()
+                            .filter(event -> lockedEntities.contains(event.getEntityId()))
+                            .toList();
+                }
+
+                var leasedUntil = now + leaseDuration.toMillis();
+                var leases = events.stream().map(event -> new Object[]{ leasedUntil, event.getId() }).toList();
+                queryExecutor.executeBatch(connection, statements.getLeaseTemplate(), leases);
+
+                return events.stream().map(event -> event.toBuilder().leasedUntil(leasedUntil).build()).toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<OutboxEvent> renewLease(List<OutboxEvent> events) {
+        Objects.requireNonNull(events);
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var leasedUntil = clock.millis() + leaseDuration.toMillis();
+                var renewals = events.stream().map(event -> new Object[]{ leasedUntil, event.getId(), event.getLeasedUntil() }).toList();
+                var updated = queryExecutor.executeBatch(connection, statements.getRenewLeaseTemplate(), renewals);
+
+                var renewed = new ArrayList<OutboxEvent>(events.size());
+                for (var i = 0; i < events.size(); i++) {
+                    if (updated[i] != 0) {
+                        renewed.add(events.get(i).toBuilder().leasedUntil(leasedUntil).build());
+                    }
+                }
+                return renewed;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        Objects.requireNonNull(id);
+
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void retry(OutboxEvent event) {
+        Objects.requireNonNull(event);
+
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getRetryTemplate(), event.getAttempts(), event.getNextAttemptAt(), event.getId());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private List<OutboxEvent> findDeliverable(Connection connection, long now, int max) {
+        try (var stream = queryExecutor.query(connection, false, this::mapEvent, statements.getNextDeliverableTemplate(), now, now, now, now, max)) {
+            return stream.toList();
+        }
+    }
+
+    private OutboxEvent mapEvent(ResultSet resultSet) throws SQLException {
+        return OutboxEvent.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .at(resultSet.getLong(statements.getCreatedAtColumn()))
+                .entityId(resultSet.getString(statements.getEntityIdColumn()))
+                .type(resultSet.getString(statements.getTypeColumn()))
+                .payload(resultSet.getString(statements.getPayloadColumn()))
+                .attempts(resultSet.getInt(statements.getAttemptsColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.sql;
+
+import org.eclipse.edc.event.outbox.sql.schema.EventOutboxStatements;
+import org.eclipse.edc.event.outbox.sql.schema.postgres.PostgresEventOutboxStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.outbox.EventOutbox;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Provides a {@link EventOutbox} that uses SQL as backend storage. When it is available, the asynchronous event
+ * subscribers are invoked through the outbox instead of directly.
+ */
+@Provides(EventOutbox.class)
+@Extension(value = SqlEventOutboxExtension.NAME)
+public class SqlEventOutboxExtension implements ServiceExtension {
+
+    public static final String NAME = "SQL event outbox";
+
+    @Setting(value = "Name of the datasource to use for accessing the event outbox", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE)
+    public static final String DATASOURCE_SETTING_NAME = "edc.datasource.eventoutbox.name";
+
+    @Setting(value = "Duration in milliseconds of the lease taken by a relay on the events it delivers", type = "long", defaultValue = DEFAULT_LEASE_MILLIS + "")
+    public static final String LEASE_MILLIS_SETTING = "edc.events.outbox.lease-millis";
+
+    private static final long DEFAULT_LEASE_MILLIS = 60_000;
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject(required = false)
+    private EventOutboxStatements statements;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public EventOutbox eventOutbox(ServiceExtensionContext context) {
+        var dataSourceName = context.getConfig().getString(DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
+        var leaseDuration = Duration.ofMillis(context.getSetting(LEASE_MILLIS_SETTING, DEFAULT_LEASE_MILLIS));
+        return new SqlEventOutbox(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(),
+                queryExecutor, getStatementImpl(), clock, leaseDuration);
+    }
+
+    /**
+     * returns an externally-provided sql statement dialect, or postgres as a default
+     */
+    private EventOutboxStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresEventOutboxStatements();
+    }
+}
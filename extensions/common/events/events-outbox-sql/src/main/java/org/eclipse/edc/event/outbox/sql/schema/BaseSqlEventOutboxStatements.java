@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.sql.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlEventOutboxStatements implements EventOutboxStatements {
+
+    @Override
+    public String getInsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getCreatedAtColumn())
+                .column(getEntityIdColumn())
+                .column(getTypeColumn())
+                .jsonColumn(getPayloadColumn())
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .insertInto(getOutboxTable());
+    }
+
+    @Override
+    public String getNextDeliverableTemplate() {
+        // an event is skipped as long as an older event of the same entity is waiting for a retry or leased
+        return format("SELECT * FROM %1$s o WHERE o.%2$s <= ? AND (o.%3$s IS NULL OR o.%3$s <= ?) " +
+                        "AND NOT EXISTS (SELECT 1 FROM %1$s p WHERE p.%4$s = o.%4$s AND p.%5$s < o.%5$s AND (p.%2$s > ? OR p.%3$s > ?)) " +
+                        "ORDER BY o.%5$s LIMIT ?",
+                getOutboxTable(), getNextAttemptAtColumn(), getLeasedUntilColumn(), getEntityIdColumn(), getSequenceColumn());
+    }
+
+    @Override
+    public String getLeaseTemplate() {
+        return executeStatement()
+                .column(getLeasedUntilColumn())
+                .update(getOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getRenewLeaseTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ? AND %s = ?",
+                getOutboxTable(), getLeasedUntilColumn(), getIdColumn(), getLeasedUntilColumn());
+    }
+
+    @Override
+    public String getLockEntityTemplate() {
+        return null;
+    }
+
+    @Override
+    public String getRetryTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ?, %s = NULL WHERE %s = ?",
+                getOutboxTable(), getAttemptsColumn(), getNextAttemptAtColumn(), getLeasedUntilColumn(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteTemplate() {
+        return executeStatement()
+                .delete(getOutboxTable(), getIdColumn());
+    }
+}
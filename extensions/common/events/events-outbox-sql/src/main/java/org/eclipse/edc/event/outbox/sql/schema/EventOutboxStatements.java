@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.sql.schema;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Defines queries used by the SqlEventOutboxExtension.
+ */
+@ExtensionPoint
+public interface EventOutboxStatements extends SqlStatements {
+
+    default String getOutboxTable() {
+        return "edc_event_outbox";
+    }
+
+    /**
+     * The auto-incremented column that gives the order in which the events were saved.
+     */
+    default String getSequenceColumn() {
+        return "seq";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    default String getEntityIdColumn() {
+        return "entity_id";
+    }
+
+    default String getTypeColumn() {
+        return "type";
+    }
+
+    default String getPayloadColumn() {
+        return "payload";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    default String getLeasedUntilColumn() {
+        return "leased_until";
+    }
+
+    /**
+     * INSERT clause for events.
+     */
+    String getInsertTemplate();
+
+    /**
+     * SELECT clause for the events that can be delivered, in order, given the current time (four times) and a limit.
+     */
+    String getNextDeliverableTemplate();
+
+    /**
+     * UPDATE clause that leases an event until the given timestamp.
+     */
+    String getLeaseTemplate();
+
+    /**
+     * UPDATE clause that extends the lease of an event until the given timestamp, if it is still leased until the
+     * given previous timestamp.
+     */
+    String getRenewLeaseTemplate();
+
+    /**
+     * SELECT clause that tries to lock an entity id until the end of the transaction, and returns whether it did, or
+     * null if the database offers no such lock. The lock keeps concurrent relays from getting events of the same
+     * entity.
+     */
+    String getLockEntityTemplate();
+
+    /**
+     * UPDATE clause that stores the attempts and next attempt timestamp of an event, and breaks its lease.
+     */
+    String getRetryTemplate();
+
+    /**
+     * DELETE clause for events.
+     */
+    String getDeleteTemplate();
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.sql.schema.postgres;
+
+import org.eclipse.edc.event.outbox.sql.schema.BaseSqlEventOutboxStatements;
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+
+public class PostgresEventOutboxStatements extends BaseSqlEventOutboxStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonCastOperator();
+    }
+
+    /**
+     * Locks the selected rows, skipping the ones locked by other relays, until they are leased.
+     */
+    @Override
+    public String getNextDeliverableTemplate() {
+        return super.getNextDeliverableTemplate() + " FOR UPDATE SKIP LOCKED";
+    }
+
+    /**
+     * Takes a transaction-level advisory lock on the hash of the entity id, without waiting for it.
+     */
+    @Override
+    public String getLockEntityTemplate() {
+        return "SELECT pg_try_advisory_xact_lock(hashtext(?))";
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.sql;
+
+import org.eclipse.edc.event.outbox.sql.schema.EventOutboxStatements;
+import org.eclipse.edc.event.outbox.sql.schema.postgres.PostgresEventOutboxStatements;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.outbox.OutboxEvent;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlLocalInstance;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.local.LocalDataSourceRegistry;
+import org.eclipse.edc.transaction.local.LocalTransactionContext;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresEventOutboxTest {
+
+    private static final long NOW = 1000L;
+
+    private final EventOutboxStatements statements = new PostgresEventOutboxStatements();
+    private final Clock clock = mock();
+    private SqlEventOutbox outbox;
+    private QueryExecutor queryExecutor;
+
+    @BeforeAll
+    static void prepare(PostgresqlLocalInstance postgres) {
+        postgres.createDatabase();
+    }
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
+        this.queryExecutor = queryExecutor;
+        when(clock.millis()).thenReturn(NOW);
+        outbox = new SqlEventOutbox(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), new TypeManager().getMapper(), queryExecutor, statements,
+                clock, Duration.ofMillis(100));
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) throws SQLException {
+        extension.runQuery("DROP TABLE " + statements.getOutboxTable() + " CASCADE");
+    }
+
+    @Test
+    void nextDeliverable_shouldReturnEventsInSavingOrder() {
+        outbox.save(event("2", "entity-a"));
+        outbox.save(event("1", "entity-b"));
+        outbox.save(event("3", "entity-a"));
+
+        var events = outbox.nextDeliverable(10);
+
+        assertThat(events).extracting(OutboxEvent::getId).containsExactly("2", "1", "3");
+        assertThat(events.get(0).getPayload()).isEqualTo("{\"key\":\"value\"}");
+    }
+
+    @Test
+    void nextDeliverable_shouldLimitResults() {
+        outbox.save(event("1", "entity-a"));
+        outbox.save(event("2", "entity-b"));
+
+        assertThat(outbox.nextDeliverable(1)).extracting(OutboxEvent::getId).containsExactly("1");
+    }
+
+    @Test
+    void nextDeliverable_shouldNotReturnLeasedEvents_untilLeaseExpires() {
+        outbox.save(event("1", "entity-a"));
+
+        assertThat(outbox.nextDeliverable(10)).hasSize(1);
+        assertThat(outbox.nextDeliverable(10)).isEmpty();
+
+        when(clock.millis()).thenReturn(NOW + 100);
+        assertThat(outbox.nextDeliverable(10)).extracting(OutboxEvent::getId).containsExactly("1");
+    }
+
+    @Test
+    void nextDeliverable_shouldNotReturnEventsScheduledForLater() {
+        outbox.save(event("1", "entity-a").toBuilder().nextAttemptAt(NOW + 1).build());
+
+        assertThat(outbox.nextDeliverable(10)).isEmpty();
+    }
+
+    @Test
+    void nextDeliverable_shouldHoldLaterEventsOfAnEntity_whilePreviousOneIsRetried() {
+        outbox.save(event("1", "entity-a"));
+        outbox.save(event("2", "entity-a"));
+        outbox.save(event("3", "entity-b"));
+        var first = outbox.nextDeliverable(1).get(0);
+
+        outbox.retry(first.toBuilder().attempts(1).nextAttemptAt(NOW + 50).build());
+
+        assertThat(outbox.nextDeliverable(10)).extracting(OutboxEvent::getId).containsExactly("3");
+
+        when(clock.millis()).thenReturn(NOW + 50);
+        var retried = outbox.nextDeliverable(10);
+        assertThat(retried).extracting(OutboxEvent::getId).containsExactly("1", "2");
+        assertThat(retried.get(0).getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void nextDeliverable_shouldNotReturnEventsOfAnEntity_whileAnotherRelayIsLeasingIt(PostgresqlLocalInstance postgres) throws SQLException {
+        outbox.save(event("1", "entity-a"));
+        outbox.save(event("2", "entity-a"));
+        outbox.save(event("3", "entity-b"));
+        var connection = newConnection(postgres);
+        var otherRelayOutbox = outbox(connection);
+
+        connection.setAutoCommit(false);
+        try {
+            assertThat(otherRelayOutbox.nextDeliverable(1)).extracting(OutboxEvent::getId).containsExactly("1");
+
+            assertThat(outbox.nextDeliverable(10)).extracting(OutboxEvent::getId).containsExactly("3");
+
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+            doCallRealMethod().when(connection).close();
+            connection.close();
+        }
+
+        assertThat(outbox.nextDeliverable(10)).isEmpty();
+    }
+
+    @Test
+    void save_shouldBeRolledBack_withTheStateChangeThatRaisedTheEvent(PostgresqlStoreSetupExtension extension, PostgresqlLocalInstance postgres) throws SQLException {
+        extension.runQuery("CREATE TABLE edc_test_entity (id VARCHAR PRIMARY KEY, state INTEGER NOT NULL)");
+        extension.runQuery("INSERT INTO edc_test_entity (id, state) VALUES ('entity-a', 100)");
+        var container = PostgresqlStoreSetupExtension.postgreSQLContainer;
+        var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(i -> postgres.getTestConnection(container.getHost(), container.getFirstMappedPort(), container.getDatabaseName()));
+        var transactionContext = new LocalTransactionContext(mock());
+        var dataSourceRegistry = new LocalDataSourceRegistry(transactionContext);
+        dataSourceRegistry.register("shared", dataSource);
+        var transactionalOutbox = new SqlEventOutbox(dataSourceRegistry, "shared", transactionContext, new TypeManager().getMapper(),
+                queryExecutor, statements, clock, Duration.ofMillis(100));
+
+        try {
+            assertThatThrownBy(() -> transactionContext.execute(() -> {
+                try (var connection = dataSourceRegistry.resolve("shared").getConnection()) {
+                    queryExecutor.execute(connection, "UPDATE edc_test_entity SET state = ? WHERE id = ?", 200, "entity-a");
+                } catch (SQLException e) {
+                    throw new EdcPersistenceException(e);
+                }
+                transactionalOutbox.save(event("1", "entity-a"));
+                throw new EdcException("listener failed");
+            })).isInstanceOf(EdcException.class).hasMessage("listener failed");
+
+            assertThat(queryExecutor.single(extension.getConnection(), false, r -> r.getInt("state"), "SELECT state FROM edc_test_entity WHERE id = ?", "entity-a"))
+                    .isEqualTo(100);
+            assertThat(outbox.nextDeliverable(10)).isEmpty();
+        } finally {
+            extension.runQuery("DROP TABLE edc_test_entity");
+        }
+    }
+
+    @Test
+    void renewLease_shouldExtendLease() {
+        outbox.save(event("1", "entity-a"));
+        var leased = outbox.nextDeliverable(10);
+
+        when(clock.millis()).thenReturn(NOW + 50);
+        var renewed = outbox.renewLease(leased);
+
+        assertThat(renewed).extracting(OutboxEvent::getLeasedUntil).containsExactly(NOW + 150);
+        when(clock.millis()).thenReturn(NOW + 100);
+        assertThat(outbox.nextDeliverable(10)).isEmpty();
+    }
+
+    @Test
+    void renewLease_shouldNotRenew_whenEventWasLeasedAgain() {
+        outbox.save(event("1", "entity-a"));
+        var expired = outbox.nextDeliverable(10);
+        when(clock.millis()).thenReturn(NOW + 100);
+        outbox.nextDeliverable(10);
+
+        assertThat(outbox.renewLease(expired)).isEmpty();
+    }
+
+    @Test
+    void delete_shouldRemoveEvent() {
+        outbox.save(event("1", "entity-a"));
+        outbox.save(event("2", "entity-a"));
+        outbox.nextDeliverable(1);
+
+        outbox.delete("1");
+
+        assertThat(outbox.nextDeliverable(10)).extracting(OutboxEvent::getId).containsExactly("2");
+    }
+
+    private Connection newConnection(PostgresqlLocalInstance postgres) throws SQLException {
+        var container = PostgresqlStoreSetupExtension.postgreSQLContainer;
+        var connection = spy(postgres.getTestConnection(container.getHost(), container.getFirstMappedPort(), container.getDatabaseName()));
+        doNothing().when(connection).close();
+        return connection;
+    }
+
+    private SqlEventOutbox outbox(Connection connection) throws SQLException {
+        var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        var dataSourceRegistry = mock(DataSourceRegistry.class);
+        when(dataSourceRegistry.resolve("other")).thenReturn(dataSource);
+        return new SqlEventOutbox(dataSourceRegistry, "other", new NoopTransactionContext(), new TypeManager().getMapper(),
+                queryExecutor, statements, clock, Duration.ofMillis(100));
+    }
+
+    private OutboxEvent event(String id, String entityId) {
+        return OutboxEvent.Builder.newInstance()
+                .id(id)
+                .at(NOW)
+                .entityId(entityId)
+                .type("type")
+                .payload("{\"key\":\"value\"}")
+                .nextAttemptAt(NOW)
+                .build();
+    }
+}
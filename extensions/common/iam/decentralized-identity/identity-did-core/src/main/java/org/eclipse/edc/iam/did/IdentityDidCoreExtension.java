@@ -27,18 +27,33 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+    @Setting(value = "Maximum number of DID resolutions cached, 0 disables the cache", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    private static final String CACHE_SIZE = "edc.iam.did.resolution.cache.size";
+    private static final long DEFAULT_CACHE_TTL_SECONDS = 300;
+    @Setting(value = "Maximum time in seconds a resolved DID document is cached, shorter cache headers returned by the resolver take precedence", type = "long", defaultValue = DEFAULT_CACHE_TTL_SECONDS + "")
+    private static final String CACHE_TTL = "edc.iam.did.resolution.cache.ttl";
+    private static final long DEFAULT_CACHE_FAILURE_TTL_SECONDS = 30;
+    @Setting(value = "Time in seconds a DID resolution failure is cached", type = "long", defaultValue = DEFAULT_CACHE_FAILURE_TTL_SECONDS + "")
+    private static final String CACHE_FAILURE_TTL = "edc.iam.did.resolution.cache.failure-ttl";
     @Inject
     private PrivateKeyResolver privateKeyResolver;
+    @Inject
+    private Clock clock;
 
     @Override
     public String name() {
@@ -47,7 +62,11 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        var didResolverRegistry = new DidResolverRegistryImpl(
+                context.getSetting(CACHE_SIZE, DEFAULT_CACHE_SIZE),
+                Duration.ofSeconds(context.getSetting(CACHE_TTL, DEFAULT_CACHE_TTL_SECONDS)),
+                Duration.ofSeconds(context.getSetting(CACHE_FAILURE_TTL, DEFAULT_CACHE_FAILURE_TTL_SECONDS)),
+                clock);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(didResolverRegistry);
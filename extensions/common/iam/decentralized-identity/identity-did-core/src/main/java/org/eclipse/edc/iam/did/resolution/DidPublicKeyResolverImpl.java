@@ -15,18 +15,34 @@
 package org.eclipse.edc.iam.did.resolution;
 
 import org.eclipse.edc.iam.did.crypto.key.KeyConverter;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LruCache;
 
 import static org.eclipse.edc.iam.did.spi.document.DidConstants.ALLOWED_VERIFICATION_TYPES;
 
+/**
+ * Resolves the public key of a DID from its document.
+ * <p>
+ * The key parsed from a document is kept as long as the registry returns the same document instance, that is while the
+ * registry caches it, so that the verification of the tokens of a known participant does not parse the key again.
+ */
 public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
+    private static final int DEFAULT_KEY_CACHE_CAPACITY = 1000;
+
     private final DidResolverRegistry resolverRegistry;
+    private final LruCache<String, ParsedKey> keys;
 
     public DidPublicKeyResolverImpl(DidResolverRegistry resolverRegistry) {
+        this(resolverRegistry, DEFAULT_KEY_CACHE_CAPACITY);
+    }
+
+    public DidPublicKeyResolverImpl(DidResolverRegistry resolverRegistry, int keyCacheCapacity) {
         this.resolverRegistry = resolverRegistry;
+        this.keys = new LruCache<>(keyCacheCapacity);
     }
 
     @Override
@@ -36,6 +52,21 @@ public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
             return Result.failure("Invalid DID: " + didResult.getFailureDetail());
         }
         var didDocument = didResult.getContent();
+        synchronized (keys) {
+            var parsed = keys.get(didUrl);
+            if (parsed != null && parsed.document() == didDocument) {
+                return parsed.key();
+            }
+        }
+
+        var key = parsePublicKey(didDocument);
+        synchronized (keys) {
+            keys.put(didUrl, new ParsedKey(didDocument, key));
+        }
+        return key;
+    }
+
+    private Result<PublicKeyWrapper> parsePublicKey(DidDocument didDocument) {
         if (didDocument.getVerificationMethod() == null || didDocument.getVerificationMethod().isEmpty()) {
             return Result.failure("DID does not contain a public key");
         }
@@ -51,4 +82,7 @@ public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
         return KeyConverter.toPublicKeyWrapper(verificationMethod.getPublicKeyJwk(), verificationMethod.getId());
     }
 
+    private record ParsedKey(DidDocument document, Result<PublicKeyWrapper> key) {
+    }
+
 }
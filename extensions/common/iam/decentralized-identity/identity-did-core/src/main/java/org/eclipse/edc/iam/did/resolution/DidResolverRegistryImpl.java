@@ -15,23 +15,57 @@
 package org.eclipse.edc.iam.did.resolution;
 
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LruCache;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default implementation.
+ * <p>
+ * When created with a cache, the resolved documents are kept for the configured time-to-live, or for the max age given
+ * by the resolver if shorter, and the resolution failures for the failure time-to-live. Concurrent resolutions of the
+ * same DID that is not cached are coalesced in a single call to the resolver.
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
 
-    private final Map<String, DidResolver> resolvers = new HashMap<>();
+    private final Map<String, DidResolver> resolvers = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Result<DidDocument>>> inFlight = new ConcurrentHashMap<>();
+    private final LruCache<String, Entry> cache;
+    private final Duration timeToLive;
+    private final Duration failureTimeToLive;
+    private final Clock clock;
+
+    public DidResolverRegistryImpl() {
+        this(0, Duration.ZERO, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a registry that caches the resolutions.
+     *
+     * @param capacity          the maximum number of cached resolutions, 0 disables the cache.
+     * @param timeToLive        how long a resolved document is cached at most.
+     * @param failureTimeToLive how long a resolution failure is cached.
+     * @param clock             the clock.
+     */
+    public DidResolverRegistryImpl(int capacity, Duration timeToLive, Duration failureTimeToLive, Clock clock) {
+        this.cache = capacity > 0 ? new LruCache<>(capacity) : null;
+        this.timeToLive = timeToLive;
+        this.failureTimeToLive = failureTimeToLive;
+        this.clock = clock;
+    }
 
     @Override
     public void register(DidResolver resolver) {
@@ -54,6 +88,64 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         if (resolver == null) {
             return Result.failure("No resolver registered for DID Method: " + methodName);
         }
-        return resolver.resolve(didKey);
+        if (cache == null) {
+            return resolver.resolve(didKey);
+        }
+
+        var cached = cached(didKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        var future = new CompletableFuture<Result<DidDocument>>();
+        var existing = inFlight.putIfAbsent(didKey, future);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            var result = resolveAndCache(resolver, didKey);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(didKey, future);
+        }
+    }
+
+    @Nullable
+    private Result<DidDocument> cached(String didKey) {
+        synchronized (cache) {
+            var entry = cache.get(didKey);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= clock.millis()) {
+                cache.remove(didKey);
+                return null;
+            }
+            return entry.result();
+        }
+    }
+
+    private Result<DidDocument> resolveAndCache(DidResolver resolver, String didKey) {
+        var resolution = resolver.resolveWithMaxAge(didKey);
+        var result = resolution.map(DidResolution::document);
+        var cacheFor = resolution.succeeded() ? timeToLive(resolution.getContent()) : failureTimeToLive;
+        if (cacheFor.isPositive()) {
+            synchronized (cache) {
+                cache.put(didKey, new Entry(result, clock.millis() + cacheFor.toMillis()));
+            }
+        }
+        return result;
+    }
+
+    private Duration timeToLive(DidResolution resolution) {
+        var maxAge = resolution.maxAge();
+        return maxAge != null && maxAge.compareTo(timeToLive) < 0 ? maxAge : timeToLive;
+    }
+
+    private record Entry(Result<DidDocument> result, long expiresAt) {
     }
 }
@@ -73,6 +73,28 @@ class DidPublicKeyResolverImplTest {
         verify(resolverRegistry).resolve(DID_URL);
     }
 
+    @Test
+    void resolve_shouldReuseParsedKey_whenDocumentIsTheSame() {
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(didDocument));
+
+        var first = resolver.resolvePublicKey(DID_URL);
+        var second = resolver.resolvePublicKey(DID_URL);
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+    }
+
+    @Test
+    void resolve_shouldParseKeyAgain_whenDocumentChanged() {
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(didDocument));
+        var first = resolver.resolvePublicKey(DID_URL);
+        var changed = DidDocument.Builder.newInstance().verificationMethod(didDocument.getVerificationMethod()).build();
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(changed));
+
+        var second = resolver.resolvePublicKey(DID_URL);
+
+        assertThat(second.getContent()).isNotSameAs(first.getContent());
+    }
+
     @Test
     void resolve_didNotFound() {
         when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.failure("Not found"));
@@ -15,20 +15,31 @@
 package org.eclipse.edc.iam.did.resolution;
 
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Verifies {@link DidResolverRegistryImpl}.
  */
 class DidResolverRegistryImplTest {
     public static final String FOO_METHOD = "foo";
+    private final Clock clock = mock();
     private DidResolverRegistryImpl registry;
 
     @Test
@@ -54,11 +65,60 @@ class DidResolverRegistryImplTest {
         assertNotNull(result.getContent());
     }
 
+    @Test
+    void verifyResolveDid_shouldUseCache_whenNotExpired() {
+        var resolver = cachingResolver(Result.success(new DidResolution(DidDocument.Builder.newInstance().build(), null)));
+        var cachingRegistry = new DidResolverRegistryImpl(10, Duration.ofMinutes(5), Duration.ofSeconds(30), clock);
+        cachingRegistry.register(resolver);
+
+        var first = cachingRegistry.resolve("did:bar:id");
+        when(clock.millis()).thenReturn(Duration.ofMinutes(4).toMillis());
+        var second = cachingRegistry.resolve("did:bar:id");
+        when(clock.millis()).thenReturn(Duration.ofMinutes(5).toMillis());
+        cachingRegistry.resolve("did:bar:id");
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        verify(resolver, times(2)).resolveWithMaxAge("did:bar:id");
+    }
+
+    @Test
+    void verifyResolveDid_shouldHonourShorterMaxAge() {
+        var resolver = cachingResolver(Result.success(new DidResolution(DidDocument.Builder.newInstance().build(), Duration.ofSeconds(10))));
+        var cachingRegistry = new DidResolverRegistryImpl(10, Duration.ofMinutes(5), Duration.ofSeconds(30), clock);
+        cachingRegistry.register(resolver);
+
+        cachingRegistry.resolve("did:bar:id");
+        when(clock.millis()).thenReturn(Duration.ofSeconds(10).toMillis());
+        cachingRegistry.resolve("did:bar:id");
+
+        verify(resolver, times(2)).resolveWithMaxAge("did:bar:id");
+    }
+
+    @Test
+    void verifyResolveDid_shouldCacheFailures() {
+        var resolver = cachingResolver(Result.failure("not found"));
+        var cachingRegistry = new DidResolverRegistryImpl(10, Duration.ofMinutes(5), Duration.ofSeconds(30), clock);
+        cachingRegistry.register(resolver);
+
+        cachingRegistry.resolve("did:bar:id");
+        var result = cachingRegistry.resolve("did:bar:id");
+
+        assertThat(result.failed()).isTrue();
+        verify(resolver, times(1)).resolveWithMaxAge("did:bar:id");
+    }
+
     @BeforeEach
     void setUp() {
         registry = new DidResolverRegistryImpl();
     }
 
+    private DidResolver cachingResolver(Result<DidResolution> resolution) {
+        DidResolver resolver = mock();
+        when(resolver.getMethod()).thenReturn("bar");
+        when(resolver.resolveWithMaxAge(any())).thenReturn(resolution);
+        return resolver;
+    }
+
     /**
      * Mock resolver class.
      */
@@ -17,13 +17,17 @@ package org.eclipse.edc.iam.did.web.resolution;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.Request;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
 
 import static java.lang.String.format;
 
@@ -32,6 +36,8 @@ import static java.lang.String.format;
  */
 public class WebDidResolver implements DidResolver {
     private static final String DID_METHOD = "web";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String MAX_AGE = "max-age=";
 
     private final EdcHttpClient httpClient;
     private final ObjectMapper mapper;
@@ -56,6 +62,15 @@ public class WebDidResolver implements DidResolver {
     @Override
     @NotNull
     public Result<DidDocument> resolve(String didKey) {
+        return resolveWithMaxAge(didKey).map(DidResolution::document);
+    }
+
+    /**
+     * Resolves the DID document, with the max age given by the {@code Cache-Control} header of the response.
+     */
+    @Override
+    @NotNull
+    public Result<DidResolution> resolveWithMaxAge(String didKey) {
         String url;
         try {
             url = urlResolver.apply(didKey);
@@ -74,11 +89,33 @@ public class WebDidResolver implements DidResolver {
                     return Result.failure("DID response contained an empty body: " + didKey);
                 }
                 DidDocument didDocument = mapper.readValue(body.string(), DidDocument.class);
-                return Result.success(didDocument);
+                return Result.success(new DidResolution(didDocument, maxAge(response.header(CACHE_CONTROL))));
             }
         } catch (IOException e) {
             monitor.severe("Error resolving DID: " + didKey, e);
             return Result.failure("Error resolving DID: " + e.getMessage());
         }
     }
+
+    @Nullable
+    private Duration maxAge(@Nullable String cacheControl) {
+        if (cacheControl == null) {
+            return null;
+        }
+        Duration maxAge = null;
+        for (var directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            var trimmed = directive.trim();
+            if (trimmed.equals("no-store") || trimmed.equals("no-cache")) {
+                return Duration.ZERO;
+            }
+            if (trimmed.startsWith(MAX_AGE)) {
+                try {
+                    maxAge = Duration.ofSeconds(Long.parseLong(trimmed.substring(MAX_AGE.length()).trim()));
+                } catch (NumberFormatException e) {
+                    monitor.debug("Invalid Cache-Control max-age: " + cacheControl);
+                }
+            }
+        }
+        return maxAge;
+    }
 }
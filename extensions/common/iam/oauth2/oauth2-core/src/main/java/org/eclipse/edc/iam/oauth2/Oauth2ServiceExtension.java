@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.iam.oauth2;
 
+import org.eclipse.edc.iam.oauth2.identity.ClientCredentialsTokenCache;
 import org.eclipse.edc.iam.oauth2.identity.IdentityProviderKeyResolver;
 import org.eclipse.edc.iam.oauth2.identity.IdentityProviderKeyResolverConfiguration;
 import org.eclipse.edc.iam.oauth2.identity.Oauth2ServiceImpl;
@@ -37,13 +38,18 @@ import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
 
 import java.security.PrivateKey;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -76,7 +82,14 @@ public class Oauth2ServiceExtension implements ServiceExtension {
     private static final String CLIENT_ID = "edc.oauth.client.id";
     @Setting
     private static final String NOT_BEFORE_LEEWAY = "edc.oauth.validation.nbf.leeway";
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 1000;
+    @Setting(value = "Maximum number of obtained tokens cached by scope, audience and additional parameters, 0 disables the cache", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    private static final String TOKEN_CACHE_SIZE = "edc.oauth.token.cache.size";
+    private static final int DEFAULT_TOKEN_CACHE_REFRESH_WINDOW = 60;
+    @Setting(value = "Seconds before the expiration of a cached token when a new one is requested in the background", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_REFRESH_WINDOW + "")
+    private static final String TOKEN_CACHE_REFRESH_WINDOW = "edc.oauth.token.cache.refresh-window";
     private IdentityProviderKeyResolver providerKeyResolver;
+    private ExecutorService tokenRefreshExecutor;
 
     @Inject
     private EdcHttpClient httpClient;
@@ -99,6 +112,9 @@ public class Oauth2ServiceExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     @Override
     public String name() {
         return NAME;
@@ -132,7 +148,8 @@ public class Oauth2ServiceExtension implements ServiceExtension {
                 oauth2Client,
                 jwtDecoratorRegistry,
                 new TokenValidationServiceImpl(configuration.getIdentityProviderKeyResolver(), validationRulesRegistry),
-                credentialsRequestAdditionalParametersProvider
+                credentialsRequestAdditionalParametersProvider,
+                createTokenCache(context)
         );
 
         context.registerService(IdentityService.class, oauth2Service);
@@ -146,6 +163,20 @@ public class Oauth2ServiceExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         providerKeyResolver.stop();
+        if (tokenRefreshExecutor != null) {
+            tokenRefreshExecutor.shutdownNow();
+        }
+    }
+
+    @Nullable
+    private ClientCredentialsTokenCache createTokenCache(ServiceExtensionContext context) {
+        var size = context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+        if (size <= 0) {
+            return null;
+        }
+        var refreshWindow = Duration.ofSeconds(context.getSetting(TOKEN_CACHE_REFRESH_WINDOW, DEFAULT_TOKEN_CACHE_REFRESH_WINDOW));
+        tokenRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "OAuth2 token refresh");
+        return new ClientCredentialsTokenCache(size, refreshWindow, tokenRefreshExecutor, clock, context.getMonitor());
     }
 
     private Oauth2ServiceConfiguration createConfig(ServiceExtensionContext context) {
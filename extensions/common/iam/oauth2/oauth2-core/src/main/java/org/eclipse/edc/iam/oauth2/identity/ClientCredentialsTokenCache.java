@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.oauth2.identity;
+
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the tokens obtained with the client credentials flow, keyed by scope, audience and additional parameters,
+ * so that the outbound messages do not need a round trip to the identity provider.
+ * <p>
+ * A token is cached until it expires, according to the {@code expires_in} returned by the identity provider: tokens
+ * without expiration are not cached. Once the token enters its refresh window, it is still returned while a new one is
+ * requested in the background. Concurrent requests of a token that is not cached are deduplicated, so that only one of
+ * them calls the identity provider.
+ */
+public class ClientCredentialsTokenCache {
+
+    // a token is not used in the last seconds of its lifetime, as it could expire before reaching the counter-party
+    private static final long EXPIRATION_LEEWAY_MILLIS = 5_000;
+
+    private final Map<TokenKey, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<TokenKey, CompletableFuture<Result<TokenRepresentation>>> inFlight = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final Duration refreshWindow;
+    private final ExecutorService executorService;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity        the maximum number of cached tokens.
+     * @param refreshWindow   how long before the expiration a token is refreshed in the background.
+     * @param executorService the executor of the background refreshes.
+     * @param clock           the clock.
+     * @param monitor         the monitor.
+     */
+    public ClientCredentialsTokenCache(int capacity, Duration refreshWindow, ExecutorService executorService, Clock clock, Monitor monitor) {
+        this.capacity = capacity;
+        this.refreshWindow = refreshWindow;
+        this.executorService = executorService;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns the cached token for the parameters, or obtains a new one with the supplier.
+     *
+     * @param parameters the token parameters.
+     * @param obtain     requests a new token to the identity provider.
+     * @return the token, or the failure of the supplier.
+     */
+    public Result<TokenRepresentation> get(TokenParameters parameters, Supplier<Result<TokenRepresentation>> obtain) {
+        var key = new TokenKey(parameters.getScope(), parameters.getAudience(), new HashMap<>(parameters.getAdditional()));
+        var now = clock.millis();
+        var entry = entries.get(key);
+        if (entry != null && now < entry.expiresAt()) {
+            if (now >= entry.refreshAt()) {
+                refreshInBackground(key, obtain);
+            }
+            return Result.success(entry.token());
+        }
+        return load(key, obtain);
+    }
+
+    private void refreshInBackground(TokenKey key, Supplier<Result<TokenRepresentation>> obtain) {
+        var future = new CompletableFuture<Result<TokenRepresentation>>();
+        if (inFlight.putIfAbsent(key, future) != null) {
+            return;
+        }
+        try {
+            executorService.execute(() -> {
+                var result = obtainAndStore(key, future, obtain);
+                if (result.failed()) {
+                    monitor.warning("Failed to refresh OAuth2 token for audience %s: %s".formatted(key.audience(), result.getFailureDetail()));
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, future);
+            future.complete(Result.failure("Token refresh rejected: " + e.getMessage()));
+        }
+    }
+
+    private Result<TokenRepresentation> load(TokenKey key, Supplier<Result<TokenRepresentation>> obtain) {
+        var future = new CompletableFuture<Result<TokenRepresentation>>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing.join();
+        }
+        return obtainAndStore(key, future, obtain);
+    }
+
+    private Result<TokenRepresentation> obtainAndStore(TokenKey key, CompletableFuture<Result<TokenRepresentation>> future, Supplier<Result<TokenRepresentation>> obtain) {
+        try {
+            var obtainedAt = clock.millis();
+            var result = obtain.get();
+            if (result.succeeded()) {
+                store(key, result.getContent(), obtainedAt);
+            }
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private void store(TokenKey key, TokenRepresentation token, long obtainedAt) {
+        var expiresIn = token.getExpiresIn();
+        if (expiresIn == null) {
+            return;
+        }
+        var expiresAt = obtainedAt + expiresIn * 1000 - EXPIRATION_LEEWAY_MILLIS;
+        if (expiresAt <= obtainedAt) {
+            return;
+        }
+        if (!entries.containsKey(key) && entries.size() >= capacity) {
+            var now = clock.millis();
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (entries.size() >= capacity) {
+                return;
+            }
+        }
+        var refreshAt = expiresAt - Math.min(refreshWindow.toMillis(), (expiresAt - obtainedAt) / 2);
+        entries.put(key, new Entry(token, refreshAt, expiresAt));
+    }
+
+    private record TokenKey(String scope, String audience, Map<String, Object> additional) {
+    }
+
+    private record Entry(TokenRepresentation token, long refreshAt, long expiresAt) {
+    }
+}
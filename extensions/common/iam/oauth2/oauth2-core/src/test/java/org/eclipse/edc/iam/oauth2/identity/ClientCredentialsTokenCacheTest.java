@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.oauth2.identity;
+
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClientCredentialsTokenCacheTest {
+
+    private final Clock clock = mock();
+    private final ExecutorService executorService = mock();
+    private final AtomicInteger requests = new AtomicInteger();
+    private ClientCredentialsTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executorService).execute(any());
+        cache = new ClientCredentialsTokenCache(10, Duration.ofSeconds(60), executorService, clock, mock());
+    }
+
+    @Test
+    void get_shouldReturnCachedToken_whenNotExpired() {
+        var first = cache.get(parameters("audience"), obtain(300L));
+        when(clock.millis()).thenReturn(Duration.ofSeconds(200).toMillis());
+        var second = cache.get(parameters("audience"), obtain(300L));
+
+        assertThat(second.getContent().getToken()).isEqualTo(first.getContent().getToken()).isEqualTo("token-1");
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void get_shouldObtainTokenPerAudience() {
+        cache.get(parameters("audience-1"), obtain(300L));
+        var result = cache.get(parameters("audience-2"), obtain(300L));
+
+        assertThat(result.getContent().getToken()).isEqualTo("token-2");
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void get_shouldObtainNewToken_whenExpired() {
+        cache.get(parameters("audience"), obtain(300L));
+        when(clock.millis()).thenReturn(Duration.ofSeconds(300).toMillis());
+
+        var result = cache.get(parameters("audience"), obtain(300L));
+
+        assertThat(result.getContent().getToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    void get_shouldReturnCachedTokenAndRefreshInBackground_whenInRefreshWindow() {
+        cache.get(parameters("audience"), obtain(300L));
+        when(clock.millis()).thenReturn(Duration.ofSeconds(250).toMillis());
+
+        var refreshing = cache.get(parameters("audience"), obtain(300L));
+        var refreshed = cache.get(parameters("audience"), obtain(300L));
+
+        assertThat(refreshing.getContent().getToken()).isEqualTo("token-1");
+        assertThat(refreshed.getContent().getToken()).isEqualTo("token-2");
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCache_whenTokenHasNoExpiration() {
+        cache.get(parameters("audience"), obtain(null));
+        cache.get(parameters("audience"), obtain(null));
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        Supplier<Result<TokenRepresentation>> failure = () -> {
+            requests.incrementAndGet();
+            return Result.failure("error");
+        };
+
+        cache.get(parameters("audience"), failure);
+        var result = cache.get(parameters("audience"), failure);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void get_shouldObtainTokenOnce_whenConcurrentMisses() throws Exception {
+        var obtaining = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Supplier<Result<TokenRepresentation>> slow = () -> {
+            obtaining.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return obtain(300L).get();
+        };
+
+        var first = CompletableFuture.supplyAsync(() -> cache.get(parameters("audience"), slow));
+        assertThat(obtaining.await(5, TimeUnit.SECONDS)).isTrue();
+        var second = CompletableFuture.supplyAsync(() -> cache.get(parameters("audience"), slow));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token-1");
+        assertThat(second.get(5, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token-1");
+        assertThat(requests).hasValue(1);
+    }
+
+    private TokenParameters parameters(String audience) {
+        return TokenParameters.Builder.newInstance().scope("scope").audience(audience).build();
+    }
+
+    private Supplier<Result<TokenRepresentation>> obtain(Long expiresIn) {
+        return () -> Result.success(TokenRepresentation.Builder.newInstance()
+                .token("token-" + requests.incrementAndGet())
+                .expiresIn(expiresIn)
+                .build());
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.loader.FileLoader;
+import com.apicatalog.jsonld.loader.HttpLoader;
+import com.apicatalog.jsonld.loader.SchemeRouter;
+import org.eclipse.edc.jsonld.document.JarLoader;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link DocumentLoader} that serves the registered documents from memory, and caches the documents fetched over
+ * http(s) for the configured time-to-live, so that a remote context is fetched once per time-to-live and not once per
+ * message.
+ * <p>
+ * When a cache directory is configured the fetched documents are also stored on disk, and used as long as they are not
+ * older than the time-to-live, also after a restart.
+ */
+class CachedDocumentLoader implements DocumentLoader {
+
+    private static final Set<String> REMOTE_SCHEMES = Set.of("http", "https");
+
+    private final Map<String, URI> uriCache = new ConcurrentHashMap<>();
+    private final Map<URI, Document> documentCache = new ConcurrentHashMap<>();
+    private final ExpiringLruCache<URI, Document> remoteDocuments;
+    private final DocumentLoader loader;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final JsonLdConfiguration configuration;
+    private final AtomicLong fetchTimeMillis = new AtomicLong();
+
+    CachedDocumentLoader(JsonLdConfiguration configuration, Monitor monitor, Clock clock) {
+        loader = new SchemeRouter()
+                .set("http", configuration.isHttpEnabled() ? HttpLoader.defaultInstance() : null)
+                .set("https", configuration.isHttpsEnabled() ? HttpLoader.defaultInstance() : null)
+                .set("file", new FileLoader())
+                .set("jar", new JarLoader());
+        this.remoteDocuments = new ExpiringLruCache<>(configuration.getCacheSize(), configuration.getCacheTtl(), clock);
+        this.configuration = configuration;
+        this.monitor = monitor;
+        this.clock = clock;
+    }
+
+    @Override
+    public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+        var uri = uriCache.getOrDefault(url.toString(), url);
+
+        var registered = documentCache.get(uri);
+        if (registered != null) {
+            return registered;
+        }
+        if (!REMOTE_SCHEMES.contains(uri.getScheme())) {
+            return loader.loadDocument(uri, options);
+        }
+
+        var document = remoteDocuments.getFresh(uri);
+        if (document != null) {
+            return document;
+        }
+
+        document = readStored(uri);
+        if (document == null) {
+            document = fetch(uri, options);
+            store(uri, document);
+        }
+        remoteDocuments.put(uri, document);
+        return document;
+    }
+
+    public void register(String contextUrl, URI uri) {
+        uriCache.put(contextUrl, uri);
+        try {
+            documentCache.put(uri, loader.loadDocument(uri, new DocumentLoaderOptions()));
+        } catch (JsonLdError e) {
+            monitor.warning("Error caching context URL '%s' for URI '%s'. Subsequent attempts to expand this context URL may fail.".formatted(contextUrl, uri));
+        }
+    }
+
+    /**
+     * Loads a document in the cache ahead of its first use.
+     */
+    public void preload(URI uri) {
+        try {
+            loadDocument(uri, new DocumentLoaderOptions());
+        } catch (JsonLdError e) {
+            monitor.warning("Error preloading JSON-LD document '%s'".formatted(uri), e);
+        }
+    }
+
+    /**
+     * Number of remote documents served from the cache.
+     */
+    public long hits() {
+        return remoteDocuments.hits();
+    }
+
+    /**
+     * Number of remote documents that were not in the cache.
+     */
+    public long misses() {
+        return remoteDocuments.misses();
+    }
+
+    /**
+     * Number of remote documents evicted from the cache.
+     */
+    public long evictions() {
+        return remoteDocuments.evictions();
+    }
+
+    /**
+     * Total time spent fetching remote documents, in milliseconds.
+     */
+    public long fetchTimeMillis() {
+        return fetchTimeMillis.get();
+    }
+
+    private Document fetch(URI uri, DocumentLoaderOptions options) throws JsonLdError {
+        var start = clock.millis();
+        var document = loader.loadDocument(uri, options);
+        var elapsed = clock.millis() - start;
+        fetchTimeMillis.addAndGet(elapsed);
+        monitor.debug(() -> "Fetched JSON-LD document %s in %d ms (cache hits: %d, misses: %d)".formatted(uri, elapsed, hits(), misses()));
+        return document;
+    }
+
+    private @Nullable Document readStored(URI uri) {
+        var file = storedFile(uri);
+        if (file == null || !Files.exists(file)) {
+            return null;
+        }
+        try {
+            if (Files.getLastModifiedTime(file).toMillis() + configuration.getCacheTtl().toMillis() <= clock.millis()) {
+                return null;
+            }
+            try (var stream = Files.newInputStream(file)) {
+                var document = JsonDocument.of(MediaType.JSON_LD, stream);
+                document.setDocumentUrl(uri);
+                return document;
+            }
+        } catch (IOException | JsonLdError e) {
+            monitor.warning("Error reading stored JSON-LD document '%s' from %s".formatted(uri, file), e);
+            return null;
+        }
+    }
+
+    private void store(URI uri, Document document) {
+        var file = storedFile(uri);
+        var content = document.getJsonContent();
+        if (file == null || content.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, content.get().toString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            monitor.warning("Error storing JSON-LD document '%s' to %s".formatted(uri, file), e);
+        }
+    }
+
+    private @Nullable Path storedFile(URI uri) {
+        var directory = configuration.getCacheDirectory();
+        if (directory == null) {
+            return null;
+        }
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(uri.toString().getBytes(StandardCharsets.UTF_8));
+            return Path.of(directory).resolve(HexFormat.of().formatHex(digest) + ".jsonld");
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+}
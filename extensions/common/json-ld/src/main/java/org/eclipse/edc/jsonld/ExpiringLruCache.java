@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import com.apicatalog.jsonld.context.cache.Cache;
+import org.eclipse.edc.util.collection.LruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Thread-safe {@link Cache} that evicts the least recently used entries when the capacity is reached, and the entries
+ * older than the time-to-live.
+ * <p>
+ * Expiration is evaluated by {@link #containsKey(Object)} only, as Titanium always checks the key before getting the
+ * value: an entry that expires between the two calls is still returned, while one that is evicted because the capacity
+ * was reached is not. For the same reason, hits and misses are counted by {@link #containsKey(Object)}. Callers that are
+ * not bound to the {@link Cache} interface should use {@link #getFresh(Object)}, that checks and gets atomically.
+ */
+class ExpiringLruCache<K, V> implements Cache<K, V> {
+
+    private final LruCache<K, TimedValue<V>> entries;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    ExpiringLruCache(int capacity, Duration timeToLive, Clock clock) {
+        this.entries = new LruCache<>(capacity) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, TimedValue<V>> eldest) {
+                var evict = super.removeEldestEntry(eldest);
+                if (evict) {
+                    evictions++;
+                }
+                return evict;
+            }
+        };
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized boolean containsKey(K key) {
+        return getFresh(key) != null;
+    }
+
+    /**
+     * Returns the value if it is in the cache and fresh, in a single lookup.
+     *
+     * @param key the key.
+     * @return the value, null if it is not in the cache or expired.
+     */
+    synchronized @Nullable V getFresh(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.expiresAt() <= clock.millis()) {
+            entries.remove(key);
+            evictions++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    @Override
+    public synchronized V get(K key) {
+        var entry = entries.get(key);
+        return entry == null ? null : entry.value();
+    }
+
+    @Override
+    public synchronized void put(K key, V value) {
+        entries.put(key, new TimedValue<>(value, clock.millis() + timeToLive.toMillis()));
+    }
+
+    /**
+     * Number of lookups of an entry that was in the cache and fresh.
+     */
+    synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * Number of lookups of an entry that was not in the cache or expired.
+     */
+    synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * Number of entries removed because they expired or the capacity was reached.
+     */
+    synchronized long evictions() {
+        return evictions;
+    }
+
+    private record TimedValue<V>(V value, long expiresAt) {
+    }
+}
@@ -14,10 +14,17 @@
 
 package org.eclipse.edc.jsonld;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
 public class JsonLdConfiguration {
 
     private boolean httpEnabled = false;
     private boolean httpsEnabled = false;
+    private int cacheSize = 256;
+    private Duration cacheTtl = Duration.ofHours(1);
+    private String cacheDirectory;
 
     private JsonLdConfiguration() {
 
@@ -31,6 +38,19 @@ public class JsonLdConfiguration {
         return httpsEnabled;
     }
 
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    @Nullable
+    public String getCacheDirectory() {
+        return cacheDirectory;
+    }
+
     public static class Builder {
 
         private final JsonLdConfiguration configuration = new JsonLdConfiguration();
@@ -49,6 +69,21 @@ public class JsonLdConfiguration {
             return this;
         }
 
+        public Builder cacheSize(int cacheSize) {
+            configuration.cacheSize = cacheSize;
+            return this;
+        }
+
+        public Builder cacheTtl(Duration cacheTtl) {
+            configuration.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        public Builder cacheDirectory(String cacheDirectory) {
+            configuration.cacheDirectory = cacheDirectory;
+            return this;
+        }
+
         public JsonLdConfiguration build() {
             return configuration;
         }
@@ -24,6 +24,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.CoreConstants;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -32,6 +33,9 @@ import org.jetbrains.annotations.NotNull;
 import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
@@ -62,8 +66,22 @@ public class JsonLdExtension implements ServiceExtension {
     private static final String DEFAULT_AVOID_VOCAB_CONTEXT = "false";
     @Setting(value = "If true disable the @vocab context definition. This could be used to avoid api breaking changes", type = "boolean", defaultValue = DEFAULT_AVOID_VOCAB_CONTEXT)
     private static final String AVOID_VOCAB_CONTEXT = "edc.jsonld.vocab.disable";
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    @Setting(value = "Maximum number of remote contexts and documents kept by the json-ld processor, once loaded and parsed", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    private static final String CACHE_SIZE_SETTING = "edc.jsonld.cache.size";
+    private static final long DEFAULT_CACHE_TTL_MILLIS = 60 * 60 * 1000L;
+    @Setting(value = "Time-to-live in milliseconds of the remote contexts and documents fetched by the json-ld processor", type = "long", defaultValue = DEFAULT_CACHE_TTL_MILLIS + "")
+    private static final String CACHE_TTL_SETTING = "edc.jsonld.cache.ttl-millis";
+    @Setting(value = "If set, directory where the fetched remote json-ld documents are stored, to be reused after a restart within their time-to-live")
+    private static final String CACHE_DIRECTORY_SETTING = "edc.jsonld.cache.directory";
+    @Setting(value = "Comma-separated list of remote json-ld documents fetched at startup")
+    private static final String CACHE_PRELOAD_SETTING = "edc.jsonld.cache.preload";
     @Inject
     private TypeManager typeManager;
+    @Inject
+    private Clock clock;
+    @Inject(required = false)
+    private CounterInstrumentation counterInstrumentation;
 
     @Override
     public String name() {
@@ -81,9 +99,15 @@ public class JsonLdExtension implements ServiceExtension {
         var configuration = JsonLdConfiguration.Builder.newInstance()
                 .httpEnabled(config.getBoolean(HTTP_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
                 .httpsEnabled(config.getBoolean(HTTPS_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
+                .cacheSize(config.getInteger(CACHE_SIZE_SETTING, DEFAULT_CACHE_SIZE))
+                .cacheTtl(Duration.ofMillis(config.getLong(CACHE_TTL_SETTING, DEFAULT_CACHE_TTL_MILLIS)))
+                .cacheDirectory(config.getString(CACHE_DIRECTORY_SETTING, null))
                 .build();
         var monitor = context.getMonitor();
-        var service = new TitaniumJsonLd(monitor, configuration);
+        var service = new TitaniumJsonLd(monitor, configuration, clock);
+        if (counterInstrumentation != null) {
+            service.registerMetrics(counterInstrumentation);
+        }
         if (!config.getBoolean(AVOID_VOCAB_CONTEXT, Boolean.valueOf(DEFAULT_AVOID_VOCAB_CONTEXT))) {
             service.registerNamespace(VOCAB, EDC_NAMESPACE);
         }
@@ -95,6 +119,11 @@ public class JsonLdExtension implements ServiceExtension {
 
         registerCachedDocumentsFromConfig(context, service);
 
+        Arrays.stream(config.getString(CACHE_PRELOAD_SETTING, "").split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .forEach(service::preloadDocument);
+
         return service;
     }
 
@@ -18,26 +18,24 @@ import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
-import com.apicatalog.jsonld.loader.DocumentLoader;
-import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
-import com.apicatalog.jsonld.loader.FileLoader;
-import com.apicatalog.jsonld.loader.HttpLoader;
-import com.apicatalog.jsonld.loader.SchemeRouter;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
-import org.eclipse.edc.jsonld.document.JarLoader;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
 
 import java.net.URI;
+import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -60,15 +58,24 @@ public class TitaniumJsonLd implements JsonLd {
     private final Monitor monitor;
     private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
     private final Map<String, Set<String>> scopedContexts = new HashMap<>();
+    private final Map<String, Document> scopedContextDocuments = new ConcurrentHashMap<>();
     private final CachedDocumentLoader documentLoader;
+    private final ExpiringLruCache<String, JsonValue> contextCache;
+    private final ExpiringLruCache<String, Document> documentCache;
 
     public TitaniumJsonLd(Monitor monitor) {
         this(monitor, JsonLdConfiguration.Builder.newInstance().build());
     }
 
     public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration) {
+        this(monitor, configuration, Clock.systemUTC());
+    }
+
+    public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration, Clock clock) {
         this.monitor = monitor;
-        this.documentLoader = new CachedDocumentLoader(configuration, monitor);
+        this.documentLoader = new CachedDocumentLoader(configuration, monitor, clock);
+        this.contextCache = new ExpiringLruCache<>(configuration.getCacheSize(), configuration.getCacheTtl(), clock);
+        this.documentCache = new ExpiringLruCache<>(configuration.getCacheSize(), configuration.getCacheTtl(), clock);
     }
 
     @Override
@@ -76,7 +83,7 @@ public class TitaniumJsonLd implements JsonLd {
         try {
             var document = JsonDocument.of(injectVocab(json));
             var expanded = com.apicatalog.jsonld.JsonLd.expand(document)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             if (expanded.size() > 0) {
                 return Result.success(expanded.getJsonObject(0));
@@ -91,15 +98,23 @@ public class TitaniumJsonLd implements JsonLd {
     @Override
     public Result<JsonObject> compact(JsonObject json, String scope) {
         try {
-            var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(CONTEXT, createContext(scope))
-                    .build());
-            var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument)
-                    .options(new JsonLdOptions(documentLoader))
-                    .get();
-            return Result.success(compacted);
+            return Result.success(compact(json, contextDocument(scope)));
+        } catch (JsonLdError e) {
+            monitor.warning("Error compacting JSON-LD structure", e);
+            return Result.failure(e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<JsonArray> compactAll(JsonArray json, String scope) {
+        try {
+            // the context document is built once and shared by all the elements
+            var contextDocument = contextDocument(scope);
+            var builder = createArrayBuilder();
+            for (var value : json) {
+                builder.add(value instanceof JsonObject jsonObject ? compact(jsonObject, contextDocument) : value);
+            }
+            return Result.success(builder.build());
         } catch (JsonLdError e) {
             monitor.warning("Error compacting JSON-LD structure", e);
             return Result.failure(e.getMessage());
@@ -110,12 +125,14 @@ public class TitaniumJsonLd implements JsonLd {
     public void registerNamespace(String prefix, String contextIri, String scope) {
         var namespaces = scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>());
         namespaces.put(prefix, contextIri);
+        scopedContextDocuments.clear();
     }
 
     @Override
     public void registerContext(String contextIri, String scope) {
         var contexts = scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>());
         contexts.add(contextIri);
+        scopedContextDocuments.clear();
     }
 
     @Override
@@ -123,6 +140,37 @@ public class TitaniumJsonLd implements JsonLd {
         documentLoader.register(contextUrl, uri);
     }
 
+    /**
+     * Fetches a remote document ahead of its first use, so that it is served from the cache afterwards.
+     *
+     * @param url the url of the document.
+     */
+    public void preloadDocument(String url) {
+        documentLoader.preload(URI.create(url));
+    }
+
+    /**
+     * Publishes the hits, misses and evictions of the caches, tagged by cache: "remote" for the documents fetched by
+     * the loader, "context" and "document" for the contexts and documents parsed by Titanium.
+     *
+     * @param instrumentation the instrumentation the counters are published to.
+     */
+    void registerMetrics(CounterInstrumentation instrumentation) {
+        registerCacheMetrics(instrumentation, "remote", documentLoader, CachedDocumentLoader::hits, CachedDocumentLoader::misses, CachedDocumentLoader::evictions);
+        registerCacheMetrics(instrumentation, "context", contextCache, ExpiringLruCache::hits, ExpiringLruCache::misses, ExpiringLruCache::evictions);
+        registerCacheMetrics(instrumentation, "document", documentCache, ExpiringLruCache::hits, ExpiringLruCache::misses, ExpiringLruCache::evictions);
+        instrumentation.counter("edc.jsonld.remote.fetch.time", "Total time spent fetching remote JSON-LD documents, in milliseconds",
+                Map.of(), documentLoader::fetchTimeMillis);
+    }
+
+    private <T> void registerCacheMetrics(CounterInstrumentation instrumentation, String cache, T source, ToLongFunction<T> hits, ToLongFunction<T> misses, ToLongFunction<T> evictions) {
+        var tags = Map.of("cache", cache);
+        instrumentation.counter("edc.jsonld.cache.hits", "Lookups served from the JSON-LD cache", tags, () -> hits.applyAsLong(source));
+        instrumentation.counter("edc.jsonld.cache.misses", "Lookups not found in the JSON-LD cache, or expired", tags, () -> misses.applyAsLong(source));
+        instrumentation.counter("edc.jsonld.cache.evictions", "Entries evicted from the JSON-LD cache, because they expired or the capacity was reached",
+                tags, () -> evictions.applyAsLong(source));
+    }
+
     private JsonObject injectVocab(JsonObject json) {
         var jsonObjectBuilder = createObjectBuilder(json);
 
@@ -140,6 +188,34 @@ public class TitaniumJsonLd implements JsonLd {
         return jsonObjectBuilder.build();
     }
 
+    private JsonObject compact(JsonObject json, Document contextDocument) throws JsonLdError {
+        return com.apicatalog.jsonld.JsonLd.compact(JsonDocument.of(json), contextDocument)
+                .options(options())
+                .get();
+    }
+
+    /**
+     * The options share the caches of the remote contexts and documents, so that they are loaded and parsed once, and
+     * not on every operation.
+     */
+    private JsonLdOptions options() {
+        var options = new JsonLdOptions(documentLoader);
+        options.setContextCache(contextCache);
+        options.setDocumentCache(documentCache);
+        return options;
+    }
+
+    private Document contextDocument(String scope) {
+        return scopedContextDocuments.computeIfAbsent(scope, this::createContextDocument);
+    }
+
+    private Document createContextDocument(String scope) {
+        var jsonFactory = createBuilderFactory(Map.of());
+        return JsonDocument.of(jsonFactory.createObjectBuilder()
+                .add(CONTEXT, createContext(scope))
+                .build());
+    }
+
     private JsonValue createContext(String scope) {
         var builder = createObjectBuilder();
         // Adds the configured namespaces for * and the input scope
@@ -174,42 +250,4 @@ public class TitaniumJsonLd implements JsonLd {
     private Stream<String> contextsForScope(String scope) {
         return scopedContexts.getOrDefault(scope, EMPTY_CONTEXTS).stream();
     }
-
-    private static class CachedDocumentLoader implements DocumentLoader {
-
-        private final Map<String, URI> uriCache = new HashMap<>();
-        private final Map<URI, Document> documentCache = new HashMap<>();
-        private final DocumentLoader loader;
-        private final Monitor monitor;
-
-        CachedDocumentLoader(JsonLdConfiguration configuration, Monitor monitor) {
-            loader = new SchemeRouter()
-                    .set("http", configuration.isHttpEnabled() ? HttpLoader.defaultInstance() : null)
-                    .set("https", configuration.isHttpsEnabled() ? HttpLoader.defaultInstance() : null)
-                    .set("file", new FileLoader())
-                    .set("jar", new JarLoader());
-            this.monitor = monitor;
-        }
-
-        @Override
-        public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
-            var uri = Optional.of(url.toString())
-                    .map(uriCache::get)
-                    .orElse(url);
-
-            return Optional.ofNullable(documentCache.get(uri))
-                    .orElse(loader.loadDocument(uri, options));
-        }
-
-        public void register(String contextUrl, URI uri) {
-            uriCache.put(contextUrl, uri);
-            try {
-                documentCache.put(uri, loader.loadDocument(uri, new DocumentLoaderOptions()));
-            } catch (JsonLdError e) {
-                monitor.warning("Error caching context URL '%s' for URI '%s'. Subsequent attempts to expand this context URL may fail.".formatted(contextUrl, uri));
-            }
-        }
-
-    }
-
 }
@@ -18,11 +18,20 @@ import jakarta.json.Json;
 import jakarta.json.JsonValue;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.verify.VerificationTimes;
 
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
 
 import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
@@ -35,6 +44,7 @@ import static org.eclipse.edc.junit.testfixtures.TestUtils.getFileFromResourceNa
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -119,6 +129,42 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void compactAll() {
+        var ns = "https://test.org/schema/";
+        var service = defaultService();
+        service.registerNamespace("ns", ns);
+        var expanded = createArrayBuilder()
+                .add(createObjectBuilder().add(ns + "key", createArrayBuilder().add(createObjectBuilder().add(VALUE, "value1"))))
+                .add(createObjectBuilder().add(ns + "key", createArrayBuilder().add(createObjectBuilder().add(VALUE, "value2"))))
+                .add("not-an-object")
+                .build();
+
+        var compacted = service.compactAll(expanded, JsonLd.DEFAULT_SCOPE);
+
+        assertThat(compacted).isSucceeded().satisfies(c -> {
+            assertThat(c).hasSize(3);
+            assertThat(c.getJsonObject(0).getString("ns:key")).isEqualTo("value1");
+            assertThat(c.getJsonObject(1).getString("ns:key")).isEqualTo("value2");
+            assertThat(c.getString(2)).isEqualTo("not-an-object");
+        });
+    }
+
+    @Test
+    void compact_shouldUseNamespace_whenRegisteredAfterPreviousCompaction() {
+        var ns = "https://test.org/schema/";
+        var service = defaultService();
+        var expanded = createObjectBuilder()
+                .add(ns + "key", createArrayBuilder().add(createObjectBuilder().add(VALUE, "value")))
+                .build();
+        service.compact(expanded);
+
+        service.registerNamespace("ns", ns);
+        var compacted = service.compact(expanded);
+
+        assertThat(compacted).isSucceeded().satisfies(c -> assertThat(c.getString("ns:key")).isEqualTo("value"));
+    }
+
     @Test
     void compact_withCustomPrefix() {
         var ns = "https://test.org/schema/";
@@ -291,6 +337,106 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void documentResolution_shouldCallHttpEndpointOnce_whenContextIsUsedSeveralTimes() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var contextUrl = "http://localhost:" + port;
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, contextUrl)
+                .add("test:key", "value")
+                .build();
+        var service = httpEnabledService();
+
+        var first = service.expand(jsonObject);
+        var second = service.expand(jsonObject);
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded().isEqualTo(first.getContent());
+        server.verify(request(), VerificationTimes.once());
+    }
+
+    @Test
+    void documentResolution_shouldCallHttpEndpointAgain_whenCachedContextExpired() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var contextUrl = "http://localhost:" + port;
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, contextUrl)
+                .add("test:key", "value")
+                .build();
+        var clock = mock(Clock.class);
+        var configuration = JsonLdConfiguration.Builder.newInstance().httpEnabled(true).cacheTtl(Duration.ofMinutes(1)).build();
+        var service = new TitaniumJsonLd(monitor, configuration, clock);
+
+        service.expand(jsonObject);
+        when(clock.millis()).thenReturn(Duration.ofMinutes(1).toMillis());
+        var expanded = service.expand(jsonObject);
+
+        assertThat(expanded).isSucceeded();
+        server.verify(request(), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void documentResolution_shouldUseStoredDocument_whenCacheDirectoryIsConfigured(@TempDir Path directory) {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var contextUrl = "http://localhost:" + port;
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, contextUrl)
+                .add("test:key", "value")
+                .build();
+        var configuration = JsonLdConfiguration.Builder.newInstance().httpEnabled(true).cacheDirectory(directory.toString()).build();
+        new TitaniumJsonLd(monitor, configuration).expand(jsonObject);
+
+        var expanded = new TitaniumJsonLd(monitor, configuration).expand(jsonObject);
+
+        assertThat(expanded).isSucceeded().satisfies(json -> assertThat(json.getJsonArray("http://test.org/context/key")).hasSize(1));
+        server.verify(request(), VerificationTimes.once());
+    }
+
+    @Test
+    void registerMetrics_shouldPublishCacheCounters() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var clock = mock(Clock.class);
+        var configuration = JsonLdConfiguration.Builder.newInstance().httpEnabled(true).cacheTtl(Duration.ofMinutes(1)).build();
+        var service = new TitaniumJsonLd(monitor, configuration, clock);
+        var counters = new HashMap<String, LongSupplier>();
+        service.registerMetrics(new CounterInstrumentation() {
+            @Override
+            public void counter(String name, String description, Map<String, String> tags, LongSupplier value) {
+                counters.put(name + tags, value);
+            }
+        });
+
+        service.expand(jsonObject);
+        service.expand(jsonObject);
+        when(clock.millis()).thenReturn(Duration.ofMinutes(1).toMillis());
+        service.expand(jsonObject);
+
+        var context = Map.of("cache", "context");
+        assertThat(counters.get("edc.jsonld.cache.hits" + context).getAsLong()).isPositive();
+        assertThat(counters.get("edc.jsonld.cache.misses" + context).getAsLong()).isGreaterThanOrEqualTo(2);
+        assertThat(counters.get("edc.jsonld.cache.evictions" + context).getAsLong()).isPositive();
+        assertThat(counters.get("edc.jsonld.cache.misses" + Map.of("cache", "remote")).getAsLong()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void preloadDocument_shouldFetchDocumentBeforeFirstUse() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var contextUrl = "http://localhost:" + port;
+        var service = (TitaniumJsonLd) httpEnabledService();
+
+        service.preloadDocument(contextUrl);
+        server.verify(request(), VerificationTimes.once());
+
+        var expanded = service.expand(createObjectBuilder().add(CONTEXT, contextUrl).add("test:key", "value").build());
+
+        assertThat(expanded).isSucceeded();
+        server.verify(request(), VerificationTimes.once());
+    }
+
     private JsonLd httpEnabledService() {
         return new TitaniumJsonLd(monitor, JsonLdConfiguration.Builder.newInstance().httpEnabled(true).build());
     }
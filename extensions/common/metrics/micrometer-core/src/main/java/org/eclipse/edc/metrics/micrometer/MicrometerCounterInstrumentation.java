@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link CounterInstrumentation} that publishes the counters as Micrometer {@link FunctionCounter}s.
+ */
+public class MicrometerCounterInstrumentation implements CounterInstrumentation {
+    private final MeterRegistry registry;
+
+    public MicrometerCounterInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void counter(String name, String description, Map<String, String> tags, LongSupplier value) {
+        var builder = FunctionCounter.builder(name, value, LongSupplier::getAsLong)
+                .description(description);
+        tags.forEach(builder::tag);
+        builder.register(registry);
+    }
+}
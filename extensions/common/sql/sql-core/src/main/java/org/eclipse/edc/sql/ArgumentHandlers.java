@@ -20,6 +20,9 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 enum ArgumentHandlers implements ArgumentHandler {
     /**
@@ -203,5 +206,30 @@ enum ArgumentHandlers implements ArgumentHandler {
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setNull(position, java.sql.Types.NULL);
         }
+    };
+
+    private static final Map<Class<?>, Optional<ArgumentHandler>> HANDLERS_BY_CLASS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the handler of an argument. As the handlers accept arguments by type, the handler is looked up once per
+     * argument class.
+     *
+     * @param argument the argument.
+     * @return the handler, null if no handler accepts the argument.
+     */
+    static ArgumentHandler forArgument(Object argument) {
+        if (argument == null) {
+            return NULL;
+        }
+        return HANDLERS_BY_CLASS.computeIfAbsent(argument.getClass(), type -> find(argument)).orElse(null);
+    }
+
+    private static Optional<ArgumentHandler> find(Object argument) {
+        for (var handler : values()) {
+            if (handler.accepts(argument)) {
+                return Optional.of(handler);
+            }
+        }
+        return Optional.empty();
     }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,19 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for mutating queries executed many times with different parameters, e.g. bulk inserts: the rows are
+     * sent to the database in a single batch instead of a round trip per row.
+     *
+     * @param connection the connection to be used to execute the query.
+     * @param sql the parametrized sql query
+     * @param arguments the parameters of every execution of the query
+     * @return the rows changed by every execution, as returned by the JDBC driver
+     */
+    default int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        return arguments.stream().mapToInt(it -> execute(connection, sql, it)).toArray();
+    }
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
@@ -22,7 +22,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -52,7 +52,7 @@ public class SqlQueryExecutor implements QueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
-        try (var statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+        try (var statement = connection.prepareStatement(sql)) {
             setArguments(statement, arguments);
             return statement.execute() ? 0 : statement.getUpdateCount();
         } catch (Exception exception) {
@@ -60,6 +60,27 @@ public class SqlQueryExecutor implements QueryExecutor {
         }
     }
 
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(arguments, "arguments");
+
+        if (arguments.isEmpty()) {
+            return new int[0];
+        }
+
+        try (var statement = connection.prepareStatement(sql)) {
+            for (var rowArguments : arguments) {
+                setArguments(statement, rowArguments);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
     @Override
     public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
         try (var stream = query(connection, closeConnection, resultSetMapper, sql, arguments)) {
@@ -106,8 +127,7 @@ public class SqlQueryExecutor implements QueryExecutor {
     }
 
     private void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        var argumentHandler = Arrays.stream(ArgumentHandlers.values()).filter(it -> it.accepts(argument))
-                .findFirst().orElse(null);
+        var argumentHandler = ArgumentHandlers.forArgument(argument);
 
         if (argumentHandler != null) {
             argumentHandler.handle(statement, position, argument);
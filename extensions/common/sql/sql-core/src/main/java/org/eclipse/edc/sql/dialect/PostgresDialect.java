@@ -33,6 +33,19 @@ public class PostgresDialect {
         return format("%s, json_array_elements(%s) as %s", selectStatement, jsonPath, aliasName);
     }
 
+    /**
+     * Creates a SELECT statement that targets a Postgres JSONB array
+     *
+     * @param selectStatement The select statement, does not include the {@code jsonb_array_elements} function
+     *         call
+     * @param jsonPath The path to the array object, which is passed as parameter to the
+     *         {@code jsonb_array_elements()} function
+     * @param aliasName the alias under which the JSONB array is available, e.g. for WHERE clauses
+     */
+    public static String getSelectFromJsonbArrayTemplate(String selectStatement, String jsonPath, String aliasName) {
+        return format("%s, jsonb_array_elements(%s) as %s", selectStatement, jsonPath, aliasName);
+    }
+
     /**
      * Returns the Postgres operator to cast a varchar to json ({@code "::json"})
      */
@@ -40,4 +53,18 @@ public class PostgresDialect {
         return "::json";
     }
 
+    /**
+     * Returns the Postgres operator to cast a varchar to jsonb ({@code "::jsonb"})
+     */
+    public static String getJsonbCastOperator() {
+        return "::jsonb";
+    }
+
+    /**
+     * Returns the Postgres JSONB containment operator ({@code "@>"}), that can be served by a GIN index
+     */
+    public static String getJsonbContainmentOperator() {
+        return "@>";
+    }
+
 }
@@ -105,6 +105,33 @@ public class SqlExecuteStatement {
         return format("INSERT INTO %s (%s) VALUES (%s);", tableName, columnValues.columnName(), columnValues.value());
     }
 
+    /**
+     * Gives a SQL upsert statement, that inserts the row or updates it if a row with the same value in the conflict
+     * column already exists.
+     *
+     * @param tableName the table name.
+     * @param conflictColumn the unique column that identifies the row.
+     * @param immutableColumns columns that are set on insert but never updated.
+     * @return sql upsert statement.
+     */
+    public String upsertInto(String tableName, String conflictColumn, String... immutableColumns) {
+        if (columnEntries.isEmpty()) {
+            throw new IllegalArgumentException(format("Cannot create UPSERT statement on %s because no columns are registered", tableName));
+        }
+
+        var columnValues = columnEntries.stream().reduce(ColumnEntry::append).orElseThrow();
+        var excluded = new ArrayList<>(Arrays.asList(immutableColumns));
+        excluded.add(conflictColumn);
+        var update = columnEntries.stream()
+                .map(ColumnEntry::columnName)
+                .filter(columnName -> !excluded.contains(columnName))
+                .map(columnName -> format("%s = EXCLUDED.%s", columnName, columnName))
+                .collect(joining(", "));
+
+        return format("INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) DO UPDATE SET %s;",
+                tableName, columnValues.columnName(), columnValues.value(), conflictColumn, update);
+    }
+
     /**
      * Gives a SQL update statement.
      *
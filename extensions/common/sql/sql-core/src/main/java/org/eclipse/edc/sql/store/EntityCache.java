@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.store;
+
+import org.eclipse.edc.util.collection.LruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded, threadsafe cache that can be put in front of a SQL store to avoid querying the database and deserializing
+ * the entity again on every lookup. Entities are indexed by id and by correlation id, the least recently used ones are
+ * evicted when the capacity is reached and every entry expires after the configured time-to-live.
+ * <p>
+ * The cache holds copies: entities are copied when they get in and when they get out, so callers can modify them
+ * freely. Stores must invalidate an entity whenever they write it, once the write has been committed. Since a reader
+ * can load an entity just before a concurrent write commits, entities read from the database are put with the
+ * {@link #version()} taken before reading, and are discarded if any entity has been invalidated in the meantime.
+ *
+ * @param <T> the entity type.
+ */
+public class EntityCache<T> {
+
+    private final LruCache<String, Entry<T>> entries;
+    private final LruCache<String, String> idsByCorrelationId;
+    private final Function<T, String> idFunction;
+    private final Function<T, String> correlationIdFunction;
+    private final UnaryOperator<T> copyFunction;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private long version;
+
+    public EntityCache(int capacity, Duration timeToLive, Clock clock, Function<T, String> idFunction,
+                       Function<T, String> correlationIdFunction, UnaryOperator<T> copyFunction) {
+        this.entries = new LruCache<>(capacity);
+        this.idsByCorrelationId = new LruCache<>(capacity);
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.idFunction = idFunction;
+        this.correlationIdFunction = correlationIdFunction;
+        this.copyFunction = copyFunction;
+    }
+
+    /**
+     * Returns a cache that never holds any entity.
+     *
+     * @return the disabled cache.
+     */
+    public static <T> EntityCache<T> disabled() {
+        return new EntityCache<>(0, Duration.ZERO, Clock.systemUTC(), e -> null, e -> null, UnaryOperator.identity());
+    }
+
+    /**
+     * Get a copy of the entity with the given id.
+     *
+     * @param id the entity id.
+     * @return a copy of the entity, null if it's not cached or expired.
+     */
+    public synchronized @Nullable T get(String id) {
+        var entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= clock.millis()) {
+            remove(id);
+            return null;
+        }
+        return copyFunction.apply(entry.entity());
+    }
+
+    /**
+     * Get a copy of the entity with the given correlation id.
+     *
+     * @param correlationId the correlation id.
+     * @return a copy of the entity, null if it's not cached or expired.
+     */
+    public synchronized @Nullable T getByCorrelationId(String correlationId) {
+        var id = idsByCorrelationId.get(correlationId);
+        return id == null ? null : get(id);
+    }
+
+    /**
+     * Tells whether the cache can hold entities at all.
+     *
+     * @return false if the cache is disabled.
+     */
+    public boolean isEnabled() {
+        return !timeToLive.isZero() && !timeToLive.isNegative();
+    }
+
+    /**
+     * Current version of the cache, that changes on every invalidation.
+     *
+     * @return the version.
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * Put a copy of the entity in the cache, replacing the previous one with the same id.
+     *
+     * @param entity the entity.
+     */
+    public synchronized void put(T entity) {
+        if (!isEnabled()) {
+            return;
+        }
+        var id = idFunction.apply(entity);
+        remove(id);
+        entries.put(id, new Entry<>(copyFunction.apply(entity), clock.millis() + timeToLive.toMillis()));
+        var correlationId = correlationIdFunction.apply(entity);
+        if (correlationId != null) {
+            idsByCorrelationId.put(correlationId, id);
+        }
+    }
+
+    /**
+     * Put a copy of the entity in the cache, unless an entity has been invalidated since the given version, as it
+     * could have been read before a concurrent write was committed.
+     *
+     * @param entity the entity.
+     * @param version the {@link #version()} taken before reading the entity.
+     */
+    public synchronized void put(T entity, long version) {
+        if (version == this.version) {
+            put(entity);
+        }
+    }
+
+    /**
+     * Remove the entity with the given id from the cache.
+     *
+     * @param id the entity id.
+     */
+    public synchronized void invalidate(String id) {
+        version++;
+        remove(id);
+    }
+
+    private void remove(String id) {
+        var entry = entries.remove(id);
+        if (entry != null) {
+            var correlationId = correlationIdFunction.apply(entry.entity());
+            if (correlationId != null) {
+                idsByCorrelationId.remove(correlationId, id);
+            }
+        }
+    }
+
+    private record Entry<T>(T entity, long expiresAt) {
+    }
+}
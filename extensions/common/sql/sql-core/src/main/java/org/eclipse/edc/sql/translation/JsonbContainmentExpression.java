@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.result.Result;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+import static org.eclipse.edc.sql.dialect.PostgresDialect.getJsonbCastOperator;
+import static org.eclipse.edc.sql.dialect.PostgresDialect.getJsonbContainmentOperator;
+
+/**
+ * Condition that is satisfied when a {@code JSONB} column contains at least one of the given JSON documents.
+ */
+class JsonbContainmentExpression extends SqlConditionExpression {
+
+    private final String columnName;
+    private final List<String> documents;
+
+    JsonbContainmentExpression(Criterion criterion, String columnName, List<String> documents) {
+        super(criterion);
+        this.columnName = columnName;
+        this.documents = documents;
+    }
+
+    @Override
+    public String toSql() {
+        var condition = "%s %s ?%s".formatted(columnName, getJsonbContainmentOperator(), getJsonbCastOperator());
+        if (documents.size() == 1) {
+            return condition;
+        }
+        return documents.stream().map(document -> condition).collect(joining(" OR ", "(", ")"));
+    }
+
+    @Override
+    public Result<Void> isValidExpression() {
+        return Result.success();
+    }
+
+    @Override
+    public Stream<Object> toStatementParameter() {
+        return Stream.concat(Stream.of(columnName), documents.stream());
+    }
+}
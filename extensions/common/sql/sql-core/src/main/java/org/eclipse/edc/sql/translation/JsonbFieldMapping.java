@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.types.PathItem;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps a field stored in a Postgres {@code JSONB} column. Equality and {@code in} criteria on string values are
+ * translated into containment conditions (e.g. {@code properties @> '{"key":"value"}'}), that can be served by a GIN
+ * index on the column, the other criteria are translated as in {@link JsonFieldMapping}.
+ * <p>
+ * Note that containment is type-aware: a string criterion does not match a number or a boolean stored with the same
+ * text representation.
+ */
+public class JsonbFieldMapping extends JsonFieldMapping {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String EQUALS_OPERATOR = "=";
+    private static final String IN_OPERATOR = "in";
+
+    public JsonbFieldMapping(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    public @Nullable SqlConditionExpression getConditionExpression(List<PathItem> path, Criterion criterion) {
+        if (path.isEmpty()) {
+            return null;
+        }
+
+        var operator = criterion.getOperator().toLowerCase();
+        var operandRight = criterion.getOperandRight();
+        if (EQUALS_OPERATOR.equals(operator) && operandRight instanceof String value) {
+            return new JsonbContainmentExpression(criterion, columnName, List.of(document(path, value)));
+        }
+
+        if (IN_OPERATOR.equals(operator) && operandRight instanceof Iterable<?> values) {
+            var documents = new ArrayList<String>();
+            for (var value : values) {
+                if (!(value instanceof String stringValue)) {
+                    return null;
+                }
+                documents.add(document(path, stringValue));
+            }
+            return documents.isEmpty() ? null : new JsonbContainmentExpression(criterion, columnName, documents);
+        }
+
+        return null;
+    }
+
+    private String document(List<PathItem> path, String value) {
+        var root = MAPPER.createObjectNode();
+        var node = root;
+        for (var i = 0; i < path.size() - 1; i++) {
+            node = node.putObject(path.get(i).toString());
+        }
+        node.put(path.get(path.size() - 1).toString(), value);
+        try {
+            return MAPPER.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+}
@@ -44,6 +44,7 @@ public class SqlQueryStatement {
     private final List<Object> parameters = new ArrayList<>();
 
     private String orderByClause = "";
+    private String lockingClause = "";
     private final int limit;
     private final int offset;
 
@@ -86,6 +87,7 @@ public class SqlQueryStatement {
                 orderByClause +
                 LIMIT +
                 OFFSET +
+                lockingClause +
                 ";";
     }
 
@@ -114,6 +116,17 @@ public class SqlQueryStatement {
         return this;
     }
 
+    /**
+     * Set a locking clause that will be appended at the end of the query, e.g. {@code FOR UPDATE SKIP LOCKED}.
+     *
+     * @param clause the SQL locking clause.
+     * @return self.
+     */
+    public SqlQueryStatement lockingClause(String clause) {
+        lockingClause = " " + clause;
+        return this;
+    }
+
     /**
      * Add where clause. If it contains multiple clauses better wrap it with parenthesis
      *
@@ -164,6 +177,13 @@ public class SqlQueryStatement {
 
     @NotNull
     private SqlConditionExpression parseExpression(Criterion criterion, TranslationMapping rootModel) {
+        if (criterion.getOperandLeft() != null) {
+            var expression = rootModel.getConditionExpression(criterion);
+            if (expression != null) {
+                return expression;
+            }
+        }
+
         var newCriterion = Optional.ofNullable(criterion.getOperandLeft())
                 .map(Object::toString)
                 .map(it -> rootModel.getStatement(it, criterion.getOperandRight().getClass()))
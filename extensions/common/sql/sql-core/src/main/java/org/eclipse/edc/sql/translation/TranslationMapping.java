@@ -14,7 +14,9 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.types.PathItem;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
@@ -62,6 +64,28 @@ public abstract class TranslationMapping {
         return entry.toString();
     }
 
+    /**
+     * Translates a whole {@link Criterion} into a condition, for the mappings that can do better than comparing the
+     * statement returned by {@link #getStatement(String, Class)} with the right operand, e.g. to use an index.
+     *
+     * @param criterion the criterion, whose left operand is a canonical property name.
+     * @return the condition, or null if the criterion has to be translated with {@link #getStatement(String, Class)}.
+     */
+    @Nullable
+    public SqlConditionExpression getConditionExpression(Criterion criterion) {
+        return getConditionExpression(PathItem.parse(criterion.getOperandLeft().toString()), criterion);
+    }
+
+    @Nullable
+    public SqlConditionExpression getConditionExpression(List<PathItem> path, Criterion criterion) {
+        var entry = fieldMap.get(path.get(0).toString());
+        if (entry instanceof TranslationMapping mappingEntry) {
+            var remainingPath = path.stream().skip(1).toList();
+            return mappingEntry.getConditionExpression(remainingPath, criterion);
+        }
+        return null;
+    }
+
     protected void add(String fieldId, Object value) {
         fieldMap.put(fieldId, value);
     }
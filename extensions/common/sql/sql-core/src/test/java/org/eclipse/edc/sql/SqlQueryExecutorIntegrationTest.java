@@ -26,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -102,6 +103,17 @@ public class SqlQueryExecutorIntegrationTest {
         assertThat(kvs).hasSize(1).first().isEqualTo(keyValue);
     }
 
+    @Test
+    void executeBatch(Connection connection) {
+        var rows = List.of(new Object[]{ "key1", "value1" }, new Object[]{ "key2", "value2" });
+
+        var result = executor.executeBatch(connection, format("INSERT INTO %s (k, v) values (?, ?)", table), rows);
+
+        assertThat(result).hasSize(2);
+        var kvs = executor.query(connection, false, (rs) -> new KeyValue(rs.getString(1), rs.getString(2)), format("SELECT * FROM %s ORDER BY k", table));
+        assertThat(kvs).containsExactly(new KeyValue("key1", "value1"), new KeyValue("key2", "value2"));
+    }
+
     @Test
     void testInvalidSql(Connection connection) {
         assertThatThrownBy(() -> executor.execute(connection, "Lorem ipsum dolor sit amet")).isInstanceOf(EdcPersistenceException.class);
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -26,11 +27,14 @@ import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,7 +47,7 @@ class SqlQueryExecutorTest {
     void setArgumentCorrectType(Object argument, MockitoPreparedStatementVerification verification) throws SQLException {
         var connection = Mockito.mock(Connection.class);
         var preparedStatement = Mockito.mock(PreparedStatement.class);
-        when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         when(preparedStatement.execute()).thenReturn(true);
 
         executor.execute(connection, DUMMY_SQL, argument);
@@ -51,6 +55,35 @@ class SqlQueryExecutorTest {
         verification.verify(preparedStatement);
     }
 
+    @Test
+    void executeBatch_shouldAddEveryRowToASingleBatch() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{ 1, 1 });
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of(new Object[]{ "key1", 1 }, new Object[]{ "key2", 2 }));
+
+        assertThat(result).containsExactly(1, 1);
+        verify(connection).prepareStatement(DUMMY_SQL);
+        verify(preparedStatement).setString(1, "key1");
+        verify(preparedStatement).setInt(2, 1);
+        verify(preparedStatement).setString(1, "key2");
+        verify(preparedStatement).setInt(2, 2);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).close();
+    }
+
+    @Test
+    void executeBatch_shouldNotPrepareStatement_whenNoRows() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of());
+
+        assertThat(result).isEmpty();
+        verify(connection, never()).prepareStatement(DUMMY_SQL);
+    }
+
     static class TestExecuteParametrizedArgumentProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -53,6 +53,40 @@ class SqlExecuteStatementTest {
         }
     }
 
+    @Nested
+    class Upsert {
+
+        @Test
+        void shouldThrowException_whenNoColumnSpecified() {
+            assertThatThrownBy(() -> SqlExecuteStatement.newInstance("::json").upsertInto("table_name", "id"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldReturnStatement() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .column("column_name")
+                    .jsonColumn("json_column")
+                    .upsertInto("table_name", "id");
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, column_name, json_column) values (?, ?, ?::json) " +
+                    "on conflict (id) do update set column_name = excluded.column_name, json_column = excluded.json_column;");
+        }
+
+        @Test
+        void shouldNotUpdateImmutableColumns() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .column("created_at")
+                    .column("column_name")
+                    .upsertInto("table_name", "id", "created_at");
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, created_at, column_name) values (?, ?, ?) " +
+                    "on conflict (id) do update set column_name = excluded.column_name;");
+        }
+    }
+
     @Nested
     class Update {
 
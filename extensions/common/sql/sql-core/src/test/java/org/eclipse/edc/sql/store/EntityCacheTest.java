@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EntityCacheTest {
+
+    private final Clock clock = mock(Clock.class);
+    private EntityCache<TestEntity> cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        cache = new EntityCache<>(2, Duration.ofMillis(100), clock, TestEntity::id, TestEntity::correlationId, TestEntity::copy);
+    }
+
+    @Test
+    void shouldReturnCopyById() {
+        var entity = new TestEntity("id", "correlation-id");
+        cache.put(entity);
+
+        var cached = cache.get("id");
+
+        assertThat(cached).isEqualTo(entity).isNotSameAs(entity);
+    }
+
+    @Test
+    void shouldReturnByCorrelationId() {
+        cache.put(new TestEntity("id", "correlation-id"));
+
+        assertThat(cache.getByCorrelationId("correlation-id")).extracting(TestEntity::id).isEqualTo("id");
+        assertThat(cache.getByCorrelationId("unknown")).isNull();
+    }
+
+    @Test
+    void shouldExpire() {
+        cache.put(new TestEntity("id", "correlation-id"));
+
+        when(clock.millis()).thenReturn(100L);
+
+        assertThat(cache.get("id")).isNull();
+        assertThat(cache.getByCorrelationId("correlation-id")).isNull();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        cache.put(new TestEntity("id1", "correlation-id1"));
+        cache.put(new TestEntity("id2", "correlation-id2"));
+        cache.get("id1");
+
+        cache.put(new TestEntity("id3", "correlation-id3"));
+
+        assertThat(cache.get("id1")).isNotNull();
+        assertThat(cache.get("id2")).isNull();
+        assertThat(cache.get("id3")).isNotNull();
+    }
+
+    @Test
+    void shouldInvalidate() {
+        cache.put(new TestEntity("id", "correlation-id"));
+
+        cache.invalidate("id");
+
+        assertThat(cache.get("id")).isNull();
+        assertThat(cache.getByCorrelationId("correlation-id")).isNull();
+    }
+
+    @Test
+    void shouldNotPut_whenInvalidatedSinceVersion() {
+        var version = cache.version();
+        cache.invalidate("other-id");
+
+        cache.put(new TestEntity("id", "correlation-id"), version);
+
+        assertThat(cache.get("id")).isNull();
+    }
+
+    @Test
+    void shouldPut_whenNotInvalidatedSinceVersion() {
+        var version = cache.version();
+        cache.put(new TestEntity("other-id", "other-correlation-id"));
+
+        cache.put(new TestEntity("id", "correlation-id"), version);
+
+        assertThat(cache.get("id")).isNotNull();
+    }
+
+    @Test
+    void disabled_shouldNeverCache() {
+        var disabled = EntityCache.<TestEntity>disabled();
+
+        disabled.put(new TestEntity("id", "correlation-id"));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.get("id")).isNull();
+    }
+
+    private record TestEntity(String id, String correlationId) {
+        TestEntity copy() {
+            return new TestEntity(id, correlationId);
+        }
+    }
+}
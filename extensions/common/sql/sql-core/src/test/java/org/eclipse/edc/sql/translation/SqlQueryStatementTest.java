@@ -121,6 +121,43 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void lockingClause() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new TestMapping())
+                .lockingClause("FOR UPDATE SKIP LOCKED");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? LIMIT ? OFFSET ? FOR UPDATE SKIP LOCKED;");
+        assertThat(t.getParameters()).containsExactly("testid1", 50, 0);
+    }
+
+    @Test
+    void jsonbField_equalsOperator_shouldUseContainment() {
+        var criterion = new Criterion("jsonb.nested.'https://w3id.org/edc/v0.0.1/ns/key'", "=", "value");
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_jsonb @> ?::jsonb LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("{\"nested\":{\"https://w3id.org/edc/v0.0.1/ns/key\":\"value\"}}", 50, 0);
+    }
+
+    @Test
+    void jsonbField_inOperator_shouldUseContainment() {
+        var criterion = new Criterion("jsonb.key", "in", List.of("value1", "value2"));
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE (edc_jsonb @> ?::jsonb OR edc_jsonb @> ?::jsonb) LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("{\"key\":\"value1\"}", "{\"key\":\"value2\"}", 50, 0);
+    }
+
+    @Test
+    void jsonbField_likeOperator_shouldUseJsonPath() {
+        var criterion = new Criterion("jsonb.key", "like", "val%");
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_jsonb ->> 'key' like ? LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("val%", 50, 0);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
@@ -16,6 +16,8 @@ package org.eclipse.edc.sql.lease;
 
 import org.eclipse.edc.sql.statement.SqlStatements;
 
+import java.util.Collections;
+
 import static java.lang.String.format;
 
 /**
@@ -30,6 +32,35 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * Statement that deletes the expired leases of a batch of entities. Expected parameters are the {@code count}
+     * entity ids followed by the current time in milliseconds.
+     *
+     * @param count the number of entities in the batch.
+     * @return the delete statement.
+     */
+    String getDeleteExpiredLeasesTemplate(int count);
+
+    /**
+     * Statement that leases a batch of entities at once and returns the ids of the entities that have actually been
+     * leased, i.e. the ones that had no lease. Expected parameters are {@code count} pairs of (entity id, lease id)
+     * followed by the lease holder, the current time in milliseconds and the lease duration.
+     *
+     * @param count the number of entities in the batch.
+     * @return the lease statement.
+     */
+    String getAcquireLeasesTemplate(int count);
+
+    /**
+     * Locking clause appended to a query to let concurrent runtimes select disjoint batches of entities.
+     *
+     * @param entityTableName the table that contains the entities.
+     * @return the locking clause.
+     */
+    default String getSkipLockedClause(String entityTableName) {
+        return format("FOR UPDATE OF %s SKIP LOCKED", entityTableName);
+    }
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
@@ -56,4 +87,28 @@ public interface LeaseStatements extends SqlStatements {
         return "lease_id";
     }
 
+    /**
+     * Builds the statement described by {@link #getDeleteExpiredLeasesTemplate(int)} for the given entity table.
+     */
+    default String deleteExpiredLeasesTemplate(String entityTableName, String entityIdColumn, int count) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s)) AND (? > (%s + %s));",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), entityTableName, entityIdColumn,
+                String.join(", ", Collections.nCopies(count, "?")), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    /**
+     * Builds the statement described by {@link #getAcquireLeasesTemplate(int)} for the given entity table: the
+     * entities that are not leased get linked to their new lease, and only for those a lease row is inserted.
+     */
+    default String acquireLeasesTemplate(String entityTableName, String entityIdColumn, int count) {
+        return format("WITH leases (entity_id, lease_id) AS (VALUES %s), " +
+                        "updated AS (UPDATE %s SET %s = leases.lease_id FROM leases WHERE %s.%s = leases.entity_id AND %s.%s IS NULL RETURNING %s.%s AS entity_id, %s.%s AS lease_id), " +
+                        "inserted AS (INSERT INTO %s (%s, %s, %s, %s) SELECT lease_id, ?, ?, ? FROM updated) " +
+                        "SELECT entity_id FROM updated;",
+                String.join(", ", Collections.nCopies(count, "(?, ?)")),
+                entityTableName, getLeaseIdColumn(), entityTableName, entityIdColumn, entityTableName, getLeaseIdColumn(),
+                entityTableName, entityIdColumn, entityTableName, getLeaseIdColumn(),
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
 }
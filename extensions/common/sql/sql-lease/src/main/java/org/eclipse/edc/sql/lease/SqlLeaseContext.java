@@ -26,6 +26,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -101,6 +103,43 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires leases for a batch of entities using two statements, regardless of the size of the batch: the expired
+     * leases of the entities are deleted first, then all the entities that are not leased are leased at once.
+     * Entities that are currently leased are skipped instead of causing an exception.
+     *
+     * @param entityIds The IDs of the entities to lease.
+     * @return the IDs of the entities that have been leased.
+     */
+    public List<String> acquireLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return List.of();
+        }
+
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+
+            var deleteArguments = new ArrayList<Object>(entityIds);
+            deleteArguments.add(now);
+            queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(entityIds.size()), deleteArguments.toArray());
+
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var leaseArguments = new ArrayList<>();
+            entityIds.forEach(entityId -> {
+                leaseArguments.add(entityId);
+                leaseArguments.add(UUID.randomUUID().toString());
+            });
+            leaseArguments.add(leaseHolder);
+            leaseArguments.add(now);
+            leaseArguments.add(duration);
+
+            var stmt = statements.getAcquireLeasesTemplate(entityIds.size());
+            try (var stream = queryExecutor.query(connection, false, r -> r.getString(1), stmt, leaseArguments.toArray())) {
+                return stream.toList();
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
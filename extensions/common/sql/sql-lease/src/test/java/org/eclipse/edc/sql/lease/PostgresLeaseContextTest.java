@@ -38,11 +38,15 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -162,7 +166,7 @@ class PostgresLeaseContextTest {
     @Test
     void acquireLease_whenExpiredLeasePresent_shouldDeleteOldLeaseAndAcquireNewLease(Connection connection) throws SQLException {
         var preparedStatementReference = new AtomicReference<PreparedStatement>();
-        when(connection.prepareStatement(dialect.getDeleteLeaseTemplate(), PreparedStatement.RETURN_GENERATED_KEYS)).thenAnswer((mocks) -> {
+        when(connection.prepareStatement(dialect.getDeleteLeaseTemplate())).thenAnswer((mocks) -> {
             PreparedStatement preparedStatement = (PreparedStatement) mocks.callRealMethod();
             PreparedStatement spy = spy(preparedStatement);
             preparedStatementReference.set(spy);
@@ -188,10 +192,89 @@ class PostgresLeaseContextTest {
         var newLease = twoMinutesAheadContext.getLease(entityId);
         assertThat(newLease).isNotNull();
         assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
-        verify(connection, times(2)).prepareStatement(dialect.getDeleteLeaseTemplate(), PreparedStatement.RETURN_GENERATED_KEYS);
+        verify(connection, times(2)).prepareStatement(dialect.getDeleteLeaseTemplate());
         verify(preparedStatementReference.get(), times(1)).setString(1, leaseId);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        var ids = List.of("id1", "id2", "id3");
+        ids.forEach(id -> insertTestEntity(id, connection));
+
+        var leased = leaseContext.acquireLeases(ids);
+
+        assertThat(leased).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(ids).allSatisfy(id -> {
+            assertThat(isLeased(id, connection)).isTrue();
+            var lease = leaseContext.getLease(id);
+            assertThat(lease).isNotNull();
+            assertThat(lease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+            assertThat(lease.getLeaseDuration()).isEqualTo(60_000L);
+        });
+        assertThat(ids.stream().map(id -> leaseContext.getLease(id).getLeaseId()).distinct()).hasSize(ids.size());
+    }
+
+    @Test
+    void acquireLeases_whenEmpty() {
+        assertThat(leaseContext.acquireLeases(List.of())).isEmpty();
+    }
+
+    @Test
+    void acquireLeases_shouldSkipLeasedEntities(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+        assertThat(leaseContext.getLease("id2")).extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldReplaceIt(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var oldLeaseId = leaseContext.getLease("id1").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+        var leased = twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        var newLease = twoMinutesAheadContext.getLease("id1");
+        assertThat(newLease).isNotNull();
+        assertThat(newLease.getLeaseId()).isNotEqualTo(oldLeaseId);
+        assertThat(newLease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_shouldUseConstantNumberOfStatements(Connection connection) throws SQLException {
+        var ids = IntStream.range(0, 20).mapToObj(i -> "id" + i).toList();
+        ids.forEach(id -> insertTestEntity(id, connection));
+        clearInvocations(connection);
+
+        ids.forEach(leaseContext::acquireLease);
+        var singleLeaseStatements = mockingDetails(connection).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("prepareStatement"))
+                .count();
+
+        var batchContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, Clock.offset(Clock.fixed(now, UTC), Duration.ofMinutes(2)), queryExecutor)
+                .withConnection(connection);
+        clearInvocations(connection);
+
+        var leased = batchContext.acquireLeases(ids);
+        var batchLeaseStatements = mockingDetails(connection).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("prepareStatement"))
+                .count();
+
+        assertThat(leased).hasSize(ids.size());
+        assertThat(singleLeaseStatements).isEqualTo(ids.size() * 3L);
+        assertThat(batchLeaseStatements).isEqualTo(2);
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -249,6 +332,16 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getDeleteExpiredLeasesTemplate(int count) {
+            return deleteExpiredLeasesTemplate(getEntityTableName(), "id", count);
+        }
+
+        @Override
+        public String getAcquireLeasesTemplate(int count) {
+            return acquireLeasesTemplate(getEntityTableName(), "id", count);
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
@@ -51,6 +51,21 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
         transaction.registerSynchronization(sync);
     }
 
+    @Override
+    public void afterCommit(Runnable action) {
+        var transaction = transactions.get();
+        if (transaction == null) {
+            action.run();
+        } else {
+            transaction.registerAfterCommit(action);
+        }
+    }
+
+    @Override
+    public boolean isActive() {
+        return transactions.get() != null;
+    }
+
     @Override
     public void execute(TransactionBlock block) {
         execute((ResultTransactionBlock<Void>) () -> {
@@ -83,6 +98,7 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
             if (startedTransaction) {
                 // notify syncs before resources are called
                 transaction.getSynchronizations().forEach(TransactionSynchronization::beforeCompletion);
+                var committed = false;
                 if (transaction.isRollbackOnly()) {
                     resources.forEach(localTransactionResource -> {
                         try {
@@ -92,15 +108,21 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                         }
                     });
                 } else {
-                    resources.forEach(localTransactionResource -> {
+                    committed = true;
+                    for (var localTransactionResource : resources) {
                         try {
                             localTransactionResource.commit();
                         } catch (Exception e) {
+                            committed = false;
                             monitor.severe("Error committing resource", e);
                         }
-                    });
+                    }
                 }
                 transactions.remove();
+                // after the transaction has been removed, so that the actions can start new ones
+                if (committed) {
+                    transaction.getAfterCommitActions().forEach(this::runAfterCommit);
+                }
             }
         }
     }
@@ -110,10 +132,19 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
         resources.add(resource);
     }
 
+    private void runAfterCommit(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            monitor.severe("Error running after commit action", e);
+        }
+    }
+
 
     private static class Transaction {
         private boolean rollbackOnly = false;
         private List<TransactionSynchronization> synchronizations;  // lazy instantiate the collection to avoid object creation if not needed
+        private List<Runnable> afterCommitActions;
 
         boolean isRollbackOnly() {
             return rollbackOnly;
@@ -133,5 +164,16 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
             }
             synchronizations.add(sync);
         }
+
+        List<Runnable> getAfterCommitActions() {
+            return afterCommitActions == null ? emptyList() : afterCommitActions;
+        }
+
+        void registerAfterCommit(Runnable action) {
+            if (afterCommitActions == null) {
+                afterCommitActions = new ArrayList<>();
+            }
+            afterCommitActions.add(action);
+        }
     }
 }
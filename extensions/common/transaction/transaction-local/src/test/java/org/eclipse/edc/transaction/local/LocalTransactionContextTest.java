@@ -22,11 +22,14 @@ import org.eclipse.edc.transaction.spi.local.LocalTransactionResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class LocalTransactionContextTest {
     private LocalTransactionContext transactionContext;
@@ -154,6 +157,50 @@ class LocalTransactionContextTest {
         verify(sync, times(1)).beforeCompletion();
     }
 
+    @Test
+    void verifyAfterCommit_calledOnceTheOuterTransactionCommits() {
+        var action = mock(Runnable.class);
+
+        transactionContext.execute(() -> {
+            transactionContext.execute(() -> transactionContext.afterCommit(action));
+            verifyNoInteractions(action);
+        });
+
+        var inOrder = inOrder(dsResource, action);
+        inOrder.verify(dsResource).commit();
+        inOrder.verify(action).run();
+    }
+
+    @Test
+    void verifyAfterCommit_notCalledOnRollback() {
+        var action = mock(Runnable.class);
+
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.afterCommit(action);
+            throw new RuntimeException();
+        }));
+
+        verifyNoInteractions(action);
+    }
+
+    @Test
+    void verifyAfterCommit_calledImmediatelyWithoutTransaction() {
+        var action = mock(Runnable.class);
+
+        transactionContext.afterCommit(action);
+
+        verify(action).run();
+    }
+
+    @Test
+    void verifyIsActive() {
+        assertThat(transactionContext.isActive()).isFalse();
+
+        transactionContext.execute(() -> assertThat(transactionContext.isActive()).isTrue());
+
+        assertThat(transactionContext.isActive()).isFalse();
+    }
+
     @BeforeEach
     void setUp() {
         transactionContext = new LocalTransactionContext(mock(Monitor.class));
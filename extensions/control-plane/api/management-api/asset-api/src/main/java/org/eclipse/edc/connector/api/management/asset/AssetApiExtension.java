@@ -22,13 +22,18 @@ import org.eclipse.edc.connector.api.management.asset.validation.AssetValidator;
 import org.eclipse.edc.connector.api.management.configuration.ManagementApiConfiguration;
 import org.eclipse.edc.connector.api.management.configuration.transform.ManagementApiTypeTransformerRegistry;
 import org.eclipse.edc.connector.spi.asset.AssetService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.WebService;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.eclipse.edc.spi.types.domain.DataAddress.EDC_DATA_ADDRESS_TYPE;
 import static org.eclipse.edc.spi.types.domain.asset.Asset.EDC_ASSET_TYPE;
 
@@ -52,6 +57,14 @@ public class AssetApiExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validator;
 
+    @Inject
+    private JsonLd jsonLd;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService bulkExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -64,6 +77,14 @@ public class AssetApiExtension implements ServiceExtension {
         validator.register(EDC_ASSET_TYPE, AssetValidator.instance());
         validator.register(EDC_DATA_ADDRESS_TYPE, DataAddressValidator.instance());
 
-        webService.registerResource(config.getContextAlias(), new AssetApiController(assetService, transformerRegistry, monitor, validator));
+        bulkExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()), "Asset bulk ingestion");
+        webService.registerResource(config.getContextAlias(), new AssetApiController(assetService, transformerRegistry, monitor, validator, jsonLd, bulkExecutor));
+    }
+
+    @Override
+    public void shutdown() {
+        if (bulkExecutor != null) {
+            bulkExecutor.shutdownNow();
+        }
     }
 }
@@ -28,6 +28,9 @@ import jakarta.json.JsonObject;
 import org.eclipse.edc.api.model.ApiCoreSchema;
 import org.eclipse.edc.connector.api.management.configuration.ManagementApiSchema;
 
+import java.io.InputStream;
+import java.util.List;
+
 import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
@@ -101,6 +104,83 @@ public interface AssetApi {
             })
     void updateAsset(JsonObject asset);
 
+    @Operation(description = "Creates several assets at once. Every asset is validated and stored independently, the response " +
+            "reports the outcome of each of them in the order they were received. The body is either a JSON array of assets or, " +
+            "with the 'application/x-ndjson' content type, a stream of assets, one per line, that is processed in chunks.",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = AssetInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of every asset",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray createAssets(JsonArray assets);
+
+    @Operation(description = "Creates several assets at once from a stream of assets, one per line",
+            requestBody = @RequestBody(content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = AssetInputSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of every asset",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkItemResultSchema.class))))
+            })
+    JsonArray createAssets(InputStream assets);
+
+    @Operation(description = "Creates or updates several assets at once. Every asset is validated and stored independently, the " +
+            "response reports the outcome of each of them in the order they were received. " +
+            "DANGER ZONE: Note that updating assets can have unexpected results, especially for contract offers that have been sent out or are ongoing in contract negotiations.",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = AssetInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of every asset",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray upsertAssets(JsonArray assets);
+
+    @Operation(description = "Creates or updates several assets at once from a stream of assets, one per line",
+            requestBody = @RequestBody(content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = AssetInputSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of every asset",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkItemResultSchema.class))))
+            })
+    JsonArray upsertAssets(InputStream assets);
+
+    @Schema(name = "BulkItemResult", example = BulkItemResultSchema.BULK_ITEM_RESULT_EXAMPLE)
+    record BulkItemResultSchema(
+            @Schema(name = ID)
+            String id,
+            @Schema(name = TYPE, example = "BulkItemResult")
+            String type,
+            int index,
+            boolean succeeded,
+            @Schema(description = "Why the item failed: UNEXPECTED marks server-side failures that may succeed when retried, " +
+                    "BAD_REQUEST marks invalid items", allowableValues = { "BAD_REQUEST", "CONFLICT", "NOT_FOUND", "UNEXPECTED" })
+            String reason,
+            List<String> errors,
+            long createdAt
+    ) {
+        public static final String BULK_ITEM_RESULT_EXAMPLE = """
+                [
+                    {
+                        "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                        "@id": "asset-id",
+                        "@type": "BulkItemResult",
+                        "index": 0,
+                        "succeeded": true,
+                        "createdAt": 1688465655
+                    },
+                    {
+                        "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                        "@id": "existing-asset-id",
+                        "@type": "BulkItemResult",
+                        "index": 1,
+                        "succeeded": false,
+                        "reason": "CONFLICT",
+                        "errors": [ "Asset with ID existing-asset-id already exists" ]
+                    }
+                ]
+                """;
+    }
+
     @Schema(name = "AssetInput", example = AssetInputSchema.ASSET_INPUT_EXAMPLE)
     record AssetInputSchema(
             @Schema(name = CONTEXT, requiredMode = REQUIRED)
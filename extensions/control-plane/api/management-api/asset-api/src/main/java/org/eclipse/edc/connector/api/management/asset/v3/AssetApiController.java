@@ -14,8 +14,12 @@
 
 package org.eclipse.edc.connector.api.management.asset.v3;
 
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -26,10 +30,13 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.spi.asset.AssetService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceFailure;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
@@ -37,9 +44,25 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.util.Optional.of;
+import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_CREATED_AT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.spi.types.domain.asset.Asset.EDC_ASSET_TYPE;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
@@ -48,17 +71,41 @@ import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMa
 @Produces(APPLICATION_JSON)
 @Path("/v3/assets")
 public class AssetApiController implements AssetApi {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    public static final String BULK_ITEM_RESULT_TYPE = EDC_NAMESPACE + "BulkItemResult";
+    public static final String BULK_ITEM_RESULT_INDEX = EDC_NAMESPACE + "index";
+    public static final String BULK_ITEM_RESULT_SUCCEEDED = EDC_NAMESPACE + "succeeded";
+    public static final String BULK_ITEM_RESULT_REASON = EDC_NAMESPACE + "reason";
+    public static final String BULK_ITEM_RESULT_ERRORS = EDC_NAMESPACE + "errors";
+
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final TypeTransformerRegistry transformerRegistry;
     private final AssetService service;
     private final Monitor monitor;
     private final JsonObjectValidatorRegistry validator;
+    private final JsonLd jsonLd;
+    private final Executor bulkExecutor;
+
+    public AssetApiController(AssetService service, TypeTransformerRegistry transformerRegistry,
+                              Monitor monitor, JsonObjectValidatorRegistry validator, JsonLd jsonLd) {
+        this(service, transformerRegistry, monitor, validator, jsonLd, Runnable::run);
+    }
 
+    /**
+     * Creates the controller.
+     *
+     * @param bulkExecutor the executor the items of the bulk requests are expanded, validated and transformed on.
+     */
     public AssetApiController(AssetService service, TypeTransformerRegistry transformerRegistry,
-                              Monitor monitor, JsonObjectValidatorRegistry validator) {
+                              Monitor monitor, JsonObjectValidatorRegistry validator, JsonLd jsonLd, Executor bulkExecutor) {
         this.transformerRegistry = transformerRegistry;
         this.service = service;
         this.monitor = monitor;
         this.validator = validator;
+        this.jsonLd = jsonLd;
+        this.bulkExecutor = bulkExecutor;
     }
 
     @POST
@@ -136,4 +183,147 @@ public class AssetApiController implements AssetApi {
                 .orElseThrow(exceptionMapper(Asset.class, assetResult.getId()));
     }
 
+    @POST
+    @Path("/bulk")
+    @Override
+    public JsonArray createAssets(JsonArray assetsJson) {
+        return ingest(assetsJson.stream().map(this::toJsonObject).iterator(), false);
+    }
+
+    @POST
+    @Path("/bulk")
+    @Consumes(APPLICATION_NDJSON)
+    @Override
+    public JsonArray createAssets(InputStream assetsNdjson) {
+        return ingest(assetsNdjson, false);
+    }
+
+    @PUT
+    @Path("/bulk")
+    @Override
+    public JsonArray upsertAssets(JsonArray assetsJson) {
+        return ingest(assetsJson.stream().map(this::toJsonObject).iterator(), true);
+    }
+
+    @PUT
+    @Path("/bulk")
+    @Consumes(APPLICATION_NDJSON)
+    @Override
+    public JsonArray upsertAssets(InputStream assetsNdjson) {
+        return ingest(assetsNdjson, true);
+    }
+
+    private JsonArray ingest(InputStream ndjson, boolean upsert) {
+        try (var reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            var items = reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .map(this::parseLine)
+                    .iterator();
+            return ingest(items, upsert);
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Stores the items in chunks, so that a streamed body is never fully held in memory, and reports a result for
+     * every item, in the order they were received.
+     */
+    private JsonArray ingest(Iterator<Result<JsonObject>> items, boolean upsert) {
+        var report = Json.createArrayBuilder();
+        var offset = 0;
+        while (items.hasNext()) {
+            var chunk = new ArrayList<Result<JsonObject>>(BULK_CHUNK_SIZE);
+            while (items.hasNext() && chunk.size() < BULK_CHUNK_SIZE) {
+                chunk.add(items.next());
+            }
+            ingestChunk(chunk, offset, upsert).forEach(report::add);
+            offset += chunk.size();
+        }
+        return report.build();
+    }
+
+    private List<JsonObject> ingestChunk(List<Result<JsonObject>> chunk, int offset, boolean upsert) {
+        var assets = chunk.stream()
+                .map(item -> CompletableFuture.supplyAsync(() -> item.compose(this::toAsset), bulkExecutor))
+                .toList().stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        var validAssets = assets.stream().filter(Result::succeeded).map(Result::getContent).toList();
+        List<ServiceResult<Asset>> stored = validAssets.isEmpty() ? List.of() :
+                upsert ? service.upsertAll(validAssets) : service.createAll(validAssets);
+
+        var storedResults = stored.iterator();
+        var report = new ArrayList<JsonObject>(chunk.size());
+        for (var i = 0; i < chunk.size(); i++) {
+            var asset = assets.get(i);
+            if (asset.failed()) {
+                var id = chunk.get(i).succeeded() ? idOf(chunk.get(i).getContent()) : null;
+                report.add(failedItem(offset + i, id, ServiceFailure.Reason.BAD_REQUEST, asset.getFailureMessages()));
+                continue;
+            }
+            var result = storedResults.next();
+            if (result.succeeded()) {
+                report.add(succeededItem(offset + i, result.getContent()));
+            } else {
+                report.add(failedItem(offset + i, asset.getContent().getId(), result.reason(), result.getFailureMessages()));
+            }
+        }
+        return report;
+    }
+
+    private Result<Asset> toAsset(JsonObject assetJson) {
+        var expanded = jsonLd.expand(assetJson);
+        if (expanded.failed()) {
+            return expanded.mapTo();
+        }
+
+        var validation = validator.validate(EDC_ASSET_TYPE, expanded.getContent());
+        if (validation.failed()) {
+            return validation.toResult().mapTo();
+        }
+
+        return transformerRegistry.transform(expanded.getContent(), Asset.class);
+    }
+
+    private Result<JsonObject> toJsonObject(JsonValue value) {
+        return value instanceof JsonObject jsonObject ? Result.success(jsonObject) : Result.failure("Item is not a JSON object");
+    }
+
+    private Result<JsonObject> parseLine(String line) {
+        try (var reader = Json.createReader(new StringReader(line))) {
+            return Result.success(reader.readObject());
+        } catch (JsonException | IllegalStateException e) {
+            return Result.failure("Item is not a valid JSON object: " + e.getMessage());
+        }
+    }
+
+    private String idOf(JsonObject assetJson) {
+        return assetJson.get(ID) instanceof JsonString id ? id.getString() : null;
+    }
+
+    private JsonObject succeededItem(int index, Asset asset) {
+        return Json.createObjectBuilder()
+                .add(TYPE, BULK_ITEM_RESULT_TYPE)
+                .add(ID, asset.getId())
+                .add(BULK_ITEM_RESULT_INDEX, index)
+                .add(BULK_ITEM_RESULT_SUCCEEDED, true)
+                .add(ID_RESPONSE_CREATED_AT, asset.getCreatedAt())
+                .build();
+    }
+
+    private JsonObject failedItem(int index, String id, ServiceFailure.Reason reason, List<String> errors) {
+        var builder = Json.createObjectBuilder()
+                .add(TYPE, BULK_ITEM_RESULT_TYPE)
+                .add(BULK_ITEM_RESULT_INDEX, index)
+                .add(BULK_ITEM_RESULT_SUCCEEDED, false)
+                .add(BULK_ITEM_RESULT_REASON, reason.name())
+                .add(BULK_ITEM_RESULT_ERRORS, Json.createArrayBuilder(errors));
+        if (id != null) {
+            builder.add(ID, id);
+        }
+        return builder.build();
+    }
+
 }
@@ -19,10 +19,12 @@ import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.spi.asset.AssetService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -32,14 +34,20 @@ import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_CREATED_AT;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_TYPE;
+import static org.eclipse.edc.connector.api.management.asset.v3.AssetApiController.APPLICATION_NDJSON;
+import static org.eclipse.edc.connector.api.management.asset.v3.AssetApiController.BULK_ITEM_RESULT_INDEX;
+import static org.eclipse.edc.connector.api.management.asset.v3.AssetApiController.BULK_ITEM_RESULT_REASON;
+import static org.eclipse.edc.connector.api.management.asset.v3.AssetApiController.BULK_ITEM_RESULT_SUCCEEDED;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
@@ -72,9 +80,11 @@ class AssetApiControllerTest extends RestControllerTestBase {
     private final AssetService service = mock(AssetService.class);
     private final TypeTransformerRegistry transformerRegistry = mock(TypeTransformerRegistry.class);
     private final JsonObjectValidatorRegistry validator = mock(JsonObjectValidatorRegistry.class);
+    private final JsonLd jsonLd = mock();
 
     @BeforeEach
     void setup() {
+        when(jsonLd.expand(any())).thenAnswer(a -> Result.success(a.getArgument(0)));
         when(transformerRegistry.transform(isA(JsonObject.class), eq(DataAddress.class))).thenReturn(Result.success(DataAddress.Builder.newInstance().type("test-type").build()));
         when(transformerRegistry.transform(isA(IdResponse.class), eq(JsonObject.class))).thenAnswer(a -> {
             var idResponse = (IdResponse) a.getArgument(0);
@@ -403,9 +413,87 @@ class AssetApiControllerTest extends RestControllerTestBase {
         verifyNoInteractions(service, transformerRegistry);
     }
 
+    @Test
+    void createAssets_shouldReportResultOfEveryItem() {
+        var asset = createAssetBuilder().dataAddress(DataAddress.Builder.newInstance().type("any").build()).build();
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(Asset.class))).thenReturn(Result.success(asset));
+        when(service.createAll(any())).thenReturn(List.of(ServiceResult.success(asset), ServiceResult.conflict("already exists")));
+
+        baseRequest()
+                .body(createArrayBuilder().add(createAssetJson()).add(createAssetJson()).build().toString())
+                .contentType(JSON)
+                .post("/assets/bulk")
+                .then()
+                .statusCode(200)
+                .body("size()", is(2))
+                .body(bulkField(0, BULK_ITEM_RESULT_SUCCEEDED), is(true))
+                .body(bulkField(1, BULK_ITEM_RESULT_SUCCEEDED), is(false))
+                .body(bulkField(1, BULK_ITEM_RESULT_INDEX), is(1))
+                .body(bulkField(1, BULK_ITEM_RESULT_REASON), is("CONFLICT"));
+        verify(service).createAll(argThat(assets -> assets.size() == 2));
+    }
+
+    @Test
+    void createAssets_shouldReportUnexpectedReason_whenItemCannotBeStored() {
+        var asset = createAssetBuilder().dataAddress(DataAddress.Builder.newInstance().type("any").build()).build();
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(Asset.class))).thenReturn(Result.success(asset));
+        when(service.createAll(any())).thenReturn(List.of(ServiceResult.fromFailure(StoreResult.generalError("store unavailable"))));
+
+        baseRequest()
+                .body(createArrayBuilder().add(createAssetJson()).build().toString())
+                .contentType(JSON)
+                .post("/assets/bulk")
+                .then()
+                .statusCode(200)
+                .body(bulkField(0, BULK_ITEM_RESULT_SUCCEEDED), is(false))
+                .body(bulkField(0, BULK_ITEM_RESULT_REASON), is("UNEXPECTED"));
+    }
+
+    @Test
+    void createAssets_shouldNotStoreInvalidItems() {
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.failure(violation("validation failure", "path")));
+
+        baseRequest()
+                .body(createArrayBuilder().add(createAssetJson()).add("not an object").build().toString())
+                .contentType(JSON)
+                .post("/assets/bulk")
+                .then()
+                .statusCode(200)
+                .body("size()", is(2))
+                .body(bulkField(0, BULK_ITEM_RESULT_REASON), is("BAD_REQUEST"))
+                .body(bulkField(0, ID), is(TEST_ASSET_ID))
+                .body(bulkField(1, BULK_ITEM_RESULT_REASON), is("BAD_REQUEST"));
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void upsertAssets_shouldReadNdjsonStream() {
+        var asset = createAssetBuilder().dataAddress(DataAddress.Builder.newInstance().type("any").build()).build();
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(Asset.class))).thenReturn(Result.success(asset));
+        when(service.upsertAll(any())).thenReturn(List.of(ServiceResult.success(asset)));
+
+        baseRequest()
+                .body(createAssetJson().build() + "\n\n{ invalid json\n")
+                .contentType(APPLICATION_NDJSON)
+                .put("/assets/bulk")
+                .then()
+                .statusCode(200)
+                .body("size()", is(2))
+                .body(bulkField(0, BULK_ITEM_RESULT_SUCCEEDED), is(true))
+                .body(bulkField(1, BULK_ITEM_RESULT_REASON), is("BAD_REQUEST"));
+        verify(service).upsertAll(List.of(asset));
+    }
+
     @Override
     protected Object controller() {
-        return new AssetApiController(service, transformerRegistry, monitor, validator);
+        return new AssetApiController(service, transformerRegistry, monitor, validator, jsonLd);
+    }
+
+    private String bulkField(int index, String field) {
+        return "[%d]['%s']".formatted(index, field);
     }
 
     private JsonObjectBuilder createAssetJson() {
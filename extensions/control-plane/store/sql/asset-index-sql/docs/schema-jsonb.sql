@@ -0,0 +1,34 @@
+--
+--  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+--
+
+-- THIS SCHEMA HAS BEEN WRITTEN AND TESTED ONLY FOR POSTGRES
+-- to be used with edc.sql.store.asset.jsonb=true
+
+-- table: edc_asset
+CREATE TABLE IF NOT EXISTS edc_asset
+(
+    asset_id           VARCHAR NOT NULL,
+    created_at         BIGINT  NOT NULL,
+    properties         JSONB   DEFAULT '{}',
+    private_properties JSONB   DEFAULT '{}',
+    data_address       JSONB   DEFAULT '{}',
+    PRIMARY KEY (asset_id)
+);
+
+COMMENT ON COLUMN edc_asset.properties IS 'Asset properties serialized as JSONB';
+COMMENT ON COLUMN edc_asset.private_properties IS 'Asset private properties serialized as JSONB';
+COMMENT ON COLUMN edc_asset.data_address IS 'Asset DataAddress serialized as JSONB';
+
+CREATE INDEX IF NOT EXISTS edc_asset_properties_idx ON edc_asset USING GIN (properties jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS edc_asset_private_properties_idx ON edc_asset USING GIN (private_properties jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS edc_asset_data_address_idx ON edc_asset USING GIN (data_address jsonb_path_ops);
@@ -28,4 +28,10 @@ public interface ConfigurationKeys {
     @Setting(required = true)
     String DATASOURCE_SETTING_NAME = "edc.datasource.asset.name";
 
+    /**
+     * Whether the asset table has the JSONB schema, see {@code docs/schema-jsonb.sql}.
+     */
+    @Setting(value = "Whether the asset table has the JSONB schema with GIN indexes", type = "boolean", defaultValue = "false")
+    String JSONB_SETTING_NAME = "edc.sql.store.asset.jsonb";
+
 }
@@ -34,9 +34,13 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -44,6 +48,10 @@ import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
 
+    private static final int ID_QUERY_CHUNK_SIZE = 1000;
+    private static final String DUPLICATE_ASSET_TEMPLATE = "Asset with ID %s appears more than once in the request";
+    private static final String ASSET_STORE_FAILED_TEMPLATE = "Asset with ID %s could not be stored: %s";
+
     private final AssetStatements assetStatements;
 
     public SqlAssetIndex(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
@@ -167,11 +175,152 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
+    @Override
+    public List<StoreResult<Asset>> createAll(List<Asset> assets) {
+        return storeAll(assets, false);
+    }
+
+    @Override
+    public List<StoreResult<Asset>> upsertAll(List<Asset> assets) {
+        return storeAll(assets, true);
+    }
+
     @Override
     public DataAddress resolveForAsset(String assetId) {
         return Optional.ofNullable(findById(assetId)).map(Asset::getDataAddress).orElse(null);
     }
 
+    /**
+     * Stores the assets in a single transaction: the existing ids are fetched with a few {@code IN} queries, then the
+     * new assets are inserted and, if requested, the existing ones are updated, each in a single JDBC batch.
+     * <p>
+     * If a batch fails, e.g. because of an invalid item or of an asset created concurrently, the batches are rolled back
+     * to a savepoint and the assets are stored one by one, each under its own savepoint, so that only the failing items
+     * are reported as failed.
+     */
+    private List<StoreResult<Asset>> storeAll(List<Asset> assets, boolean update) {
+        Objects.requireNonNull(assets);
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existingIds = findExistingIds(assets.stream().map(Asset::getId).distinct().toList(), connection);
+                var processedIds = new HashSet<String>();
+                var inserts = new ArrayList<Object[]>();
+                var updates = new ArrayList<Object[]>();
+                var results = new ArrayList<StoreResult<Asset>>(assets.size());
+
+                for (var asset : assets) {
+                    var assetId = asset.getId();
+                    if (!processedIds.add(assetId)) {
+                        results.add(StoreResult.duplicateKeys(format(DUPLICATE_ASSET_TEMPLATE, assetId)));
+                    } else if (!existingIds.contains(assetId)) {
+                        inserts.add(new Object[]{
+                                assetId,
+                                asset.getCreatedAt(),
+                                toJson(asset.getProperties()),
+                                toJson(asset.getPrivateProperties()),
+                                toJson(asset.getDataAddress().getProperties())
+                        });
+                        results.add(StoreResult.success(asset));
+                    } else if (update) {
+                        updates.add(new Object[]{
+                                toJson(asset.getProperties()),
+                                toJson(asset.getPrivateProperties()),
+                                toJson(asset.getDataAddress().getProperties()),
+                                assetId
+                        });
+                        results.add(StoreResult.success(asset));
+                    } else {
+                        results.add(StoreResult.alreadyExists(format(ASSET_EXISTS_TEMPLATE, assetId)));
+                    }
+                }
+
+                var batched = withSavepoint(connection, () -> {
+                    queryExecutor.executeBatch(connection, assetStatements.getInsertAssetTemplate(), inserts);
+                    queryExecutor.executeBatch(connection, assetStatements.getUpdateAssetTemplate(), updates);
+                });
+                if (batched.succeeded()) {
+                    return results;
+                }
+
+                processedIds.clear();
+                return assets.stream()
+                        .map(asset -> processedIds.add(asset.getId())
+                                ? storeOne(asset, update, connection)
+                                : StoreResult.<Asset>duplicateKeys(format(DUPLICATE_ASSET_TEMPLATE, asset.getId())))
+                        .toList();
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private StoreResult<Asset> storeOne(Asset asset, boolean update, Connection connection) {
+        var assetId = asset.getId();
+        var result = new AtomicReference<StoreResult<Asset>>(StoreResult.success(asset));
+        var stored = withSavepoint(connection, () -> {
+            if (!existsById(assetId, connection)) {
+                queryExecutor.execute(connection, assetStatements.getInsertAssetTemplate(),
+                        assetId,
+                        asset.getCreatedAt(),
+                        toJson(asset.getProperties()),
+                        toJson(asset.getPrivateProperties()),
+                        toJson(asset.getDataAddress().getProperties()));
+            } else if (update) {
+                queryExecutor.execute(connection, assetStatements.getUpdateAssetTemplate(),
+                        toJson(asset.getProperties()),
+                        toJson(asset.getPrivateProperties()),
+                        toJson(asset.getDataAddress().getProperties()),
+                        assetId);
+            } else {
+                result.set(StoreResult.alreadyExists(format(ASSET_EXISTS_TEMPLATE, assetId)));
+            }
+        });
+        return stored.succeeded() ? result.get() : StoreResult.generalError(format(ASSET_STORE_FAILED_TEMPLATE, assetId, stored.getFailureDetail()));
+    }
+
+    /**
+     * Runs the statements under a savepoint, and rolls back to it if they fail. Without an ongoing transaction, every
+     * statement is atomic on its own and no savepoint is needed.
+     *
+     * @return the failure of the statements, if any.
+     */
+    private StoreResult<Void> withSavepoint(Connection connection, Runnable statements) {
+        try {
+            var savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try {
+                statements.run();
+            } catch (EdcPersistenceException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                return StoreResult.generalError(e.getMessage());
+            }
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return StoreResult.success();
+        } catch (SQLException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    private Set<String> findExistingIds(List<String> assetIds, Connection connection) {
+        var existingIds = new HashSet<String>();
+        for (var i = 0; i < assetIds.size(); i += ID_QUERY_CHUNK_SIZE) {
+            var chunk = assetIds.subList(i, Math.min(i + ID_QUERY_CHUNK_SIZE, assetIds.size()));
+            var sql = assetStatements.getSelectAssetIdsTemplate(chunk.size());
+            try (var stream = queryExecutor.query(connection, false, this::mapAssetId, sql, chunk.toArray())) {
+                stream.forEach(existingIds::add);
+            }
+        }
+        return existingIds;
+    }
+
+    private String mapAssetId(ResultSet resultSet) throws SQLException {
+        return resultSet.getString(assetStatements.getAssetIdColumn());
+    }
+
     private int mapRowCount(ResultSet resultSet) throws SQLException {
         return resultSet.getInt(assetStatements.getCountVariableName());
     }
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.store.sql.assetindex;
 
 import org.eclipse.edc.connector.store.sql.assetindex.schema.AssetStatements;
 import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresJsonbDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
@@ -52,13 +53,16 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var dataSourceName = context.getConfig().getString(ConfigurationKeys.DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
 
-        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(), queryExecutor);
+        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(context), queryExecutor);
 
         context.registerService(AssetIndex.class, sqlAssetLoader);
         context.registerService(DataAddressResolver.class, sqlAssetLoader);
     }
 
-    private AssetStatements getDialect() {
-        return dialect != null ? dialect : new PostgresDialectStatements();
+    private AssetStatements getDialect(ServiceExtensionContext context) {
+        if (dialect != null) {
+            return dialect;
+        }
+        return context.getSetting(ConfigurationKeys.JSONB_SETTING_NAME, false) ? new PostgresJsonbDialectStatements() : new PostgresDialectStatements();
     }
 }
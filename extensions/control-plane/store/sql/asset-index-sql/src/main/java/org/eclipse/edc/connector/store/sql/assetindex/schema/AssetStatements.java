@@ -131,6 +131,13 @@ public interface AssetStatements extends SqlStatements {
      */
     String getCountAssetByIdClause();
 
+    /**
+     * SELECT clause for the ids of the assets that match any of the given number of ids.
+     *
+     * @param count the number of id parameters of the IN clause.
+     */
+    String getSelectAssetIdsTemplate(int count);
+
     /**
      * SELECT clause for all assets.
      */
@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.Collections;
 import java.util.List;
 
 import static java.lang.String.format;
@@ -55,6 +56,15 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 getAssetIdColumn());
     }
 
+    @Override
+    public String getSelectAssetIdsTemplate(int count) {
+        return format("SELECT %s FROM %s WHERE %s IN (%s)",
+                getAssetIdColumn(),
+                getAssetTable(),
+                getAssetIdColumn(),
+                String.join(",", Collections.nCopies(count, "?")));
+    }
+
     @Override
     public String getSelectAssetTemplate() {
         return format("SELECT * FROM %s AS a", getAssetTable());
@@ -15,9 +15,15 @@
 package org.eclipse.edc.connector.store.sql.assetindex.schema.postgres;
 
 import org.eclipse.edc.connector.store.sql.assetindex.schema.AssetStatements;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.types.PathItem;
 import org.eclipse.edc.sql.translation.JsonFieldMapping;
+import org.eclipse.edc.sql.translation.JsonbFieldMapping;
+import org.eclipse.edc.sql.translation.SqlConditionExpression;
 import org.eclipse.edc.sql.translation.TranslationMapping;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
 
 /**
  * Maps fields of a {@link org.eclipse.edc.spi.types.domain.asset.Asset} onto the
@@ -26,11 +32,23 @@ import org.eclipse.edc.sql.translation.TranslationMapping;
 public class AssetMapping extends TranslationMapping {
 
     public AssetMapping(AssetStatements statements) {
+        this(statements, false);
+    }
+
+    /**
+     * Creates the mapping.
+     *
+     * @param statements the statements.
+     * @param jsonb      whether the JSON columns are of type {@code JSONB}, so criteria are translated into
+     *                   containment conditions that can be served by a GIN index.
+     */
+    public AssetMapping(AssetStatements statements, boolean jsonb) {
+        Function<String, JsonFieldMapping> jsonField = jsonb ? JsonbFieldMapping::new : JsonFieldMapping::new;
         add("id", statements.getAssetIdColumn());
         add("createdAt", statements.getCreatedAtColumn());
-        add("properties", new JsonFieldMapping(statements.getPropertiesColumn()));
-        add("privateProperties", new JsonFieldMapping(statements.getPrivatePropertiesColumn()));
-        add("dataAddress", new JsonFieldMapping(statements.getDataAddressColumn()));
+        add("properties", jsonField.apply(statements.getPropertiesColumn()));
+        add("privateProperties", jsonField.apply(statements.getPrivatePropertiesColumn()));
+        add("dataAddress", jsonField.apply(statements.getDataAddressColumn()));
     }
 
     @Override
@@ -38,13 +56,26 @@ public class AssetMapping extends TranslationMapping {
         var standardPath = getStatement(PathItem.parse(canonicalPropertyName), type);
 
         if (standardPath == null) {
-            var amendedCanonicalPropertyName = canonicalPropertyName.contains("'")
-                    ? "properties.%s".formatted(canonicalPropertyName)
-                    : "properties.'%s'".formatted(canonicalPropertyName);
-            return getStatement(amendedCanonicalPropertyName, type);
+            return getStatement(toPropertiesPath(canonicalPropertyName), type);
         }
 
         return standardPath;
     }
 
+    @Override
+    public @Nullable SqlConditionExpression getConditionExpression(Criterion criterion) {
+        var canonicalPropertyName = criterion.getOperandLeft().toString();
+        var path = PathItem.parse(canonicalPropertyName);
+        if (fieldMap.containsKey(path.get(0).toString())) {
+            return getConditionExpression(path, criterion);
+        }
+        return getConditionExpression(PathItem.parse(toPropertiesPath(canonicalPropertyName)), criterion);
+    }
+
+    private String toPropertiesPath(String canonicalPropertyName) {
+        return canonicalPropertyName.contains("'")
+                ? "properties.%s".formatted(canonicalPropertyName)
+                : "properties.'%s'".formatted(canonicalPropertyName);
+    }
+
 }
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.assetindex.schema.postgres;
+
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+/**
+ * Postgres statements for the {@code JSONB} schema (see {@code docs/schema-jsonb.sql}): criteria on the asset
+ * properties, private properties and data address are translated into containment conditions that can be served by
+ * the GIN indexes of the columns.
+ */
+public class PostgresJsonbDialectStatements extends PostgresDialectStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonbCastOperator();
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        return new SqlQueryStatement(getSelectAssetTemplate(), querySpec, new AssetMapping(this, true));
+    }
+}
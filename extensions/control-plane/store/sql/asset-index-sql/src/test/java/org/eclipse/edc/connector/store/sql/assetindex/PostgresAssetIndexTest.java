@@ -20,17 +20,31 @@ import org.eclipse.edc.connector.store.sql.assetindex.schema.BaseSqlDialectState
 import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.testfixtures.asset.AssetIndexTestBase;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.result.StoreFailure.Reason.GENERAL_ERROR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -39,14 +53,16 @@ class PostgresAssetIndexTest extends AssetIndexTestBase {
     private final BaseSqlDialectStatements sqlStatements = new PostgresDialectStatements();
 
     private SqlAssetIndex sqlAssetIndex;
+    private QueryExecutor queryExecutor;
 
     @BeforeEach
     void setUp(PostgresqlStoreSetupExtension setupExtension, QueryExecutor queryExecutor) throws IOException {
+        this.queryExecutor = spy(queryExecutor);
         var typeManager = new TypeManager();
         typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
 
         sqlAssetIndex = new SqlAssetIndex(setupExtension.getDataSourceRegistry(), setupExtension.getDatasourceName(),
-                setupExtension.getTransactionContext(), new ObjectMapper(), sqlStatements, queryExecutor);
+                setupExtension.getTransactionContext(), new ObjectMapper(), sqlStatements, this.queryExecutor);
 
         var schema = Files.readString(Paths.get("docs/schema.sql"));
         setupExtension.runQuery(schema);
@@ -57,9 +73,35 @@ class PostgresAssetIndexTest extends AssetIndexTestBase {
         setupExtension.runQuery("DROP TABLE " + sqlStatements.getAssetTable() + " CASCADE");
     }
 
+    @Test
+    void createAll_shouldStoreAssetsOneByOne_whenBatchFails() {
+        doThrow(new EdcPersistenceException("batch failed")).when(queryExecutor).executeBatch(any(), any(), any());
+        doAnswer(invocation -> {
+            if (Arrays.asList(invocation.getArguments()).contains("invalid")) {
+                throw new EdcPersistenceException("insert failed");
+            }
+            return invocation.callRealMethod();
+        }).when(queryExecutor).execute(any(), any(), any(Object[].class));
+
+        var results = sqlAssetIndex.createAll(List.of(asset("id1"), asset("invalid"), asset("id2")));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).succeeded()).isTrue();
+        assertThat(results.get(1).failed()).isTrue();
+        assertThat(results.get(1).reason()).isEqualTo(GENERAL_ERROR);
+        assertThat(results.get(2).succeeded()).isTrue();
+        assertThat(sqlAssetIndex.queryAssets(QuerySpec.none())).extracting(Asset::getId).containsExactlyInAnyOrder("id1", "id2");
+    }
+
     @Override
     protected SqlAssetIndex getAssetIndex() {
         return sqlAssetIndex;
     }
 
+    private Asset asset(String id) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .dataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .build();
+    }
 }
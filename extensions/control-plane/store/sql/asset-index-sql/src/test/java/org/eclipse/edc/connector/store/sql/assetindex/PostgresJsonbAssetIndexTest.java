@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.assetindex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.store.sql.assetindex.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresJsonbDialectStatements;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.testfixtures.asset.AssetIndexTestBase;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresJsonbAssetIndexTest extends AssetIndexTestBase {
+
+    private final BaseSqlDialectStatements sqlStatements = new PostgresJsonbDialectStatements();
+
+    private SqlAssetIndex sqlAssetIndex;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension setupExtension, QueryExecutor queryExecutor) throws IOException {
+        var typeManager = new TypeManager();
+        typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
+
+        sqlAssetIndex = new SqlAssetIndex(setupExtension.getDataSourceRegistry(), setupExtension.getDatasourceName(),
+                setupExtension.getTransactionContext(), new ObjectMapper(), sqlStatements, queryExecutor);
+
+        var schema = Files.readString(Paths.get("docs/schema-jsonb.sql"));
+        setupExtension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension setupExtension) {
+        setupExtension.runQuery("DROP TABLE " + sqlStatements.getAssetTable() + " CASCADE");
+    }
+
+    @Override
+    protected SqlAssetIndex getAssetIndex() {
+        return sqlAssetIndex;
+    }
+
+}
@@ -0,0 +1,26 @@
+--
+--  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+--
+
+-- THIS SCHEMA HAS BEEN WRITTEN AND TESTED ONLY FOR POSTGRES
+-- to be used with edc.sql.store.contractdefinition.jsonb=true
+
+CREATE TABLE IF NOT EXISTS edc_contract_definitions
+(
+    created_at             BIGINT  NOT NULL,
+    contract_definition_id VARCHAR NOT NULL,
+    access_policy_id       VARCHAR NOT NULL,
+    contract_policy_id     VARCHAR NOT NULL,
+    assets_selector        JSONB   NOT NULL,
+    private_properties     JSONB,
+    PRIMARY KEY (contract_definition_id)
+);
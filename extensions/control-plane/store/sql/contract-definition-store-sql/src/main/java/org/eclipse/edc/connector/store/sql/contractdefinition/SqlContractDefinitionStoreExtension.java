@@ -19,6 +19,7 @@ package org.eclipse.edc.connector.store.sql.contractdefinition;
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
 import org.eclipse.edc.connector.store.sql.contractdefinition.schema.ContractDefinitionStatements;
 import org.eclipse.edc.connector.store.sql.contractdefinition.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.store.sql.contractdefinition.schema.postgres.PostgresJsonbDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
@@ -40,6 +41,9 @@ public class SqlContractDefinitionStoreExtension implements ServiceExtension {
     @Setting(required = true)
     public static final String DATASOURCE_SETTING_NAME = "edc.datasource.contractdefinition.name";
 
+    @Setting(value = "Whether the contract definition table has the JSONB schema", type = "boolean", defaultValue = "false")
+    public static final String JSONB_SETTING_NAME = "edc.sql.store.contractdefinition.jsonb";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -60,13 +64,16 @@ public class SqlContractDefinitionStoreExtension implements ServiceExtension {
         var dataSourceName = context.getConfig().getString(DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
 
         var sqlContractDefinitionStore = new SqlContractDefinitionStore(dataSourceRegistry, dataSourceName, transactionContext,
-                getStatementImpl(), typeManager.getMapper(), queryExecutor);
+                getStatementImpl(context), typeManager.getMapper(), queryExecutor);
 
         context.registerService(ContractDefinitionStore.class, sqlContractDefinitionStore);
     }
 
-    private ContractDefinitionStatements getStatementImpl() {
-        return statements == null ? new PostgresDialectStatements() : statements;
+    private ContractDefinitionStatements getStatementImpl(ServiceExtensionContext context) {
+        if (statements != null) {
+            return statements;
+        }
+        return context.getSetting(JSONB_SETTING_NAME, false) ? new PostgresJsonbDialectStatements() : new PostgresDialectStatements();
     }
 
 }
@@ -19,8 +19,6 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.dialect.PostgresDialect;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
-import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonArrayTemplate;
-
 /**
  * Contains Postgres-specific SQL statements
  */
@@ -41,5 +39,11 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return super.createQuery(querySpec);
     }
 
+    /**
+     * Creates a SELECT statement that expands the elements of a JSON array column under an alias.
+     */
+    protected String getSelectFromJsonArrayTemplate(String selectStatement, String jsonPath, String aliasName) {
+        return PostgresDialect.getSelectFromJsonArrayTemplate(selectStatement, jsonPath, aliasName);
+    }
 
 }
@@ -15,27 +15,40 @@
 package org.eclipse.edc.connector.store.sql.contractnegotiation;
 
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.SqlContractNegotiationStore;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.ContractNegotiationStatements;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.EntityCache;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 
 @Provides({ ContractNegotiationStore.class })
 @Extension(value = "SQL contract negotiation store")
 public class SqlContractNegotiationStoreExtension implements ServiceExtension {
 
+    private static final int DEFAULT_CACHE_SIZE = 0;
+    private static final long DEFAULT_CACHE_TTL_MILLIS = 10_000L;
+
     public static final String DATASOURCE_NAME_SETTING = "edc.datasource.contractnegotiation.name";
 
+    @Setting(value = "Maximum number of contract negotiations kept in the lookup cache, 0 disables the cache", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    public static final String CACHE_SIZE_SETTING = "edc.datasource.contractnegotiation.cache.size";
+
+    @Setting(value = "Time-to-live of the entries of the contract negotiation lookup cache in milliseconds", type = "long", defaultValue = DEFAULT_CACHE_TTL_MILLIS + "")
+    public static final String CACHE_TTL_SETTING = "edc.datasource.contractnegotiation.cache.ttl-millis";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -57,10 +70,19 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var sqlStore = new SqlContractNegotiationStore(dataSourceRegistry, getDataSourceName(context), trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor, createCache(context));
         context.registerService(ContractNegotiationStore.class, sqlStore);
     }
 
+    private EntityCache<ContractNegotiation> createCache(ServiceExtensionContext context) {
+        var size = context.getSetting(CACHE_SIZE_SETTING, DEFAULT_CACHE_SIZE);
+        if (size <= 0) {
+            return EntityCache.disabled();
+        }
+        var timeToLive = Duration.ofMillis(context.getSetting(CACHE_TTL_SETTING, DEFAULT_CACHE_TTL_MILLIS));
+        return new EntityCache<>(size, timeToLive, clock, ContractNegotiation::getId, ContractNegotiation::getCorrelationId, ContractNegotiation::copy);
+    }
+
     /**
      * returns an externally-provided sql statement dialect, or postgres as a default
      */
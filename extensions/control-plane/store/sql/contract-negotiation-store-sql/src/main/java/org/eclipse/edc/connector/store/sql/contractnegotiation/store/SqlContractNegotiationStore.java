@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiat
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.ContractNegotiationStatements;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.persistence.StateChangeListener;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -29,6 +30,7 @@ import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.ResultSetMapper;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.store.EntityCache;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
@@ -40,6 +42,7 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -54,22 +57,38 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     private final ContractNegotiationStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<StateChangeListener> stateChangeListeners = new CopyOnWriteArrayList<>();
+    private final EntityCache<ContractNegotiation> cache;
 
     public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
                                        ContractNegotiationStatements statements, String connectorId, Clock clock,
                                        QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, connectorId, clock,
+                queryExecutor, EntityCache.disabled());
+    }
+
+    public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                       TransactionContext transactionContext, ObjectMapper objectMapper,
+                                       ContractNegotiationStatements statements, String connectorId, Clock clock,
+                                       QueryExecutor queryExecutor, EntityCache<ContractNegotiation> cache) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
+        this.cache = cache;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, connectorId, statements, clock, queryExecutor);
     }
 
     @Override
     public @Nullable ContractNegotiation findById(String negotiationId) {
+        var cached = cache.get(negotiationId);
+        if (cached != null) {
+            return cached;
+        }
+        var version = cache.version();
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                return findInternal(connection, negotiationId);
+                return cached(findInternal(connection, negotiationId), version);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -78,11 +97,16 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     @Override
     public @Nullable ContractNegotiation findForCorrelationId(String correlationId) {
+        var cached = cache.getByCorrelationId(correlationId);
+        if (cached != null) {
+            return cached;
+        }
+        var version = cache.version();
         return transactionContext.execute(() -> {
             // utilize the generic query api
             var query = correlationIdQuerySpec(correlationId);
             try (var stream = queryNegotiations(query)) {
-                return single(stream.collect(toList()));
+                return cached(single(stream.collect(toList())), version);
             }
         });
     }
@@ -103,18 +127,35 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         var id = negotiation.getId();
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findInternal(connection, id);
-                if (existing == null) {
-                    insert(connection, negotiation);
-                } else {
-                    leaseContext.withConnection(connection).breakLease(id);
-                    update(connection, id, negotiation);
+                leaseContext.withConnection(connection).breakLease(id);
+                var agreement = negotiation.getContractAgreement();
+                if (agreement != null) {
+                    upsertAgreement(connection, agreement);
+                }
+                var previousState = upsert(connection, negotiation);
+                if (previousState == null || previousState != negotiation.getState()) {
+                    notifyStateChanged(negotiation.getState());
                 }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
+            } finally {
+                invalidate(id);
             }
         });
+    }
 
+    @Override
+    public void registerStateChangeListener(StateChangeListener listener) {
+        stateChangeListeners.add(listener);
+    }
+
+    /**
+     * Notifies the listeners once the transaction commits, so that the woken state machine finds the entity.
+     */
+    private void notifyStateChanged(int state) {
+        if (!stateChangeListeners.isEmpty()) {
+            transactionContext.afterCommit(() -> stateChangeListeners.forEach(listener -> listener.stateChanged(state)));
+        }
     }
 
     @Override
@@ -141,6 +182,8 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     // return existing;
                 } catch (SQLException e) {
                     throw new EdcPersistenceException(e);
+                } finally {
+                    invalidate(negotiationId);
                 }
             }
         });
@@ -175,15 +218,16 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
             var filter = Arrays.stream(criteria).toList();
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
             var statement = statements.createNegotiationsQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .lockingClause(statements.getSkipLockedClause(statements.getContractNegotiationTable()));
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
-                return negotiations;
+                var leased = leaseContext.withConnection(connection).acquireLeases(negotiations.stream().map(ContractNegotiation::getId).toList());
+                return negotiations.stream().filter(cn -> leased.contains(cn.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -251,37 +295,15 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         return queryExecutor.single(connection, false, contractNegotiationMapper(), sql, id);
     }
 
-    private void update(Connection connection, String negotiationId, ContractNegotiation updatedValues) {
-        var stmt = statements.getUpdateNegotiationTemplate();
-
-        if (updatedValues.getContractAgreement() != null) {
-            upsertAgreement(updatedValues.getContractAgreement());
-        }
-
-        queryExecutor.execute(connection, stmt,
-                updatedValues.getState(),
-                updatedValues.getStateCount(),
-                updatedValues.getStateTimestamp(),
-                updatedValues.getErrorDetail(),
-                toJson(updatedValues.getContractOffers()),
-                toJson(updatedValues.getCallbackAddresses()),
-                toJson(updatedValues.getTraceContext()),
-                ofNullable(updatedValues.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
-                updatedValues.getUpdatedAt(),
-                updatedValues.isPending(),
-                negotiationId);
-    }
-
-    private void insert(Connection connection, ContractNegotiation negotiation) {
-        String agrId = null;
-        var agreement = negotiation.getContractAgreement();
-        if (agreement != null) {
-            agrId = agreement.getId();
-            upsertAgreement(agreement);
-        }
-
-        var stmt = statements.getInsertNegotiationTemplate();
-        queryExecutor.execute(connection, stmt,
+    /**
+     * Inserts or updates the negotiation with a single statement.
+     *
+     * @return the state the negotiation had before, null if it didn't exist.
+     */
+    private @Nullable Integer upsert(Connection connection, ContractNegotiation negotiation) {
+        var stmt = statements.getUpsertNegotiationTemplate();
+        return queryExecutor.single(connection, false, resultSet -> resultSet.getInt(statements.getStateColumn()), stmt,
+                negotiation.getId(),
                 negotiation.getId(),
                 negotiation.getCorrelationId(),
                 negotiation.getCounterPartyId(),
@@ -292,7 +314,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 negotiation.getStateCount(),
                 negotiation.getStateTimestamp(),
                 negotiation.getErrorDetail(),
-                agrId,
+                ofNullable(negotiation.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
                 toJson(negotiation.getContractOffers()),
                 toJson(negotiation.getCallbackAddresses()),
                 toJson(negotiation.getTraceContext()),
@@ -301,37 +323,35 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 negotiation.isPending());
     }
 
-    private void upsertAgreement(ContractAgreement contractAgreement) {
-        transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
-                var agrId = contractAgreement.getId();
-
-                if (findContractAgreement(agrId) == null) {
-                    // insert agreement
-                    var sql = statements.getInsertAgreementTemplate();
-                    queryExecutor.execute(connection, sql, contractAgreement.getId(),
-                            contractAgreement.getProviderId(),
-                            contractAgreement.getConsumerId(),
-                            contractAgreement.getContractSigningDate(),
-                            contractAgreement.getAssetId(),
-                            toJson(contractAgreement.getPolicy())
-                    );
-                } else {
-                    // update agreement
-                    var query = statements.getUpdateAgreementTemplate();
-                    queryExecutor.execute(connection, query, contractAgreement.getProviderId(),
-                            contractAgreement.getConsumerId(),
-                            contractAgreement.getContractSigningDate(),
-                            contractAgreement.getAssetId(),
-                            toJson(contractAgreement.getPolicy()),
-                            agrId);
-                }
+    private void upsertAgreement(Connection connection, ContractAgreement contractAgreement) {
+        var stmt = statements.getUpsertAgreementTemplate();
+        queryExecutor.execute(connection, stmt,
+                contractAgreement.getId(),
+                contractAgreement.getProviderId(),
+                contractAgreement.getConsumerId(),
+                contractAgreement.getContractSigningDate(),
+                contractAgreement.getAssetId(),
+                toJson(contractAgreement.getPolicy()));
+    }
 
-            } catch (SQLException e) {
-                throw new EdcPersistenceException(e);
-            }
-        });
+    /**
+     * Caches the entity once the reading transaction commits, so that uncommitted data never gets in the cache.
+     */
+    private @Nullable ContractNegotiation cached(@Nullable ContractNegotiation negotiation, long version) {
+        if (negotiation != null && cache.isEnabled()) {
+            var snapshot = negotiation.copy();
+            transactionContext.afterCommit(() -> cache.put(snapshot, version));
+        }
+        return negotiation;
+    }
 
+    /**
+     * Invalidates the entity right away, for the reads of the writing transaction, and again once it commits, for the
+     * concurrent reads that could have loaded the previous version meanwhile.
+     */
+    private void invalidate(String id) {
+        cache.invalidate(id);
+        transactionContext.afterCommit(() -> cache.invalidate(id));
     }
 
     @Nullable
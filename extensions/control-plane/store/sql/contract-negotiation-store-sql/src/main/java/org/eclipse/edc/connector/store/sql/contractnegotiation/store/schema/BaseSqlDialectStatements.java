@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema;
 
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 import static java.lang.String.format;
@@ -55,6 +56,21 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getInsertNegotiationTemplate() {
+        return negotiationColumns().insertInto(getContractNegotiationTable());
+    }
+
+    @Override
+    public String getUpsertNegotiationTemplate() {
+        var upsertNegotiation = negotiationColumns()
+                .upsertInto(getContractNegotiationTable(), getIdColumn(), getCorrelationIdColumn(), getCounterPartyIdColumn(),
+                        getCounterPartyAddressColumn(), getTypeColumn(), getProtocolColumn(), getCreatedAtColumn());
+
+        return format("WITH previous AS (SELECT %s FROM %s WHERE %s = ?), upsert_negotiation AS (%s) SELECT %s FROM previous;",
+                getStateColumn(), getContractNegotiationTable(), getIdColumn(),
+                withoutTerminator(upsertNegotiation), getStateColumn());
+    }
+
+    private SqlExecuteStatement negotiationColumns() {
         return executeStatement()
                 .column(getIdColumn())
                 .column(getCorrelationIdColumn())
@@ -72,8 +88,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
-                .column(getPendingColumn())
-                .insertInto(getContractNegotiationTable());
+                .column(getPendingColumn());
     }
 
     @Override
@@ -90,14 +105,22 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getInsertAgreementTemplate() {
+        return agreementColumns().insertInto(getContractAgreementTable());
+    }
+
+    @Override
+    public String getUpsertAgreementTemplate() {
+        return agreementColumns().upsertInto(getContractAgreementTable(), getContractAgreementIdColumn());
+    }
+
+    private SqlExecuteStatement agreementColumns() {
         return executeStatement()
                 .column(getContractAgreementIdColumn())
                 .column(getProviderAgentColumn())
                 .column(getConsumerAgentColumn())
                 .column(getSigningDateColumn())
                 .column(getAssetIdColumn())
-                .jsonColumn(getPolicyColumn())
-                .insertInto(getContractAgreementTable());
+                .jsonColumn(getPolicyColumn());
     }
 
     @Override
@@ -160,4 +183,18 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeasesTemplate(getContractNegotiationTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getAcquireLeasesTemplate(int count) {
+        return acquireLeasesTemplate(getContractNegotiationTable(), getIdColumn(), count);
+    }
+
+    private String withoutTerminator(String statement) {
+        return statement.substring(0, statement.lastIndexOf(';'));
+    }
+
 }
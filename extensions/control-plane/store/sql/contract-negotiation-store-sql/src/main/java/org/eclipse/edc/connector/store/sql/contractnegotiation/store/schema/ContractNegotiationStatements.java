@@ -40,6 +40,14 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
 
     String getUpdateAgreementTemplate();
 
+    /**
+     * Statement that inserts or updates a contract negotiation and returns the state it had before, no rows if it
+     * didn't exist.
+     */
+    String getUpsertNegotiationTemplate();
+
+    String getUpsertAgreementTemplate();
+
     String getSelectNegotiationsTemplate();
 
     default String getContractNegotiationTable() {
@@ -18,13 +18,16 @@ import org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.Con
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.persistence.StateChangeListener;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -32,6 +35,14 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Duration;
 
+import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiation;
+import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
 /**
  * This test aims to verify those parts of the contract negotiation store, that are specific to Postgres, e.g. JSON
  * query operators.
@@ -40,18 +51,18 @@ import java.time.Duration;
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestBase {
 
+    private final PostgresDialectStatements statements = new PostgresDialectStatements();
+    private final TypeManager typeManager = new TypeManager();
     private SqlContractNegotiationStore store;
     private LeaseUtil leaseUtil;
 
     @BeforeEach
     void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
         var clock = Clock.systemUTC();
-        var statements = new PostgresDialectStatements();
-        var manager = new TypeManager();
 
-        manager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
+        typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
         store = new SqlContractNegotiationStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
-                extension.getTransactionContext(), manager.getMapper(), statements, CONNECTOR_NAME, clock, queryExecutor);
+                extension.getTransactionContext(), typeManager.getMapper(), statements, CONNECTOR_NAME, clock, queryExecutor);
 
         var schema = Files.readString(Paths.get("./docs/schema.sql"));
         extension.runQuery(schema);
@@ -60,10 +71,26 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
 
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
-        var dialect = new PostgresDialectStatements();
-        extension.runQuery("DROP TABLE " + dialect.getContractNegotiationTable() + " CASCADE");
-        extension.runQuery("DROP TABLE " + dialect.getContractAgreementTable() + " CASCADE");
-        extension.runQuery("DROP TABLE " + dialect.getLeaseTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getContractNegotiationTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getContractAgreementTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
+    }
+
+    @Test
+    void save_shouldNotifyStateChangeListenersOnceCommitted(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var transactionContext = spy(extension.getTransactionContext());
+        var afterCommit = ArgumentCaptor.forClass(Runnable.class);
+        doNothing().when(transactionContext).afterCommit(afterCommit.capture());
+        var store = new SqlContractNegotiationStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                transactionContext, typeManager.getMapper(), statements, CONNECTOR_NAME, Clock.systemUTC(), queryExecutor);
+        var listener = mock(StateChangeListener.class);
+        store.registerStateChangeListener(listener);
+
+        store.save(createNegotiation("id1"));
+
+        verifyNoInteractions(listener);
+        afterCommit.getValue().run();
+        verify(listener).stateChanged(REQUESTED.code());
     }
 
     @Override
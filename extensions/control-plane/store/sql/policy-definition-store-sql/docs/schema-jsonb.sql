@@ -0,0 +1,40 @@
+--
+--  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+--
+
+-- THIS SCHEMA HAS BEEN WRITTEN AND TESTED ONLY FOR POSTGRES
+-- to be used with edc.sql.store.policy.jsonb=true
+
+CREATE TABLE IF NOT EXISTS edc_policydefinitions
+(
+    policy_id             VARCHAR NOT NULL,
+    created_at            BIGINT  NOT NULL,
+    permissions           JSONB,
+    prohibitions          JSONB,
+    duties                JSONB,
+    extensible_properties JSONB,
+    inherits_from         VARCHAR,
+    assigner              VARCHAR,
+    assignee              VARCHAR,
+    target                VARCHAR,
+    policy_type           VARCHAR NOT NULL,
+    PRIMARY KEY (policy_id)
+);
+
+COMMENT ON COLUMN edc_policydefinitions.permissions IS 'Java List<Permission> serialized as JSONB';
+COMMENT ON COLUMN edc_policydefinitions.prohibitions IS 'Java List<Prohibition> serialized as JSONB';
+COMMENT ON COLUMN edc_policydefinitions.duties IS 'Java List<Duty> serialized as JSONB';
+COMMENT ON COLUMN edc_policydefinitions.extensible_properties IS 'Java Map<String, Object> serialized as JSONB';
+COMMENT ON COLUMN edc_policydefinitions.policy_type IS 'Java PolicyType serialized as JSON';
+
+CREATE UNIQUE INDEX IF NOT EXISTS edc_policydefinitions_id_uindex
+    ON edc_policydefinitions (policy_id);
@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.connector.store.sql.policydefinition.store.SqlPolicyDefinitionStore;
 import org.eclipse.edc.connector.store.sql.policydefinition.store.schema.SqlPolicyStoreStatements;
 import org.eclipse.edc.connector.store.sql.policydefinition.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.store.sql.policydefinition.store.schema.postgres.PostgresJsonbDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
@@ -36,6 +37,9 @@ public class SqlPolicyStoreExtension implements ServiceExtension {
     @Setting(required = true)
     public static final String DATASOURCE_SETTING_NAME = "edc.datasource.policy.name";
 
+    @Setting(value = "Whether the policy definition table has the JSONB schema", type = "boolean", defaultValue = "false")
+    public static final String JSONB_SETTING_NAME = "edc.sql.store.policy.jsonb";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -54,7 +58,7 @@ public class SqlPolicyStoreExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var sqlPolicyStore = new SqlPolicyDefinitionStore(dataSourceRegistry, getDataSourceName(context), transactionContext,
-                typeManager.getMapper(), getStatementImpl(), queryExecutor);
+                typeManager.getMapper(), getStatementImpl(context), queryExecutor);
 
         context.registerService(PolicyDefinitionStore.class, sqlPolicyStore);
     }
@@ -62,8 +66,11 @@ public class SqlPolicyStoreExtension implements ServiceExtension {
     /**
      * returns an externally-provided sql statement dialect, or postgres as a default
      */
-    private SqlPolicyStoreStatements getStatementImpl() {
-        return statements != null ? statements : new PostgresDialectStatements();
+    private SqlPolicyStoreStatements getStatementImpl(ServiceExtensionContext context) {
+        if (statements != null) {
+            return statements;
+        }
+        return context.getSetting(JSONB_SETTING_NAME, false) ? new PostgresJsonbDialectStatements() : new PostgresDialectStatements();
     }
 
     private String getDataSourceName(ServiceExtensionContext context) {
@@ -19,8 +19,6 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.dialect.PostgresDialect;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
-import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonArrayTemplate;
-
 /**
  * Statements and clauses specific to the Postgres dialect, such as JSON operators and functions.
  */
@@ -55,4 +53,11 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         }
     }
 
+    /**
+     * Creates a SELECT statement that expands the elements of a JSON array column under an alias.
+     */
+    protected String getSelectFromJsonArrayTemplate(String selectStatement, String jsonPath, String aliasName) {
+        return PostgresDialect.getSelectFromJsonArrayTemplate(selectStatement, jsonPath, aliasName);
+    }
+
 }
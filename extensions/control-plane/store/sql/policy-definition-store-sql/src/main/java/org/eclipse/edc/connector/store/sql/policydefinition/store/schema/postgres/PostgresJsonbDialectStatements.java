@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.policydefinition.store.schema.postgres;
+
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+
+/**
+ * Postgres statements for the {@code JSONB} schema (see {@code docs/schema-jsonb.sql}), whose policy definition columns are
+ * stored in binary form instead of being parsed again for every row that a query evaluates.
+ */
+public class PostgresJsonbDialectStatements extends PostgresDialectStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonbCastOperator();
+    }
+
+    @Override
+    protected String getSelectFromJsonArrayTemplate(String selectStatement, String jsonPath, String aliasName) {
+        return PostgresDialect.getSelectFromJsonbArrayTemplate(selectStatement, jsonPath, aliasName);
+    }
+}
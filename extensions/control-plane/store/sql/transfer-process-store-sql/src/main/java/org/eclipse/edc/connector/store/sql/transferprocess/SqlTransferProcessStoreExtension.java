@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.store.sql.transferprocess.store.SqlTransferProc
 import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.TransferProcessStoreStatements;
 import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
@@ -26,18 +27,29 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.EntityCache;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 
 @Provides(TransferProcessStore.class)
 @Extension(value = "SQL transfer process store")
 public class SqlTransferProcessStoreExtension implements ServiceExtension {
 
+    private static final int DEFAULT_CACHE_SIZE = 0;
+    private static final long DEFAULT_CACHE_TTL_MILLIS = 10_000L;
+
     @Setting
     public static final String DATASOURCE_NAME_SETTING = "edc.datasource.transferprocess.name";
 
+    @Setting(value = "Maximum number of transfer processes kept in the lookup cache, 0 disables the cache", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    public static final String CACHE_SIZE_SETTING = "edc.datasource.transferprocess.cache.size";
+
+    @Setting(value = "Time-to-live of the entries of the transfer process lookup cache in milliseconds", type = "long", defaultValue = DEFAULT_CACHE_TTL_MILLIS + "")
+    public static final String CACHE_TTL_SETTING = "edc.datasource.transferprocess.cache.ttl-millis";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
     @Inject
@@ -57,10 +69,19 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var store = new SqlTransferProcessStore(dataSourceRegistry, getDataSourceName(context), trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor, createCache(context));
         context.registerService(TransferProcessStore.class, store);
     }
 
+    private EntityCache<TransferProcess> createCache(ServiceExtensionContext context) {
+        var size = context.getSetting(CACHE_SIZE_SETTING, DEFAULT_CACHE_SIZE);
+        if (size <= 0) {
+            return EntityCache.disabled();
+        }
+        var timeToLive = Duration.ofMillis(context.getSetting(CACHE_TTL_SETTING, DEFAULT_CACHE_TTL_MILLIS));
+        return new EntityCache<>(size, timeToLive, clock, TransferProcess::getId, TransferProcess::getCorrelationId, TransferProcess::copy);
+    }
+
     /**
      * returns an externally-provided sql statement dialect, or postgres as a default
      */
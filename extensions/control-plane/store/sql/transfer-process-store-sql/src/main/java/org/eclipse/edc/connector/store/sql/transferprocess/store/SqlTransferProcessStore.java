@@ -23,6 +23,7 @@ import org.eclipse.edc.connector.transfer.spi.types.ProvisionedResourceSet;
 import org.eclipse.edc.connector.transfer.spi.types.ResourceManifest;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.persistence.StateChangeListener;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -30,6 +31,7 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.store.EntityCache;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
@@ -42,6 +44,7 @@ import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -57,15 +60,26 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<StateChangeListener> stateChangeListeners = new CopyOnWriteArrayList<>();
+    private final EntityCache<TransferProcess> cache;
 
     public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
                                    TransactionContext transactionContext, ObjectMapper objectMapper,
                                    TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
                                    QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, datasourceName, transactionContext, objectMapper, statements, leaseHolderName, clock,
+                queryExecutor, EntityCache.disabled());
+    }
+
+    public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
+                                   TransactionContext transactionContext, ObjectMapper objectMapper,
+                                   TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
+                                   QueryExecutor queryExecutor, EntityCache<TransferProcess> cache) {
         super(dataSourceRegistry, datasourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.leaseHolderName = leaseHolderName;
         this.clock = clock;
+        this.cache = cache;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
     }
 
@@ -75,15 +89,16 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .lockingClause(statements.getSkipLockedClause(statements.getTransferProcessTableName()));
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
-                return transferProcesses;
+                var leased = leaseContext.withConnection(connection).acquireLeases(transferProcesses.stream().map(TransferProcess::getId).toList());
+                return transferProcesses.stream().filter(transferProcess -> leased.contains(transferProcess.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -141,24 +156,43 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         }
         transactionContext.execute(() -> {
             try (var conn = getConnection()) {
-                var existing = findByIdInternal(conn, entity.getId());
-                if (existing != null) {
-                    leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
-                    update(conn, entity, existing.getDataRequest().getId());
-                } else {
-                    insert(conn, entity);
+                leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
+                var previousState = upsert(conn, entity);
+                if (previousState == null || previousState != entity.getState()) {
+                    notifyStateChanged(entity.getState());
                 }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
+            } finally {
+                invalidate(entity.getId());
             }
         });
     }
 
+    @Override
+    public void registerStateChangeListener(StateChangeListener listener) {
+        stateChangeListeners.add(listener);
+    }
+
+    /**
+     * Notifies the listeners once the transaction commits, so that the woken state machine finds the entity.
+     */
+    private void notifyStateChanged(int state) {
+        if (!stateChangeListeners.isEmpty()) {
+            transactionContext.afterCommit(() -> stateChangeListeners.forEach(listener -> listener.stateChanged(state)));
+        }
+    }
+
     @Override
     public @Nullable TransferProcess findById(String id) {
+        var cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        var version = cache.version();
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                return findByIdInternal(connection, id);
+                return cached(findByIdInternal(connection, id), version);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -167,10 +201,15 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
     @Override
     public @Nullable TransferProcess findForCorrelationId(String correlationId) {
+        var cached = cache.getByCorrelationId(correlationId);
+        if (cached != null) {
+            return cached;
+        }
+        var version = cache.version();
         return transactionContext.execute(() -> {
             var query = correlationIdQuerySpec(correlationId);
             try (var stream = findAll(query)) {
-                return single(stream.collect(toList()));
+                return cached(single(stream.collect(toList())), version);
             }
         });
     }
@@ -192,6 +231,8 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                     leaseContext.by(leaseHolderName).withConnection(conn).breakLease(processId);
                 } catch (SQLException e) {
                     throw new EdcPersistenceException(e);
+                } finally {
+                    invalidate(processId);
                 }
             }
 
@@ -239,42 +280,6 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters());
     }
 
-    private void update(Connection conn, TransferProcess process, String existingDataRequestId) {
-        var updateStmt = statements.getUpdateTransferProcessTemplate();
-        queryExecutor.execute(conn, updateStmt,
-                process.getState(),
-                process.getStateCount(),
-                process.getStateTimestamp(),
-                process.getUpdatedAt(),
-                toJson(process.getTraceContext()),
-                process.getErrorDetail(),
-                toJson(process.getResourceManifest()),
-                toJson(process.getProvisionedResourceSet()),
-                toJson(process.getContentDataAddress()),
-                toJson(process.getDeprovisionedResources()),
-                toJson(process.getCallbackAddresses()),
-                process.isPending(),
-                process.getId());
-
-        var newDr = process.getDataRequest();
-        updateDataRequest(conn, newDr, existingDataRequestId);
-    }
-
-    private void updateDataRequest(Connection conn, DataRequest dataRequest, String existingDataRequestId) {
-        var updateDrStmt = statements.getUpdateDataRequestTemplate();
-
-        queryExecutor.execute(conn, updateDrStmt,
-                dataRequest.getId(),
-                dataRequest.getProcessId(),
-                dataRequest.getConnectorAddress(),
-                dataRequest.getProtocol(),
-                dataRequest.getConnectorId(),
-                dataRequest.getAssetId(),
-                dataRequest.getContractId(),
-                toJson(dataRequest.getDataDestination()),
-                existingDataRequestId);
-    }
-
     /**
      * Returns either a single element from the list, or null if empty. Throws an IllegalStateException if the list has
      * more than 1 element
@@ -291,10 +296,16 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return format("Expected to find %d items, but found %d", expectedSize, actualSize);
     }
 
-    private void insert(Connection conn, TransferProcess process) {
-        // insert TransferProcess
-        var insertTpStatement = statements.getInsertStatement();
-        queryExecutor.execute(conn, insertTpStatement, process.getId(),
+    /**
+     * Inserts or updates the transfer process and its data request with a single statement.
+     *
+     * @return the state the transfer process had before, null if it didn't exist.
+     */
+    private @Nullable Integer upsert(Connection conn, TransferProcess process) {
+        var dataRequest = process.getDataRequest();
+        return queryExecutor.single(conn, false, resultSet -> resultSet.getInt(statements.getStateColumn()), statements.getUpsertTemplate(),
+                process.getId(),
+                process.getId(),
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
@@ -309,27 +320,38 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 toJson(process.getDeprovisionedResources()),
                 toJson(process.getPrivateProperties()),
                 toJson(process.getCallbackAddresses()),
-                process.isPending());
+                process.isPending(),
+                process.getId(),
+                dataRequest.getId(),
+                dataRequest.getId(),
+                dataRequest.getProcessId(),
+                dataRequest.getConnectorAddress(),
+                dataRequest.getConnectorId(),
+                dataRequest.getAssetId(),
+                dataRequest.getContractId(),
+                toJson(dataRequest.getDataDestination()),
+                process.getId(),
+                dataRequest.getProtocol());
+    }
 
-        //insert DataRequest
-        var dr = process.getDataRequest();
-        if (dr != null) {
-            insertDataRequest(process.getId(), dr, conn);
+    /**
+     * Caches the entity once the reading transaction commits, so that uncommitted data never gets in the cache.
+     */
+    private @Nullable TransferProcess cached(@Nullable TransferProcess transferProcess, long version) {
+        if (transferProcess != null && cache.isEnabled()) {
+            var snapshot = transferProcess.copy();
+            transactionContext.afterCommit(() -> cache.put(snapshot, version));
         }
+        return transferProcess;
     }
 
-    private void insertDataRequest(String processId, DataRequest dr, Connection conn) {
-        var insertDrStmt = statements.getInsertDataRequestTemplate();
-        queryExecutor.execute(conn, insertDrStmt,
-                dr.getId(),
-                dr.getProcessId(),
-                dr.getConnectorAddress(),
-                dr.getConnectorId(),
-                dr.getAssetId(),
-                dr.getContractId(),
-                toJson(dr.getDataDestination()),
-                processId,
-                dr.getProtocol());
+    /**
+     * Invalidates the entity right away, for the reads of the writing transaction, and again once it commits, for the
+     * concurrent reads that could have loaded the previous version meanwhile.
+     */
+    private void invalidate(String id) {
+        cache.invalidate(id);
+        transactionContext.afterCommit(() -> cache.invalidate(id));
     }
 
     private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
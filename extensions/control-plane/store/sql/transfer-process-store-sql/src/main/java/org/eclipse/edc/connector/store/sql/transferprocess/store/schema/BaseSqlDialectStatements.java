@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.store.sql.transferprocess.store.schema;
 
 import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 import static java.lang.String.format;
@@ -53,8 +54,37 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeasesTemplate(getTransferProcessTableName(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getAcquireLeasesTemplate(int count) {
+        return acquireLeasesTemplate(getTransferProcessTableName(), getIdColumn(), count);
+    }
+
     @Override
     public String getInsertStatement() {
+        return transferProcessColumns().insertInto(getTransferProcessTableName());
+    }
+
+    @Override
+    public String getUpsertTemplate() {
+        var upsertTransferProcess = transferProcessColumns()
+                .upsertInto(getTransferProcessTableName(), getIdColumn(), getCreatedAtColumn(), getTypeColumn(), getPrivatePropertiesColumn());
+        var deleteReplacedDataRequest = format("DELETE FROM %s WHERE %s = ? AND %s <> ?",
+                getDataRequestTable(), getTransferProcessIdFkColumn(), getDataRequestIdColumn());
+        var upsertDataRequest = dataRequestColumns()
+                .upsertInto(getDataRequestTable(), getDataRequestIdColumn(), getTransferProcessIdFkColumn());
+
+        return format("WITH previous AS (SELECT %s FROM %s WHERE %s = ?), upsert_transfer_process AS (%s), " +
+                        "delete_data_request AS (%s), upsert_data_request AS (%s) SELECT %s FROM previous;",
+                getStateColumn(), getTransferProcessTableName(), getIdColumn(), withoutTerminator(upsertTransferProcess),
+                deleteReplacedDataRequest, withoutTerminator(upsertDataRequest), getStateColumn());
+    }
+
+    private SqlExecuteStatement transferProcessColumns() {
         return executeStatement()
                 .column(getIdColumn())
                 .column(getStateColumn())
@@ -71,8 +101,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .jsonColumn(getDeprovisionedResourcesColumn())
                 .jsonColumn(getPrivatePropertiesColumn())
                 .jsonColumn(getCallbackAddressesColumn())
-                .column(getPendingColumn())
-                .insertInto(getTransferProcessTableName());
+                .column(getPendingColumn());
     }
 
     @Override
@@ -100,6 +129,10 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
 
     @Override
     public String getInsertDataRequestTemplate() {
+        return dataRequestColumns().insertInto(getDataRequestTable());
+    }
+
+    private SqlExecuteStatement dataRequestColumns() {
         return executeStatement()
                 .column(getDataRequestIdColumn())
                 .column(getProcessIdColumn())
@@ -109,8 +142,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getContractIdColumn())
                 .jsonColumn(getDataDestinationColumn())
                 .column(getTransferProcessIdFkColumn())
-                .column(getProtocolColumn())
-                .insertInto(getDataRequestTable());
+                .column(getProtocolColumn());
     }
 
     @Override
@@ -138,4 +170,8 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
         return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this));
     }
 
+    private String withoutTerminator(String statement) {
+        return statement.substring(0, statement.lastIndexOf(';'));
+    }
+
 }
@@ -38,6 +38,12 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
 
     String getUpdateDataRequestTemplate();
 
+    /**
+     * Statement that inserts or updates a transfer process together with its data request and returns the state the
+     * transfer process had before, no rows if it didn't exist.
+     */
+    String getUpsertTemplate();
+
     default String getTransferProcessTableName() {
         return "edc_transfer_process";
     }
@@ -18,15 +18,20 @@ import org.eclipse.edc.connector.store.sql.transferprocess.store.SqlTransferProc
 import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions;
 import org.eclipse.edc.connector.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.persistence.StateChangeListener;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
+import org.eclipse.edc.sql.store.EntityCache;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -34,6 +39,16 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Duration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
@@ -41,11 +56,12 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
     private final PostgresDialectStatements statements = new PostgresDialectStatements();
     private LeaseUtil leaseUtil;
     private SqlTransferProcessStore store;
+    private TypeManager typeManager;
 
     @BeforeEach
     void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
         var clock = Clock.systemUTC();
-        var typeManager = new TypeManager();
+        typeManager = new TypeManager();
         typeManager.registerTypes(TestFunctions.TestResourceDef.class, TestFunctions.TestProvisionedResource.class);
         typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
 
@@ -65,6 +81,84 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
     }
 
+    @Test
+    void findById_shouldBeCachedUntilTheStoreWritesTheEntity(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var cache = new EntityCache<TransferProcess>(10, Duration.ofMinutes(1), Clock.systemUTC(), TransferProcess::getId,
+                TransferProcess::getCorrelationId, TransferProcess::copy);
+        var cachedStore = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), typeManager.getMapper(), statements, "test-connector",
+                Clock.systemUTC(), queryExecutor, cache);
+        var transferProcess = createTransferProcess("id1", STARTED);
+        cachedStore.save(transferProcess);
+        assertThat(cachedStore.findById("id1")).extracting(TransferProcess::getState).isEqualTo(STARTED.code());
+
+        transferProcess.transitionCompleted();
+        store.save(transferProcess);
+
+        assertThat(cachedStore.findById("id1")).extracting(TransferProcess::getState).isEqualTo(STARTED.code());
+        assertThat(cachedStore.findForCorrelationId(transferProcess.getCorrelationId())).extracting(TransferProcess::getState).isEqualTo(STARTED.code());
+
+        cachedStore.save(transferProcess);
+
+        assertThat(cachedStore.findById("id1")).extracting(TransferProcess::getState).isEqualTo(COMPLETED.code());
+    }
+
+    @Test
+    void findById_shouldCacheOnlyOnceTheReadCommits(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var transactionContext = spy(extension.getTransactionContext());
+        var afterCommit = ArgumentCaptor.forClass(Runnable.class);
+        doNothing().when(transactionContext).afterCommit(afterCommit.capture());
+        var cache = new EntityCache<TransferProcess>(10, Duration.ofMinutes(1), Clock.systemUTC(), TransferProcess::getId,
+                TransferProcess::getCorrelationId, TransferProcess::copy);
+        var cachedStore = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                transactionContext, typeManager.getMapper(), statements, "test-connector", Clock.systemUTC(), queryExecutor, cache);
+        store.save(createTransferProcess("id1", STARTED));
+
+        assertThat(cachedStore.findById("id1")).isNotNull();
+
+        assertThat(cache.get("id1")).isNull();
+        afterCommit.getValue().run();
+        assertThat(cache.get("id1")).isNotNull().extracting(TransferProcess::getState).isEqualTo(STARTED.code());
+    }
+
+    @Test
+    void findById_shouldNotCache_whenTheEntityIsWrittenBeforeTheReadCommits(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var transactionContext = spy(extension.getTransactionContext());
+        var afterCommit = ArgumentCaptor.forClass(Runnable.class);
+        doNothing().when(transactionContext).afterCommit(afterCommit.capture());
+        var cache = new EntityCache<TransferProcess>(10, Duration.ofMinutes(1), Clock.systemUTC(), TransferProcess::getId,
+                TransferProcess::getCorrelationId, TransferProcess::copy);
+        var cachedStore = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                transactionContext, typeManager.getMapper(), statements, "test-connector", Clock.systemUTC(), queryExecutor, cache);
+        var transferProcess = createTransferProcess("id1", STARTED);
+        store.save(transferProcess);
+        cachedStore.findById("id1");
+        var cacheRead = afterCommit.getValue();
+
+        transferProcess.transitionCompleted();
+        cachedStore.save(transferProcess);
+        cacheRead.run();
+
+        assertThat(cache.get("id1")).isNull();
+    }
+
+    @Test
+    void save_shouldNotifyStateChangeListenersOnceCommitted(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var transactionContext = spy(extension.getTransactionContext());
+        var afterCommit = ArgumentCaptor.forClass(Runnable.class);
+        doNothing().when(transactionContext).afterCommit(afterCommit.capture());
+        var store = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                transactionContext, typeManager.getMapper(), statements, "test-connector", Clock.systemUTC(), queryExecutor);
+        var listener = mock(StateChangeListener.class);
+        store.registerStateChangeListener(listener);
+
+        store.save(createTransferProcess("id1", STARTED));
+
+        verifyNoInteractions(listener);
+        afterCommit.getValue().run();
+        verify(listener).stateChanged(STARTED.code());
+    }
+
     @Override
     protected SqlTransferProcessStore getTransferProcessStore() {
         return store;
@@ -40,7 +40,10 @@ public record DataPlaneInstanceSchema(
         @Schema(requiredMode = REQUIRED)
         Set<String> allowedDestTypes,
         Integer turnCount,
-        Long lastActive) {
+        Long lastActive,
+        Integer activeFlows,
+        Integer queueDepth,
+        Long throughput) {
     public static final String DATAPLANE_INSTANCE_EXAMPLE = """
             {
                 "@context": {
@@ -23,10 +23,13 @@ import org.eclipse.edc.transform.spi.TransformerContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.ACTIVE_FLOWS;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.ALLOWED_DEST_TYPES;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.ALLOWED_SOURCE_TYPES;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.LAST_ACTIVE;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.PROPERTIES;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.QUEUE_DEPTH;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.THROUGHPUT;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.TURN_COUNT;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.URL;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
@@ -49,7 +52,10 @@ public class JsonObjectFromDataPlaneInstanceTransformer extends AbstractJsonLdTr
                 .add(TYPE, DataPlaneInstance.DATAPLANE_INSTANCE_TYPE)
                 .add(URL, dataPlaneInstance.getUrl().toString())
                 .add(LAST_ACTIVE, dataPlaneInstance.getLastActive())
-                .add(TURN_COUNT, dataPlaneInstance.getTurnCount());
+                .add(TURN_COUNT, dataPlaneInstance.getTurnCount())
+                .add(ACTIVE_FLOWS, dataPlaneInstance.getActiveFlows())
+                .add(QUEUE_DEPTH, dataPlaneInstance.getQueueDepth())
+                .add(THROUGHPUT, dataPlaneInstance.getThroughput());
 
         //properties
         if (dataPlaneInstance.getProperties() != null && !dataPlaneInstance.getProperties().isEmpty()) {
@@ -30,11 +30,14 @@ import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.ACTIVE_FLOWS;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.ALLOWED_DEST_TYPES;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.ALLOWED_SOURCE_TYPES;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.Builder;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.LAST_ACTIVE;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.PROPERTIES;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.QUEUE_DEPTH;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.THROUGHPUT;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.TURN_COUNT;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.URL;
 
@@ -63,6 +66,9 @@ public class JsonObjectToDataPlaneInstanceTransformer extends AbstractJsonLdTran
             }
             case LAST_ACTIVE -> transformLong(context, jsonValue, builder::lastActive);
             case TURN_COUNT -> builder.turnCount(transformInt(jsonValue, context));
+            case ACTIVE_FLOWS -> builder.activeFlows(transformInt(jsonValue, context));
+            case QUEUE_DEPTH -> builder.queueDepth(transformInt(jsonValue, context));
+            case THROUGHPUT -> transformLong(context, jsonValue, builder::throughput);
             case ALLOWED_DEST_TYPES -> {
                 var set = jsonValue.asJsonArray().stream().map(jv -> transformString(jv, context)).collect(Collectors.toSet());
                 builder.allowedDestTypes(set);
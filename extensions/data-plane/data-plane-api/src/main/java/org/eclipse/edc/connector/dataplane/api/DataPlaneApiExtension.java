@@ -17,13 +17,17 @@ package org.eclipse.edc.connector.dataplane.api;
 import org.eclipse.edc.connector.api.control.configuration.ControlApiConfiguration;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlaneControlApiController;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlanePublicApiController;
+import org.eclipse.edc.connector.dataplane.api.validation.CachingDataAddressResolver;
 import org.eclipse.edc.connector.dataplane.api.validation.ConsumerPullTransferDataAddressResolver;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -32,6 +36,9 @@ import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.WebServiceConfigurer;
 import org.eclipse.edc.web.spi.configuration.WebServiceSettings;
 
+import java.time.Clock;
+import java.time.Duration;
+
 /**
  * This extension provides the Data Plane API:
  * - Control API: set of endpoints to trigger/monitor/cancel data transfers that should be accessible only from the Control Plane.
@@ -44,10 +51,21 @@ public class DataPlaneApiExtension implements ServiceExtension {
     private static final String PUBLIC_API_CONFIG = "web.http.public";
     private static final String PUBLIC_CONTEXT_ALIAS = "public";
     private static final String PUBLIC_CONTEXT_PATH = "/api/v1/public";
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 1000;
+    private static final long DEFAULT_TOKEN_CACHE_MAX_TTL_MILLIS = 5 * 60 * 1000L;
 
     @Setting
     private static final String CONTROL_PLANE_VALIDATION_ENDPOINT = "edc.dataplane.token.validation.endpoint";
 
+    @Setting(value = "Maximum number of validated tokens cached by the public API, 0 disables the cache", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    private static final String TOKEN_CACHE_SIZE = "edc.dataplane.token.validation.cache.size";
+
+    @Setting(value = "Maximum time a validated token is cached, in milliseconds, tokens expiring earlier are evicted at their expiration", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_MAX_TTL_MILLIS + "")
+    private static final String TOKEN_CACHE_MAX_TTL = "edc.dataplane.token.validation.cache.max-ttl-millis";
+
+    @Setting(value = "If true the public API streams the data to the client as it's read from the source, supporting single byte ranges, instead of buffering the whole content", type = "boolean", defaultValue = "false")
+    private static final String PUBLIC_API_STREAMING = "edc.dataplane.api.public.streaming";
+
     private static final WebServiceSettings PUBLIC_SETTINGS = WebServiceSettings.Builder.newInstance()
             .apiConfigKey(PUBLIC_API_CONFIG)
             .contextAlias(PUBLIC_CONTEXT_ALIAS)
@@ -80,6 +98,15 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private DataTransferExecutorServiceContainer executorContainer;
+
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private CounterInstrumentation counterInstrumentation;
+
     @Override
     public String name() {
         return NAME;
@@ -89,12 +116,23 @@ public class DataPlaneApiExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
 
-        var dataAddressResolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
+        DataAddressResolver dataAddressResolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
+        var tokenCacheSize = context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+        if (tokenCacheSize > 0) {
+            var maxTimeToLive = Duration.ofMillis(context.getSetting(TOKEN_CACHE_MAX_TTL, DEFAULT_TOKEN_CACHE_MAX_TTL_MILLIS));
+            var cachingResolver = new CachingDataAddressResolver(dataAddressResolver, tokenCacheSize, maxTimeToLive, clock, typeManager.getMapper());
+            if (counterInstrumentation != null) {
+                cachingResolver.registerMetrics(counterInstrumentation);
+            }
+            dataAddressResolver = cachingResolver;
+        }
 
         webService.registerResource(controlApiConfiguration.getContextAlias(), new DataPlaneControlApiController(dataPlaneManager));
 
         var configuration = webServiceConfigurer.configure(context, webServer, PUBLIC_SETTINGS);
-        var publicApiController = new DataPlanePublicApiController(pipelineService, dataAddressResolver);
+        var publicApiController = context.getSetting(PUBLIC_API_STREAMING, false) ?
+                new DataPlanePublicApiController(pipelineService, dataAddressResolver, executorContainer.getExecutorService(), context.getMonitor()) :
+                new DataPlanePublicApiController(pipelineService, dataAddressResolver);
         webService.registerResource(configuration.getContextAlias(), publicApiController);
     }
 }
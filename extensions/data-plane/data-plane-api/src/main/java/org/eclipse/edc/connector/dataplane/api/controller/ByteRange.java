@@ -0,0 +1,231 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+
+/**
+ * Single byte range requested through the {@code Range} HTTP header. Only the {@code bytes=<start>-<end>} and
+ * {@code bytes=<start>-} forms are supported, any other value (suffix ranges, multiple ranges) is ignored and the whole
+ * content is served, as permitted by RFC 9110.
+ *
+ * @param start the first byte position, inclusive.
+ * @param end   the last byte position, inclusive, or null if the range extends until the end of the content.
+ */
+record ByteRange(long start, @Nullable Long end) {
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d+)-(\\d*)$");
+    private static final long RANDOM_ACCESS_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * Parse the value of a {@code Range} header.
+     *
+     * @param header the header value, can be null.
+     * @return the range, null if the header is missing, malformed or not supported.
+     */
+    static @Nullable ByteRange parse(@Nullable String header) {
+        if (header == null) {
+            return null;
+        }
+        var matcher = SINGLE_RANGE.matcher(header.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            var start = Long.parseLong(matcher.group(1));
+            var end = matcher.group(2).isEmpty() ? null : Long.parseLong(matcher.group(2));
+            if (end != null && end < start) {
+                return null;
+            }
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the range against the given part. The bytes before the range are not read when the part supports random
+     * access, otherwise they are skipped while reading the part.
+     *
+     * @param part the part.
+     * @return the slice of the part, null if the range can't be served because the size of the part is unknown, as the
+     *         {@code Content-Range} header couldn't tell the last byte position without reading the whole range first.
+     * @throws IOException if the part cannot be read.
+     */
+    @Nullable Slice slice(DataSource.Part part) throws IOException {
+        var size = part.size();
+        if (size == DataSource.Part.SIZE_UNKNOWN) {
+            return null;
+        }
+        if (start >= size) {
+            return Slice.notSatisfiable(size);
+        }
+        var last = end == null ? size - 1 : Math.min(end, size - 1);
+        var length = last - start + 1;
+        var contentRange = "bytes " + start + "-" + last + "/" + size;
+        if (part.supportsRandomAccess()) {
+            return new Slice(new RandomAccessInputStream(part, start, length), contentRange);
+        }
+        var stream = part.openStream();
+        try {
+            stream.skipNBytes(start);
+        } catch (EOFException e) {
+            stream.close();
+            return Slice.notSatisfiable(size);
+        } catch (IOException e) {
+            stream.close();
+            throw e;
+        }
+        return new Slice(new BoundedInputStream(stream, length), contentRange);
+    }
+
+    /**
+     * Bytes of a part that fall in the range.
+     *
+     * @param content      the content of the range, null if the range is not satisfiable.
+     * @param contentRange the value of the {@code Content-Range} response header.
+     */
+    record Slice(@Nullable InputStream content, String contentRange) {
+
+        static Slice notSatisfiable(long size) {
+            return new Slice(null, "bytes */" + size);
+        }
+
+        boolean satisfiable() {
+            return content != null;
+        }
+    }
+
+    /**
+     * Reads the range through {@link DataSource.Part#read(long, long)}, a chunk at a time, so that only the bytes of
+     * the range get fetched from the source.
+     */
+    private static class RandomAccessInputStream extends InputStream {
+
+        private final DataSource.Part part;
+        private long offset;
+        private long remaining;
+        private byte[] chunk = new byte[0];
+        private int position;
+
+        RandomAccessInputStream(DataSource.Part part, long offset, long length) {
+            this.part = part;
+            this.offset = offset;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return chunk[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            var read = Math.min(len, chunk.length - position);
+            System.arraycopy(chunk, position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        private boolean fill() throws IOException {
+            if (position < chunk.length) {
+                return true;
+            }
+            if (remaining <= 0) {
+                return false;
+            }
+            try {
+                chunk = part.read(offset, Math.min(RANDOM_ACCESS_CHUNK_SIZE, remaining));
+            } catch (EdcException e) {
+                throw new IOException(e);
+            }
+            if (chunk.length == 0) {
+                throw new EOFException("Part ended before the end of the range");
+            }
+            position = 0;
+            offset += chunk.length;
+            remaining -= chunk.length;
+            return true;
+        }
+    }
+
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            var b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            var read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
+
+/**
+ * Streams a {@link ByteRange} of the first source part to the client. The range is resolved against the part before
+ * responding, so that the {@code Content-Range} header tells the actual last byte position and that a range starting
+ * past the end of the part gets a {@code 416 Range Not Satisfiable}. The part and its stream are closed once the
+ * response has been written.
+ */
+class ByteRangeDataSink implements DataSink {
+
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+
+    private final ByteRange range;
+    private final AsyncResponse response;
+    private final ExecutorService executorService;
+    private final Monitor monitor;
+
+    ByteRangeDataSink(ByteRange range, AsyncResponse response, ExecutorService executorService, Monitor monitor) {
+        this.range = range;
+        this.response = response;
+        this.executorService = executorService;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        return supplyAsync(source::openPartStream, executorService)
+                .thenApply(parts -> {
+                    if (parts.failed()) {
+                        return failure(parts.getFailure());
+                    }
+                    try (var stream = parts.getContent()) {
+                        return stream.findFirst()
+                                .map(this::transferPart)
+                                .orElseGet(() -> error("No content to transfer"));
+                    }
+                });
+    }
+
+    private StreamResult<Object> transferPart(DataSource.Part part) {
+        Response.ResponseBuilder builder;
+        InputStream content;
+        try {
+            var slice = range.slice(part);
+            if (slice == null) {
+                builder = Response.ok();
+                content = part.openStream();
+            } else if (slice.satisfiable()) {
+                builder = Response.status(Response.Status.PARTIAL_CONTENT).header(CONTENT_RANGE, slice.contentRange());
+                content = slice.content();
+            } else {
+                close(part);
+                response.resume(Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE).header(CONTENT_RANGE, slice.contentRange()).build());
+                return success();
+            }
+        } catch (IOException | RuntimeException e) {
+            close(part);
+            return error("Error reading part %s: %s".formatted(part.name(), e.getMessage()));
+        }
+
+        StreamingOutput output = outputStream -> {
+            try (content) {
+                content.transferTo(outputStream);
+            } finally {
+                close(part);
+            }
+        };
+        if (!response.resume(builder.header(ACCEPT_RANGES, "bytes").entity(output).build())) {
+            close(content);
+            close(part);
+            return error("Could not resume output stream write");
+        }
+        return success();
+    }
+
+    private void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            monitor.warning("Error closing stream", e);
+        }
+    }
+}
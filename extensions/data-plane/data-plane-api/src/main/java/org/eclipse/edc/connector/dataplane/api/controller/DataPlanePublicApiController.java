@@ -29,12 +29,20 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.eclipse.edc.web.spi.exception.NotAuthorizedException;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
@@ -45,15 +53,40 @@ import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions
 @Produces(MediaType.APPLICATION_JSON)
 public class DataPlanePublicApiController implements DataPlanePublicApi {
 
+    private static final String RANGE = "Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+
     private final PipelineService pipelineService;
     private final DataAddressResolver dataAddressResolver;
     private final DataFlowRequestSupplier requestSupplier;
+    private final ExecutorService streamingExecutor;
+    private final Monitor monitor;
 
+    /**
+     * Creates a controller that buffers the whole content fetched from the data source before responding.
+     */
     public DataPlanePublicApiController(PipelineService pipelineService,
                                         DataAddressResolver dataAddressResolver) {
+        this(pipelineService, dataAddressResolver, null, null);
+    }
+
+    /**
+     * Creates a controller that streams the content fetched from the data source to the client as it's read: the
+     * response starts as soon as the source is available and the memory used doesn't depend on the content size. Single
+     * byte ranges requested through the {@code Range} header are honored.
+     *
+     * @param streamingExecutor the executor on which the data source is read, if null the content gets buffered.
+     * @param monitor           the monitor.
+     */
+    public DataPlanePublicApiController(PipelineService pipelineService,
+                                        DataAddressResolver dataAddressResolver,
+                                        ExecutorService streamingExecutor,
+                                        Monitor monitor) {
         this.pipelineService = pipelineService;
         this.dataAddressResolver = dataAddressResolver;
         this.requestSupplier = new DataFlowRequestSupplier();
+        this.streamingExecutor = streamingExecutor;
+        this.monitor = monitor;
     }
 
     @GET
@@ -130,6 +163,11 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
             return;
         }
 
+        if (streamingExecutor != null) {
+            stream(dataFlowRequest, ByteRange.parse(contextApi.headers().get(RANGE)), response);
+            return;
+        }
+
         pipelineService.transfer(dataFlowRequest)
                 .whenComplete((result, throwable) -> {
                     if (throwable == null) {
@@ -144,6 +182,39 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
                 });
     }
 
+    /**
+     * Transfer the data to an {@link AsyncStreamingDataSink} that resumes the response with a {@link StreamingOutput}:
+     * the source part is copied straight to the client connection, so a slow client slows down the reads from the
+     * source instead of making the content pile up in memory. A requested range is served by a {@link ByteRangeDataSink}.
+     */
+    private void stream(DataFlowRequest dataFlowRequest, ByteRange range, AsyncResponse response) {
+        DataSink sink = range == null ?
+                new AsyncStreamingDataSink(consumer -> response.resume(streamingResponse(consumer)), streamingExecutor, monitor) :
+                new ByteRangeDataSink(range, response, streamingExecutor, monitor);
+
+        pipelineService.transfer(dataFlowRequest, sink)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        resumeIfSuspended(response, List.of("Unhandled exception occurred during data transfer: " + throwable.getMessage()));
+                    } else if (result.failed()) {
+                        resumeIfSuspended(response, result.getFailureMessages());
+                    }
+                });
+    }
+
+    private Response streamingResponse(Consumer<OutputStream> consumer) {
+        return Response.ok()
+                .header(ACCEPT_RANGES, "bytes")
+                .entity((StreamingOutput) consumer::accept)
+                .build();
+    }
+
+    private void resumeIfSuspended(AsyncResponse response, List<String> errors) {
+        if (!response.resume(internalErrors(errors))) {
+            monitor.warning("Data transfer failed after the response was sent: " + join(", ", errors));
+        }
+    }
+
     /**
      * Invoke the {@link DataAddressResolver} with the provided token to retrieve the source data address.
      *
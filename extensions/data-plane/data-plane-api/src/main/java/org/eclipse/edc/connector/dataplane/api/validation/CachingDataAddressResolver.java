@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.util.collection.LruCache;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link DataAddressResolver} decorator that caches the {@link DataAddress} resolved for a token, so that a client
+ * that sends many requests with the same token needs a single round trip to the token validation server.
+ * <p>
+ * Only successful resolutions are cached. An entry expires at the {@code exp} claim of the token, capped by the
+ * configured maximum time-to-live, and the least recently used entries are evicted when the capacity is reached. The
+ * claim is read without verifying the signature: the token has already been validated by the delegate, and the cache
+ * key is the whole token, so the claim cannot be tampered with.
+ */
+public class CachingDataAddressResolver implements DataAddressResolver {
+
+    private static final String EXPIRATION_TIME = "exp";
+
+    private final DataAddressResolver delegate;
+    private final LruCache<String, Entry> entries;
+    private final Duration maxTimeToLive;
+    private final Clock clock;
+    private final ObjectMapper mapper;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CachingDataAddressResolver(DataAddressResolver delegate, int capacity, Duration maxTimeToLive, Clock clock, ObjectMapper mapper) {
+        this.delegate = delegate;
+        this.entries = new LruCache<>(capacity);
+        this.maxTimeToLive = maxTimeToLive;
+        this.clock = clock;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Result<DataAddress> resolve(String token) {
+        var now = clock.millis();
+        synchronized (entries) {
+            var entry = entries.get(token);
+            if (entry != null) {
+                if (entry.expiresAt() > now) {
+                    hits.incrementAndGet();
+                    return Result.success(copy(entry.dataAddress()));
+                }
+                entries.remove(token);
+            }
+        }
+
+        misses.incrementAndGet();
+        var result = delegate.resolve(token);
+        if (result.succeeded()) {
+            var expiresAt = expiresAt(token, now);
+            if (expiresAt > now) {
+                synchronized (entries) {
+                    entries.put(token, new Entry(copy(result.getContent()), expiresAt));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of tokens resolved from the cache.
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * Number of tokens resolved by the delegate.
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Publishes the hits and misses as the edc.dataplane.token.cache.hits and edc.dataplane.token.cache.misses
+     * counters.
+     *
+     * @param instrumentation the instrumentation the counters are published to.
+     */
+    public void registerMetrics(CounterInstrumentation instrumentation) {
+        instrumentation.counter("edc.dataplane.token.cache.hits", "Tokens of the public API resolved from the cache", Map.of(), this::hits);
+        instrumentation.counter("edc.dataplane.token.cache.misses", "Tokens of the public API resolved by the token validation server", Map.of(), this::misses);
+    }
+
+    private long expiresAt(String token, long now) {
+        var maxExpiresAt = now + maxTimeToLive.toMillis();
+        var parts = token.split("\\.");
+        if (parts.length < 2) {
+            return maxExpiresAt;
+        }
+        try {
+            var claims = mapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            var expiration = claims.get(EXPIRATION_TIME);
+            if (expiration == null || !expiration.canConvertToLong()) {
+                return maxExpiresAt;
+            }
+            return Math.min(maxExpiresAt, expiration.asLong() * 1000);
+        } catch (IOException | IllegalArgumentException e) {
+            return now;
+        }
+    }
+
+    private DataAddress copy(DataAddress dataAddress) {
+        return DataAddress.Builder.newInstance().properties(dataAddress.getProperties()).build();
+    }
+
+    private record Entry(DataAddress dataAddress, long expiresAt) {
+    }
+}
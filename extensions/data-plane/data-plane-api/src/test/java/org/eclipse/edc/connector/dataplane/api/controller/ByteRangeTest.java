@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangeTest {
+
+    @Test
+    void parse_shouldParseClosedRange() {
+        var range = ByteRange.parse("bytes=10-19");
+
+        assertThat(range).isEqualTo(new ByteRange(10, 19L));
+    }
+
+    @Test
+    void parse_shouldParseOpenRange() {
+        var range = ByteRange.parse("bytes=10-");
+
+        assertThat(range).isEqualTo(new ByteRange(10, null));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = { "", "bytes=-10", "bytes=0-1,5-6", "bytes=10-5", "items=0-1", "bytes=a-b" })
+    void parse_shouldReturnNull_whenRangeIsNotSupported(String header) {
+        assertThat(ByteRange.parse(header)).isNull();
+    }
+
+    @Test
+    void slice_shouldReturnOnlyTheBytesInTheRange() throws IOException {
+        var slice = new ByteRange(2, 5L).slice(new TestPart(false));
+
+        assertThat(slice.contentRange()).isEqualTo("bytes 2-5/10");
+        assertThat(slice.content().readAllBytes()).isEqualTo("2345".getBytes());
+    }
+
+    @Test
+    void slice_shouldReturnUntilTheEnd_whenRangeIsOpen() throws IOException {
+        var slice = new ByteRange(7, null).slice(new TestPart(false));
+
+        assertThat(slice.contentRange()).isEqualTo("bytes 7-9/10");
+        assertThat(slice.content().readAllBytes()).isEqualTo("789".getBytes());
+    }
+
+    @Test
+    void slice_shouldStopAtTheEnd_whenRangeExceedsThePart() throws IOException {
+        var slice = new ByteRange(7, 100L).slice(new TestPart(false));
+
+        assertThat(slice.contentRange()).isEqualTo("bytes 7-9/10");
+        assertThat(slice.content().readAllBytes()).isEqualTo("789".getBytes());
+    }
+
+    @Test
+    void slice_shouldNotBeSatisfiable_whenRangeStartsAfterTheEnd() throws IOException {
+        var slice = new ByteRange(10, null).slice(new TestPart(false));
+
+        assertThat(slice.satisfiable()).isFalse();
+        assertThat(slice.contentRange()).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void slice_shouldReadOnlyTheRange_whenPartSupportsRandomAccess() throws IOException {
+        var part = new TestPart(true);
+
+        var slice = new ByteRange(3, 5L).slice(part);
+
+        assertThat(slice.content().readAllBytes()).isEqualTo("345".getBytes());
+        assertThat(part.streamOpened).isFalse();
+    }
+
+    @Test
+    void slice_shouldReturnNull_whenSizeIsUnknown() throws IOException {
+        var part = new TestPart(false) {
+            @Override
+            public long size() {
+                return SIZE_UNKNOWN;
+            }
+        };
+
+        assertThat(new ByteRange(2, 5L).slice(part)).isNull();
+    }
+
+    private static class TestPart implements DataSource.Part {
+
+        private final byte[] content = "0123456789".getBytes();
+        private final boolean randomAccess;
+        private boolean streamOpened;
+
+        TestPart(boolean randomAccess) {
+            this.randomAccess = randomAccess;
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public long size() {
+            return content.length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            streamOpened = true;
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return randomAccess;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            return Arrays.copyOfRange(content, (int) offset, (int) Math.min(offset + bytes, content.length));
+        }
+    }
+}
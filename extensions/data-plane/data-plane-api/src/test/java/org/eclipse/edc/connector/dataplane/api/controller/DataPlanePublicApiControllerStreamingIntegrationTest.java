@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import io.restassured.specification.RequestSpecification;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ApiTest
+class DataPlanePublicApiControllerStreamingIntegrationTest extends RestControllerTestBase {
+
+    private static final String CONTENT = "0123456789";
+
+    private final PipelineService pipelineService = mock();
+    private final DataAddressResolver dataAddressResolver = mock();
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldStreamDataFromSource() {
+        mockTransfer();
+
+        baseRequest()
+                .header(AUTHORIZATION, UUID.randomUUID().toString())
+                .get("/any")
+                .then()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .header("Accept-Ranges", "bytes")
+                .body(is(CONTENT));
+
+        verify(pipelineService, never()).transfer(any(DataFlowRequest.class));
+    }
+
+    @Test
+    void shouldStreamRequestedRange() {
+        mockTransfer();
+
+        baseRequest()
+                .header(AUTHORIZATION, UUID.randomUUID().toString())
+                .header("Range", "bytes=2-5")
+                .get("/any")
+                .then()
+                .statusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
+                .header("Content-Range", "bytes 2-5/10")
+                .body(is("2345"));
+    }
+
+    @Test
+    void shouldReturnRangeNotSatisfiable_whenRangeStartsAfterTheEnd() {
+        mockTransfer();
+
+        baseRequest()
+                .header(AUTHORIZATION, UUID.randomUUID().toString())
+                .header("Range", "bytes=10-")
+                .get("/any")
+                .then()
+                .statusCode(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode())
+                .header("Content-Range", "bytes */10");
+    }
+
+    @Test
+    void shouldReturnInternalServerError_whenSourceCannotBeOpened() {
+        when(dataAddressResolver.resolve(any())).thenReturn(Result.success(DataAddress.Builder.newInstance().type("test").build()));
+        when(pipelineService.validate(any())).thenReturn(Result.success(true));
+        when(pipelineService.transfer(any(), any())).thenReturn(completedFuture(StreamResult.error("source unavailable")));
+
+        baseRequest()
+                .header(AUTHORIZATION, UUID.randomUUID().toString())
+                .get("/any")
+                .then()
+                .statusCode(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode())
+                .body("errors[0]", is("source unavailable"));
+    }
+
+    @Override
+    protected Object controller() {
+        return new DataPlanePublicApiController(pipelineService, dataAddressResolver, executorService, monitor);
+    }
+
+    private void mockTransfer() {
+        when(dataAddressResolver.resolve(any())).thenReturn(Result.success(DataAddress.Builder.newInstance().type("test").build()));
+        when(pipelineService.validate(any())).thenReturn(Result.success(true));
+        when(pipelineService.transfer(any(), any())).thenAnswer(invocation -> {
+            DataSink sink = invocation.getArgument(1);
+            return sink.transfer(new TestSource());
+        });
+    }
+
+    private RequestSpecification baseRequest() {
+        return given()
+                .baseUri("http://localhost:" + port)
+                .when();
+    }
+
+    private static class TestSource implements DataSource {
+
+        @Override
+        public StreamResult<Stream<Part>> openPartStream() {
+            return StreamResult.success(Stream.<Part>of(new TestPart()));
+        }
+
+        @Override
+        public void close() {
+            // no-op
+        }
+    }
+
+    private static class TestPart implements DataSource.Part {
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public long size() {
+            return CONTENT.length();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(CONTENT.getBytes());
+        }
+    }
+}
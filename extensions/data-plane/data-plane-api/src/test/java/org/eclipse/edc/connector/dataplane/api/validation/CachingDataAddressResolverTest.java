@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.CounterInstrumentation;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDataAddressResolverTest {
+
+    private final DataAddressResolver delegate = mock();
+    private final Clock clock = mock();
+    private CachingDataAddressResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        resolver = new CachingDataAddressResolver(delegate, 10, Duration.ofMinutes(5), clock, new TypeManager().getMapper());
+    }
+
+    @Test
+    void shouldResolveFromCache_whenTokenAlreadyResolved() {
+        var token = token(60);
+        when(delegate.resolve(any())).thenReturn(Result.success(dataAddress()));
+
+        var first = resolver.resolve(token);
+        var second = resolver.resolve(token);
+
+        assertThat(second.succeeded()).isTrue();
+        assertThat(second.getContent().getType()).isEqualTo("test");
+        assertThat(second.getContent()).isNotSameAs(first.getContent());
+        verify(delegate).resolve(token);
+        assertThat(resolver.hits()).isEqualTo(1);
+        assertThat(resolver.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void registerMetrics_shouldPublishHitsAndMisses() {
+        CounterInstrumentation instrumentation = mock();
+        resolver.registerMetrics(instrumentation);
+        var hits = ArgumentCaptor.forClass(LongSupplier.class);
+        var misses = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(instrumentation).counter(eq("edc.dataplane.token.cache.hits"), any(), eq(Map.of()), hits.capture());
+        verify(instrumentation).counter(eq("edc.dataplane.token.cache.misses"), any(), eq(Map.of()), misses.capture());
+        var token = token(60);
+        when(delegate.resolve(any())).thenReturn(Result.success(dataAddress()));
+
+        resolver.resolve(token);
+        resolver.resolve(token);
+        resolver.resolve(token);
+
+        assertThat(hits.getValue().getAsLong()).isEqualTo(2);
+        assertThat(misses.getValue().getAsLong()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldResolveAgain_whenTokenExpired() {
+        var token = token(60);
+        when(delegate.resolve(any())).thenReturn(Result.success(dataAddress()));
+
+        resolver.resolve(token);
+        when(clock.millis()).thenReturn(60_000L);
+        resolver.resolve(token);
+
+        verify(delegate, times(2)).resolve(token);
+    }
+
+    @Test
+    void shouldCapExpirationToMaxTimeToLive() {
+        var token = token(60 * 60);
+        when(delegate.resolve(any())).thenReturn(Result.success(dataAddress()));
+
+        resolver.resolve(token);
+        when(clock.millis()).thenReturn(Duration.ofMinutes(5).toMillis());
+        resolver.resolve(token);
+
+        verify(delegate, times(2)).resolve(token);
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        var token = token(60);
+        when(delegate.resolve(any())).thenReturn(Result.failure("invalid token"));
+
+        resolver.resolve(token);
+        resolver.resolve(token);
+
+        verify(delegate, times(2)).resolve(token);
+    }
+
+    @Test
+    void shouldNotCache_whenTokenIsNotParsable() {
+        var token = "header.not-base64!.signature";
+        when(delegate.resolve(any())).thenReturn(Result.success(dataAddress()));
+
+        resolver.resolve(token);
+        resolver.resolve(token);
+
+        verify(delegate, times(2)).resolve(token);
+    }
+
+    private String token(long expirationSeconds) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        var header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes());
+        var payload = encoder.encodeToString(("{\"exp\":" + expirationSeconds + "}").getBytes());
+        return header + "." + payload + ".signature";
+    }
+
+    private DataAddress dataAddress() {
+        return DataAddress.Builder.newInstance().type("test").build();
+    }
+}
@@ -74,7 +74,7 @@ public class DataPlaneHttpExtension implements ServiceExtension {
 
         var httpRequestFactory = new HttpRequestFactory();
 
-        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
+        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory, executorContainer.getExecutorService());
         pipelineService.registerFactory(sourceFactory);
 
         var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory);
@@ -15,17 +15,32 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -36,6 +51,14 @@ public class HttpDataSource implements DataSource {
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
+    private static final int OK = 200;
+    private static final int PARTIAL_CONTENT = 206;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+    private static final String GET = "GET";
+    private static final String RANGE = "Range";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String BYTES = "bytes";
 
     private String name;
     private HttpRequestParams params;
@@ -43,41 +66,154 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private ExecutorService executorService;
+    private int rangeConcurrency = 1;
+    private long rangeSize = HttpDataAddress.DEFAULT_RANGE_SIZE;
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
         var request = requestFactory.toRequest(params);
-        monitor.debug(() -> "Executing HTTP request: " + request.url());
-        try {
-            // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
-            var response = httpClient.execute(request);
-            if (response.isSuccessful()) {
-                var body = response.body();
-                if (body == null) {
-                    throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
+        if (rangedFetchEnabled(request)) {
+            var rangedRequest = request.newBuilder().header(RANGE, range(0, rangeSize - 1)).build();
+            var response = execute(rangedRequest);
+            if (response.code() == PARTIAL_CONTENT) {
+                var contentRange = ContentRange.parse(response.header(CONTENT_RANGE));
+                if (contentRange != null && contentRange.first() == 0 && contentRange.completeLength() != Part.SIZE_UNKNOWN) {
+                    return success(Stream.of(new RangedHttpPart(name, request, body(response).byteStream(), contentRange.length(), contentRange.completeLength())));
                 }
-                return success(Stream.of(new HttpPart(name, body.byteStream())));
-            } else {
-                try {
-                    if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
-                        return StreamResult.notAuthorized();
-                    } else if (NOT_FOUND == response.code()) {
-                        return StreamResult.notFound();
-                    } else {
-                        return error(format("Received code transferring HTTP data: %s - %s.", response.code(), response.message()));
-                    }
-                } finally {
-                    try {
-                        response.close();
-                    } catch (Exception e) {
-                        monitor.info("Error closing failed response", e);
-                    }
+            } else if (response.code() != RANGE_NOT_SATISFIABLE) {
+                // the origin ignored the range: the response is the whole content
+                return toPartStream(request, response);
+            }
+            // unknown length, unexpected range or empty content: fall back to a single request
+            close(response);
+        }
+        return toPartStream(request, execute(request));
+    }
+
+    private StreamResult<Stream<Part>> toPartStream(Request request, Response response) {
+        // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
+        if (response.isSuccessful()) {
+            return success(Stream.of(new HttpPart(name, request, response)));
+        } else {
+            try {
+                if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
+                    return StreamResult.notAuthorized();
+                } else if (NOT_FOUND == response.code()) {
+                    return StreamResult.notFound();
+                } else {
+                    return error(format("Received code transferring HTTP data: %s - %s.", response.code(), response.message()));
                 }
+            } finally {
+                close(response);
             }
+        }
+    }
+
+    private Response execute(Request request) {
+        monitor.debug(() -> "Executing HTTP request: " + request.url());
+        try {
+            return httpClient.execute(request);
         } catch (IOException e) {
             throw new EdcException(e);
         }
+    }
+
+    private ResponseBody body(Response response) {
+        var body = response.body();
+        if (body == null) {
+            throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
+        }
+        return body;
+    }
+
+    private void close(Response response) {
+        try {
+            response.close();
+        } catch (Exception e) {
+            monitor.info("Error closing failed response", e);
+        }
+    }
+
+    private boolean rangedFetchEnabled(Request request) {
+        return rangeConcurrency > 1 && rangeSize > 0 && executorService != null && GET.equals(request.method());
+    }
+
+    /**
+     * Fetches the given byte range, both positions are inclusive. The range is fetched again from the first missing
+     * byte if the origin returns a shorter one, and read out of the whole content if the origin ignores the range.
+     */
+    private byte[] fetchRange(Request request, long start, long end) {
+        var bytes = new ByteArrayOutputStream((int) (end - start + 1));
+        var offset = start;
+        while (offset <= end) {
+            var rangedRequest = request.newBuilder().header(RANGE, range(offset, end)).build();
+            try (var response = execute(rangedRequest)) {
+                if (response.code() == OK) {
+                    var content = body(response).byteStream();
+                    content.skipNBytes(offset);
+                    var remaining = content.readNBytes((int) (end - offset + 1));
+                    if (remaining.length != end - offset + 1) {
+                        throw new EdcException(format("Content of request %s ended before range %s-%s", requestId, offset, end));
+                    }
+                    bytes.write(remaining);
+                    return bytes.toByteArray();
+                }
+                if (response.code() != PARTIAL_CONTENT) {
+                    throw new EdcException(format("Expected partial content for range %s-%s of request %s, received: %s - %s", offset, end, requestId, response.code(), response.message()));
+                }
+                var contentRange = ContentRange.parse(response.header(CONTENT_RANGE));
+                if (contentRange == null || contentRange.first() != offset || contentRange.last() > end) {
+                    throw new EdcException(format("Expected range %s-%s of request %s, received: %s", offset, end, requestId, response.header(CONTENT_RANGE)));
+                }
+                var received = body(response).bytes();
+                if (received.length != contentRange.length()) {
+                    throw new EdcException(format("Expected %s bytes for range %s of request %s, received %s", contentRange.length(), response.header(CONTENT_RANGE), requestId, received.length));
+                }
+                bytes.write(received);
+                offset = contentRange.last() + 1;
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String range(long start, long end) {
+        return "bytes=" + start + "-" + end;
+    }
+
+    /**
+     * Value of a {@code Content-Range} header, e.g. {@code bytes 0-99/1234}. Both positions are inclusive.
+     */
+    private record ContentRange(long first, long last, long completeLength) {
+
+        private static final Pattern PATTERN = Pattern.compile("^bytes (\\d+)-(\\d+)/(\\d+|\\*)$");
+
+        static @Nullable ContentRange parse(@Nullable String header) {
+            if (header == null) {
+                return null;
+            }
+            var matcher = PATTERN.matcher(header.trim());
+            if (!matcher.matches()) {
+                return null;
+            }
+            try {
+                var first = Long.parseLong(matcher.group(1));
+                var last = Long.parseLong(matcher.group(2));
+                var completeLength = "*".equals(matcher.group(3)) ? Part.SIZE_UNKNOWN : Long.parseLong(matcher.group(3));
+                if (last < first || (completeLength != Part.SIZE_UNKNOWN && last >= completeLength)) {
+                    return null;
+                }
+                return new ContentRange(first, last, completeLength);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
 
+        long length() {
+            return last - first + 1;
+        }
     }
 
     private HttpDataSource() {
@@ -129,6 +265,24 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Executor on which the byte ranges get fetched when the ranged fetch is enabled.
+         */
+        public Builder executorService(ExecutorService executorService) {
+            dataSource.executorService = executorService;
+            return this;
+        }
+
+        public Builder rangeConcurrency(int rangeConcurrency) {
+            dataSource.rangeConcurrency = rangeConcurrency;
+            return this;
+        }
+
+        public Builder rangeSize(long rangeSize) {
+            dataSource.rangeSize = rangeSize;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
@@ -138,13 +292,23 @@ public class HttpDataSource implements DataSource {
         }
     }
 
-    private static class HttpPart implements Part {
+    /**
+     * Part read from a single response. When the origin advertises byte range support and the content length is known,
+     * the part supports random access: the ranges are then fetched with their own requests and the body of the
+     * response doesn't need to be read.
+     */
+    private class HttpPart implements Part {
         private final String name;
-        private final InputStream content;
+        private final Request request;
+        private final Response response;
+        private final long size;
 
-        HttpPart(String name, InputStream content) {
+        HttpPart(String name, Request request, Response response) {
             this.name = name;
-            this.content = content;
+            this.request = request;
+            this.response = response;
+            var contentLength = body(response).contentLength();
+            this.size = contentLength < 0 ? SIZE_UNKNOWN : contentLength;
         }
 
         @Override
@@ -154,13 +318,202 @@ public class HttpDataSource implements DataSource {
 
         @Override
         public long size() {
-            return SIZE_UNKNOWN;
+            return size;
         }
 
         @Override
         public InputStream openStream() {
-            return content;
+            return body(response).byteStream();
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return size != SIZE_UNKNOWN && GET.equals(request.method()) && BYTES.equalsIgnoreCase(response.header(ACCEPT_RANGES));
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            if (!supportsRandomAccess()) {
+                throw new UnsupportedOperationException("Random access not supported");
+            }
+            if (bytes <= 0 || offset >= size) {
+                return new byte[0];
+            }
+            return fetchRange(request, offset, Math.min(offset + bytes, size) - 1);
         }
 
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+
+    /**
+     * Part of an origin that supports range requests. The content is split into ranges of {@code rangeSize} bytes that
+     * are fetched concurrently on the executor, and then read in order: at most {@code rangeConcurrency} ranges are
+     * fetched ahead of the reader, which bounds the memory used.
+     */
+    private class RangedHttpPart implements Part {
+        private final String name;
+        private final Request request;
+        private final InputStream firstRange;
+        private final long firstRangeLength;
+        private final long size;
+
+        RangedHttpPart(String name, Request request, InputStream firstRange, long firstRangeLength, long size) {
+            this.name = name;
+            this.request = request;
+            this.firstRange = firstRange;
+            this.firstRangeLength = firstRangeLength;
+            this.size = size;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new RangedInputStream(request, firstRange, firstRangeLength, size);
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            if (bytes <= 0 || offset >= size) {
+                return new byte[0];
+            }
+            return fetchRange(request, offset, Math.min(offset + bytes, size) - 1);
+        }
+
+        @Override
+        public void close() throws Exception {
+            firstRange.close();
+        }
+    }
+
+    private class RangedInputStream extends InputStream {
+        private final Request request;
+        private final long size;
+        private final Deque<RangeFetch> fetches = new ArrayDeque<>();
+        private InputStream current;
+        private long currentRemaining;
+        private long nextOffset;
+
+        RangedInputStream(Request request, InputStream firstRange, long firstRangeLength, long size) {
+            this.request = request;
+            this.current = firstRange;
+            this.currentRemaining = firstRangeLength;
+            this.nextOffset = firstRangeLength;
+            this.size = size;
+            scheduleFetches();
+        }
+
+        @Override
+        public int read() throws IOException {
+            while (current != null) {
+                var b = current.read();
+                if (b >= 0) {
+                    currentRemaining--;
+                    return b;
+                }
+                nextRange();
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (current != null) {
+                var read = current.read(b, off, len);
+                if (read > 0) {
+                    currentRemaining -= read;
+                    return read;
+                }
+                nextRange();
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            fetches.forEach(fetch -> fetch.result.cancel(false));
+            fetches.clear();
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+        }
+
+        private void nextRange() throws IOException {
+            current.close();
+            if (currentRemaining != 0) {
+                throw new IOException(format("Range of request %s ended %s bytes before its end", requestId, currentRemaining));
+            }
+            var fetch = fetches.poll();
+            if (fetch == null) {
+                current = null;
+                return;
+            }
+            // runs the fetch on this thread if no executor thread picked it yet, so a saturated executor can't deadlock
+            fetch.run();
+            try {
+                var bytes = fetch.result.join();
+                current = new ByteArrayInputStream(bytes);
+                currentRemaining = bytes.length;
+            } catch (CompletionException | CancellationException e) {
+                throw new IOException("Failed to fetch range of request " + requestId, e.getCause() != null ? e.getCause() : e);
+            }
+            scheduleFetches();
+        }
+
+        private void scheduleFetches() {
+            while (fetches.size() < rangeConcurrency && nextOffset < size) {
+                var end = Math.min(nextOffset + rangeSize, size) - 1;
+                var fetch = new RangeFetch(request, nextOffset, end);
+                fetches.add(fetch);
+                executorService.execute(fetch);
+                nextOffset = end + 1;
+            }
+        }
+    }
+
+    private class RangeFetch implements Runnable {
+        private final Request request;
+        private final long start;
+        private final long end;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+
+        RangeFetch(Request request, long start, long end) {
+            this.request = request;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true) || result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(fetchRange(request, start, end));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }
     }
 }
@@ -24,9 +24,16 @@ import org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.RANGE_CONCURRENCY;
+import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.RANGE_SIZE;
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.HTTP_DATA_TYPE;
 
 /**
@@ -38,12 +45,22 @@ public class HttpDataSourceFactory implements DataSourceFactory {
     private final HttpRequestParamsProvider requestParamsProvider;
     private final Monitor monitor;
     private final HttpRequestFactory requestFactory;
+    private final ExecutorService executorService;
 
     public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory) {
+        this(httpClient, requestParamsProvider, monitor, requestFactory, null);
+    }
+
+    /**
+     * Creates a factory whose sources can fetch byte ranges concurrently on the given executor, when enabled on the
+     * source {@link HttpDataAddress}.
+     */
+    public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory, ExecutorService executorService) {
         this.httpClient = httpClient;
         this.requestParamsProvider = requestParamsProvider;
         this.monitor = monitor;
         this.requestFactory = requestFactory;
+        this.executorService = executorService;
     }
 
     @Override
@@ -53,6 +70,12 @@ public class HttpDataSourceFactory implements DataSourceFactory {
 
     @Override
     public @NotNull Result<Void> validateRequest(DataFlowRequest request) {
+        var source = request.getSourceDataAddress();
+        var rangeValidation = validatePositive(source, RANGE_CONCURRENCY, Integer::parseInt)
+                .<Void>merge(validatePositive(source, RANGE_SIZE, Long::parseLong));
+        if (rangeValidation.failed()) {
+            return rangeValidation;
+        }
         try {
             createSource(request);
         } catch (Exception e) {
@@ -61,6 +84,21 @@ public class HttpDataSourceFactory implements DataSourceFactory {
         return Result.success();
     }
 
+    private Result<Void> validatePositive(DataAddress address, String key, Function<String, ? extends Number> parser) {
+        var value = address.getStringProperty(key);
+        if (value == null) {
+            return Result.success();
+        }
+        try {
+            if (parser.apply(value.trim()).longValue() > 0) {
+                return Result.success();
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        return Result.failure(format("%s must be a positive integer, got: %s", key, value));
+    }
+
     @Override
     public DataSource createSource(DataFlowRequest request) {
         var dataAddress = HttpDataAddress.Builder.newInstance()
@@ -73,6 +111,9 @@ public class HttpDataSourceFactory implements DataSourceFactory {
                 .name(dataAddress.getName())
                 .params(requestParamsProvider.provideSourceParams(request))
                 .requestFactory(requestFactory)
+                .executorService(executorService)
+                .rangeConcurrency(dataAddress.getRangeConcurrency())
+                .rangeSize(dataAddress.getRangeSize())
                 .build();
     }
 }
@@ -30,9 +30,13 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.RANGE_CONCURRENCY;
+import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.RANGE_SIZE;
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.HTTP_DATA_TYPE;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -100,6 +104,18 @@ class HttpDataSourceFactoryTest {
         assertThat(source).usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-1", "abc", "1.5" })
+    void verifyValidationFails_whenRangeSettingsAreNotPositiveIntegers(String value) {
+        var concurrencyRequest = createRequest(HttpDataAddress.Builder.newInstance().property(RANGE_CONCURRENCY, value).build());
+        var sizeRequest = createRequest(HttpDataAddress.Builder.newInstance().property(RANGE_SIZE, value).build());
+
+        assertThat(factory.validateRequest(concurrencyRequest).failed()).isTrue();
+        assertThat(factory.validateRequest(concurrencyRequest).getFailureDetail()).contains(RANGE_CONCURRENCY);
+        assertThat(factory.validateRequest(sizeRequest).failed()).isTrue();
+        assertThat(factory.validateRequest(sizeRequest).getFailureDetail()).contains(RANGE_SIZE);
+    }
+
     private DataFlowRequest createRequest(DataAddress source) {
         return TestFunctions.createRequest(emptyMap(), source, DataAddress.Builder.newInstance().type("Test type").build()).build();
     }
@@ -33,14 +33,19 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.GENERAL_ERROR;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.NOT_AUTHORIZED;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
@@ -106,6 +111,109 @@ class HttpDataSourceTest {
         verify(requestFactory).toRequest(any());
     }
 
+    @Test
+    void verifyRangedFetch_whenOriginSupportsRanges() throws IOException {
+        var content = "0123456789abcdefghij".getBytes();
+        var interceptor = new RangeInterceptor(content);
+        var request = new Request.Builder().url(url).get().build();
+        var executor = Executors.newFixedThreadPool(2);
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .executorService(executor).rangeConcurrency(2).rangeSize(6).build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        try {
+            var parts = source.openPartStream().getContent().collect(Collectors.toList());
+
+            assertThat(parts).hasSize(1);
+            var part = parts.get(0);
+            assertThat(part.size()).isEqualTo(content.length);
+            assertThat(part.supportsRandomAccess()).isTrue();
+            try (var is = part.openStream()) {
+                assertThat(is.readAllBytes()).isEqualTo(content);
+            }
+            assertThat(part.read(18, 5)).isEqualTo("ij".getBytes());
+            assertThat(interceptor.ranges).contains("bytes=0-5", "bytes=6-11", "bytes=12-17", "bytes=18-19");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void verifyRangedFetch_shouldReadWholeContent_whenOriginIgnoresRanges() throws IOException {
+        var json = MAPPER.writeValueAsString(Map.of("key1", "Value1"));
+        var interceptor = new CustomInterceptor(200, ResponseBody.create(json, MediaType.parse("application/json")), "Test message");
+        var request = new Request.Builder().url(url).get().build();
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .executorService(mock(ExecutorService.class)).rangeConcurrency(2).rangeSize(6).build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var parts = source.openPartStream().getContent().collect(Collectors.toList());
+
+        assertThat(parts).hasSize(1);
+        try (var is = parts.get(0).openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(json);
+        }
+        assertThat(interceptor.getInterceptedRequest().header("Range")).isEqualTo("bytes=0-5");
+    }
+
+    @Test
+    void verifyRangedFetch_shouldFetchTheRest_whenOriginReturnsShorterRanges() throws IOException {
+        var content = "0123456789abcdefghij".getBytes();
+        var interceptor = new RangeInterceptor(content, 4, 0);
+        var request = new Request.Builder().url(url).get().build();
+        var executor = Executors.newFixedThreadPool(2);
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .executorService(executor).rangeConcurrency(2).rangeSize(6).build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        try (var is = source.openPartStream().getContent().findFirst().orElseThrow().openStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(content);
+            assertThat(interceptor.ranges).contains("bytes=0-5", "bytes=4-9", "bytes=8-9", "bytes=10-15", "bytes=14-15", "bytes=16-19");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void verifyRangedFetch_shouldFail_whenOriginReturnsAnotherRange() {
+        var content = "0123456789abcdefghij".getBytes();
+        var interceptor = new RangeInterceptor(content, Integer.MAX_VALUE, 1);
+        var request = new Request.Builder().url(url).get().build();
+        var executor = Executors.newFixedThreadPool(2);
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .executorService(executor).rangeConcurrency(2).rangeSize(6).build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        try (var is = source.openPartStream().getContent().findFirst().orElseThrow().openStream()) {
+            assertThatThrownBy(is::readAllBytes).isInstanceOf(IOException.class);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void verifyRandomAccess_whenOriginAcceptsRanges() throws Exception {
+        var content = "0123456789abcdefghij".getBytes();
+        var interceptor = new RangeInterceptor(content);
+        var request = new Request.Builder().url(url).get().build();
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory).build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        try (var part = source.openPartStream().getContent().findFirst().orElseThrow()) {
+            assertThat(part.size()).isEqualTo(content.length);
+            assertThat(part.supportsRandomAccess()).isTrue();
+            assertThat(part.read(4, 3)).isEqualTo("456".getBytes());
+        }
+        assertThat(interceptor.ranges).containsExactly(null, "bytes=4-6");
+    }
+
     static Stream<StreamFailureArgument> verifyCallFailed() {
         return Stream.of(
                 new StreamFailureArgument(400, GENERAL_ERROR),
@@ -123,6 +231,56 @@ class HttpDataSourceTest {
                 .requestId(requestId);
     }
 
+    static final class RangeInterceptor implements Interceptor {
+        private final List<String> ranges = new CopyOnWriteArrayList<>();
+        private final byte[] content;
+        private final int maxRangeLength;
+        private final int shift;
+
+        RangeInterceptor(byte[] content) {
+            this(content, Integer.MAX_VALUE, 0);
+        }
+
+        /**
+         * Serves at most {@code maxRangeLength} bytes per range, and ranges starting {@code shift} bytes after the
+         * requested ones, except for the first.
+         */
+        RangeInterceptor(byte[] content, int maxRangeLength, int shift) {
+            this.content = content;
+            this.maxRangeLength = maxRangeLength;
+            this.shift = shift;
+        }
+
+        @NotNull
+        @Override
+        public Response intercept(@NotNull Interceptor.Chain chain) {
+            var range = chain.request().header("Range");
+            ranges.add(range);
+            if (range == null) {
+                return new Response.Builder()
+                        .request(chain.request())
+                        .protocol(HTTP_1_1)
+                        .code(200)
+                        .header("Accept-Ranges", "bytes")
+                        .body(ResponseBody.create(content, MediaType.parse("application/octet-stream")))
+                        .message("OK")
+                        .build();
+            }
+            var bounds = range.substring("bytes=".length()).split("-");
+            var start = Integer.parseInt(bounds[0]);
+            start = start == 0 ? 0 : start + shift;
+            var end = Math.min(Math.min(Integer.parseInt(bounds[1]), start + maxRangeLength - 1), content.length - 1);
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(HTTP_1_1)
+                    .code(206)
+                    .header("Content-Range", "bytes " + start + "-" + end + "/" + content.length)
+                    .body(ResponseBody.create(Arrays.copyOfRange(content, start, end + 1), MediaType.parse("application/octet-stream")))
+                    .message("Partial Content")
+                    .build();
+        }
+    }
+
     static final class CustomInterceptor implements Interceptor {
         private final List<Request> requests = new ArrayList<>();
         private final int statusCode;
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.dataplane.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
@@ -21,6 +23,8 @@ import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSinkFactory;
 import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSourceFactory;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
@@ -31,6 +35,9 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Kafka";
 
+    @Setting(value = "Prefix of the default Kafka producer properties, e.g. edc.dataplane.kafka.producer.linger.ms to tune the batching. Properties set on the data address take precedence")
+    private static final String PRODUCER_PROPERTIES_PREFIX = "edc.dataplane.kafka.producer";
+
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
 
@@ -40,6 +47,12 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     @Override
     public String name() {
         return NAME;
@@ -48,9 +61,10 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
-        var propertiesFactory = new KafkaPropertiesFactory();
+        var propertiesFactory = new KafkaPropertiesFactory(context.getConfig(PRODUCER_PROPERTIES_PREFIX).getRelativeEntries());
 
-        pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock));
-        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory));
+        pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock, executorInstrumentation));
+        var registry = meterRegistry != null ? meterRegistry : new CompositeMeterRegistry();
+        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, registry));
     }
 }
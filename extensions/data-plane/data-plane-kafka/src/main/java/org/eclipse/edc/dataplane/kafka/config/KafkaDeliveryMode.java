@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.config;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE;
+
+/**
+ * Delivery guarantees of the messages published by the Kafka sink.
+ */
+public enum KafkaDeliveryMode {
+
+    /**
+     * Messages are handed to the producer and the transfer completes, send failures are only logged.
+     */
+    FIRE_AND_FORGET("fireAndForget"),
+
+    /**
+     * The producer is flushed and the transfer completes only once every message has been acknowledged.
+     */
+    AT_LEAST_ONCE("atLeastOnce"),
+
+    /**
+     * The messages are published in transactions of a bounded number of messages. A failure aborts the ongoing
+     * transaction and fails the transfer, the transactions committed before are kept.
+     */
+    TRANSACTIONAL("transactional");
+
+    private final String value;
+
+    KafkaDeliveryMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Parse the {@link org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema#DELIVERY_MODE} property.
+     *
+     * @param value the property value, can be null.
+     * @return the delivery mode, {@link #AT_LEAST_ONCE} if the value is null.
+     * @throws IllegalArgumentException if the value is not a known delivery mode.
+     */
+    public static KafkaDeliveryMode fromValue(String value) {
+        if (value == null) {
+            return AT_LEAST_ONCE;
+        }
+        return Arrays.stream(values())
+                .filter(mode -> mode.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Invalid %s '%s', valid values are: %s".formatted(DELIVERY_MODE, value, validValues())));
+    }
+
+    private static String validValues() {
+        return Arrays.stream(values()).map(KafkaDeliveryMode::getValue).collect(Collectors.joining(", "));
+    }
+}
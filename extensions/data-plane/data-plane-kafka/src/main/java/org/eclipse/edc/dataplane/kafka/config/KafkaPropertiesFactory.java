@@ -26,10 +26,27 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.regex.Pattern;
 
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_PROPERTIES_PREFIX;
 
 public class KafkaPropertiesFactory {
 
+    private final Map<String, String> producerDefaults;
+
+    public KafkaPropertiesFactory() {
+        this(Map.of());
+    }
+
+    /**
+     * Creates a factory whose producer properties start from the given defaults, e.g. to tune the batching with
+     * {@code linger.ms} and {@code batch.size}. The properties of the data address take precedence over the defaults.
+     *
+     * @param producerDefaults the default producer properties.
+     */
+    public KafkaPropertiesFactory(Map<String, String> producerDefaults) {
+        this.producerDefaults = producerDefaults;
+    }
+
     public Result<Properties> getConsumerProperties(Map<String, Object> properties) {
         return getCommonProperties(properties)
                 .map(props -> {
@@ -40,10 +57,21 @@ public class KafkaPropertiesFactory {
     }
 
     public Result<Properties> getProducerProperties(Map<String, Object> properties) {
+        KafkaDeliveryMode deliveryMode;
+        try {
+            deliveryMode = KafkaDeliveryMode.fromValue((String) properties.get(DELIVERY_MODE));
+        } catch (IllegalArgumentException e) {
+            return Result.failure(e.getMessage());
+        }
         return getCommonProperties(properties)
                 .map(props -> {
+                    producerDefaults.forEach(props::putIfAbsent);
                     props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
                     props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+                    if (deliveryMode == KafkaDeliveryMode.TRANSACTIONAL) {
+                        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "true");
+                        props.put(ProducerConfig.ACKS_CONFIG, "all");
+                    }
                     return props;
                 });
     }
@@ -14,28 +14,65 @@
 
 package org.eclipse.edc.dataplane.kafka.pipeline;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
-import org.eclipse.edc.spi.result.AbstractResult;
+import org.eclipse.edc.dataplane.kafka.config.KafkaDeliveryMode;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Publishes every part as a message to a topic. Depending on the {@link KafkaDeliveryMode}, the transfer succeeds once
+ * the messages are handed to the producer, once they are acknowledged, or once the transactions they're published in
+ * are committed. In the transactional mode, a transaction is committed every {@code transactionSize} messages, so that
+ * an unbounded transfer doesn't hold a single transaction open.
+ * <p>
+ * The published messages and bytes, the failures, the acknowledgement latency and the transfer duration are recorded on
+ * the {@link MeterRegistry}, tagged by topic.
+ */
 class KafkaDataSink extends ParallelSink implements Closeable {
 
+    public static final int DEFAULT_TRANSACTION_SIZE = 1000;
+    private static final String METRIC_PREFIX = "edc.dataplane.kafka.sink.";
+    private static final String TOPIC_TAG = "topic";
+
+    private final Object transactionLock = new Object();
     private String topic;
     private Producer<String, byte[]> producer;
+    private KafkaDeliveryMode deliveryMode = KafkaDeliveryMode.AT_LEAST_ONCE;
+    private int transactionSize = DEFAULT_TRANSACTION_SIZE;
+    private MeterRegistry meterRegistry = new CompositeMeterRegistry();
+    private Counter messages;
+    private Counter bytes;
+    private Counter failures;
+    private Timer acknowledgementLatency;
+    private Timer transferDuration;
+    private boolean transactionOpen;
+    private int transactionMessages;
+    private boolean transactionFailed;
 
     private KafkaDataSink() {
     }
-    
+
     @Override
     public void close() {
         if (producer != null) {
@@ -43,26 +80,135 @@ class KafkaDataSink extends ParallelSink implements Closeable {
         }
     }
 
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        var sample = Timer.start(meterRegistry);
+        return super.transfer(source)
+                .thenApply(result -> {
+                    if (result.failed() && deliveryMode == KafkaDeliveryMode.TRANSACTIONAL) {
+                        synchronized (transactionLock) {
+                            transactionFailed = true;
+                            abortTransaction();
+                        }
+                    }
+                    sample.stop(transferDuration);
+                    return result;
+                });
+    }
+
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
-        return parts.stream()
-                .map(this::publishPart)
-                .filter(AbstractResult::failed)
-                .findFirst()
-                .orElse(StreamResult.success());
+        if (deliveryMode != KafkaDeliveryMode.TRANSACTIONAL) {
+            return send(parts);
+        }
+        synchronized (transactionLock) {
+            if (transactionFailed) {
+                return StreamResult.error("Transaction aborted because of a previous failure");
+            }
+            try {
+                if (!transactionOpen) {
+                    producer.beginTransaction();
+                    transactionOpen = true;
+                }
+                var result = send(parts);
+                if (result.failed()) {
+                    transactionFailed = true;
+                    abortTransaction();
+                    return result;
+                }
+                transactionMessages += parts.size();
+                if (transactionMessages >= transactionSize) {
+                    commitTransaction();
+                }
+                return result;
+            } catch (KafkaException e) {
+                transactionFailed = true;
+                abortTransaction();
+                failures.increment();
+                return StreamResult.error("Failed to publish transaction: " + e.getMessage());
+            }
+        }
     }
 
-    private StreamResult<Object> publishPart(DataSource.Part part) {
-        try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
+    @Override
+    protected StreamResult<Object> complete() {
+        if (deliveryMode == KafkaDeliveryMode.TRANSACTIONAL) {
+            synchronized (transactionLock) {
+                try {
+                    commitTransaction();
+                } catch (KafkaException e) {
+                    transactionFailed = true;
+                    abortTransaction();
+                    return StreamResult.error("Failed to commit transaction: " + e.getMessage());
                 }
-            });
+            }
+        }
+        return super.complete();
+    }
+
+    private StreamResult<Object> send(List<DataSource.Part> parts) {
+        var sends = new ArrayList<Future<RecordMetadata>>();
+        for (var part : parts) {
+            try (var is = part.openStream()) {
+                var value = is.readAllBytes();
+                var sentAt = System.nanoTime();
+                sends.add(producer.send(new ProducerRecord<>(topic, null, value), (metadata, exception) -> onCompletion(sentAt, value.length, exception)));
+            } catch (IOException e) {
+                failures.increment();
+                return StreamResult.error("Failed to open part with name: " + part.name());
+            } catch (KafkaException e) {
+                failures.increment();
+                return StreamResult.error("Failed to publish part with name: %s: %s".formatted(part.name(), e.getMessage()));
+            }
+        }
+
+        if (deliveryMode == KafkaDeliveryMode.FIRE_AND_FORGET) {
             return StreamResult.success();
-        } catch (IOException e) {
-            return StreamResult.error("Failed to open part with name: " + part.name());
+        }
+
+        producer.flush();
+        for (var send : sends) {
+            try {
+                send.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return StreamResult.error("Interrupted while waiting for the messages acknowledgement");
+            } catch (ExecutionException e) {
+                return StreamResult.error("Failed to publish message: " + e.getCause().getMessage());
+            }
+        }
+        return StreamResult.success();
+    }
+
+    private void onCompletion(long sentAt, int size, Exception exception) {
+        if (exception != null) {
+            failures.increment();
+            monitor.warning("Failed to publish message to topic %s for request %s".formatted(topic, requestId), exception);
+        } else {
+            messages.increment();
+            bytes.increment(size);
+            acknowledgementLatency.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void commitTransaction() {
+        if (transactionOpen) {
+            producer.commitTransaction();
+            transactionOpen = false;
+            transactionMessages = 0;
+        }
+    }
+
+    private void abortTransaction() {
+        if (!transactionOpen) {
+            return;
+        }
+        transactionOpen = false;
+        transactionMessages = 0;
+        try {
+            producer.abortTransaction();
+        } catch (KafkaException e) {
+            monitor.warning("Failed to abort transaction of request " + requestId, e);
         }
     }
 
@@ -83,18 +229,68 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
+        public Builder deliveryMode(KafkaDeliveryMode deliveryMode) {
+            sink.deliveryMode = deliveryMode;
+            return this;
+        }
+
+        /**
+         * Number of messages after which the transaction is committed, in the transactional delivery mode.
+         */
+        public Builder transactionSize(int transactionSize) {
+            sink.transactionSize = transactionSize;
+            return this;
+        }
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            sink.meterRegistry = meterRegistry;
+            return this;
+        }
+
         public Builder producerProperties(Properties producerProperties) {
             this.producerProperties = producerProperties;
             return this;
         }
 
+        /**
+         * Producer to publish with, instead of creating one from the producer properties.
+         */
+        public Builder producer(Producer<String, byte[]> producer) {
+            sink.producer = producer;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
-            Objects.requireNonNull(producerProperties, "producerProperties");
+            Objects.requireNonNull(sink.meterRegistry, "meterRegistry");
+            if (sink.transactionSize < 1) {
+                throw new IllegalArgumentException("transactionSize must be positive");
+            }
+
+            if (sink.producer == null) {
+                Objects.requireNonNull(producerProperties, "producerProperties");
+                if (sink.deliveryMode == KafkaDeliveryMode.TRANSACTIONAL) {
+                    Objects.requireNonNull(producerProperties.get(ProducerConfig.TRANSACTIONAL_ID_CONFIG), ProducerConfig.TRANSACTIONAL_ID_CONFIG);
+                }
+                sink.producer = new KafkaProducer<>(producerProperties);
+            }
+            if (sink.deliveryMode == KafkaDeliveryMode.TRANSACTIONAL) {
+                sink.producer.initTransactions();
+            }
 
-            sink.producer = new KafkaProducer<>(producerProperties);
+            var registry = sink.meterRegistry;
+            sink.messages = Counter.builder(METRIC_PREFIX + "messages").description("Messages published and acknowledged")
+                    .tag(TOPIC_TAG, sink.topic).register(registry);
+            sink.bytes = Counter.builder(METRIC_PREFIX + "bytes").description("Bytes published and acknowledged").baseUnit("bytes")
+                    .tag(TOPIC_TAG, sink.topic).register(registry);
+            sink.failures = Counter.builder(METRIC_PREFIX + "failures").description("Messages that failed to be published")
+                    .tag(TOPIC_TAG, sink.topic).register(registry);
+            sink.acknowledgementLatency = Timer.builder(METRIC_PREFIX + "acknowledgement.latency").description("Time between sending a message and its acknowledgement")
+                    .tag(TOPIC_TAG, sink.topic).register(registry);
+            sink.transferDuration = Timer.builder(METRIC_PREFIX + "transfer.duration").description("Duration of the transfers to the topic")
+                    .tag(TOPIC_TAG, sink.topic).register(registry);
         }
     }
 }
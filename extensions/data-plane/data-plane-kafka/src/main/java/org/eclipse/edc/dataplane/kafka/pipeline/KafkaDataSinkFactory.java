@@ -14,8 +14,11 @@
 
 package org.eclipse.edc.dataplane.kafka.pipeline;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
+import org.eclipse.edc.dataplane.kafka.config.KafkaDeliveryMode;
 import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -27,22 +30,27 @@ import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TRANSACTION_SIZE;
 
 public class KafkaDataSinkFactory implements DataSinkFactory {
 
     private final ExecutorService executorService;
     private final Monitor monitor;
     private final KafkaPropertiesFactory propertiesFactory;
+    private final MeterRegistry meterRegistry;
     private final Validator<DataAddress> validation;
 
-    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory) {
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, MeterRegistry meterRegistry) {
         this.executorService = executorService;
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
+        this.meterRegistry = meterRegistry;
         this.validation = new KafkaDataAddressValidator();
     }
 
@@ -54,7 +62,20 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
     @Override
     public @NotNull Result<Void> validateRequest(DataFlowRequest request) {
         var destination = request.getDestinationDataAddress();
-        return validation.validate(destination).flatMap(ValidationResult::toResult);
+        var result = validation.validate(destination).flatMap(ValidationResult::toResult);
+        if (result.failed()) {
+            return result;
+        }
+        try {
+            KafkaDeliveryMode.fromValue(destination.getStringProperty(DELIVERY_MODE));
+        } catch (IllegalArgumentException e) {
+            return Result.failure(e.getMessage());
+        }
+        var transactionSize = destination.getStringProperty(TRANSACTION_SIZE);
+        if (transactionSize != null && parsePositive(transactionSize) == null) {
+            return Result.failure("%s must be a positive integer, got: %s".formatted(TRANSACTION_SIZE, transactionSize));
+        }
+        return Result.success();
     }
 
     @Override
@@ -67,13 +88,29 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
         var destination = request.getDestinationDataAddress();
         var producerProps = propertiesFactory.getProducerProperties(destination.getProperties())
                 .orElseThrow(failure -> new IllegalArgumentException(failure.getFailureDetail()));
+        var deliveryMode = KafkaDeliveryMode.fromValue(destination.getStringProperty(DELIVERY_MODE));
+        if (deliveryMode == KafkaDeliveryMode.TRANSACTIONAL) {
+            producerProps.putIfAbsent(ProducerConfig.TRANSACTIONAL_ID_CONFIG, request.getId());
+        }
 
         return KafkaDataSink.Builder.newInstance()
                 .monitor(monitor)
                 .requestId(request.getId())
                 .topic(destination.getStringProperty(TOPIC))
                 .producerProperties(producerProps)
+                .deliveryMode(deliveryMode)
+                .transactionSize(Optional.ofNullable(destination.getStringProperty(TRANSACTION_SIZE)).map(this::parsePositive).orElse(KafkaDataSink.DEFAULT_TRANSACTION_SIZE))
+                .meterRegistry(meterRegistry)
                 .executorService(executorService)
                 .build();
     }
+
+    private Integer parsePositive(String value) {
+        try {
+            var parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -21,6 +21,7 @@ import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.eclipse.edc.validator.dataaddress.kafka.KafkaDataAddressValidator;
@@ -31,11 +32,15 @@ import org.jetbrains.annotations.NotNull;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_SIZE;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.CONSUMERS;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.MAX_DURATION;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.NAME;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.POLL_DURATION;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.PREFETCH_SIZE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
 
 public class KafkaDataSourceFactory implements DataSourceFactory {
@@ -46,12 +51,14 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
     private final Validator<DataAddress> validation;
     private final KafkaPropertiesFactory propertiesFactory;
     private final Clock clock;
+    private final ExecutorInstrumentation executorInstrumentation;
 
-    public KafkaDataSourceFactory(Monitor monitor, KafkaPropertiesFactory propertiesFactory, Clock clock) {
+    public KafkaDataSourceFactory(Monitor monitor, KafkaPropertiesFactory propertiesFactory, Clock clock, ExecutorInstrumentation executorInstrumentation) {
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
         this.validation = new KafkaDataAddressValidator();
         this.clock = clock;
+        this.executorInstrumentation = executorInstrumentation;
     }
 
     @Override
@@ -62,7 +69,15 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
     @Override
     public @NotNull Result<Void> validateRequest(DataFlowRequest request) {
         var source = request.getSourceDataAddress();
-        return validation.validate(source).flatMap(ValidationResult::toResult);
+        var result = validation.validate(source).flatMap(ValidationResult::toResult);
+        if (result.failed()) {
+            return result;
+        }
+        return Stream.of(CONSUMERS, BATCH_SIZE, PREFETCH_SIZE)
+                .filter(key -> source.getStringProperty(key) != null && parsePositive(source.getStringProperty(key)) == null)
+                .map(key -> Result.<Void>failure("%s must be a positive integer, got: %s".formatted(key, source.getStringProperty(key))))
+                .reduce(Result::merge)
+                .orElse(Result.success());
     }
 
     @Override
@@ -90,6 +105,23 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .map(Duration::parse)
                 .orElse(DEFAULT_POLL_DURATION);
 
+        var consumers = source.getStringProperty(CONSUMERS);
+        if (consumers != null) {
+            return ParallelKafkaDataSource.Builder.newInstance()
+                    .monitor(monitor)
+                    .clock(clock)
+                    .topic(topic)
+                    .name(name)
+                    .pollDuration(pollDuration)
+                    .maxDuration(maxDuration)
+                    .consumerProperties(consumerProps)
+                    .consumers(parsePositive(consumers))
+                    .batchSize(Optional.ofNullable(source.getStringProperty(BATCH_SIZE)).map(this::parsePositive).orElse(1))
+                    .prefetchSize(Optional.ofNullable(source.getStringProperty(PREFETCH_SIZE)).map(this::parsePositive).orElse(0))
+                    .executorInstrumentation(executorInstrumentation)
+                    .build();
+        }
+
         return KafkaDataSource.Builder.newInstance()
                 .monitor(monitor)
                 .clock(clock)
@@ -100,4 +132,13 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .consumerProperties(consumerProps)
                 .build();
     }
+
+    private Integer parsePositive(String value) {
+        try {
+            var parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,449 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.StreamSupport.stream;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
+
+/**
+ * Kafka data source that consumes the topic with several consumers of the same group, each one polling its own
+ * partitions on a dedicated thread. The polled records are grouped by partition into parts of up to {@code batchSize}
+ * records, that are handed to the sink through a bounded queue: when the queue is full the consumers pause their
+ * partitions until the sink catches up.
+ * <p>
+ * Offsets are committed manually, and only once the sink has reported the parts as written through
+ * {@link Part#onTransferred()}, in polling order, so the records that were not transferred are consumed again after a
+ * restart. A part read by a sink that then fails to write it is never committed. When partitions are revoked from a
+ * consumer, the offsets of their transferred parts are committed and their parts not yet handed to the sink are dropped,
+ * to be consumed again by the new owner of the partitions.
+ */
+class ParallelKafkaDataSource implements DataSource {
+
+    private static final byte RECORD_SEPARATOR = '\n';
+
+    private String name;
+    private Monitor monitor;
+    private Duration pollDuration;
+    private Duration maxDuration;
+    private Clock clock;
+    private int batchSize = 1;
+    private BlockingQueue<RecordBatch> queue;
+    private ExecutorService executorService;
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private final List<Poller> pollers = new ArrayList<>();
+    private final AtomicBoolean active = new AtomicBoolean(true);
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    private ParallelKafkaDataSource() {
+    }
+
+    /**
+     * Stops the consumers: the ones that were started close themselves once their current poll completes, the others
+     * are closed right away.
+     */
+    @Override
+    public synchronized void close() {
+        if (!active.compareAndSet(true, false)) {
+            return;
+        }
+        if (executorService == null) {
+            pollers.forEach(poller -> poller.consumer.close());
+        } else {
+            executorService.shutdown();
+        }
+    }
+
+    @Override
+    public synchronized StreamResult<Stream<Part>> openPartStream() {
+        if (!active.get() || executorService != null) {
+            return StreamResult.error("KafkaDataSource %s is already opened or closed".formatted(name));
+        }
+        executorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(pollers.size()), "KafkaDataSource " + name);
+        pollers.forEach(executorService::execute);
+
+        var stream = stream(spliteratorUnknownSize(new RecordBatchIterator(), 0), /* not parallel */ false)
+                .map(Part.class::cast)
+                .onClose(this::close);
+        return success(stream);
+    }
+
+    public static class Builder {
+
+        private Properties consumerProperties;
+        private String topic;
+        private int consumers = 1;
+        private int prefetchSize;
+        private Function<Properties, Consumer<String, byte[]>> consumerFactory = KafkaConsumer::new;
+        private final ParallelKafkaDataSource dataSource;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder name(String name) {
+            dataSource.name = name;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            dataSource.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            dataSource.clock = clock;
+            return this;
+        }
+
+        public Builder topic(String topic) {
+            this.topic = topic;
+            return this;
+        }
+
+        public Builder pollDuration(Duration pollDuration) {
+            dataSource.pollDuration = pollDuration;
+            return this;
+        }
+
+        public Builder maxDuration(Duration maxDuration) {
+            dataSource.maxDuration = maxDuration;
+            return this;
+        }
+
+        public Builder consumerProperties(Properties consumerProperties) {
+            this.consumerProperties = consumerProperties;
+            return this;
+        }
+
+        public Builder consumers(int consumers) {
+            this.consumers = consumers;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            dataSource.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder prefetchSize(int prefetchSize) {
+            this.prefetchSize = prefetchSize;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            dataSource.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder consumerFactory(Function<Properties, Consumer<String, byte[]>> consumerFactory) {
+            this.consumerFactory = consumerFactory;
+            return this;
+        }
+
+        public ParallelKafkaDataSource build() {
+            Objects.requireNonNull(dataSource.monitor, "monitor");
+            Objects.requireNonNull(dataSource.pollDuration, "pollDuration");
+            Objects.requireNonNull(topic, "topic");
+            Objects.requireNonNull(consumerProperties, "consumerProperties");
+            Objects.requireNonNull(dataSource.clock, "clock");
+            Objects.requireNonNull(dataSource.executorInstrumentation, "executorInstrumentation");
+            if (consumers < 1 || dataSource.batchSize < 1 || prefetchSize < 0) {
+                throw new IllegalArgumentException("consumers and batchSize must be positive, prefetchSize must not be negative");
+            }
+
+            dataSource.queue = new ArrayBlockingQueue<>(prefetchSize > 0 ? prefetchSize : 10 * consumers);
+
+            var properties = new Properties();
+            properties.putAll(consumerProperties);
+            properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+            for (var i = 0; i < consumers; i++) {
+                var poller = dataSource.new Poller(consumerFactory.apply(properties));
+                poller.consumer.subscribe(List.of(topic), poller);
+                dataSource.pollers.add(poller);
+            }
+
+            return dataSource;
+        }
+
+        private Builder() {
+            dataSource = new ParallelKafkaDataSource();
+        }
+    }
+
+    /**
+     * Records of a partition transferred as a single part. The batch is acknowledged when the sink reports it as
+     * written.
+     */
+    private class RecordBatch implements Part {
+
+        private final Poller poller;
+        private final TopicPartition partition;
+        private final List<ConsumerRecord<String, byte[]>> records;
+        private final AtomicBoolean acknowledged = new AtomicBoolean();
+
+        RecordBatch(Poller poller, TopicPartition partition, List<ConsumerRecord<String, byte[]>> records) {
+            this.poller = poller;
+            this.partition = partition;
+            this.records = records;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content());
+        }
+
+        @Override
+        public void onTransferred() {
+            acknowledged.set(true);
+        }
+
+        long nextOffset() {
+            return records.get(records.size() - 1).offset() + 1;
+        }
+
+        private byte[] content() {
+            if (records.size() == 1) {
+                return value(records.get(0));
+            }
+            var content = new ByteArrayOutputStream();
+            for (var i = 0; i < records.size(); i++) {
+                if (i > 0) {
+                    content.write(RECORD_SEPARATOR);
+                }
+                content.writeBytes(value(records.get(i)));
+            }
+            return content.toByteArray();
+        }
+
+        private byte[] value(ConsumerRecord<String, byte[]> record) {
+            return record.value() == null ? new byte[0] : record.value();
+        }
+    }
+
+    /**
+     * Polls a consumer on its own thread, as {@link KafkaConsumer} is not thread-safe: the acknowledged offsets are
+     * committed by the same loop, and the rebalance callbacks are invoked by the consumer on this thread too.
+     */
+    private class Poller implements Runnable, ConsumerRebalanceListener {
+
+        private final Consumer<String, byte[]> consumer;
+        private final Deque<RecordBatch> inFlight = new ArrayDeque<>();
+
+        Poller(Consumer<String, byte[]> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (active.get()) {
+                    commitAcknowledged();
+                    var records = consumer.poll(pollDuration);
+                    for (var partition : records.partitions()) {
+                        var partitionRecords = records.records(partition);
+                        // stops when the partition gets revoked while enqueuing its batches
+                        for (var i = 0; i < partitionRecords.size() && active.get() && consumer.assignment().contains(partition); i += batchSize) {
+                            var batch = new RecordBatch(this, partition, partitionRecords.subList(i, Math.min(i + batchSize, partitionRecords.size())));
+                            inFlight.add(batch);
+                            enqueue(batch);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                monitor.severe("KafkaDataSource %s failed to consume records".formatted(name), e);
+                failure.compareAndSet(null, e);
+                active.set(false);
+            } finally {
+                try {
+                    commitAcknowledged();
+                } catch (Exception e) {
+                    monitor.warning("KafkaDataSource %s failed to commit offsets".formatted(name), e);
+                }
+                consumer.close();
+            }
+        }
+
+        private void enqueue(RecordBatch batch) throws InterruptedException {
+            var paused = false;
+            try {
+                while (!queue.offer(batch, pollDuration.toMillis(), TimeUnit.MILLISECONDS)) {
+                    if (!active.get()) {
+                        return;
+                    }
+                    if (!paused) {
+                        consumer.pause(consumer.assignment());
+                        paused = true;
+                    }
+                    commitAcknowledged();
+                    // keeps the consumer alive in the group, records of partitions assigned meanwhile are polled again later
+                    var records = consumer.poll(Duration.ZERO);
+                    records.partitions().forEach(partition -> consumer.seek(partition, records.records(partition).get(0).offset()));
+                    if (!consumer.assignment().contains(batch.partition)) {
+                        // revoked meanwhile, the batch has been dropped
+                        return;
+                    }
+                }
+            } finally {
+                if (paused) {
+                    consumer.resume(consumer.paused());
+                }
+            }
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            if (partitions.isEmpty()) {
+                return;
+            }
+            var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+            var pending = new HashSet<TopicPartition>();
+            for (var batch : inFlight) {
+                if (partitions.contains(batch.partition) && !pending.contains(batch.partition)) {
+                    if (batch.acknowledged.get()) {
+                        offsets.put(batch.partition, new OffsetAndMetadata(batch.nextOffset()));
+                    } else {
+                        pending.add(batch.partition);
+                    }
+                }
+            }
+            try {
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+            } catch (Exception e) {
+                monitor.warning("KafkaDataSource %s failed to commit offsets of revoked partitions %s".formatted(name, partitions), e);
+            }
+            dropBatches(partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            // nothing to do, consumption resumes from the committed offsets
+        }
+
+        @Override
+        public void onPartitionsLost(Collection<TopicPartition> partitions) {
+            dropBatches(partitions);
+        }
+
+        /**
+         * Forgets the batches of partitions no longer assigned: the ones still queued are not handed to the sink, the
+         * ones already handed are not committed and will be consumed again by the new owner of the partition.
+         */
+        private void dropBatches(Collection<TopicPartition> partitions) {
+            inFlight.removeIf(batch -> partitions.contains(batch.partition));
+            queue.removeIf(batch -> batch.poller == this && partitions.contains(batch.partition));
+        }
+
+        private void commitAcknowledged() {
+            var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+            while (!inFlight.isEmpty() && inFlight.peek().acknowledged.get()) {
+                var batch = inFlight.poll();
+                offsets.put(batch.partition, new OffsetAndMetadata(batch.nextOffset()));
+            }
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets);
+            }
+        }
+    }
+
+    private class RecordBatchIterator implements Iterator<RecordBatch> {
+
+        private final Instant streamEnd;
+        private RecordBatch next;
+
+        RecordBatchIterator() {
+            this.streamEnd = maxDuration == null ? Instant.MAX : clock.instant().plus(maxDuration);
+            monitor.debug(String.format("KafkaDataSource %s starts consuming events with %s consumers until: %s", name, pollers.size(), streamEnd));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (failure.get() != null) {
+                    throw new EdcException("Failed to consume records", failure.get());
+                }
+                if (!active.get() || clock.instant().isAfter(streamEnd)) {
+                    return false;
+                }
+                try {
+                    next = queue.poll(pollDuration.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public RecordBatch next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var batch = next;
+            next = null;
+            return batch;
+        }
+    }
+}
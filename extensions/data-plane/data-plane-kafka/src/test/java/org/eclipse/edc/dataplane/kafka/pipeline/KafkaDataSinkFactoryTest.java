@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.dataplane.kafka.pipeline;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -31,8 +32,10 @@ import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BOOTSTRAP_SERVERS;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TRANSACTION_SIZE;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -44,7 +47,7 @@ class KafkaDataSinkFactoryTest {
 
     @BeforeEach
     public void setUp() {
-        factory = new KafkaDataSinkFactory(mock(ExecutorService.class), mock(Monitor.class), propertiesFactory);
+        factory = new KafkaDataSinkFactory(mock(ExecutorService.class), mock(Monitor.class), propertiesFactory, new SimpleMeterRegistry());
     }
 
     @Test
@@ -66,6 +69,26 @@ class KafkaDataSinkFactoryTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void verifyValidateReturnsFailedResult_ifInvalidDeliveryMode() {
+        var request = createRequest(KAFKA_TYPE, Map.of(TOPIC, "test", BOOTSTRAP_SERVERS, "any:9183", DELIVERY_MODE, "invalid"));
+
+        var result = factory.validateRequest(request);
+
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.getFailureDetail()).contains("deliveryMode");
+    }
+
+    @Test
+    void verifyValidateReturnsFailedResult_ifInvalidTransactionSize() {
+        var request = createRequest(KAFKA_TYPE, Map.of(TOPIC, "test", BOOTSTRAP_SERVERS, "any:9183", TRANSACTION_SIZE, "0"));
+
+        var result = factory.validateRequest(request);
+
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.getFailureDetail()).contains("transactionSize");
+    }
+
     @Test
     void verifyValidateReturnsFailedResult_ifMissingTopicProperty() {
         var request = createRequest(KAFKA_TYPE, emptyMap());
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.dataplane.kafka.config.KafkaDeliveryMode;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class KafkaDataSinkTest {
+
+    private static final String TOPIC = "topic";
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldAwaitAcknowledgement_whenAtLeastOnce() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer, KafkaDeliveryMode.AT_LEAST_ONCE, 10);
+
+        var result = sink.transfer(source("a", "b", "c")).join();
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(producer.flushed()).isTrue();
+        assertThat(producer.history()).extracting(ProducerRecord::value).containsExactly("a".getBytes(), "b".getBytes(), "c".getBytes());
+        assertThat(meterRegistry.get("edc.dataplane.kafka.sink.messages").tag("topic", TOPIC).counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("edc.dataplane.kafka.sink.bytes").tag("topic", TOPIC).counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("edc.dataplane.kafka.sink.acknowledgement.latency").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void transfer_shouldNotAwaitAcknowledgement_whenFireAndForget() {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer, KafkaDeliveryMode.FIRE_AND_FORGET, 10);
+
+        var result = sink.transfer(source("a", "b")).join();
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(producer.history()).hasSize(2);
+        assertThat(meterRegistry.get("edc.dataplane.kafka.sink.messages").counter().count()).isZero();
+    }
+
+    @Test
+    void transfer_shouldCommitATransactionEveryTransactionSizeMessages_whenTransactional() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer, KafkaDeliveryMode.TRANSACTIONAL, 2);
+
+        var result = sink.transfer(source("a", "b", "c")).join();
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(producer.commitCount()).isEqualTo(2);
+        assertThat(producer.transactionAborted()).isFalse();
+        assertThat(producer.history()).hasSize(3);
+    }
+
+    @Test
+    void transfer_shouldAbortTheOngoingTransaction_whenAPartFails() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer, KafkaDeliveryMode.TRANSACTIONAL, 2);
+
+        var result = sink.transfer(source("a", "b", "c", null)).join();
+
+        assertThat(result.failed()).isTrue();
+        assertThat(producer.commitCount()).isEqualTo(1);
+        assertThat(producer.transactionAborted()).isTrue();
+        assertThat(producer.history()).extracting(ProducerRecord::value).containsExactly("a".getBytes(), "b".getBytes());
+        assertThat(meterRegistry.get("edc.dataplane.kafka.sink.failures").counter().count()).isEqualTo(1);
+    }
+
+    private KafkaDataSink createSink(MockProducer<String, byte[]> producer, KafkaDeliveryMode deliveryMode, int transactionSize) {
+        return KafkaDataSink.Builder.newInstance()
+                .requestId("request-id")
+                .monitor(mock(Monitor.class))
+                .executorService(executorService)
+                .partitionSize(1)
+                .topic(TOPIC)
+                .producer(producer)
+                .deliveryMode(deliveryMode)
+                .transactionSize(transactionSize)
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+
+    /**
+     * Source whose parts have the given contents, a null content makes the part fail to be read.
+     */
+    private DataSource source(String... contents) {
+        return new DataSource() {
+            @Override
+            public StreamResult<Stream<Part>> openPartStream() {
+                return StreamResult.success(Arrays.stream(contents).<Part>map(TestPart::new));
+            }
+
+            @Override
+            public void close() {
+                // no-op
+            }
+        };
+    }
+
+    private record TestPart(String content) implements DataSource.Part {
+
+        @Override
+        public String name() {
+            return "part";
+        }
+
+        @Override
+        public InputStream openStream() {
+            if (content == null) {
+                return new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("cannot read part");
+                    }
+                };
+            }
+            return new ByteArrayInputStream(content.getBytes());
+        }
+    }
+}
@@ -18,10 +18,13 @@ import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Clock;
 import java.util.Map;
@@ -30,8 +33,11 @@ import java.util.Properties;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_SIZE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BOOTSTRAP_SERVERS;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.CONSUMERS;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.PREFETCH_SIZE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -44,7 +50,7 @@ class KafkaDataSourceFactoryTest {
 
     @BeforeEach
     public void setUp() {
-        factory = new KafkaDataSourceFactory(mock(Monitor.class), propertiesFactory, mock(Clock.class));
+        factory = new KafkaDataSourceFactory(mock(Monitor.class), propertiesFactory, mock(Clock.class), ExecutorInstrumentation.noop());
     }
 
     @Test
@@ -77,6 +83,16 @@ class KafkaDataSourceFactoryTest {
         assertThat(result.getFailureDetail()).contains("topic");
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { CONSUMERS, BATCH_SIZE, PREFETCH_SIZE })
+    void verifyValidateReturnsFailedResult_ifParallelConsumptionSettingIsNotPositive(String key) {
+        var request = createRequest(KAFKA_TYPE, Map.of(TOPIC, "test", BOOTSTRAP_SERVERS, "any", key, "0"));
+
+        var result = factory.validateRequest(request);
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.getFailureDetail()).contains(key);
+    }
+
     @Test
     void verifyValidateReturnsFailedResult_ifKafkaPropertiesFactoryFails() {
         var errorMsg = "test-error";
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE;
 import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
 
 class KafkaPropertiesFactoryTest {
@@ -68,4 +69,48 @@ class KafkaPropertiesFactoryTest {
                 .containsEntry("value.serializer", "org.apache.kafka.common.serialization.ByteArraySerializer");
     }
 
+    @Test
+    void verifyGetProducerProperties_withDefaults() {
+        var factory = new KafkaPropertiesFactory(Map.of("linger.ms", "20", "batch.size", "65536"));
+        var properties = Map.<String, Object>of(
+                EDC_NAMESPACE + "kafka.bootstrap.servers", "kafka:9092",
+                EDC_NAMESPACE + "kafka.linger.ms", "5"
+        );
+
+        var result = factory.getProducerProperties(properties);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent())
+                .containsEntry("linger.ms", "5")
+                .containsEntry("batch.size", "65536");
+    }
+
+    @Test
+    void verifyGetProducerProperties_transactional() {
+        var properties = Map.<String, Object>of(
+                EDC_NAMESPACE + "kafka.bootstrap.servers", "kafka:9092",
+                DELIVERY_MODE, "transactional"
+        );
+
+        var result = factory.getProducerProperties(properties);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent())
+                .containsEntry("enable.idempotence", "true")
+                .containsEntry("acks", "all");
+    }
+
+    @Test
+    void verifyGetProducerProperties_failsWhenDeliveryModeIsInvalid() {
+        var properties = Map.<String, Object>of(
+                EDC_NAMESPACE + "kafka.bootstrap.servers", "kafka:9092",
+                DELIVERY_MODE, "exactlyTwice"
+        );
+
+        var result = factory.getProducerProperties(properties);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains("exactlyTwice");
+    }
+
 }
@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class ParallelKafkaDataSourceTest {
+
+    private static final String TOPIC = "topic";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private ConsumerRebalanceListener rebalanceListener;
+    private final MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+        @Override
+        public synchronized void subscribe(Collection<String> topics, ConsumerRebalanceListener listener) {
+            rebalanceListener = listener;
+            super.subscribe(topics, listener);
+        }
+    };
+    private ParallelKafkaDataSource source;
+
+    @AfterEach
+    void tearDown() {
+        source.close();
+    }
+
+    @Test
+    void shouldBatchRecordsAndCommitOffsets_whenPartsAreTransferred() throws IOException {
+        source = createSource(2);
+        consumer.rebalance(List.of(PARTITION));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.addRecord(record(0, "a"));
+        consumer.addRecord(record(1, "b"));
+        consumer.addRecord(record(2, "c"));
+
+        var parts = source.openPartStream().getContent().limit(2).iterator();
+
+        var first = parts.next();
+        try (var stream = first.openStream()) {
+            assertThat(new String(stream.readAllBytes())).isEqualTo("a\nb");
+        }
+        first.onTransferred();
+        await().untilAsserted(() -> assertThat(committedOffset()).isEqualTo(2L));
+
+        var second = parts.next();
+        assertThat(new String(second.openStream().readAllBytes())).isEqualTo("c");
+        assertThat(committedOffset()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldNotCommitOffsets_whenSinkFailsAfterReadingThePart() throws IOException {
+        source = createSource(1);
+        consumer.rebalance(List.of(PARTITION));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.addRecord(record(0, "abc"));
+
+        DataSource.Part part = source.openPartStream().getContent().findFirst().orElseThrow();
+        try (var stream = part.openStream()) {
+            assertThat(new String(stream.readAllBytes())).isEqualTo("abc");
+        }
+
+        await().during(Duration.ofMillis(200)).until(() -> committedOffset() == null);
+    }
+
+    @Test
+    void shouldNotCommitOffsets_whenParallelSinkFailsToWriteThePart() {
+        source = createSource(1);
+        consumer.rebalance(List.of(PARTITION));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.addRecord(record(0, "abc"));
+        var executor = Executors.newSingleThreadExecutor();
+        var sink = FailingSink.Builder.newInstance()
+                .requestId("test")
+                .executorService(executor)
+                .monitor(mock(Monitor.class))
+                .build();
+
+        try {
+            var result = sink.transfer(new DataSource() {
+                @Override
+                public StreamResult<Stream<Part>> openPartStream() {
+                    return StreamResult.success(source.openPartStream().getContent().limit(1));
+                }
+
+                @Override
+                public void close() {
+                    // the source is closed after the test
+                }
+            });
+
+            assertThat(result).succeedsWithin(Duration.ofSeconds(5)).satisfies(r -> assertThat(r.failed()).isTrue());
+            assertThat(sink.read).isEqualTo("abc");
+            await().during(Duration.ofMillis(200)).until(() -> committedOffset() == null);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCommitTransferredBatchesAndDropTheOthers_whenPartitionsAreRevoked() throws IOException {
+        source = createSource(1, Duration.ofSeconds(1));
+        consumer.rebalance(List.of(PARTITION));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.addRecord(record(0, "a"));
+        consumer.addRecord(record(1, "b"));
+        consumer.addRecord(record(2, "c"));
+
+        var parts = source.openPartStream().getContent().iterator();
+        var first = parts.next();
+        try (var stream = first.openStream()) {
+            assertThat(new String(stream.readAllBytes())).isEqualTo("a");
+        }
+        first.onTransferred();
+        var revoked = new AtomicBoolean();
+        consumer.schedulePollTask(() -> {
+            rebalanceListener.onPartitionsRevoked(List.of(PARTITION));
+            revoked.set(true);
+        });
+
+        await().untilTrue(revoked);
+        assertThat(committedOffset()).isEqualTo(1L);
+        assertThat(parts.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldCloseConsumers_whenClosedWithoutBeingOpened() {
+        source = createSource(1);
+
+        source.close();
+
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    private ParallelKafkaDataSource createSource(int batchSize) {
+        return createSource(batchSize, null);
+    }
+
+    private ParallelKafkaDataSource createSource(int batchSize, Duration maxDuration) {
+        return ParallelKafkaDataSource.Builder.newInstance()
+                .name("test")
+                .monitor(mock(Monitor.class))
+                .clock(Clock.systemUTC())
+                .topic(TOPIC)
+                .pollDuration(Duration.ofMillis(10))
+                .maxDuration(maxDuration)
+                .consumerProperties(new Properties())
+                .consumers(1)
+                .batchSize(batchSize)
+                .consumerFactory(properties -> consumer)
+                .build();
+    }
+
+    private Long committedOffset() {
+        var committed = consumer.committed(Set.of(PARTITION)).get(PARTITION);
+        return committed == null ? null : committed.offset();
+    }
+
+    private ConsumerRecord<String, byte[]> record(long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, value.getBytes());
+    }
+
+    /**
+     * Sink that reads the whole content of the parts, then fails to write it.
+     */
+    private static class FailingSink extends ParallelSink {
+
+        private volatile String read;
+
+        @Override
+        protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
+            try (var stream = parts.get(0).openStream()) {
+                read = new String(stream.readAllBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return StreamResult.error("destination unavailable");
+        }
+
+        static class Builder extends ParallelSink.Builder<Builder, FailingSink> {
+
+            static Builder newInstance() {
+                return new Builder();
+            }
+
+            private Builder() {
+                super(new FailingSink());
+            }
+
+            @Override
+            protected void validate() {
+                // nothing to validate
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.DataPlaneStatements;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.persistence.StateChangeListener;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -39,6 +40,7 @@ import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -53,6 +55,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     private final DataPlaneStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<StateChangeListener> stateChangeListeners = new CopyOnWriteArrayList<>();
     private final String leaseHolderName;
 
     public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
@@ -82,15 +85,16 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .lockingClause(statements.getSkipLockedClause(statements.getDataPlaneTable()));
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var leased = leaseContext.withConnection(connection).acquireLeases(entries.stream().map(DataFlow::getId).toList());
+                return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -127,12 +131,29 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 } else {
                     insert(connection, entity);
                 }
+                if (existing == null || existing.getState() != entity.getState()) {
+                    notifyStateChanged(entity.getState());
+                }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    @Override
+    public void registerStateChangeListener(StateChangeListener listener) {
+        stateChangeListeners.add(listener);
+    }
+
+    /**
+     * Notifies the listeners once the transaction commits, so that the woken state machine finds the entity.
+     */
+    private void notifyStateChanged(int state) {
+        if (!stateChangeListeners.isEmpty()) {
+            transactionContext.afterCommit(() -> stateChangeListeners.forEach(listener -> listener.stateChanged(state)));
+        }
+    }
+
     private void insert(Connection connection, DataFlow dataFlow) {
         var sql = statements.getInsertTemplate();
         queryExecutor.execute(connection, sql,
@@ -95,4 +95,14 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
         return format("SELECT * FROM %s  WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getDataPlaneTable(), getIdColumn());
     }
+
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeasesTemplate(getDataPlaneTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getAcquireLeasesTemplate(int count) {
+        return acquireLeasesTemplate(getDataPlaneTable(), getIdColumn(), count);
+    }
 }
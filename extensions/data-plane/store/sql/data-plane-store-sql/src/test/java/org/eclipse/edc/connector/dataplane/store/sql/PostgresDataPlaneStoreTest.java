@@ -14,25 +14,38 @@
 
 package org.eclipse.edc.connector.dataplane.store.sql;
 
+import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.connector.dataplane.spi.testfixtures.store.DataPlaneStoreTestBase;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.DataPlaneStatements;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.postgres.PostgresDataPlaneStatements;
 import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.persistence.StateChangeListener;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Duration;
 
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.RECEIVED;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -61,6 +74,29 @@ public class PostgresDataPlaneStoreTest extends DataPlaneStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getDataPlaneTable() + " CASCADE");
     }
 
+    @Test
+    void save_shouldNotifyStateChangeListenersOnceCommitted(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var transactionContext = spy(extension.getTransactionContext());
+        var afterCommit = ArgumentCaptor.forClass(Runnable.class);
+        doNothing().when(transactionContext).afterCommit(afterCommit.capture());
+        var store = new SqlDataPlaneStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), transactionContext,
+                statements, new TypeManager().getMapper(), Clock.systemUTC(), queryExecutor, "test-connector");
+        var listener = mock(StateChangeListener.class);
+        store.registerStateChangeListener(listener);
+
+        store.save(DataFlow.Builder.newInstance()
+                .id("id1")
+                .callbackAddress(URI.create("http://any"))
+                .source(DataAddress.Builder.newInstance().type("src-type").build())
+                .destination(DataAddress.Builder.newInstance().type("dest-type").build())
+                .state(RECEIVED.code())
+                .build());
+
+        verifyNoInteractions(listener);
+        afterCommit.getValue().run();
+        verify(listener).stateChanged(RECEIVED.code());
+    }
+
     @Override
     protected DataPlaneStore getStore() {
         return store;
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntry;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.connector.policy.monitor.store.sql.schema.PolicyMonitorStatements;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.persistence.StateChangeListener;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -36,6 +37,7 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -47,6 +49,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
     private final PolicyMonitorStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<StateChangeListener> stateChangeListeners = new CopyOnWriteArrayList<>();
     private final String leaseHolderName;
 
     public SqlPolicyMonitorStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
@@ -76,15 +79,16 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .lockingClause(statements.getSkipLockedClause(statements.getPolicyMonitorTable()));
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var leased = leaseContext.withConnection(connection).acquireLeases(entries.stream().map(PolicyMonitorEntry::getId).toList());
+                return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -121,12 +125,29 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 } else {
                     insert(connection, entity);
                 }
+                if (existing == null || existing.getState() != entity.getState()) {
+                    notifyStateChanged(entity.getState());
+                }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    @Override
+    public void registerStateChangeListener(StateChangeListener listener) {
+        stateChangeListeners.add(listener);
+    }
+
+    /**
+     * Notifies the listeners once the transaction commits, so that the woken state machine finds the entity.
+     */
+    private void notifyStateChanged(int state) {
+        if (!stateChangeListeners.isEmpty()) {
+            transactionContext.afterCommit(() -> stateChangeListeners.forEach(listener -> listener.stateChanged(state)));
+        }
+    }
+
     private @Nullable PolicyMonitorEntry findByIdInternal(Connection conn, String id) {
         return transactionContext.execute(() -> {
             var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "=", id)).build();
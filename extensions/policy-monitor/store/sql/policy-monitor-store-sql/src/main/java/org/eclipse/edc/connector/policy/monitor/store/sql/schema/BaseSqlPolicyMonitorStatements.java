@@ -86,4 +86,14 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
         return format("SELECT * FROM %s WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getPolicyMonitorTable(), getIdColumn());
     }
+
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeasesTemplate(getPolicyMonitorTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getAcquireLeasesTemplate(int count) {
+        return acquireLeasesTemplate(getPolicyMonitorTable(), getIdColumn(), count);
+    }
 }
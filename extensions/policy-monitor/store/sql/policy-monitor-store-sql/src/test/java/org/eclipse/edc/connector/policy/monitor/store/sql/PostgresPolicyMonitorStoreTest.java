@@ -14,18 +14,22 @@
 
 package org.eclipse.edc.connector.policy.monitor.store.sql;
 
+import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntry;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.connector.policy.monitor.spi.testfixtures.store.PolicyMonitorStoreTestBase;
 import org.eclipse.edc.connector.policy.monitor.store.sql.schema.PolicyMonitorStatements;
 import org.eclipse.edc.connector.policy.monitor.store.sql.schema.PostgresPolicyMonitorStatements;
 import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.persistence.StateChangeListener;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -33,6 +37,13 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Duration;
 
+import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -61,6 +72,23 @@ public class PostgresPolicyMonitorStoreTest extends PolicyMonitorStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getPolicyMonitorTable() + " CASCADE");
     }
 
+    @Test
+    void save_shouldNotifyStateChangeListenersOnceCommitted(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var transactionContext = spy(extension.getTransactionContext());
+        var afterCommit = ArgumentCaptor.forClass(Runnable.class);
+        doNothing().when(transactionContext).afterCommit(afterCommit.capture());
+        var store = new SqlPolicyMonitorStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), transactionContext,
+                statements, new TypeManager().getMapper(), Clock.systemUTC(), queryExecutor, "test-connector");
+        var listener = mock(StateChangeListener.class);
+        store.registerStateChangeListener(listener);
+
+        store.save(PolicyMonitorEntry.Builder.newInstance().id("id1").contractId("contract-id").state(STARTED.code()).build());
+
+        verifyNoInteractions(listener);
+        afterCommit.getValue().run();
+        verify(listener).stateChanged(STARTED.code());
+    }
+
     @Override
     protected PolicyMonitorStore getStore() {
         return store;
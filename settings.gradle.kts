@@ -96,6 +96,7 @@ include(":extensions:common:crypto:jws2020")
 
 include(":extensions:common:configuration:configuration-filesystem")
 include(":extensions:common:events:events-cloud-http")
+include(":extensions:common:events:events-outbox-sql")
 include(":extensions:common:http")
 include(":extensions:common:http:jersey-core")
 include(":extensions:common:http:jersey-micrometer")
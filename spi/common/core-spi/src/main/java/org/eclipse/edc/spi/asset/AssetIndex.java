@@ -22,9 +22,12 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static org.eclipse.edc.spi.result.StoreFailure.Reason.NOT_FOUND;
+
 /**
  * Query interface for {@link Asset} objects.
  * <br>
@@ -95,4 +98,40 @@ public interface AssetIndex extends DataAddressResolver {
      */
     StoreResult<Asset> updateAsset(Asset asset);
 
+    /**
+     * Stores several {@link Asset}s, each one only if no asset with the same ID already exists. A failure of an
+     * item does not prevent the others from being stored. Implementors should write the assets in as few round-trips
+     * as possible, the default implementation stores them one by one.
+     *
+     * @param assets The {@link Asset}s to store.
+     * @return a list with a result for every asset, in the same order: {@link StoreResult#success(Object)} if the asset
+     *         was stored, {@link StoreResult#alreadyExists(String)} when an object with the same ID already exists.
+     */
+    default List<StoreResult<Asset>> createAll(List<Asset> assets) {
+        var results = new ArrayList<StoreResult<Asset>>(assets.size());
+        for (var asset : assets) {
+            results.add(create(asset).map(it -> asset));
+        }
+        return results;
+    }
+
+    /**
+     * Stores several {@link Asset}s, updating the ones that already exist and creating the others. Implementors should
+     * write the assets in as few round-trips as possible, the default implementation stores them one by one.
+     *
+     * @param assets The {@link Asset}s to store.
+     * @return a list with a result for every asset, in the same order.
+     */
+    default List<StoreResult<Asset>> upsertAll(List<Asset> assets) {
+        var results = new ArrayList<StoreResult<Asset>>(assets.size());
+        for (var asset : assets) {
+            var result = updateAsset(asset);
+            if (result.failed() && result.reason() == NOT_FOUND) {
+                result = create(asset).map(it -> asset);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
 }
@@ -30,6 +30,16 @@ public abstract class Event {
     }
 
 
+    /**
+     * The id of the entity the event refers to, if any. Events of the same entity are delivered in order by the
+     * {@link org.eclipse.edc.spi.event.outbox.EventOutbox}.
+     *
+     * @return the entity id, null if the event does not refer to a single entity.
+     */
+    public String entityId() {
+        return null;
+    }
+
     /**
      * The name of the event in dot notation.
      *
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.List;
+
+/**
+ * Persistent queue of the events to be delivered to the asynchronous
+ * {@link org.eclipse.edc.spi.event.EventSubscriber}s. Events are saved in the transaction that publishes them, so they
+ * are stored if and only if the state change that raised them is committed, and they are delivered at least once,
+ * even if the runtime crashes in the meantime.
+ */
+@ExtensionPoint
+public interface EventOutbox {
+
+    /**
+     * Stores an event. Implementors must join the current transaction, if any.
+     *
+     * @param event the event.
+     */
+    void save(OutboxEvent event);
+
+    /**
+     * Returns the events that can be delivered and leases them, so that no other relay delivers them at the same time.
+     * An event can be delivered when its {@link OutboxEvent#getNextAttemptAt()} is reached and no older event of the
+     * same entity is waiting for a retry or leased, this guarantees the events of an entity are delivered in order.
+     * Implementors must make sure that two relays calling this method concurrently never get events of the same
+     * entity.
+     *
+     * @param max the maximum number of events to return.
+     * @return the events, in the order they were saved, with their {@link OutboxEvent#getLeasedUntil()}.
+     */
+    List<OutboxEvent> nextDeliverable(int max);
+
+    /**
+     * Extends the lease of events that are still to be delivered by the relay that fetched them. The lease of an event
+     * is not extended if it has expired and the event has been leased again since.
+     *
+     * @param events the leased events.
+     * @return the events whose lease has been extended, with their new {@link OutboxEvent#getLeasedUntil()}.
+     */
+    List<OutboxEvent> renewLease(List<OutboxEvent> events);
+
+    /**
+     * Removes an event that has been delivered.
+     *
+     * @param id the event id.
+     */
+    void delete(String id);
+
+    /**
+     * Stores the new attempts count and next attempt timestamp of an event whose delivery failed, and breaks its lease.
+     *
+     * @param event the event.
+     */
+    void retry(OutboxEvent event);
+}
@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import java.util.Objects;
+
+/**
+ * An {@link org.eclipse.edc.spi.event.EventEnvelope} stored in the {@link EventOutbox} until it has been delivered to
+ * the asynchronous subscribers.
+ * <p>
+ * The events with the same {@link #getEntityId()} are delivered in the order they were saved.
+ */
+public class OutboxEvent {
+
+    private String id;
+    private long at;
+    private String entityId;
+    private String type;
+    private String payload;
+    private int attempts;
+    private long nextAttemptAt;
+    private long leasedUntil;
+
+    private OutboxEvent() {
+    }
+
+    /**
+     * The id of the event envelope.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The creation timestamp of the event envelope.
+     */
+    public long getAt() {
+        return at;
+    }
+
+    /**
+     * The id of the entity the event refers to, used to deliver the events of an entity in order.
+     */
+    public String getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * The class name of the event payload.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * The event payload serialized as JSON.
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    /**
+     * The number of failed delivery attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * The timestamp from which the event can be delivered.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    /**
+     * The timestamp until which the event is leased to the relay that fetched it, 0 if it is not leased.
+     */
+    public long getLeasedUntil() {
+        return leasedUntil;
+    }
+
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .at(at)
+                .entityId(entityId)
+                .type(type)
+                .payload(payload)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .leasedUntil(leasedUntil);
+    }
+
+    public static class Builder {
+
+        private final OutboxEvent event;
+
+        private Builder() {
+            event = new OutboxEvent();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder id(String id) {
+            event.id = id;
+            return this;
+        }
+
+        public Builder at(long at) {
+            event.at = at;
+            return this;
+        }
+
+        public Builder entityId(String entityId) {
+            event.entityId = entityId;
+            return this;
+        }
+
+        public Builder type(String type) {
+            event.type = type;
+            return this;
+        }
+
+        public Builder payload(String payload) {
+            event.payload = payload;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            event.attempts = attempts;
+            return this;
+        }
+
+        public Builder nextAttemptAt(long nextAttemptAt) {
+            event.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public Builder leasedUntil(long leasedUntil) {
+            event.leasedUntil = leasedUntil;
+            return this;
+        }
+
+        public OutboxEvent build() {
+            Objects.requireNonNull(event.id, "id");
+            Objects.requireNonNull(event.type, "type");
+            Objects.requireNonNull(event.payload, "payload");
+            if (event.entityId == null) {
+                event.entityId = event.id;
+            }
+            return event;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.persistence;
+
+/**
+ * Listener that gets notified by a {@link StateEntityStore} when an entity is saved in a state that differs from the
+ * one it had before.
+ */
+@FunctionalInterface
+public interface StateChangeListener {
+
+    /**
+     * Called after an entity has been saved with a new state. Transactional stores call it once the transaction that
+     * saved the entity has committed, so that the change is visible to the listener.
+     *
+     * @param state the new state code.
+     */
+    void stateChanged(int state);
+}
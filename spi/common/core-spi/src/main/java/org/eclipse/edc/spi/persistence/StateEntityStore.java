@@ -87,4 +87,14 @@ public interface StateEntityStore<T> {
      * @param entity the entity.
      */
     void save(T entity);
+
+    /**
+     * Registers a listener that will be notified every time an entity is saved with a state that differs from the one
+     * it had, including its creation. This permits to wake up a state machine without waiting for the next polling
+     * iteration. Stores that don't support notifications ignore the listener.
+     *
+     * @param listener the listener.
+     */
+    default void registerStateChangeListener(StateChangeListener listener) {
+    }
 }
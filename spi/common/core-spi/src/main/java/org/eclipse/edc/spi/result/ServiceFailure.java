@@ -31,7 +31,11 @@ public class ServiceFailure extends Failure {
         return reason;
     }
 
+    /**
+     * Why the invocation failed. {@link #UNEXPECTED} marks failures on the server side, e.g. of the underlying store,
+     * for which the same request may succeed when retried, unlike {@link #BAD_REQUEST}.
+     */
     public enum Reason {
-        NOT_FOUND, CONFLICT, BAD_REQUEST, UNAUTHORIZED
+        NOT_FOUND, CONFLICT, BAD_REQUEST, UNAUTHORIZED, UNEXPECTED
     }
 }
@@ -24,6 +24,7 @@ import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.CONFLICT;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNAUTHORIZED;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNEXPECTED;
 
 /**
  * Result type for a service invocation.
@@ -54,6 +55,10 @@ public class ServiceResult<T> extends AbstractResult<T, ServiceFailure, ServiceR
         return new ServiceResult<>(null, new ServiceFailure(messages, BAD_REQUEST));
     }
 
+    public static <T> ServiceResult<T> unexpected(String... message) {
+        return new ServiceResult<>(null, new ServiceFailure(List.of(message), UNEXPECTED));
+    }
+
     public static <T> ServiceResult<T> success() {
         return ServiceResult.success(null);
     }
@@ -66,6 +71,7 @@ public class ServiceResult<T> extends AbstractResult<T, ServiceFailure, ServiceR
         return switch (storeResult.reason()) {
             case NOT_FOUND -> notFound(storeResult.getFailureDetail());
             case ALREADY_EXISTS, ALREADY_LEASED -> conflict(storeResult.getFailureDetail());
+            case GENERAL_ERROR -> unexpected(storeResult.getFailureDetail());
             default -> badRequest(storeResult.getFailureDetail());
         };
     }
@@ -90,6 +96,7 @@ public class ServiceResult<T> extends AbstractResult<T, ServiceFailure, ServiceR
         return switch (storeResult.reason()) {
             case NOT_FOUND -> notFound(storeResult.getFailureDetail());
             case ALREADY_EXISTS -> conflict(storeResult.getFailureDetail());
+            case GENERAL_ERROR -> unexpected(storeResult.getFailureDetail());
             default -> badRequest(storeResult.getFailureDetail());
         };
     }
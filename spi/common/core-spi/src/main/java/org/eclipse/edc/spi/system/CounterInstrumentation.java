@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.system;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Services for publishing the counters maintained by the components of the runtime, e.g. the hits and misses of a
+ * cache, to collect them as metrics when available.
+ * <p>
+ * The default implementation does not publish anything. Extension modules can provide implementations backed by a
+ * metrics library, so that the components do not depend on it.
+ */
+@ExtensionPoint
+public interface CounterInstrumentation {
+    /**
+     * Default implementation that does not publish anything. Extension modules can provide implementations, such as
+     * for collecting metrics.
+     *
+     * @return a default {@link CounterInstrumentation} implementation.
+     */
+    static CounterInstrumentation noop() {
+        return new CounterInstrumentation() {
+        };
+    }
+
+    /**
+     * Publishes a monotonically increasing counter, whose value is read from the supplier when it is collected.
+     *
+     * @param name        name of the counter.
+     * @param description description of the counter.
+     * @param tags        tags of the counter.
+     * @param value       supplies the current value of the counter.
+     */
+    default void counter(String name, String description, Map<String, String> tags, LongSupplier value) {
+    }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.CONFLICT;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNEXPECTED;
 
 class ServiceResultTest {
 
@@ -33,9 +34,18 @@ class ServiceResultTest {
         assertThat(f2.reason()).isEqualTo(CONFLICT);
         assertThat(f2.succeeded()).isFalse();
 
+        var f3 = ServiceResult.from(StoreResult.generalError("test-message"));
+        assertThat(f3.reason()).isEqualTo(UNEXPECTED);
+        assertThat(f3.succeeded()).isFalse();
+
         assertThat(ServiceResult.from(StoreResult.success("test-message"))).extracting(ServiceResult::succeeded).isEqualTo(true);
     }
 
+    @Test
+    void fromFailure_withGeneralError() {
+        assertThat(ServiceResult.fromFailure(StoreResult.generalError("test-message")).reason()).isEqualTo(UNEXPECTED);
+    }
+
     @Test
     void fromFailure_withSuccessResult() {
         assertThatThrownBy(() -> ServiceResult.fromFailure(StoreResult.success())).isInstanceOf(IllegalArgumentException.class);
@@ -145,6 +145,62 @@ public abstract class AssetIndexTestBase {
         }
     }
 
+    @Nested
+    class CreateAll {
+        @Test
+        void shouldStoreAssets() {
+            var assets = List.of(getAsset("id1"), getAsset("id2"));
+
+            var results = getAssetIndex().createAll(assets);
+
+            assertThat(results).hasSize(2).allMatch(StoreResult::succeeded);
+            assertThat(getAssetIndex().queryAssets(QuerySpec.none()))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(assets);
+        }
+
+        @Test
+        void shouldFailSingleItem_whenAssetAlreadyExists() {
+            var existing = getAsset("id1");
+            getAssetIndex().create(existing);
+
+            var results = getAssetIndex().createAll(List.of(createAsset("other", "id1"), getAsset("id2")));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).failed()).isTrue();
+            assertThat(results.get(0).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(results.get(1).succeeded()).isTrue();
+            assertThat(getAssetIndex().findById("id1")).usingRecursiveComparison().isEqualTo(existing);
+            assertThat(getAssetIndex().findById("id2")).isNotNull();
+        }
+
+        @Test
+        void shouldFailSingleItem_whenIdIsDuplicatedInTheRequest() {
+            var results = getAssetIndex().createAll(List.of(getAsset("id1"), getAsset("id1")));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).failed()).isTrue();
+            assertThat(getAssetIndex().queryAssets(QuerySpec.none())).hasSize(1);
+        }
+    }
+
+    @Nested
+    class UpsertAll {
+        @Test
+        void shouldCreateAndUpdateAssets() {
+            getAssetIndex().create(getAsset("id1"));
+            var updated = createAssetBuilder("id1").property("newKey", "newValue").build();
+            var created = getAsset("id2");
+
+            var results = getAssetIndex().upsertAll(List.of(updated, created));
+
+            assertThat(results).hasSize(2).allMatch(StoreResult::succeeded);
+            assertThat(getAssetIndex().findById("id1").getProperties()).containsEntry("newKey", "newValue");
+            assertThat(getAssetIndex().findById("id2")).isNotNull();
+        }
+    }
+
     @Nested
     class DeleteById {
 
@@ -66,4 +66,43 @@ public interface KafkaDataAddressSchema {
      * @see java.time.Duration#parse(CharSequence) for ISO-8601 duration format
      */
     String MAX_DURATION = EDC_NAMESPACE + "maxDuration";
+
+    /**
+     * The delivery guarantee of the messages published to the topic.
+     * <p>
+     * Supported values are {@code fireAndForget} (the transfer completes once the messages are handed to the producer),
+     * {@code atLeastOnce} (the transfer completes once all the messages are acknowledged by the brokers) and
+     * {@code transactional} (the messages are published in transactions of {@link #TRANSACTION_SIZE} messages).
+     * This parameter is optional. Default value is {@code atLeastOnce}.
+     */
+    String DELIVERY_MODE = EDC_NAMESPACE + "deliveryMode";
+
+    /**
+     * Number of messages published in each transaction, with the {@code transactional} {@link #DELIVERY_MODE}.
+     * <p>
+     * This parameter is optional. Default value is 1000.
+     */
+    String TRANSACTION_SIZE = EDC_NAMESPACE + "transactionSize";
+
+    /**
+     * Number of consumers that consume the topic partitions in parallel.
+     * <p>
+     * This parameter is optional. If provided, the records are consumed by the given number of consumers of the same
+     * group, buffered in a bounded queue and their offsets are committed only once the sink has read them.
+     */
+    String CONSUMERS = EDC_NAMESPACE + "consumers";
+
+    /**
+     * Maximum number of records of a same partition that are grouped in a single part, separated by a new line.
+     * <p>
+     * This parameter is optional and only used with {@link #CONSUMERS}. Default value is 1.
+     */
+    String BATCH_SIZE = EDC_NAMESPACE + "batchSize";
+
+    /**
+     * Maximum number of parts polled ahead of the sink.
+     * <p>
+     * This parameter is optional and only used with {@link #CONSUMERS}. Default value is 10 per consumer.
+     */
+    String PREFETCH_SIZE = EDC_NAMESPACE + "prefetchSize";
 }
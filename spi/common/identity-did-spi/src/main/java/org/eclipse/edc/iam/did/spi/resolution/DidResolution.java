@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.did.spi.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * A resolved DID document, with how long it can be cached, when the resolver knows it.
+ *
+ * @param document the DID document.
+ * @param maxAge   how long the document can be cached, e.g. from the HTTP cache headers, null if unknown.
+ */
+public record DidResolution(DidDocument document, @Nullable Duration maxAge) {
+}
@@ -35,4 +35,12 @@ public interface DidResolver {
     @NotNull
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves the DID document, with how long it can be cached. By default, the time is unknown.
+     */
+    @NotNull
+    default Result<DidResolution> resolveWithMaxAge(String didKey) {
+        return resolve(didKey).map(document -> new DidResolution(document, null));
+    }
+
 }
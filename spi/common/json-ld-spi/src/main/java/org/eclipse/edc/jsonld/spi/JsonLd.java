@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.jsonld.spi;
 
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.spi.result.Result;
 
@@ -52,6 +54,30 @@ public interface JsonLd {
      */
     Result<JsonObject> compact(JsonObject json, String scope);
 
+    /**
+     * Compact the {@link JsonObject} elements of an array of JsonLD documents with the same context, the other elements
+     * are left as they are. The context will be generated from registered contexts and namespaces.
+     *
+     * @param json  the array of expanded json.
+     * @param scope the scope to apply during the compaction process
+     * @return a successful {@link Result} containing the compacted {@link JsonArray} if the operation succeed on every element, a failed one otherwise
+     */
+    default Result<JsonArray> compactAll(JsonArray json, String scope) {
+        var builder = Json.createArrayBuilder();
+        for (var value : json) {
+            if (value instanceof JsonObject jsonObject) {
+                var compacted = compact(jsonObject, scope);
+                if (compacted.failed()) {
+                    return compacted.mapTo();
+                }
+                builder.add(compacted.getContent());
+            } else {
+                builder.add(value);
+            }
+        }
+        return Result.success(builder.build());
+    }
+
     /**
      * Register a JsonLD namespace in the default scope
      *
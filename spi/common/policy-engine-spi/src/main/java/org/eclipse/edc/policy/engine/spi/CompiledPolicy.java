@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.policy.engine.spi;
+
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.Result;
+
+/**
+ * A {@link Policy} prepared by the {@link PolicyEngine} for a scope, that can be evaluated repeatedly with different
+ * contexts.
+ */
+@FunctionalInterface
+public interface CompiledPolicy {
+
+    /**
+     * Evaluates the policy with a context.
+     */
+    Result<Void> evaluate(PolicyContext context);
+}
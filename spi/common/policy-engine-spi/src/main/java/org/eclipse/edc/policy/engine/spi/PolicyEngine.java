@@ -58,6 +58,15 @@ public interface PolicyEngine {
      */
     Result<Void> evaluate(String scope, Policy policy, PolicyContext context);
 
+    /**
+     * Prepares the given policy for repeated evaluations in the given scope. Implementations can filter the policy for
+     * the scope once, so the result of the evaluation is the same as {@link #evaluate(String, Policy, PolicyContext)}
+     * as long as no rule binding is registered meanwhile.
+     */
+    default CompiledPolicy compile(String scope, Policy policy) {
+        return context -> evaluate(scope, policy, context);
+    }
+
     /**
      * Registers a function that is invoked when a policy contains an atomic constraint whose left operator expression evaluates to the given key for the specified scope.
      *
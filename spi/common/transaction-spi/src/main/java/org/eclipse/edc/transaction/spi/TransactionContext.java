@@ -44,6 +44,22 @@ public interface TransactionContext {
      */
     void registerSynchronization(TransactionSynchronization sync);
 
+    /**
+     * Registers an action that will be called once the active transaction has been committed, and discarded if it is
+     * rolled back. If no transaction is active the action is called immediately. Implementations that cannot tell when
+     * a transaction completes call it immediately too.
+     */
+    default void afterCommit(Runnable action) {
+        action.run();
+    }
+
+    /**
+     * Tells whether a transaction is active on the current thread.
+     */
+    default boolean isActive() {
+        return false;
+    }
+
     /**
      * Defines a block of transactional code.
      */
@@ -37,6 +37,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -53,6 +54,7 @@ import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.st
 import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiationBuilder;
 import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation.Type.CONSUMER;
 import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation.Type.PROVIDER;
+import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates.AGREED;
 import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
@@ -228,6 +230,20 @@ public abstract class ContractNegotiationStoreTestBase {
             assertThat(actual.getState()).isEqualTo(800);
         }
 
+        @Test
+        void shouldNotifyStateChangeListeners_whenStateChanges() {
+            var states = new ArrayList<Integer>();
+            getContractNegotiationStore().registerStateChangeListener(states::add);
+            var negotiation = createNegotiationBuilder("test-id1").state(REQUESTED.code()).build();
+            getContractNegotiationStore().save(negotiation);
+
+            getContractNegotiationStore().save(negotiation);
+            negotiation.transitionAgreed();
+            getContractNegotiationStore().save(negotiation);
+
+            assertThat(states).containsExactly(REQUESTED.code(), AGREED.code());
+        }
+
         @Test
         @DisplayName("Verify that updating an entity breaks the lease (if lease by self)")
         void leasedBySelf_shouldBreakLease() {
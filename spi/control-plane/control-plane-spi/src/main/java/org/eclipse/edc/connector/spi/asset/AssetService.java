@@ -18,8 +18,11 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
+
 public interface AssetService {
 
     /**
@@ -62,4 +65,30 @@ public interface AssetService {
      */
     ServiceResult<Asset> update(Asset asset);
 
+    /**
+     * Create several assets. The failure of an asset does not prevent the others from being created.
+     *
+     * @param assets the assets
+     * @return a result for every asset, in the same order: successful if the asset is created correctly, failure otherwise
+     */
+    default List<ServiceResult<Asset>> createAll(List<Asset> assets) {
+        return assets.stream().map(this::create).toList();
+    }
+
+    /**
+     * Create several assets, or update them if they already exist. The failure of an asset does not prevent the others
+     * from being stored.
+     *
+     * @param assets the assets
+     * @return a result for every asset, in the same order: successful if the asset is stored correctly, failure otherwise
+     */
+    default List<ServiceResult<Asset>> upsertAll(List<Asset> assets) {
+        return assets.stream()
+                .map(asset -> {
+                    var updated = update(asset);
+                    return updated.failed() && updated.reason() == NOT_FOUND ? create(asset) : updated;
+                })
+                .toList();
+    }
+
 }
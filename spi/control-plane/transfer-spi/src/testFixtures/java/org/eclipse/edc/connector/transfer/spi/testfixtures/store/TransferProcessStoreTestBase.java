@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,7 @@ import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunc
 import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
 import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createTransferProcessBuilder;
 import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.initialTransferProcess;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.COMPLETED;
 import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.INITIAL;
 import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.PROVISIONING;
 import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.STARTED;
@@ -357,6 +359,20 @@ public abstract class TransferProcessStoreTestBase {
             assertThat(notLeased).usingRecursiveFieldByFieldElementComparator().containsExactly(t1);
         }
 
+        @Test
+        void shouldNotifyStateChangeListeners_whenStateChanges() {
+            var states = new ArrayList<Integer>();
+            getTransferProcessStore().registerStateChangeListener(states::add);
+            var t1 = createTransferProcess("id1", STARTED);
+            getTransferProcessStore().save(t1);
+
+            getTransferProcessStore().save(t1);
+            t1.transitionCompleted();
+            getTransferProcessStore().save(t1);
+
+            assertThat(states).containsExactly(STARTED.code(), COMPLETED.code());
+        }
+
         @Test
         void leasedByOther_shouldThrowException() {
             var tpId = "id1";
@@ -35,6 +35,10 @@ import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
 /**
  * Representations of a data plane instance. Every DPF has an ID and a URL as well as a number, how often it was selected,
  * and a timestamp of its last selection time. In addition, there are extensible properties to hold specific properties.
+ * <p>
+ * Data planes can report their load by registering again with the number of active flows, the depth of their queue
+ * and their current throughput: {@code lastActive} is the time of the report, and {@code turnCount} the number of
+ * flows handled so far.
  */
 public class DataPlaneInstance {
 
@@ -45,12 +49,18 @@ public class DataPlaneInstance {
     public static final String PROPERTIES = EDC_NAMESPACE + "properties";
     public static final String ALLOWED_SOURCE_TYPES = EDC_NAMESPACE + "allowedSourceTypes";
     public static final String ALLOWED_DEST_TYPES = EDC_NAMESPACE + "allowedDestTypes";
+    public static final String ACTIVE_FLOWS = EDC_NAMESPACE + "activeFlows";
+    public static final String QUEUE_DEPTH = EDC_NAMESPACE + "queueDepth";
+    public static final String THROUGHPUT = EDC_NAMESPACE + "throughput";
 
     private Map<String, Object> properties = new HashMap<>();
     private Set<String> allowedSourceTypes = new HashSet<>();
     private Set<String> allowedDestTypes = new HashSet<>();
     private int turnCount = 0;
     private long lastActive = Instant.now().toEpochMilli();
+    private int activeFlows = 0;
+    private int queueDepth = 0;
+    private long throughput = 0;
     private URL url;
     private String id;
 
@@ -87,6 +97,27 @@ public class DataPlaneInstance {
         return lastActive;
     }
 
+    /**
+     * Number of flows the data plane was running when it reported its load.
+     */
+    public int getActiveFlows() {
+        return activeFlows;
+    }
+
+    /**
+     * Number of flows waiting for a worker when the data plane reported its load.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Bytes per second transferred by the data plane when it reported its load.
+     */
+    public long getThroughput() {
+        return throughput;
+    }
+
     public Map<String, Object> getProperties() {
         return Collections.unmodifiableMap(properties);
     }
@@ -122,6 +153,21 @@ public class DataPlaneInstance {
             return this;
         }
 
+        public Builder activeFlows(int activeFlows) {
+            instance.activeFlows = activeFlows;
+            return this;
+        }
+
+        public Builder queueDepth(int queueDepth) {
+            instance.queueDepth = queueDepth;
+            return this;
+        }
+
+        public Builder throughput(long throughput) {
+            instance.throughput = throughput;
+            return this;
+        }
+
         public Builder id(String id) {
             instance.id = id;
             return this;
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.selector.spi.store;
 
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 
 import java.util.stream.Stream;
 
@@ -52,4 +53,17 @@ public interface DataPlaneInstanceStore {
 
     Stream<DataPlaneInstance> getAll();
 
+    /**
+     * Returns the {@link DataPlaneInstance} objects that can handle a transfer from the source to the destination address,
+     * see {@link DataPlaneInstance#canHandle(DataAddress, DataAddress)}. Implementations that keep the instances
+     * indexed by type should override it, the default one filters all the instances.
+     *
+     * @param sourceAddress      The location where the data is located
+     * @param destinationAddress The destination address of the data
+     * @return the instances that can handle the transfer.
+     */
+    default Stream<DataPlaneInstance> findAll(DataAddress sourceAddress, DataAddress destinationAddress) {
+        return getAll().filter(instance -> instance.canHandle(sourceAddress, destinationAddress));
+    }
+
 }
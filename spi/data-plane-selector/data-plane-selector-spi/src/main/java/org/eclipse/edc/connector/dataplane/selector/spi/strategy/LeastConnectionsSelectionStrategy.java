@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the {@link DataPlaneInstance} with the lowest load, at random among the ones with the same load.
+ */
+public class LeastConnectionsSelectionStrategy extends LoadAwareSelectionStrategy {
+
+    public LeastConnectionsSelectionStrategy() {
+    }
+
+    LeastConnectionsSelectionStrategy(Clock clock) {
+        super(clock);
+    }
+
+    @Override
+    protected DataPlaneInstance select(List<DataPlaneInstance> instances) {
+        var lowestLoad = Long.MAX_VALUE;
+        var candidates = new ArrayList<DataPlaneInstance>();
+        for (var instance : instances) {
+            var load = load(instance);
+            if (load < lowestLoad) {
+                lowestLoad = load;
+                candidates.clear();
+            }
+            if (load == lowestLoad) {
+                candidates.add(instance);
+            }
+        }
+        return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+    }
+
+    @Override
+    public String getName() {
+        return "leastConnections";
+    }
+}
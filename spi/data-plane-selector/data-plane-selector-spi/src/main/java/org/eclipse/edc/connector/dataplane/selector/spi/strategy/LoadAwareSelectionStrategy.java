@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base class for the strategies that select a {@link DataPlaneInstance} according to the load it reported.
+ * <p>
+ * The load is reported by registering the instance again, e.g. through the data plane selector API, so the flows
+ * assigned to an instance since its last report, identified by {@link DataPlaneInstance#getLastActive()}, are added to
+ * the reported load: otherwise all the flows selected between two reports would go to the same instance. Instances that
+ * never report are balanced on the flows assigned to them only.
+ * <p>
+ * The assignments of an instance are forgotten when it reports again, or when it has not been selected for
+ * {@link #ASSIGNMENTS_RETENTION}, so that the instances that have been removed are eventually evicted.
+ */
+public abstract class LoadAwareSelectionStrategy implements SelectionStrategy {
+
+    public static final Duration ASSIGNMENTS_RETENTION = Duration.ofHours(1);
+
+    private final Map<String, Assignments> assignments = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    protected LoadAwareSelectionStrategy() {
+        this(Clock.systemUTC());
+    }
+
+    LoadAwareSelectionStrategy(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+        evictStaleAssignments(instances);
+        var selected = select(instances);
+        var now = clock.millis();
+        assignments.compute(selected.getId(), (id, current) -> current == null || current.reportedAt() != selected.getLastActive()
+                ? new Assignments(selected.getLastActive(), 1, now)
+                : new Assignments(current.reportedAt(), current.count() + 1, now));
+        return selected;
+    }
+
+    /**
+     * Selects an instance of the list.
+     *
+     * @param instances the instances that can handle the transfer, never empty.
+     * @return the selected instance.
+     */
+    protected abstract DataPlaneInstance select(List<DataPlaneInstance> instances);
+
+    /**
+     * Load of an instance: the flows running or waiting on it when it reported its load, plus the flows assigned to it
+     * since then.
+     */
+    protected long load(DataPlaneInstance instance) {
+        var load = (long) instance.getActiveFlows() + instance.getQueueDepth();
+        var assigned = assignments.get(instance.getId());
+        if (assigned != null && assigned.reportedAt() == instance.getLastActive()) {
+            load += assigned.count();
+        }
+        return load;
+    }
+
+    /**
+     * Evicts the assignments of the instances that reported since, and of the ones not selected for a long time.
+     */
+    private void evictStaleAssignments(List<DataPlaneInstance> instances) {
+        for (var instance : instances) {
+            assignments.computeIfPresent(instance.getId(), (id, current) -> current.reportedAt() == instance.getLastActive() ? current : null);
+        }
+        var oldest = clock.millis() - ASSIGNMENTS_RETENTION.toMillis();
+        assignments.values().removeIf(current -> current.assignedAt() < oldest);
+    }
+
+    /**
+     * Flows assigned to an instance since its report at {@code reportedAt}, the last one at {@code assignedAt}.
+     */
+    private record Assignments(long reportedAt, long count, long assignedAt) {
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks two {@link DataPlaneInstance} at random and selects the one with the lowest load. Unlike
+ * {@link LeastConnectionsSelectionStrategy} it does not send all the flows to the same instance when several selectors
+ * share stale load reports.
+ */
+public class PowerOfTwoChoicesSelectionStrategy extends LoadAwareSelectionStrategy {
+
+    @Override
+    protected DataPlaneInstance select(List<DataPlaneInstance> instances) {
+        if (instances.size() == 1) {
+            return instances.get(0);
+        }
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(instances.size());
+        var second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        var firstInstance = instances.get(first);
+        var secondInstance = instances.get(second);
+        return load(secondInstance) < load(firstInstance) ? secondInstance : firstInstance;
+    }
+
+    @Override
+    public String getName() {
+        return "powerOfTwoChoices";
+    }
+}
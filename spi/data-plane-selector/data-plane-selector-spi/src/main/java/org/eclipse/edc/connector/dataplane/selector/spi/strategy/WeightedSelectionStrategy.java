@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects a {@link DataPlaneInstance} at random, with a probability inversely proportional to its load: an idle
+ * instance is twice as likely to be selected as an instance running a single flow.
+ */
+public class WeightedSelectionStrategy extends LoadAwareSelectionStrategy {
+
+    @Override
+    protected DataPlaneInstance select(List<DataPlaneInstance> instances) {
+        var weights = new double[instances.size()];
+        var total = 0.0;
+        for (var i = 0; i < weights.length; i++) {
+            weights[i] = 1.0 / (1 + load(instances.get(i)));
+            total += weights[i];
+        }
+        var target = ThreadLocalRandom.current().nextDouble(total);
+        for (var i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return instances.get(i);
+            }
+        }
+        return instances.get(instances.size() - 1);
+    }
+
+    @Override
+    public String getName() {
+        return "weighted";
+    }
+}
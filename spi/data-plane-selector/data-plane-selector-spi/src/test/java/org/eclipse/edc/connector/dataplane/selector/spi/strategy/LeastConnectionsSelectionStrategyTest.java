@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LeastConnectionsSelectionStrategyTest {
+
+    private final Clock clock = mock();
+    private final LeastConnectionsSelectionStrategy strategy = new LeastConnectionsSelectionStrategy(clock);
+
+    @Test
+    void shouldSelectInstanceWithLowestLoad() {
+        var busy = instance("busy", 5, 2, 1000L);
+        var idle = instance("idle", 1, 0, 1000L);
+
+        assertThat(strategy.apply(List.of(busy, idle))).isSameAs(idle);
+    }
+
+    @Test
+    void shouldCountFlowsAssignedSinceLastReport() {
+        var first = instance("first", 0, 0, 1000L);
+        var second = instance("second", 1, 0, 1000L);
+
+        var selected = List.of(strategy.apply(List.of(first, second)), strategy.apply(List.of(first, second)), strategy.apply(List.of(first, second)));
+
+        assertThat(selected).containsExactlyInAnyOrder(first, first, second);
+    }
+
+    @Test
+    void shouldResetAssignedFlows_whenInstanceReportsItsLoad() {
+        var first = instance("first", 0, 0, 1000L);
+        var second = instance("second", 0, 1, 1000L);
+        strategy.apply(List.of(first));
+        strategy.apply(List.of(first));
+
+        var reported = instance("first", 0, 0, 2000L);
+
+        assertThat(strategy.apply(List.of(reported, second))).isSameAs(reported);
+    }
+
+    @Test
+    void shouldEvictAssignments_whenInstanceNotSelectedForRetentionPeriod() {
+        var first = instance("first", 0, 0, 1000L);
+        var second = instance("second", 0, 1, 1000L);
+        when(clock.millis()).thenReturn(0L);
+        strategy.apply(List.of(first));
+        strategy.apply(List.of(first));
+
+        when(clock.millis()).thenReturn(LoadAwareSelectionStrategy.ASSIGNMENTS_RETENTION.toMillis() + 1);
+
+        assertThat(strategy.apply(List.of(first, second))).isSameAs(first);
+    }
+
+    @Test
+    void shouldReturnNull_whenNoInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    private DataPlaneInstance instance(String id, int activeFlows, int queueDepth, long lastActive) {
+        return DataPlaneInstance.Builder.newInstance()
+                .id(id)
+                .url("http://any/" + id)
+                .activeFlows(activeFlows)
+                .queueDepth(queueDepth)
+                .lastActive(lastActive)
+                .build();
+    }
+}
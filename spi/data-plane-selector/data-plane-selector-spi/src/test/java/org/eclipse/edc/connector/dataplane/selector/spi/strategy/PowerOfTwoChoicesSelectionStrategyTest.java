@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PowerOfTwoChoicesSelectionStrategyTest {
+
+    private final PowerOfTwoChoicesSelectionStrategy strategy = new PowerOfTwoChoicesSelectionStrategy();
+
+    @RepeatedTest(100)
+    void shouldSelectLessLoadedOfTwoInstances() {
+        var busy = instance("busy", 10);
+        var idle = instance("idle", 0);
+
+        assertThat(strategy.apply(List.of(busy, idle))).isSameAs(idle);
+    }
+
+    @RepeatedTest(100)
+    void shouldNeverSelectMostLoadedInstance_whenMoreThanTwo() {
+        var instances = List.of(instance("a", 1), instance("b", 2), instance("c", 3));
+
+        assertThat(strategy.apply(instances)).isNotNull().isNotSameAs(instances.get(2));
+    }
+
+    private DataPlaneInstance instance(String id, int activeFlows) {
+        return DataPlaneInstance.Builder.newInstance()
+                .id(id)
+                .url("http://any/" + id)
+                .activeFlows(activeFlows)
+                .lastActive(1000L)
+                .build();
+    }
+}
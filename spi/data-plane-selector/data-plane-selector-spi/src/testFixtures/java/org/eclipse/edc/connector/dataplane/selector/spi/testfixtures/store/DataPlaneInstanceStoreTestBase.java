@@ -18,6 +18,7 @@ import org.assertj.core.api.Assertions;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.testfixtures.TestFunctions;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -115,6 +116,41 @@ public abstract class DataPlaneInstanceStoreTestBase {
         assertThat(foundItems).isNotNull().hasSize(2);
     }
 
+    @Test
+    void findAll_shouldReturnInstancesThatCanHandleTheTransfer() {
+        var store = getStore();
+        store.create(instance("http-to-s3", "HttpData", "AmazonS3"));
+        store.create(instance("http-to-http", "HttpData", "HttpData"));
+        store.create(instance("s3-to-http", "AmazonS3", "HttpData"));
+
+        var foundItems = store.findAll(address("HttpData"), address("AmazonS3"));
+
+        assertThat(foundItems).extracting(DataPlaneInstance::getId).containsExactly("http-to-s3");
+    }
+
+    @Test
+    void findAll_whenUpdated_shouldReturnUpdatedInstances() {
+        var store = getStore();
+        store.create(instance("test-id", "HttpData", "AmazonS3"));
+
+        store.update(instance("test-id", "HttpData", "HttpData"));
+
+        assertThat(store.findAll(address("HttpData"), address("AmazonS3"))).isEmpty();
+        assertThat(store.findAll(address("HttpData"), address("HttpData"))).extracting(DataPlaneInstance::getId).containsExactly("test-id");
+    }
 
     protected abstract DataPlaneInstanceStore getStore();
+
+    private DataPlaneInstance instance(String id, String sourceType, String destinationType) {
+        return DataPlaneInstance.Builder.newInstance()
+                .id(id)
+                .url("http://somewhere.com:1234/api/v1")
+                .allowedSourceType(sourceType)
+                .allowedDestType(destinationType)
+                .build();
+    }
+
+    private DataAddress address(String type) {
+        return DataAddress.Builder.newInstance().type(type).build();
+    }
 }
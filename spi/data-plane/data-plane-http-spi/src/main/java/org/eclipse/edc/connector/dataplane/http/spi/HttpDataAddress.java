@@ -54,6 +54,9 @@ public class HttpDataAddress extends DataAddress {
     public static final String CONTENT_TYPE = "contentType";
     public static final String OCTET_STREAM = "application/octet-stream";
     public static final String NON_CHUNKED_TRANSFER = "nonChunkedTransfer";
+    public static final String RANGE_CONCURRENCY = "rangeConcurrency";
+    public static final String RANGE_SIZE = "rangeSize";
+    public static final long DEFAULT_RANGE_SIZE = 4 * 1024 * 1024;
     public static final Set<String> ADDITIONAL_HEADERS_TO_IGNORE = Set.of("content-type");
 
     private HttpDataAddress() {
@@ -141,6 +144,27 @@ public class HttpDataAddress extends DataAddress {
                 .orElse(false);
     }
 
+    /**
+     * Number of byte ranges fetched concurrently when the source is read. Values greater than 1 enable the ranged
+     * fetch, that's used only if the origin supports range requests.
+     */
+    @JsonIgnore
+    public int getRangeConcurrency() {
+        return Optional.ofNullable(getStringProperty(RANGE_CONCURRENCY))
+                .map(Integer::parseInt)
+                .orElse(1);
+    }
+
+    /**
+     * Size in bytes of every range fetched when the ranged fetch is enabled.
+     */
+    @JsonIgnore
+    public long getRangeSize() {
+        return Optional.ofNullable(getStringProperty(RANGE_SIZE))
+                .map(Long::parseLong)
+                .orElse(DEFAULT_RANGE_SIZE);
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public static final class Builder extends DataAddress.Builder<HttpDataAddress, Builder> {
 
@@ -232,6 +256,16 @@ public class HttpDataAddress extends DataAddress {
             return this;
         }
 
+        public Builder rangeConcurrency(int rangeConcurrency) {
+            this.property(RANGE_CONCURRENCY, String.valueOf(rangeConcurrency));
+            return this;
+        }
+
+        public Builder rangeSize(long rangeSize) {
+            this.property(RANGE_SIZE, String.valueOf(rangeSize));
+            return this;
+        }
+
         public Builder copyFrom(DataAddress other) {
             Optional.ofNullable(other).map(DataAddress::getProperties).orElse(emptyMap()).forEach(this::property);
             return this;
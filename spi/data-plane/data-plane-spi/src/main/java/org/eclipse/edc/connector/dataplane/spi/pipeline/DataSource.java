@@ -67,6 +67,15 @@ public interface DataSource extends AutoCloseable {
             throw new UnsupportedOperationException("Random access not supported");
         }
 
+        /**
+         * Called by the sink once the part content has been successfully written to the destination, never when the
+         * transfer of the part failed. Sources may override this method to acknowledge the part, e.g. to commit its
+         * position in the underlying system.
+         */
+        default void onTransferred() {
+            // no-op
+        }
+
         @Override
         default void close() throws Exception {
             // no-op
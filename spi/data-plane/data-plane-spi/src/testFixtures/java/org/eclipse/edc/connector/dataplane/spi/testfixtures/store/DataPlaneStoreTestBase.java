@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.UUID;
 
 import static java.util.stream.IntStream.range;
@@ -71,6 +72,20 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(result).isNotNull();
             assertThat(result.getState()).isEqualTo(COMPLETED.code());
         }
+
+        @Test
+        void shouldNotifyStateChangeListeners_whenStateChanges() {
+            var states = new ArrayList<Integer>();
+            getStore().registerStateChangeListener(states::add);
+            var dataFlow = createDataFlow(UUID.randomUUID().toString(), RECEIVED);
+            getStore().save(dataFlow);
+
+            getStore().save(dataFlow);
+            dataFlow.transitToCompleted();
+            getStore().save(dataFlow);
+
+            assertThat(states).containsExactly(RECEIVED.code(), COMPLETED.code());
+        }
     }
 
     @Nested
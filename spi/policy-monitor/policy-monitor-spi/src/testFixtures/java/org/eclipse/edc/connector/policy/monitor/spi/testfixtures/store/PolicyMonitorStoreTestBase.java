@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.UUID;
 
 import static java.util.stream.IntStream.range;
@@ -69,6 +70,20 @@ public abstract class PolicyMonitorStoreTestBase {
             assertThat(result).isNotNull();
             assertThat(result.getState()).isEqualTo(COMPLETED.code());
         }
+
+        @Test
+        void shouldNotifyStateChangeListeners_whenStateChanges() {
+            var states = new ArrayList<Integer>();
+            getStore().registerStateChangeListener(states::add);
+            var entry = createPolicyMonitorEntry(UUID.randomUUID().toString(), STARTED);
+            getStore().save(entry);
+
+            getStore().save(entry);
+            entry.transitionToCompleted();
+            getStore().save(entry);
+
+            assertThat(states).containsExactly(STARTED.code(), COMPLETED.code());
+        }
     }
 
     @Nested